@@ -0,0 +1,24 @@
+package com.wirebarley.application.account;
+
+import com.wirebarley.domain.account.Account;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+// 계좌 잔액을 응답에 실을 때 쓴다. account.balance 는 원장 모드에서는 개설 잔액으로 남고,
+// 핫 계좌는 아직 합쳐지지 않은 슬롯 잔액이 빠져 있으므로 그대로 읽으면 안 된다.
+@RequiredArgsConstructor
+@Component
+public class AccountBalanceReader {
+
+    private final AccountLedger accountLedger;
+    private final HotAccountBalancer hotAccountBalancer;
+
+    public Account restoreCurrentBalance(Account account) {
+        if (accountLedger.isEnabled()) {
+            return accountLedger.restoreBalance(account);
+        }
+
+        account.restoreBalance(hotAccountBalancer.getBalance(account));
+        return account;
+    }
+}
@@ -0,0 +1,143 @@
+package com.wirebarley.application.account;
+
+import com.wirebarley.domain.account.Account;
+import com.wirebarley.domain.account.AccountRepository;
+import com.wirebarley.domain.ledger.LedgerEvent;
+import com.wirebarley.domain.ledger.LedgerEventSummary;
+import com.wirebarley.domain.ledger.LedgerRepository;
+import com.wirebarley.domain.ledger.LedgerSnapshot;
+import com.wirebarley.domain.transaction.TransactionType;
+import com.wirebarley.infrastructure.account.config.AccountConcurrencyProperties;
+import com.wirebarley.infrastructure.account.config.LedgerProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+// 원장 모드(EVENT_SOURCED)에서 잔액 변경은 ledger_event 에 insert 만 하고, 잔액은 최신 스냅샷 + 그 이후 이벤트 합계로 계산한다.
+// account.balance 는 개설 잔액으로 남고, 스냅샷이 없으면 개설 잔액부터 더한다.
+// 입금은 계좌 행을 공유 잠금으로만 읽어서 입금끼리 기다리지 않는다. 출금/이체/스냅샷은 배타 잠금을 잡으므로,
+// 배타 잠금을 잡은 시점에는 그 계좌의 이벤트가 모두 커밋되어 있어서 스냅샷이 커밋 순서가 뒤바뀐 이벤트를 건너뛰지 않는다.
+@RequiredArgsConstructor
+@Component
+public class AccountLedger {
+
+    private static final long NO_EVENT_ID = 0L;
+    private static final int SNAPSHOT_BATCH_SIZE = 1_000;
+
+    private final AccountRepository accountRepository;
+    private final LedgerRepository ledgerRepository;
+    private final AccountConcurrencyProperties concurrencyProperties;
+    private final LedgerProperties ledgerProperties;
+
+    public boolean isEnabled() {
+        return concurrencyProperties.isEventSourced();
+    }
+
+    // 입금 이벤트를 추가하고, 추가한 뒤의 잔액을 담은 계좌를 반환한다.
+    public Account deposit(Long accountNumber, List<Long> amounts) {
+        Account account = accountRepository.findByAccountNumberForShare(accountNumber);
+        restoreBalance(account);
+
+        List<LedgerEvent> events = new ArrayList<>(amounts.size());
+        for (Long amount : amounts) {
+            account.deposit(amount);
+            events.add(LedgerEvent.credit(accountNumber, amount, TransactionType.DEPOSIT));
+        }
+        ledgerRepository.appendAll(events);
+        return account;
+    }
+
+    public Account restoreBalance(Account account) {
+        account.restoreBalance(getBalance(account));
+        return account;
+    }
+
+    public Long getBalance(Account account) {
+        Optional<LedgerSnapshot> snapshot = ledgerRepository.findLatestSnapshot(account.getAccountNumber());
+        long baseBalance = snapshot.map(LedgerSnapshot::getBalance).orElse(account.getBalance());
+        long lastEventId = snapshot.map(LedgerSnapshot::getLastEventId).orElse(NO_EVENT_ID);
+
+        return baseBalance + ledgerRepository.summarizeAfter(account.getAccountNumber(), lastEventId).amount();
+    }
+
+    // 배타 잠금을 잡은 계좌들의 이벤트를 추가하고, 스냅샷 주기가 된 계좌는 스냅샷을 남긴다.
+    public void append(List<LedgerEvent> events, List<Account> lockedAccounts) {
+        ledgerRepository.appendAll(events);
+        for (Account account : lockedAccounts) {
+            snapshotIfDue(account);
+        }
+    }
+
+    // 주기적인 스냅샷 스캔에서 호출한다.
+    @Transactional
+    public void snapshotIfDue(Long accountNumber) {
+        snapshotIfDue(accountRepository.findByAccountNumber(accountNumber));
+    }
+
+    // 스냅샷을 모두 지우고 이벤트를 처음부터 재생해서 스냅샷 주기마다 다시 남긴다. 재생한 이벤트 수를 반환한다.
+    // 재생 중에 들어오는 이벤트는 다음 스냅샷에 반영되도록, 트래픽이 없을 때 실행한다.
+    @Transactional
+    public long rebuildSnapshots() {
+        ledgerRepository.deleteAllSnapshots();
+
+        ReplayState state = new ReplayState();
+        ledgerRepository.replayAll(event -> {
+            if (!event.getAccountNumber().equals(state.accountNumber)) {
+                state.moveTo(event.getAccountNumber(), accountRepository.findByAccountNumberForRead(event.getAccountNumber()).getBalance());
+            }
+
+            state.apply(event);
+            if (state.eventsSinceSnapshot == ledgerProperties.snapshotInterval()) {
+                state.snapshots.add(LedgerSnapshot.of(state.accountNumber, state.balance, event.getId()));
+                state.eventsSinceSnapshot = 0;
+                if (state.snapshots.size() >= SNAPSHOT_BATCH_SIZE) {
+                    ledgerRepository.saveAllSnapshots(state.snapshots);
+                    state.snapshots.clear();
+                }
+            }
+        });
+        ledgerRepository.saveAllSnapshots(state.snapshots);
+        return state.replayedCount;
+    }
+
+    private void snapshotIfDue(Account lockedAccount) {
+        Long accountNumber = lockedAccount.getAccountNumber();
+        Optional<LedgerSnapshot> snapshot = ledgerRepository.findLatestSnapshot(accountNumber);
+        long lastEventId = snapshot.map(LedgerSnapshot::getLastEventId).orElse(NO_EVENT_ID);
+
+        LedgerEventSummary summary = ledgerRepository.summarizeAfter(accountNumber, lastEventId);
+        if (summary.count() < ledgerProperties.snapshotInterval()) {
+            return;
+        }
+
+        // 잠근 계좌의 balance 는 이미 원장 잔액으로 바뀌었을 수 있으므로 개설 잔액은 다시 읽는다.
+        long baseBalance = snapshot.isPresent()
+                ? snapshot.get().getBalance()
+                : accountRepository.findByAccountNumberForRead(accountNumber).getBalance();
+        ledgerRepository.saveSnapshot(LedgerSnapshot.of(accountNumber, baseBalance + summary.amount(), summary.lastEventId()));
+    }
+
+    private static class ReplayState {
+        private final List<LedgerSnapshot> snapshots = new ArrayList<>();
+        private Long accountNumber;
+        private long balance;
+        private int eventsSinceSnapshot;
+        private long replayedCount;
+
+        private void moveTo(Long accountNumber, long openingBalance) {
+            this.accountNumber = accountNumber;
+            this.balance = openingBalance;
+            this.eventsSinceSnapshot = 0;
+        }
+
+        private void apply(LedgerEvent event) {
+            balance += event.getAmount();
+            eventsSinceSnapshot++;
+            replayedCount++;
+        }
+    }
+}
@@ -10,17 +10,21 @@ import com.wirebarley.application.transaction.dto.response.TransactionResponse;
 import com.wirebarley.application.account.dto.response.WithdrawResponse;
 import com.wirebarley.domain.account.Account;
 import com.wirebarley.domain.account.AccountRepository;
+import com.wirebarley.domain.ledger.LedgerEvent;
 import com.wirebarley.domain.transaction.Transaction;
 import com.wirebarley.domain.transaction.TransactionRepository;
 import com.wirebarley.domain.transaction.TransactionType;
 import com.wirebarley.domain.user.User;
 import com.wirebarley.domain.user.UserRepository;
+import com.wirebarley.infrastructure.account.config.AccountConcurrencyProperties;
 import com.wirebarley.infrastructure.exception.CustomException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 import static com.wirebarley.infrastructure.exception.ExceptionConstant.*;
 
@@ -34,6 +38,10 @@ public class AccountService {
     private final AccountNumberCreator accountNumberCreator;
     private final TransactionRepository transactionRepository;
     private final TransferLimitChecker transferLimitChecker;
+    private final AccountConcurrencyProperties concurrencyProperties;
+    private final HotAccountBalancer hotAccountBalancer;
+    private final AccountLedger accountLedger;
+    private final AccountBalanceReader accountBalanceReader;
 
     @Transactional
     public AccountResponse createAccount(AccountCreateCommand command, LocalDateTime registeredAt) {
@@ -44,7 +52,7 @@ public class AccountService {
         Account account = command.toDomain(findUser, newAccountNumber, registeredAt);
 
         Account save = accountRepository.save(account);
-        return AccountResponse.of(save);
+        return AccountResponse.of(accountBalanceReader.restoreCurrentBalance(save));
     }
 
     @Transactional
@@ -58,25 +66,56 @@ public class AccountService {
 
     @Transactional
     public DepositResponse deposit(DepositCommand command) {
-        if (command.amount() <= 0) {
-            throw new CustomException(ZERO_AMOUNT_DEPOSIT_EXCEPTION.getMessage());
+        return depositAll(List.of(command)).get(0);
+    }
+
+    // 같은 계좌로 들어온 입금들을 잔액 갱신 한 번으로 반영하고, 각 입금의 거래내역은 누적 잔액과 함께 남긴다.
+    @Transactional
+    public List<DepositResponse> depositAll(List<DepositCommand> commands) {
+        Long accountNumber = commands.get(0).accountNumber();
+        long totalAmount = 0L;
+        for (DepositCommand command : commands) {
+            if (command.amount() <= 0) {
+                throw new CustomException(ZERO_AMOUNT_DEPOSIT_EXCEPTION.getMessage());
+            }
+            if (!command.accountNumber().equals(accountNumber)) {
+                throw new IllegalArgumentException("같은 계좌의 입금만 한 번에 처리할 수 있습니다.");
+            }
+            totalAmount += command.amount();
         }
 
-        Account findAccount = accountRepository.findByAccountNumber(command.accountNumber());
-        findAccount.deposit(command.amount());
-        Account savedAccount = accountRepository.save(findAccount);
+        Account savedAccount;
+        if (accountLedger.isEnabled()) {
+            savedAccount = accountLedger.deposit(accountNumber, commands.stream().map(DepositCommand::amount).toList());
+        } else if (hotAccountBalancer.depositToSlot(accountNumber, totalAmount)) {
+            // 핫 계좌는 슬롯에만 더하고 account 행은 잠그지 않는다.
+            savedAccount = accountRepository.findByAccountNumberForRead(accountNumber);
+        } else if (concurrencyProperties.isConditionalUpdate()) {
+            savedAccount = increaseBalance(accountNumber, totalAmount);
+        } else {
+            Account findAccount = accountRepository.findByAccountNumber(accountNumber);
+            findAccount.deposit(totalAmount);
+            savedAccount = accountRepository.save(findAccount);
+        }
 
-        Transaction transaction = Transaction.builder()
-                .depositAccount(savedAccount)
-                .depositAccountBalance(savedAccount.getBalance())
-                .amount(command.amount())
-                .type(TransactionType.DEPOSIT)
-                .sender(command.sender())
-                .receiver(savedAccount.getUser().getUsername())
-                .build();
+        long runningBalance = (accountLedger.isEnabled() ? savedAccount.getBalance() : hotAccountBalancer.getBalance(savedAccount)) - totalAmount;
+        List<Transaction> transactions = new ArrayList<>(commands.size());
+        for (DepositCommand command : commands) {
+            runningBalance += command.amount();
+            transactions.add(Transaction.builder()
+                    .depositAccount(savedAccount)
+                    .depositAccountBalance(runningBalance)
+                    .amount(command.amount())
+                    .type(TransactionType.DEPOSIT)
+                    .sender(command.sender())
+                    .receiver(savedAccount.getUser().getUsername())
+                    .build());
+        }
 
-        Transaction savedTransaction = transactionRepository.save(transaction);
-        return DepositResponse.of(savedTransaction);
+        return transactionRepository.saveAll(transactions)
+                .stream()
+                .map(DepositResponse::of)
+                .toList();
     }
 
     @Transactional
@@ -85,13 +124,31 @@ public class AccountService {
             throw new CustomException(ZERO_AMOUNT_WITHDRAW_EXCEPTION.getMessage());
         }
 
+        hotAccountBalancer.rollUp(command.accountNumber());
+
         Account findAccount = accountRepository.findByAccountNumber(command.accountNumber());
 
         findAccount.checkOwner(command.userId());
         findAccount.checkPassword(command.password());
-        findAccount.checkEnoughBalanceByCharge(command.amount(), 0L);
-        findAccount.withdraw(command.amount(), 0L);
-        Account savedAccount = accountRepository.save(findAccount);
+
+        Account savedAccount;
+        if (concurrencyProperties.isConditionalUpdate()) {
+            savedAccount = changeBalance(findAccount, -command.amount());
+        } else if (accountLedger.isEnabled()) {
+            accountLedger.restoreBalance(findAccount);
+            findAccount.withdraw(command.amount(), 0L);
+            accountLedger.append(
+                    List.of(LedgerEvent.debit(command.accountNumber(), command.amount(), TransactionType.WITHDRAW)),
+                    List.of(findAccount)
+            );
+            savedAccount = findAccount;
+        } else {
+            findAccount.checkEnoughBalanceByCharge(command.amount(), 0L);
+            findAccount.withdraw(command.amount(), 0L);
+            savedAccount = accountRepository.save(findAccount);
+        }
+
+        transferLimitChecker.recordWithdrawal(command.accountNumber(), command.amount(), LocalDateTime.now());
 
         Transaction transaction = Transaction.builder()
                 .withdrawAccount(savedAccount)
@@ -117,26 +174,46 @@ public class AccountService {
             throw new CustomException(ZERO_AMOUNT_EXCEPTION.getMessage());
         }
 
-        Account withdrawAccount = accountRepository.findByAccountNumber(command.withdrawNumber());
-        Account depositAccount = accountRepository.findByAccountNumber(command.depositNumber());
+        List<Long> accountNumbers = List.of(command.withdrawNumber(), command.depositNumber());
+        hotAccountBalancer.rollUp(command.withdrawNumber(), accountNumbers);
+
+        List<Account> lockedAccounts = accountRepository.findAllByAccountNumbers(accountNumbers);
+        Account withdrawAccount = getAccount(lockedAccounts, command.withdrawNumber());
+        Account depositAccount = getAccount(lockedAccounts, command.depositNumber());
 
         Long transferCharge = withdrawAccount.getTransferCharge(command.amount());
         withdrawAccount.checkOwner(command.userId());
         withdrawAccount.checkPassword(command.accountPassword());
-        withdrawAccount.checkEnoughBalanceByCharge(command.amount(), transferCharge);
 
-        transferLimitChecker.checkTransferLimitByPeriod(withdrawAccount.getAccountNumber(), command.amount(), command.transferDate());
+        if (accountLedger.isEnabled()) {
+            accountLedger.restoreBalance(withdrawAccount);
+            accountLedger.restoreBalance(depositAccount);
+        }
 
-        withdrawAccount.withdraw(command.amount(), transferCharge);
-        depositAccount.deposit(command.amount());
-        accountRepository.save(withdrawAccount);
-        accountRepository.save(depositAccount);
+        if (!concurrencyProperties.isConditionalUpdate()) {
+            withdrawAccount.checkEnoughBalanceByCharge(command.amount(), transferCharge);
+        }
+
+        if (concurrencyProperties.isConditionalUpdate()) {
+            List<Account> updatedAccounts = transferByConditionalUpdate(withdrawAccount, depositAccount, command.amount(), transferCharge);
+            withdrawAccount = getAccount(updatedAccounts, command.withdrawNumber());
+            depositAccount = getAccount(updatedAccounts, command.depositNumber());
+        } else {
+            withdrawAccount.withdraw(command.amount(), transferCharge);
+            depositAccount.deposit(command.amount());
+            saveTransferBalances(withdrawAccount, depositAccount, command.amount(), transferCharge);
+        }
+
+        // 출금과 같은 순서(계좌 행 -> 누적 출금액 행)로 잠그도록 잔액을 바꾼 뒤에 한도를 확인한다. 한도를 넘으면 잔액 변경도 함께 롤백된다.
+        transferLimitChecker.checkTransferLimitByPeriod(withdrawAccount, command.amount(), command.transferDate());
 
         Transaction transaction = Transaction.builder()
                 .withdrawAccount(withdrawAccount)
                 .depositAccount(depositAccount)
                 .withdrawAccountBalance(withdrawAccount.getBalance())
+                .depositAccountBalance(accountLedger.isEnabled() ? depositAccount.getBalance() : hotAccountBalancer.getBalance(depositAccount))
                 .amount(command.amount())
+                .transferCharge(transferCharge)
                 .type(TransactionType.TRANSFER)
                 .sender(withdrawAccount.getUser().getUsername())
                 .receiver(depositAccount.getUser().getUsername())
@@ -146,7 +223,75 @@ public class AccountService {
         return TransactionResponse.of(savedTransaction);
     }
 
+    // 입금은 회원 정보를 함께 읽어야 하므로, UPDATE 로 이미 잠긴 행을 잠금 없이 한 번 읽는 것으로 응답에 필요한 계좌 정보를 얻는다.
+    private Account increaseBalance(Long accountNumber, Long amount) {
+        increaseBalanceOrThrow(accountNumber, amount);
+        return accountRepository.findByAccountNumber(accountNumber);
+    }
+
+    // 출금/이체는 소유자와 비밀번호를 확인하려고 읽어 둔 계좌가 있으므로, 그 version 그대로면 UPDATE 한 문장으로 끝내고
+    // 새 잔액은 읽어 둔 잔액 + 변경액으로 계산한다. 그 사이 다른 요청이 잔액을 바꿨거나 읽어 둔 잔액으로는 모자라면
+    // 잔액 조건 UPDATE 로 처리하고 바뀐 계좌만 다시 읽는다.
+    private Account changeBalance(Account account, Long delta) {
+        if (account.getBalance() + delta >= 0
+                && accountRepository.changeBalanceIfVersion(account.getAccountNumber(), account.getVersion(), delta) > 0) {
+            account.applyUpdatedBalance(delta);
+            return account;
+        }
+
+        if (delta < 0) {
+            decreaseBalanceOrThrow(account.getAccountNumber(), -delta);
+        } else {
+            increaseBalanceOrThrow(account.getAccountNumber(), delta);
+        }
+        return accountRepository.findByAccountNumber(account.getAccountNumber());
+    }
+
+    private void increaseBalanceOrThrow(Long accountNumber, Long amount) {
+        if (accountRepository.increaseBalance(accountNumber, amount) == 0) {
+            throw new CustomException(ACCOUNT_NOT_FOUND_EXCEPTION.getMessage());
+        }
+    }
+
+    private void decreaseBalanceOrThrow(Long accountNumber, Long amount) {
+        if (accountRepository.decreaseBalance(accountNumber, amount) == 0) {
+            throw new CustomException(NOT_ENOUGH_BALANCE_EXCEPTION.getMessage());
+        }
+    }
+
+    // 계좌번호 순서로 UPDATE 해서 교차 이체끼리 데드락이 생기지 않게 한다.
+    private List<Account> transferByConditionalUpdate(Account withdrawAccount, Account depositAccount, Long amount, Long transferCharge) {
+        if (withdrawAccount.getAccountNumber() < depositAccount.getAccountNumber()) {
+            return List.of(changeBalance(withdrawAccount, -(amount + transferCharge)), changeBalance(depositAccount, amount));
+        }
+        Account updatedDepositAccount = changeBalance(depositAccount, amount);
+        return List.of(changeBalance(withdrawAccount, -(amount + transferCharge)), updatedDepositAccount);
+    }
+
+    private void saveTransferBalances(Account withdrawAccount, Account depositAccount, Long amount, Long transferCharge) {
+        if (accountLedger.isEnabled()) {
+            accountLedger.append(
+                    List.of(
+                            LedgerEvent.debit(withdrawAccount.getAccountNumber(), amount + transferCharge, TransactionType.TRANSFER),
+                            LedgerEvent.credit(depositAccount.getAccountNumber(), amount, TransactionType.TRANSFER)
+                    ),
+                    List.of(withdrawAccount, depositAccount)
+            );
+            return;
+        }
+
+        accountRepository.save(withdrawAccount);
+        accountRepository.save(depositAccount);
+    }
+
     private boolean isSameAccount(Long withdrawNumber, Long depositNumber) {
         return withdrawNumber.equals(depositNumber);
     }
+
+    private Account getAccount(List<Account> accounts, Long accountNumber) {
+        return accounts.stream()
+                .filter(account -> account.getAccountNumber().equals(accountNumber))
+                .findFirst()
+                .orElseThrow(() -> new CustomException(ACCOUNT_NOT_FOUND_EXCEPTION.getMessage()));
+    }
 }
@@ -0,0 +1,263 @@
+package com.wirebarley.application.account;
+
+import com.wirebarley.application.account.dto.request.BulkTransferCommand;
+import com.wirebarley.application.account.dto.request.BulkTransferLine;
+import com.wirebarley.application.account.dto.response.BulkTransferLineResponse;
+import com.wirebarley.application.account.dto.response.BulkTransferResponse;
+import com.wirebarley.domain.account.Account;
+import com.wirebarley.domain.account.AccountRepository;
+import com.wirebarley.domain.ledger.LedgerEvent;
+import com.wirebarley.domain.transaction.Transaction;
+import com.wirebarley.domain.transaction.TransactionRepository;
+import com.wirebarley.domain.transaction.TransactionType;
+import com.wirebarley.infrastructure.account.config.AccountConcurrencyProperties;
+import com.wirebarley.infrastructure.exception.CustomException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.wirebarley.infrastructure.exception.ExceptionConstant.*;
+
+// 한 출금계좌에서 여러 계좌로 보내는 대량 이체(급여 이체 등).
+// 출금계좌와 입금계좌를 계좌번호 순서로 한 번에 잠그고, 이체 한도는 성공한 건의 합계로 한 번만 검사하며, 거래내역은 batch insert 로 남긴다.
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+@Service
+public class BulkTransferService {
+
+    private final AccountRepository accountRepository;
+    private final TransactionRepository transactionRepository;
+    private final TransferLimitChecker transferLimitChecker;
+    private final HotAccountBalancer hotAccountBalancer;
+    private final AccountConcurrencyProperties concurrencyProperties;
+    private final AccountLedger accountLedger;
+
+    @Transactional
+    public BulkTransferResponse transferAll(BulkTransferCommand command) {
+        Long withdrawNumber = command.withdrawNumber();
+        List<Long> accountNumbers = Stream.concat(
+                        Stream.of(withdrawNumber),
+                        command.lines().stream().map(BulkTransferLine::depositNumber)
+                )
+                .distinct()
+                .sorted()
+                .toList();
+        hotAccountBalancer.rollUp(withdrawNumber, accountNumbers);
+
+        Map<Long, Account> accounts = accountRepository.findAllByAccountNumbers(accountNumbers)
+                .stream()
+                .collect(Collectors.toMap(Account::getAccountNumber, Function.identity()));
+        if (accountLedger.isEnabled()) {
+            accounts.values().forEach(accountLedger::restoreBalance);
+        }
+
+        Account withdrawAccount = accounts.get(withdrawNumber);
+        if (withdrawAccount == null) {
+            throw new CustomException(ACCOUNT_NOT_FOUND_EXCEPTION.getMessage());
+        }
+        withdrawAccount.checkOwner(command.userId());
+        withdrawAccount.checkPassword(command.accountPassword());
+
+        // 출금계좌 잔액을 차례로 차감해 보면서 건별 성공 여부를 정한다.
+        List<PendingLine> pendingLines = new ArrayList<>(command.lines().size());
+        long remainingBalance = withdrawAccount.getBalance();
+        for (BulkTransferLine line : command.lines()) {
+            Account depositAccount = accounts.get(line.depositNumber());
+            Long transferCharge = line.amount() > 0 ? withdrawAccount.getTransferCharge(line.amount()) : 0L;
+
+            String failureReason = findFailureReason(line, withdrawNumber, depositAccount, transferCharge, remainingBalance);
+            if (failureReason != null) {
+                if (command.allOrNothing()) {
+                    throw new CustomException(failureReason);
+                }
+                pendingLines.add(PendingLine.failed(line, failureReason));
+                continue;
+            }
+
+            remainingBalance -= line.amount() + transferCharge;
+            pendingLines.add(PendingLine.approved(line, depositAccount, transferCharge, remainingBalance));
+        }
+
+        List<PendingLine> approvedLines = pendingLines.stream()
+                .filter(PendingLine::isApproved)
+                .toList();
+        long totalAmount = approvedLines.stream().mapToLong(pendingLine -> pendingLine.line().amount()).sum();
+        long totalCharge = approvedLines.stream().mapToLong(PendingLine::transferCharge).sum();
+
+        if (!approvedLines.isEmpty()) {
+            // 단건 이체와 같은 순서(계좌 행 -> 누적 출금액 행)로 잠그도록 잔액을 바꾼 뒤에 한도를 확인한다.
+            withdrawAccount = applyBalances(withdrawAccount, approvedLines, totalAmount + totalCharge);
+            transferLimitChecker.checkTransferLimitByPeriod(withdrawAccount, totalAmount, command.transferDate());
+        }
+
+        // 조건부 UPDATE 모드에서는 잠그지 않고 읽은 잔액으로 계산했으므로, 실제 잔액과의 차이만큼 건별 잔액을 보정한다.
+        long balanceDrift = withdrawAccount.getBalance() - remainingBalance;
+        List<Long> transactionIds = saveTransactions(withdrawAccount, approvedLines, balanceDrift, findDepositAccountBalances(approvedLines));
+
+        List<BulkTransferLineResponse> results = new ArrayList<>(pendingLines.size());
+        int approvedIndex = 0;
+        for (PendingLine pendingLine : pendingLines) {
+            Long transactionId = pendingLine.isApproved() ? transactionIds.get(approvedIndex++) : null;
+            results.add(pendingLine.toResponse(transactionId, balanceDrift));
+        }
+
+        return BulkTransferResponse.builder()
+                .withdrawAccountNumber(withdrawNumber)
+                .withdrawAccountBalance(withdrawAccount.getBalance())
+                .totalAmount(totalAmount)
+                .successCount(approvedLines.size())
+                .failureCount(pendingLines.size() - approvedLines.size())
+                .results(results)
+                .build();
+    }
+
+    private String findFailureReason(BulkTransferLine line, Long withdrawNumber, Account depositAccount, Long transferCharge, long remainingBalance) {
+        if (line.depositNumber().equals(withdrawNumber)) {
+            return SAME_ACCOUNT_EXCEPTION.getMessage();
+        }
+
+        if (line.amount() <= 0L) {
+            return ZERO_AMOUNT_EXCEPTION.getMessage();
+        }
+
+        if (depositAccount == null) {
+            return ACCOUNT_NOT_FOUND_EXCEPTION.getMessage();
+        }
+
+        if (remainingBalance < line.amount() + transferCharge) {
+            return NOT_ENOUGH_BALANCE_EXCEPTION.getMessage();
+        }
+        return null;
+    }
+
+    // 출금은 합계로 한 번, 입금은 계좌별 합계로 한 번씩 계좌번호 순서대로 반영한다.
+    private Account applyBalances(Account withdrawAccount, List<PendingLine> approvedLines, long totalDebit) {
+        Map<Long, Long> creditByAccountNumber = new TreeMap<>();
+        Map<Long, Account> depositAccounts = new TreeMap<>();
+        for (PendingLine pendingLine : approvedLines) {
+            creditByAccountNumber.merge(pendingLine.depositAccount().getAccountNumber(), pendingLine.line().amount(), Long::sum);
+            depositAccounts.putIfAbsent(pendingLine.depositAccount().getAccountNumber(), pendingLine.depositAccount());
+        }
+
+        if (concurrencyProperties.isConditionalUpdate()) {
+            Map<Long, Long> deltaByAccountNumber = new TreeMap<>(creditByAccountNumber);
+            deltaByAccountNumber.put(withdrawAccount.getAccountNumber(), -totalDebit);
+            deltaByAccountNumber.forEach((accountNumber, delta) -> {
+                int updated = delta < 0
+                        ? accountRepository.decreaseBalance(accountNumber, -delta)
+                        : accountRepository.increaseBalance(accountNumber, delta);
+                if (updated == 0) {
+                    throw new CustomException(delta < 0 ? NOT_ENOUGH_BALANCE_EXCEPTION.getMessage() : ACCOUNT_NOT_FOUND_EXCEPTION.getMessage());
+                }
+            });
+            return accountRepository.findByAccountNumberForRead(withdrawAccount.getAccountNumber());
+        }
+
+        Map<Long, Account> changedAccounts = new TreeMap<>(depositAccounts);
+        changedAccounts.put(withdrawAccount.getAccountNumber(), withdrawAccount);
+        withdrawAccount.withdraw(totalDebit, 0L);
+        creditByAccountNumber.forEach((accountNumber, credit) -> depositAccounts.get(accountNumber).deposit(credit));
+        if (accountLedger.isEnabled()) {
+            // 원장에는 건별로 출금(수수료 포함)과 입금 이벤트를 남긴다.
+            List<LedgerEvent> events = new ArrayList<>(approvedLines.size() * 2);
+            for (PendingLine pendingLine : approvedLines) {
+                events.add(LedgerEvent.debit(withdrawAccount.getAccountNumber(), pendingLine.line().amount() + pendingLine.transferCharge(), TransactionType.TRANSFER));
+                events.add(LedgerEvent.credit(pendingLine.depositAccount().getAccountNumber(), pendingLine.line().amount(), TransactionType.TRANSFER));
+            }
+            accountLedger.append(events, List.copyOf(changedAccounts.values()));
+            return withdrawAccount;
+        }
+
+        changedAccounts.values().forEach(accountRepository::save);
+        return withdrawAccount;
+    }
+
+    // 건별 입금 후 잔액은 입금계좌의 최종 잔액에서 뒤에 오는 건의 입금액을 거꾸로 빼서 구한다.
+    // 조건부 UPDATE 모드에서는 읽어 둔 잔액이 실제와 다를 수 있으므로, 이미 UPDATE 로 잠근 입금계좌를 다시 읽는다.
+    private List<Long> findDepositAccountBalances(List<PendingLine> approvedLines) {
+        if (approvedLines.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Account> depositAccounts = new TreeMap<>();
+        approvedLines.forEach(pendingLine -> depositAccounts.putIfAbsent(pendingLine.depositAccount().getAccountNumber(), pendingLine.depositAccount()));
+        List<Account> finalDepositAccounts = concurrencyProperties.isConditionalUpdate()
+                ? accountRepository.findAllByAccountNumbers(List.copyOf(depositAccounts.keySet()))
+                : List.copyOf(depositAccounts.values());
+
+        // 핫 계좌로 들어온 입금은 슬롯에 남아 있을 수 있으므로 단건 입금과 같이 슬롯 잔액까지 더한다.
+        Map<Long, Long> runningBalances = new TreeMap<>();
+        finalDepositAccounts.forEach(account -> runningBalances.put(account.getAccountNumber(),
+                accountLedger.isEnabled() ? account.getBalance() : hotAccountBalancer.getBalance(account)));
+
+        Long[] balances = new Long[approvedLines.size()];
+        for (int i = approvedLines.size() - 1; i >= 0; i--) {
+            PendingLine pendingLine = approvedLines.get(i);
+            Long accountNumber = pendingLine.depositAccount().getAccountNumber();
+            balances[i] = runningBalances.get(accountNumber);
+            runningBalances.put(accountNumber, balances[i] - pendingLine.line().amount());
+        }
+        return List.of(balances);
+    }
+
+    private List<Long> saveTransactions(Account withdrawAccount, List<PendingLine> approvedLines, long balanceDrift, List<Long> depositAccountBalances) {
+        List<Transaction> transactions = new ArrayList<>(approvedLines.size());
+        for (int i = 0; i < approvedLines.size(); i++) {
+            PendingLine pendingLine = approvedLines.get(i);
+            transactions.add(Transaction.builder()
+                    .withdrawAccount(withdrawAccount)
+                    .depositAccount(pendingLine.depositAccount())
+                    .withdrawAccountBalance(pendingLine.withdrawAccountBalance() + balanceDrift)
+                    .depositAccountBalance(depositAccountBalances.get(i))
+                    .amount(pendingLine.line().amount())
+                    .transferCharge(pendingLine.transferCharge())
+                    .type(TransactionType.TRANSFER)
+                    .sender(withdrawAccount.getUser().getUsername())
+                    .receiver(pendingLine.depositAccount().getUser().getUsername())
+                    .build());
+        }
+
+        return transactionRepository.saveAllInBatch(transactions);
+    }
+
+    private record PendingLine(
+            BulkTransferLine line,
+            Account depositAccount,
+            Long transferCharge,
+            Long withdrawAccountBalance,
+            String failureReason
+    ) {
+
+        private static PendingLine approved(BulkTransferLine line, Account depositAccount, Long transferCharge, Long withdrawAccountBalance) {
+            return new PendingLine(line, depositAccount, transferCharge, withdrawAccountBalance, null);
+        }
+
+        private static PendingLine failed(BulkTransferLine line, String failureReason) {
+            return new PendingLine(line, null, 0L, null, failureReason);
+        }
+
+        private boolean isApproved() {
+            return failureReason == null;
+        }
+
+        private BulkTransferLineResponse toResponse(Long transactionId, long balanceDrift) {
+            return BulkTransferLineResponse.builder()
+                    .id(transactionId)
+                    .depositAccountNumber(line.depositNumber())
+                    .amount(line.amount())
+                    .transferCharge(transferCharge)
+                    .withdrawAccountBalance(isApproved() ? withdrawAccountBalance + balanceDrift : null)
+                    .success(isApproved())
+                    .failureReason(failureReason)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.wirebarley.application.account;
+
+import com.wirebarley.application.account.dto.request.DepositCommand;
+import com.wirebarley.application.account.dto.response.DepositResponse;
+import com.wirebarley.infrastructure.account.config.DepositCoalescingProperties;
+import com.wirebarley.infrastructure.exception.CustomException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import static com.wirebarley.infrastructure.exception.ExceptionConstant.ZERO_AMOUNT_DEPOSIT_EXCEPTION;
+
+// 같은 계좌로 짧은 시간 안에 들어온 입금을 모아 한 트랜잭션으로 처리한다(group commit).
+// 계좌별로 처음 들어온 요청이 리더가 되어 window 동안(또는 maxBatchSize 가 찰 때까지) 기다린 뒤 모인 입금을 한 번에 반영하고,
+// 나머지 요청은 자기 몫의 결과가 채워질 때까지 기다린다. 별도 스레드 없이 요청 스레드만 사용한다.
+@Component
+public class DepositCoalescer {
+
+    private final DepositCoalescingProperties properties;
+    private final DistributionSummary batchSizeSummary;
+    private final ConcurrentMap<Long, PendingDeposits> pendingByAccount = new ConcurrentHashMap<>();
+
+    public DepositCoalescer(DepositCoalescingProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.batchSizeSummary = meterRegistry.summary("account.deposit.batch.size");
+    }
+
+    public DepositResponse deposit(DepositCommand command, Function<List<DepositCommand>, List<DepositResponse>> depositAll) {
+        if (!properties.enabled()) {
+            return depositAll.apply(List.of(command)).get(0);
+        }
+
+        // 잘못된 입금 하나가 같은 묶음의 다른 입금까지 실패시키지 않도록 미리 거른다.
+        if (command.amount() <= 0) {
+            throw new CustomException(ZERO_AMOUNT_DEPOSIT_EXCEPTION.getMessage());
+        }
+
+        CompletableFuture<DepositResponse> result = new CompletableFuture<>();
+        while (true) {
+            PendingDeposits created = new PendingDeposits(properties.maxBatchSize());
+            PendingDeposits pending = pendingByAccount.putIfAbsent(command.accountNumber(), created);
+
+            if (pending == null) {
+                created.add(command, result);
+                created.awaitFullOrTimeout(properties.window().toNanos());
+                pendingByAccount.remove(command.accountNumber(), created);
+                flush(created, depositAll);
+                break;
+            }
+
+            if (pending.add(command, result)) {
+                break;
+            }
+
+            // 이미 닫혔거나 가득 찬 묶음이면 다음 묶음이 시작될 수 있게 비켜준다.
+            pendingByAccount.remove(command.accountNumber(), pending);
+        }
+
+        return join(result);
+    }
+
+    private void flush(PendingDeposits pending, Function<List<DepositCommand>, List<DepositResponse>> depositAll) {
+        List<DepositCommand> commands = pending.close();
+        List<CompletableFuture<DepositResponse>> futures = pending.futures;
+        batchSizeSummary.record(commands.size());
+
+        try {
+            List<DepositResponse> responses = depositAll.apply(commands);
+            for (int i = 0; i < futures.size(); i++) {
+                futures.get(i).complete(responses.get(i));
+            }
+        } catch (RuntimeException | Error e) {
+            futures.forEach(future -> future.completeExceptionally(e));
+        }
+    }
+
+    private DepositResponse join(CompletableFuture<DepositResponse> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private static class PendingDeposits {
+
+        private final int maxSize;
+        private final List<DepositCommand> commands = new ArrayList<>();
+        private final List<CompletableFuture<DepositResponse>> futures = new ArrayList<>();
+        private boolean closed;
+
+        private PendingDeposits(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        private synchronized boolean add(DepositCommand command, CompletableFuture<DepositResponse> future) {
+            if (closed || commands.size() >= maxSize) {
+                return false;
+            }
+
+            commands.add(command);
+            futures.add(future);
+            if (commands.size() >= maxSize) {
+                notifyAll();
+            }
+            return true;
+        }
+
+        private synchronized void awaitFullOrTimeout(long timeoutNanos) {
+            long deadline = System.nanoTime() + timeoutNanos;
+            long remaining = timeoutNanos;
+            while (commands.size() < maxSize && remaining > 0) {
+                try {
+                    wait(remaining / 1_000_000, (int) (remaining % 1_000_000));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                remaining = deadline - System.nanoTime();
+            }
+        }
+
+        private synchronized List<DepositCommand> close() {
+            closed = true;
+            return List.copyOf(commands);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.wirebarley.application.account;
+
+import com.wirebarley.domain.account.Account;
+import com.wirebarley.domain.account.AccountBalanceSlotRepository;
+import com.wirebarley.domain.account.AccountRepository;
+import com.wirebarley.infrastructure.account.config.HotAccountProperties;
+import com.wirebarley.infrastructure.exception.CustomException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.wirebarley.infrastructure.exception.ExceptionConstant.ACCOUNT_NOT_FOUND_EXCEPTION;
+
+// 입금이 몰리는 계좌는 잔액을 K개의 슬롯 행에 나눠 받아서 account 행 하나에 갱신이 몰리지 않게 한다.
+// 출금/이체 전에는 슬롯을 본 잔액으로 합쳐서 잔액 검증이 항상 전체 금액 기준으로 이뤄지게 한다.
+// account -> 슬롯 순서로만 잠그고 슬롯 입금은 account 행을 잠그지 않으므로 입금, 합치기, 출금 사이에 교착이 생기지 않는다.
+@RequiredArgsConstructor
+@Component
+public class HotAccountBalancer {
+
+    private final AccountRepository accountRepository;
+    private final AccountBalanceSlotRepository accountBalanceSlotRepository;
+    private final HotAccountProperties hotAccountProperties;
+
+    public boolean isHot(Long accountNumber) {
+        return hotAccountProperties.isHot(accountNumber);
+    }
+
+    // 슬롯이 아직 만들어지지 않았으면 false 를 반환하고, 호출한 쪽에서 본 잔액에 입금한다.
+    public boolean depositToSlot(Long accountNumber, Long amount) {
+        if (!isHot(accountNumber)) {
+            return false;
+        }
+
+        int slotNo = ThreadLocalRandom.current().nextInt(hotAccountProperties.slotCount());
+        return accountBalanceSlotRepository.increaseSlotBalance(accountNumber, slotNo, amount) > 0;
+    }
+
+    // 본 잔액 + 아직 합쳐지지 않은 슬롯 잔액
+    public Long getBalance(Account account) {
+        if (!isHot(account.getAccountNumber())) {
+            return account.getBalance();
+        }
+        return account.getBalance() + accountBalanceSlotRepository.sumBalance(account.getAccountNumber());
+    }
+
+    @Transactional
+    public void rollUp(Long accountNumber) {
+        rollUp(accountNumber, List.of(accountNumber));
+    }
+
+    // 이체처럼 여러 계좌를 잠그는 요청은 함께 잠글 계좌들을 계좌번호 순서로 먼저 잠근 뒤 슬롯을 합친다.
+    // 출금계좌 행부터 잠그면 반대 방향 이체와 서로 다른 순서로 잠가 교착될 수 있다.
+    @Transactional
+    public void rollUp(Long accountNumber, List<Long> accountNumbersToLock) {
+        if (!isHot(accountNumber)) {
+            return;
+        }
+
+        accountRepository.lockAllByAccountNumbers(accountNumbersToLock.stream().distinct().sorted().toList());
+        drainSlots(accountNumber);
+    }
+
+    // 슬롯이 없으면 만들고 쌓인 슬롯 잔액을 합친다. 주기적인 roll-up 에서 호출한다.
+    @Transactional
+    public void prepareAndRollUp(Long accountNumber) {
+        accountRepository.findByAccountNumberForRead(accountNumber);
+        accountRepository.lockAllByAccountNumbers(List.of(accountNumber));
+
+        accountBalanceSlotRepository.createSlots(accountNumber, hotAccountProperties.slotCount());
+        if (isHot(accountNumber)) {
+            drainSlots(accountNumber);
+        }
+    }
+
+    private void drainSlots(Long accountNumber) {
+        Long drained = accountBalanceSlotRepository.drainSlots(accountNumber);
+        if (drained != 0L && accountRepository.increaseBalance(accountNumber, drained) == 0) {
+            throw new CustomException(ACCOUNT_NOT_FOUND_EXCEPTION.getMessage());
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.wirebarley.application.account;
+
+import com.wirebarley.infrastructure.account.config.HotAccountProperties;
+import com.wirebarley.infrastructure.exception.CustomException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class HotAccountRollUpScheduler {
+
+    private final HotAccountBalancer hotAccountBalancer;
+    private final HotAccountProperties hotAccountProperties;
+
+    @Scheduled(fixedDelayString = "${wirebarley.account.hot.roll-up-interval:1s}")
+    public void rollUp() {
+        for (Long accountNumber : hotAccountProperties.accountNumbers()) {
+            try {
+                hotAccountBalancer.prepareAndRollUp(accountNumber);
+            } catch (CustomException e) {
+                log.warn("핫 계좌 {} 의 잔액을 합치지 못했습니다. {}", accountNumber, e.getMessage());
+            }
+        }
+    }
+}
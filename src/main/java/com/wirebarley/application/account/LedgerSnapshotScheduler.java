@@ -0,0 +1,40 @@
+package com.wirebarley.application.account;
+
+import com.wirebarley.domain.ledger.LedgerRepository;
+import com.wirebarley.infrastructure.exception.CustomException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// 출금/이체는 이벤트를 추가하면서 스냅샷을 남기지만, 입금만 쌓이는 계좌는 공유 잠금만 잡으므로 여기서 대신 남긴다.
+// 지난 스캔 이후 이벤트가 생긴 계좌만 확인한다.
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class LedgerSnapshotScheduler {
+
+    private final AccountLedger accountLedger;
+    private final LedgerRepository ledgerRepository;
+    private final AtomicLong lastScannedEventId = new AtomicLong();
+
+    @Scheduled(fixedDelayString = "${wirebarley.account.ledger.snapshot-scan-interval:10s}")
+    public void snapshot() {
+        if (!accountLedger.isEnabled()) {
+            return;
+        }
+
+        long fromEventId = lastScannedEventId.get();
+        Long toEventId = ledgerRepository.findLastEventId();
+        for (Long accountNumber : ledgerRepository.findAccountNumbersWithEventsBetween(fromEventId, toEventId)) {
+            try {
+                accountLedger.snapshotIfDue(accountNumber);
+            } catch (CustomException e) {
+                log.warn("계좌 {} 의 원장 스냅샷을 남기지 못했습니다. {}", accountNumber, e.getMessage());
+            }
+        }
+        lastScannedEventId.set(toEventId);
+    }
+}
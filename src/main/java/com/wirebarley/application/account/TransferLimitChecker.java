@@ -1,14 +1,15 @@
 package com.wirebarley.application.account;
 
-import com.wirebarley.domain.transaction.TransactionRepository;
-import com.wirebarley.domain.transaction.TransactionType;
+import com.wirebarley.application.limit.TransferLimitPolicyResolver;
+import com.wirebarley.domain.account.Account;
+import com.wirebarley.domain.limit.TransferLimits;
+import com.wirebarley.domain.limit.WithdrawalCounterRepository;
+import com.wirebarley.domain.limit.WithdrawalTotals;
 import com.wirebarley.infrastructure.exception.CustomException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.time.DayOfWeek;
 import java.time.LocalDateTime;
-import java.util.List;
 
 import static com.wirebarley.infrastructure.exception.ExceptionConstant.*;
 
@@ -16,34 +17,33 @@ import static com.wirebarley.infrastructure.exception.ExceptionConstant.*;
 @Component
 public class TransferLimitChecker {
 
-    private static final Long DAILY_LIMIT = 100_000L;
-    private static final Long WEEKLY_LIMIT = 500_000L;
-    private static final Long MONTHLY_LIMIT = 2_000_000L;
+    private final WithdrawalCounterRepository withdrawalCounterRepository;
+    private final TransferLimitPolicyResolver transferLimitPolicyResolver;
 
-    private final TransactionRepository transactionRepository;
+    // 이체 금액을 기간별 누적 출금액에 먼저 더하고(행 잠금) 더한 결과로 한도를 확인한다.
+    // 한도를 넘으면 예외로 트랜잭션이 롤백되면서 더한 금액도 함께 취소된다.
+    public void checkTransferLimitByPeriod(Account withdrawAccount, Long amount, LocalDateTime transferDate) {
+        Long accountNumber = withdrawAccount.getAccountNumber();
+        TransferLimits limits = transferLimitPolicyResolver.resolve(withdrawAccount, transferDate);
 
-    public void checkTransferLimitByPeriod(Long accountNumber, Long amount, LocalDateTime transferDate) {
+        withdrawalCounterRepository.add(accountNumber, amount, transferDate.toLocalDate());
+        WithdrawalTotals totals = withdrawalCounterRepository.findTotals(accountNumber, transferDate.toLocalDate());
 
-        List<TransactionType> withdrawalTypes = TransactionType.getWithdrawalTypes();
-        LocalDateTime dayStart = transferDate.toLocalDate().atStartOfDay();
-        Long dailyTotalAmount = transactionRepository.findTotalWithdrawalAmountByWithdrawAccount(accountNumber, dayStart, transferDate, withdrawalTypes);
-        long dailyTotal = dailyTotalAmount + amount;
-        if (dailyTotal > DAILY_LIMIT) {
+        if (totals.daily() > limits.daily()) {
             throw new CustomException(DAILY_LIMIT_EXCEPTION.getMessage());
         }
 
-        LocalDateTime weekStart = transferDate.toLocalDate().with(DayOfWeek.MONDAY).atStartOfDay();
-        Long weeklyTotalAmount = transactionRepository.findTotalWithdrawalAmountByWithdrawAccount(accountNumber, weekStart, transferDate, withdrawalTypes);
-        long weeklyTotal = weeklyTotalAmount + amount;
-        if (weeklyTotal > WEEKLY_LIMIT) {
+        if (totals.weekly() > limits.weekly()) {
             throw new CustomException(WEEKLY_LIMIT_EXCEPTION.getMessage());
         }
 
-        LocalDateTime monthStart = transferDate.toLocalDate().withDayOfMonth(1).atStartOfDay();
-        Long monthlyTotalAmount = transactionRepository.findTotalWithdrawalAmountByWithdrawAccount(accountNumber, monthStart, transferDate, withdrawalTypes);
-        long monthlyTotal = monthlyTotalAmount + amount;
-        if (monthlyTotal > MONTHLY_LIMIT) {
+        if (totals.monthly() > limits.monthly()) {
             throw new CustomException(MONTHLY_LIMIT_EXCEPTION.getMessage());
         }
     }
+
+    // 출금은 한도를 검사하지 않지만 이체 한도에는 포함되므로 누적 출금액에만 더한다.
+    public void recordWithdrawal(Long accountNumber, Long amount, LocalDateTime withdrawDate) {
+        withdrawalCounterRepository.add(accountNumber, amount, withdrawDate.toLocalDate());
+    }
 }
@@ -0,0 +1,27 @@
+package com.wirebarley.application.account.dto.request;
+
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Builder
+public record BulkTransferCommand(
+        Long withdrawNumber,
+        Long userId,
+        Integer accountPassword,
+        LocalDateTime transferDate,
+        Boolean allOrNothing,   // true 면 한 건이라도 실패할 때 전체를 취소한다
+        List<BulkTransferLine> lines
+) {
+
+    public BulkTransferCommand {
+        if (transferDate == null) {
+            transferDate = LocalDateTime.now();
+        }
+
+        if (allOrNothing == null) {
+            allOrNothing = false;
+        }
+    }
+}
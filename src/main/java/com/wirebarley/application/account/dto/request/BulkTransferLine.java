@@ -0,0 +1,11 @@
+package com.wirebarley.application.account.dto.request;
+
+import lombok.Builder;
+
+@Builder
+public record BulkTransferLine(
+        Long depositNumber,
+        Long amount
+) {
+
+}
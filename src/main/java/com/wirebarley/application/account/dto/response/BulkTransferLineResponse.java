@@ -0,0 +1,27 @@
+package com.wirebarley.application.account.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class BulkTransferLineResponse {
+
+    private final Long id;                      // 거래내역 id, 실패한 건은 null
+    private final Long depositAccountNumber;
+    private final Long amount;
+    private final Long transferCharge;
+    private final Long withdrawAccountBalance;  // 이 건까지 반영한 출금계좌 잔액
+    private final boolean success;
+    private final String failureReason;
+
+    @Builder
+    private BulkTransferLineResponse(Long id, Long depositAccountNumber, Long amount, Long transferCharge, Long withdrawAccountBalance, boolean success, String failureReason) {
+        this.id = id;
+        this.depositAccountNumber = depositAccountNumber;
+        this.amount = amount;
+        this.transferCharge = transferCharge;
+        this.withdrawAccountBalance = withdrawAccountBalance;
+        this.success = success;
+        this.failureReason = failureReason;
+    }
+}
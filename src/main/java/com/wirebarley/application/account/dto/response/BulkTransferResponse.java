@@ -0,0 +1,27 @@
+package com.wirebarley.application.account.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class BulkTransferResponse {
+
+    private final Long withdrawAccountNumber;
+    private final Long withdrawAccountBalance;
+    private final Long totalAmount;
+    private final int successCount;
+    private final int failureCount;
+    private final List<BulkTransferLineResponse> results;
+
+    @Builder
+    private BulkTransferResponse(Long withdrawAccountNumber, Long withdrawAccountBalance, Long totalAmount, int successCount, int failureCount, List<BulkTransferLineResponse> results) {
+        this.withdrawAccountNumber = withdrawAccountNumber;
+        this.withdrawAccountBalance = withdrawAccountBalance;
+        this.totalAmount = totalAmount;
+        this.successCount = successCount;
+        this.failureCount = failureCount;
+        this.results = results;
+    }
+}
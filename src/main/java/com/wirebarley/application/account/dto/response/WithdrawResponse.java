@@ -4,6 +4,7 @@ import com.wirebarley.domain.transaction.Transaction;
 import com.wirebarley.domain.transaction.TransactionType;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.time.LocalDateTime;
 
@@ -20,6 +21,7 @@ public class WithdrawResponse {
     private final LocalDateTime createdAt;
     private final LocalDateTime modifiedAt;
 
+    @Jacksonized
     @Builder
     private WithdrawResponse(Long id, Long withdrawAccountNumber, Long amount, Long withdrawAccountBalance, TransactionType type, String sender, String receiver, LocalDateTime createdAt, LocalDateTime modifiedAt) {
         this.id = id;
@@ -0,0 +1,156 @@
+package com.wirebarley.application.limit;
+
+import com.wirebarley.domain.account.Account;
+import com.wirebarley.domain.limit.TransferLimitPolicy;
+import com.wirebarley.domain.limit.TransferLimitPolicyRepository;
+import com.wirebarley.domain.limit.TransferLimitPolicyScope;
+import com.wirebarley.domain.limit.TransferLimits;
+import com.wirebarley.infrastructure.limit.config.TransferLimitProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 계좌에 적용되는 이체 한도를 기본값 < 등급 < 회원 < 계좌 정책 순서로 덮어써서 계산한다.
+// 정책은 전부 메모리에 올려 두고, 계산한 한도는 계좌별로 캐시해서 이체마다 DB 를 읽지 않는다.
+// 정책이 바뀌면 reload 로 다시 읽고, 다른 서버에서 바뀐 정책은 주기적으로 다시 읽어서 반영한다.
+@Component
+public class TransferLimitPolicyResolver {
+
+    private final TransferLimitPolicyRepository transferLimitPolicyRepository;
+    private final TransferLimitProperties properties;
+    private final Map<Long, CompiledLimits> compiledLimits;
+    private volatile PolicyIndex policyIndex;
+
+    public TransferLimitPolicyResolver(TransferLimitPolicyRepository transferLimitPolicyRepository, TransferLimitProperties properties) {
+        this.transferLimitPolicyRepository = transferLimitPolicyRepository;
+        this.properties = properties;
+        this.compiledLimits = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CompiledLimits> eldest) {
+                return size() > properties.policyCacheSize();
+            }
+        });
+    }
+
+    public TransferLimits resolve(Account account, LocalDateTime dateTime) {
+        PolicyIndex index = getPolicyIndex();
+        CompiledLimits cached = compiledLimits.get(account.getAccountNumber());
+        if (cached != null && cached.isValid(index, account, dateTime)) {
+            return cached.limits();
+        }
+
+        CompiledLimits compiled = index.compile(account, dateTime, defaultLimits());
+        compiledLimits.put(account.getAccountNumber(), compiled);
+        return compiled.limits();
+    }
+
+    // 정책을 다시 읽는다. 이전 정책으로 계산한 한도는 인덱스가 바뀌면서 모두 무효가 된다.
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${wirebarley.transfer.limit.policy-refresh-interval:1m}",
+            initialDelayString = "${wirebarley.transfer.limit.policy-refresh-interval:1m}")
+    public void reload() {
+        policyIndex = new PolicyIndex(transferLimitPolicyRepository.findAll());
+        compiledLimits.clear();
+    }
+
+    private PolicyIndex getPolicyIndex() {
+        PolicyIndex index = policyIndex;
+        if (index != null) {
+            return index;
+        }
+        synchronized (this) {
+            if (policyIndex == null) {
+                reload();
+            }
+            return policyIndex;
+        }
+    }
+
+    private TransferLimits defaultLimits() {
+        return new TransferLimits(properties.daily(), properties.weekly(), properties.monthly());
+    }
+
+    // validFrom ~ validUntil 사이에는 어떤 정책도 시작하거나 끝나지 않으므로 같은 한도를 쓸 수 있다.
+    private record CompiledLimits(
+            PolicyIndex index,
+            String tierKey,
+            String userKey,
+            TransferLimits limits,
+            LocalDateTime validFrom,
+            LocalDateTime validUntil
+    ) {
+
+        private boolean isValid(PolicyIndex currentIndex, Account account, LocalDateTime dateTime) {
+            return index == currentIndex
+                    && tierKey.equals(TransferLimitPolicyScope.TIER.keyOf(account))
+                    && userKey.equals(TransferLimitPolicyScope.USER.keyOf(account))
+                    && !dateTime.isBefore(validFrom)
+                    && dateTime.isBefore(validUntil);
+        }
+    }
+
+    private static class PolicyIndex {
+
+        private final Map<TransferLimitPolicyScope, Map<String, List<TransferLimitPolicy>>> policies = new EnumMap<>(TransferLimitPolicyScope.class);
+
+        private PolicyIndex(List<TransferLimitPolicy> allPolicies) {
+            for (TransferLimitPolicyScope scope : TransferLimitPolicyScope.values()) {
+                policies.put(scope, new HashMap<>());
+            }
+            for (TransferLimitPolicy policy : allPolicies) {
+                policies.get(policy.getScope())
+                        .computeIfAbsent(policy.getScopeKey(), key -> new ArrayList<>())
+                        .add(policy);
+            }
+        }
+
+        private CompiledLimits compile(Account account, LocalDateTime dateTime, TransferLimits defaultLimits) {
+            TransferLimits limits = defaultLimits;
+            LocalDateTime validFrom = LocalDateTime.MIN;
+            LocalDateTime validUntil = LocalDateTime.MAX;
+
+            for (TransferLimitPolicyScope scope : TransferLimitPolicyScope.values()) {
+                TransferLimitPolicy applied = null;
+                for (TransferLimitPolicy policy : policies.get(scope).getOrDefault(scope.keyOf(account), List.of())) {
+                    if (policy.isActiveAt(dateTime) && (applied == null || policy.overrides(applied))) {
+                        applied = policy;
+                    }
+                    validFrom = latestPassed(validFrom, policy.getStartsAt(), dateTime);
+                    validFrom = latestPassed(validFrom, policy.getEndsAt(), dateTime);
+                    validUntil = earliestUpcoming(validUntil, policy.getStartsAt(), dateTime);
+                    validUntil = earliestUpcoming(validUntil, policy.getEndsAt(), dateTime);
+                }
+                if (applied != null) {
+                    limits = limits.overlay(applied);
+                }
+            }
+
+            return new CompiledLimits(
+                    this,
+                    TransferLimitPolicyScope.TIER.keyOf(account),
+                    TransferLimitPolicyScope.USER.keyOf(account),
+                    limits,
+                    validFrom,
+                    validUntil
+            );
+        }
+
+        private static LocalDateTime latestPassed(LocalDateTime current, LocalDateTime boundary, LocalDateTime dateTime) {
+            return boundary != null && !boundary.isAfter(dateTime) && boundary.isAfter(current) ? boundary : current;
+        }
+
+        private static LocalDateTime earliestUpcoming(LocalDateTime current, LocalDateTime boundary, LocalDateTime dateTime) {
+            return boundary != null && boundary.isAfter(dateTime) && boundary.isBefore(current) ? boundary : current;
+        }
+    }
+}
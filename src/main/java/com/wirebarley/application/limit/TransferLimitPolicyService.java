@@ -0,0 +1,62 @@
+package com.wirebarley.application.limit;
+
+import com.wirebarley.application.limit.dto.request.TransferLimitPolicyCommand;
+import com.wirebarley.application.limit.dto.response.TransferLimitPolicyResponse;
+import com.wirebarley.domain.limit.TransferLimitPolicy;
+import com.wirebarley.domain.limit.TransferLimitPolicyRepository;
+import com.wirebarley.infrastructure.exception.CustomException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.wirebarley.infrastructure.exception.ExceptionConstant.*;
+
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+@Service
+public class TransferLimitPolicyService {
+
+    private final TransferLimitPolicyRepository transferLimitPolicyRepository;
+    private final TransferLimitPolicyResolver transferLimitPolicyResolver;
+
+    @Transactional
+    public TransferLimitPolicyResponse registerPolicy(TransferLimitPolicyCommand command, LocalDateTime createdAt) {
+        if (command.dailyLimit() == null && command.weeklyLimit() == null && command.monthlyLimit() == null) {
+            throw new CustomException(EMPTY_TRANSFER_LIMIT_POLICY_EXCEPTION.getMessage());
+        }
+
+        if (command.startsAt() != null && command.endsAt() != null && !command.endsAt().isAfter(command.startsAt())) {
+            throw new CustomException(INVALID_TRANSFER_LIMIT_POLICY_PERIOD_EXCEPTION.getMessage());
+        }
+
+        if (!command.scope().isValidKey(command.scopeKey())) {
+            throw new CustomException(INVALID_TRANSFER_LIMIT_POLICY_SCOPE_KEY_EXCEPTION.getMessage());
+        }
+
+        TransferLimitPolicy savedPolicy = transferLimitPolicyRepository.save(command.toDomain(createdAt));
+        reloadAfterCommit();
+        return TransferLimitPolicyResponse.of(savedPolicy);
+    }
+
+    public List<TransferLimitPolicyResponse> retrievePolicies() {
+        return transferLimitPolicyRepository.findAll()
+                .stream()
+                .map(TransferLimitPolicyResponse::of)
+                .toList();
+    }
+
+    // 커밋 전에 다시 읽으면 새 정책이 보이지 않으므로 커밋된 뒤에 계좌별 한도를 다시 계산하게 한다.
+    private void reloadAfterCommit() {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                transferLimitPolicyResolver.reload();
+            }
+        });
+    }
+}
@@ -0,0 +1,32 @@
+package com.wirebarley.application.limit.dto.request;
+
+import com.wirebarley.domain.limit.TransferLimitPolicy;
+import com.wirebarley.domain.limit.TransferLimitPolicyScope;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+@Builder
+public record TransferLimitPolicyCommand(
+        TransferLimitPolicyScope scope,
+        String scopeKey,
+        Long dailyLimit,
+        Long weeklyLimit,
+        Long monthlyLimit,
+        LocalDateTime startsAt,
+        LocalDateTime endsAt
+) {
+
+    public TransferLimitPolicy toDomain(LocalDateTime createdAt) {
+        return TransferLimitPolicy.builder()
+                .scope(this.scope)
+                .scopeKey(this.scopeKey)
+                .dailyLimit(this.dailyLimit)
+                .weeklyLimit(this.weeklyLimit)
+                .monthlyLimit(this.monthlyLimit)
+                .startsAt(this.startsAt)
+                .endsAt(this.endsAt)
+                .createdAt(createdAt)
+                .build();
+    }
+}
@@ -0,0 +1,49 @@
+package com.wirebarley.application.limit.dto.response;
+
+import com.wirebarley.domain.limit.TransferLimitPolicy;
+import com.wirebarley.domain.limit.TransferLimitPolicyScope;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class TransferLimitPolicyResponse {
+
+    private final Long id;
+    private final TransferLimitPolicyScope scope;
+    private final String scopeKey;
+    private final Long dailyLimit;
+    private final Long weeklyLimit;
+    private final Long monthlyLimit;
+    private final LocalDateTime startsAt;
+    private final LocalDateTime endsAt;
+    private final LocalDateTime createdAt;
+
+    @Builder
+    private TransferLimitPolicyResponse(Long id, TransferLimitPolicyScope scope, String scopeKey, Long dailyLimit, Long weeklyLimit, Long monthlyLimit, LocalDateTime startsAt, LocalDateTime endsAt, LocalDateTime createdAt) {
+        this.id = id;
+        this.scope = scope;
+        this.scopeKey = scopeKey;
+        this.dailyLimit = dailyLimit;
+        this.weeklyLimit = weeklyLimit;
+        this.monthlyLimit = monthlyLimit;
+        this.startsAt = startsAt;
+        this.endsAt = endsAt;
+        this.createdAt = createdAt;
+    }
+
+    public static TransferLimitPolicyResponse of(TransferLimitPolicy policy) {
+        return TransferLimitPolicyResponse.builder()
+                .id(policy.getId())
+                .scope(policy.getScope())
+                .scopeKey(policy.getScopeKey())
+                .dailyLimit(policy.getDailyLimit())
+                .weeklyLimit(policy.getWeeklyLimit())
+                .monthlyLimit(policy.getMonthlyLimit())
+                .startsAt(policy.getStartsAt())
+                .endsAt(policy.getEndsAt())
+                .createdAt(policy.getCreatedAt())
+                .build();
+    }
+}
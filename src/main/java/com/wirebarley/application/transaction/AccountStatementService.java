@@ -0,0 +1,114 @@
+package com.wirebarley.application.transaction;
+
+import com.wirebarley.application.account.AccountBalanceReader;
+import com.wirebarley.application.transaction.dto.response.AccountStatementBalanceResponse;
+import com.wirebarley.application.transaction.dto.response.AccountStatementRebuildResponse;
+import com.wirebarley.domain.account.Account;
+import com.wirebarley.domain.account.AccountRepository;
+import com.wirebarley.domain.transaction.AccountStatementRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.wirebarley.infrastructure.exception.ExceptionConstant.STATEMENT_REBUILD_FAILED_EXCEPTION;
+
+// 계좌 하나의 명세 재생성은 요청 스레드에서 바로 끝내고, 여러 계좌의 재생성은 백그라운드 스레드 하나에서 한 번에 하나만 돌린다.
+// 진행 상황은 이 서버 메모리에만 있으므로, 여러 대로 띄울 때는 재생성 요청을 한 서버로만 보내야 한다.
+@Slf4j
+@Service
+public class AccountStatementService implements DisposableBean {
+
+    private static final int ACCOUNT_CHUNK_SIZE = 500;
+
+    private final AccountStatementRepository accountStatementRepository;
+    private final AccountRepository accountRepository;
+    private final AccountBalanceReader accountBalanceReader;
+    private final ExecutorService rebuildWorker;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private volatile AccountStatementRebuildResponse lastRebuild;
+
+    public AccountStatementService(AccountStatementRepository accountStatementRepository,
+                                   AccountRepository accountRepository,
+                                   AccountBalanceReader accountBalanceReader) {
+        this.accountStatementRepository = accountStatementRepository;
+        this.accountRepository = accountRepository;
+        this.accountBalanceReader = accountBalanceReader;
+        this.rebuildWorker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "statement-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public AccountStatementRebuildResponse rebuild(Long accountId) {
+        accountRepository.findById(accountId);
+        return AccountStatementRebuildResponse.of(1, accountStatementRepository.rebuild(accountId));
+    }
+
+    // 모든 계좌 또는 명세 반영에 실패했던 계좌(failedOnly)의 명세를 백그라운드에서 다시 만든다.
+    // 이미 돌고 있으면 새로 시작하지 않고 돌고 있는 재생성의 진행 상황을 돌려준다.
+    public AccountStatementRebuildResponse startRebuild(boolean failedOnly) {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return lastRebuild;
+        }
+
+        AccountStatementRebuildResponse started = AccountStatementRebuildResponse.running(failedOnly, LocalDateTime.now());
+        lastRebuild = started;
+        rebuildWorker.execute(() -> rebuildAll(failedOnly));
+        return started;
+    }
+
+    // 마지막으로 시작한 재생성의 진행 상황. 한 번도 시작하지 않았으면 null 이다.
+    public AccountStatementRebuildResponse getRebuild() {
+        return lastRebuild;
+    }
+
+    // 계좌마다 따로 커밋하므로 전체 재생성이 긴 트랜잭션 하나로 묶이지 않고, 계좌를 마칠 때마다 진행 상황을 남긴다.
+    private void rebuildAll(boolean failedOnly) {
+        try {
+            int accountCount = 0;
+            long statementCount = 0;
+            List<Long> accountIds = findAccountIdsAfter(failedOnly, 0L);
+            while (!accountIds.isEmpty()) {
+                for (Long accountId : accountIds) {
+                    statementCount += accountStatementRepository.rebuild(accountId);
+                    accountCount++;
+                    lastRebuild = lastRebuild.proceed(accountCount, statementCount);
+                }
+                accountIds = findAccountIdsAfter(failedOnly, accountIds.get(accountIds.size() - 1));
+            }
+            lastRebuild = lastRebuild.complete(LocalDateTime.now());
+        } catch (RuntimeException e) {
+            log.error("거래 명세 재생성이 {} 개 계좌까지 진행하고 실패했습니다.", lastRebuild.getAccountCount(), e);
+            lastRebuild = lastRebuild.fail(STATEMENT_REBUILD_FAILED_EXCEPTION.getMessage(), LocalDateTime.now());
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    private List<Long> findAccountIdsAfter(boolean failedOnly, Long accountId) {
+        if (failedOnly) {
+            return accountStatementRepository.findFailedAccountIdsAfter(accountId, ACCOUNT_CHUNK_SIZE);
+        }
+        return accountRepository.findIdsAfter(accountId, ACCOUNT_CHUNK_SIZE);
+    }
+
+    // 계좌 명세의 금액을 모두 더해 마지막 명세 잔액과 맞는지 본다. 현재 계좌 잔액도 같이 내려줘서 명세가 밀렸는지 비교할 수 있다.
+    public AccountStatementBalanceResponse checkBalance(Long accountId) {
+        Account account = accountBalanceReader.restoreCurrentBalance(accountRepository.findById(accountId));
+        return AccountStatementBalanceResponse.of(account, accountStatementRepository.summarize(accountId));
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        rebuildWorker.shutdownNow();
+        rebuildWorker.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
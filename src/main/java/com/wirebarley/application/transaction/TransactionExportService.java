@@ -0,0 +1,74 @@
+package com.wirebarley.application.transaction;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wirebarley.application.transaction.dto.request.TransactionExportCommand;
+import com.wirebarley.application.transaction.export.CsvTransactionExportWriter;
+import com.wirebarley.application.transaction.export.NdjsonTransactionExportWriter;
+import com.wirebarley.application.transaction.export.TransactionExport;
+import com.wirebarley.application.transaction.export.TransactionExportFormat;
+import com.wirebarley.application.transaction.export.TransactionExportWriter;
+import com.wirebarley.domain.account.Account;
+import com.wirebarley.domain.account.AccountRepository;
+import com.wirebarley.domain.transaction.TransactionRepository;
+import com.wirebarley.domain.transaction.dto.TransactionExportQuery;
+import com.wirebarley.infrastructure.exception.CustomException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import static com.wirebarley.infrastructure.exception.ExceptionConstant.INVALID_TRANSACTION_EXPORT_PERIOD_EXCEPTION;
+
+@RequiredArgsConstructor
+@Service
+public class TransactionExportService {
+
+    private final TransactionRepository transactionRepository;
+    private final AccountRepository accountRepository;
+    private final ObjectMapper objectMapper;
+
+    // 검증과 소유주 확인은 요청 스레드에서 끝내서 실패하면 일반 오류 응답으로 내려가게 하고,
+    // 거래 내역은 응답 스트림에 쓰는 시점에 트랜잭션 없이 한 건씩 읽어 바로 쓴다.
+    @Transactional(readOnly = true)
+    public TransactionExport export(TransactionExportCommand command) {
+        if (command.from() != null && command.to() != null && command.from().isAfter(command.to())) {
+            throw new CustomException(INVALID_TRANSACTION_EXPORT_PERIOD_EXCEPTION.getMessage());
+        }
+
+        Account findAccount = accountRepository.findById(command.accountId());
+        findAccount.checkOwner(command.userId());
+
+        TransactionExportQuery query = command.toQuery();
+        return outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            TransactionExportWriter exportWriter = createWriter(command.format(), writer);
+
+            exportWriter.writeHeader();
+            try {
+                transactionRepository.streamTransactionHistories(query, history -> {
+                    try {
+                        exportWriter.write(history);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            writer.flush();
+        };
+    }
+
+    private TransactionExportWriter createWriter(TransactionExportFormat format, Writer writer) {
+        return switch (format) {
+            case NDJSON -> new NdjsonTransactionExportWriter(writer, objectMapper);
+            case CSV -> new CsvTransactionExportWriter(writer);
+        };
+    }
+}
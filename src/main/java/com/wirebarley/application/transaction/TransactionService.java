@@ -1,17 +1,24 @@
 package com.wirebarley.application.transaction;
 
-import com.wirebarley.application.transaction.dto.response.TransactionResponse;
+import com.wirebarley.application.transaction.dto.response.TransactionPageResponse;
 import com.wirebarley.application.transaction.dto.request.TransactionRetrieveCommand;
 import com.wirebarley.domain.account.Account;
 import com.wirebarley.domain.account.AccountRepository;
-import com.wirebarley.domain.transaction.Transaction;
 import com.wirebarley.domain.transaction.TransactionRepository;
+import com.wirebarley.domain.transaction.dto.TransactionHistory;
+import com.wirebarley.domain.transaction.dto.TransactionRetrieveQuery;
+import com.wirebarley.infrastructure.exception.CustomException;
+import com.wirebarley.infrastructure.transaction.config.TransactionHistoryProperties;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.List;
 
+import static com.wirebarley.infrastructure.exception.ExceptionConstant.INVALID_TRANSACTION_PERIOD_EXCEPTION;
+
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 @Service
@@ -19,17 +26,24 @@ public class TransactionService {
 
     private final TransactionRepository transactionRepository;
     private final AccountRepository accountRepository;
+    private final TransactionHistoryProperties transactionHistoryProperties;
+
+    // 거래 내역 캐시가 읽기 트랜잭션을 시작하기 전에 계좌의 캐시 버전을 잡을 수 있도록 트랜잭션 없이 시작한다.
+    // 계좌와 거래 내역은 각각 읽기 전용 트랜잭션으로 읽는다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TransactionPageResponse retrieveTransaction(TransactionRetrieveCommand command) {
+        if (command.from() != null && command.to() != null && command.from().isAfter(command.to())) {
+            throw new CustomException(INVALID_TRANSACTION_PERIOD_EXCEPTION.getMessage());
+        }
 
-    public List<TransactionResponse> retrieveTransaction(TransactionRetrieveCommand command) {
         Account findAccount = accountRepository.findById(command.accountId());
 
         findAccount.checkOwner(command.userId());
 
-        List<Transaction> transactions = transactionRepository.findTransactions(command.toQuery());
+        TransactionRetrieveQuery query = command.toQuery(LocalDate.now(), transactionHistoryProperties.defaultPeriod());
+        List<TransactionHistory> histories = transactionRepository.findTransactionHistories(query);
 
-        return transactions
-                .stream()
-                .map(TransactionResponse::of)
-                .toList();
+        // 조회 기간을 주지 않으면 기본 기간만 읽으므로, 실제로 읽은 기간을 같이 내려줘서 더 오래된 거래가 빠졌다는 것을 알 수 있게 한다.
+        return TransactionPageResponse.of(histories, command.count(), query.from().toLocalDate(), query.to().toLocalDate().minusDays(1));
     }
 }
@@ -0,0 +1,26 @@
+package com.wirebarley.application.transaction.dto.request;
+
+import com.wirebarley.application.transaction.export.TransactionExportFormat;
+import com.wirebarley.domain.transaction.dto.TransactionExportQuery;
+import lombok.Builder;
+
+import java.time.LocalDate;
+
+@Builder
+public record TransactionExportCommand(
+        Long userId,
+        Long accountId,
+        LocalDate from,
+        LocalDate to,
+        TransactionExportFormat format
+) {
+
+    // 종료일은 그날 거래까지 포함하도록 다음 날 0시 미만으로 바꾼다.
+    public TransactionExportQuery toQuery() {
+        return TransactionExportQuery.builder()
+                .accountId(this.accountId)
+                .from(this.from == null ? null : this.from.atStartOfDay())
+                .to(this.to == null ? null : this.to.plusDays(1).atStartOfDay())
+                .build();
+    }
+}
@@ -1,24 +1,39 @@
 package com.wirebarley.application.transaction.dto.request;
 
 import com.wirebarley.domain.transaction.TransactionType;
+import com.wirebarley.domain.transaction.dto.TransactionCursor;
 import com.wirebarley.domain.transaction.dto.TransactionRetrieveQuery;
 import lombok.Builder;
 
+import java.time.LocalDate;
+import java.time.Period;
+
 @Builder
 public record TransactionRetrieveCommand(
         int offset,
         int count,
         Long userId,
         Long accountId,
-        TransactionType type
+        TransactionType type,
+        TransactionCursor cursor,
+        LocalDate from,
+        LocalDate to
 ) {
 
-    public TransactionRetrieveQuery toQuery() {
+    // 다음 페이지가 있는지 알기 위해 요청한 개수보다 한 건 더 읽는다.
+    // 조회 기간은 항상 정해서 넘긴다. 시작일이 없으면 종료일(없으면 오늘)에서 defaultPeriod 만큼 앞부터 읽고, 종료일은 그날 거래까지 포함한다.
+    public TransactionRetrieveQuery toQuery(LocalDate today, Period defaultPeriod) {
+        LocalDate toDate = this.to == null ? today : this.to;
+        LocalDate fromDate = this.from == null ? toDate.minus(defaultPeriod) : this.from;
+
         return TransactionRetrieveQuery.builder()
                 .offset(this.offset)
-                .count(this.count)
+                .count(this.count + 1)
                 .accountId(this.accountId)
                 .type(this.type)
+                .cursor(this.cursor)
+                .from(fromDate.atStartOfDay())
+                .to(toDate.plusDays(1).atStartOfDay())
                 .build();
     }
 }
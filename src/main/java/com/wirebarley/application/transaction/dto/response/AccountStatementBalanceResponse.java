@@ -0,0 +1,41 @@
+package com.wirebarley.application.transaction.dto.response;
+
+import com.wirebarley.domain.account.Account;
+import com.wirebarley.domain.transaction.dto.AccountStatementBalance;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class AccountStatementBalanceResponse {
+
+    private final Long accountId;
+    private final Long accountBalance;
+    private final long statementCount;
+    private final Long openingBalance; // 명세가 없으면 null
+    private final long amountSum;
+    private final Long closingBalance; // 명세가 없으면 null
+    private final boolean balanced; // 개설 잔액 + 명세 금액 합계 == 마지막 명세 잔액
+
+    @Builder
+    private AccountStatementBalanceResponse(Long accountId, Long accountBalance, long statementCount, Long openingBalance, long amountSum, Long closingBalance, boolean balanced) {
+        this.accountId = accountId;
+        this.accountBalance = accountBalance;
+        this.statementCount = statementCount;
+        this.openingBalance = openingBalance;
+        this.amountSum = amountSum;
+        this.closingBalance = closingBalance;
+        this.balanced = balanced;
+    }
+
+    public static AccountStatementBalanceResponse of(Account account, AccountStatementBalance balance) {
+        return AccountStatementBalanceResponse.builder()
+                .accountId(account.getId())
+                .accountBalance(account.getBalance())
+                .statementCount(balance.count())
+                .openingBalance(balance.openingBalance())
+                .amountSum(balance.amountSum())
+                .closingBalance(balance.closingBalance())
+                .balanced(balance.isBalanced())
+                .build();
+    }
+}
@@ -0,0 +1,72 @@
+package com.wirebarley.application.transaction.dto.response;
+
+import com.wirebarley.domain.transaction.AccountStatementRebuildStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 계좌 하나를 재생성하면 끝난 결과를, 전체 재생성은 실행중인 작업의 진행 상황을 담는다.
+@Getter
+public class AccountStatementRebuildResponse {
+
+    private final AccountStatementRebuildStatus status;
+    private final boolean failedOnly; // 명세 반영에 실패했던 계좌만 재생성하는지
+    private final int accountCount; // 지금까지 재생성한 계좌 수
+    private final long statementCount;
+    private final LocalDateTime startedAt;
+    private final LocalDateTime finishedAt; // 실행중이면 null
+    private final String failureReason;
+
+    @Builder(toBuilder = true)
+    private AccountStatementRebuildResponse(AccountStatementRebuildStatus status, boolean failedOnly, int accountCount, long statementCount, LocalDateTime startedAt, LocalDateTime finishedAt, String failureReason) {
+        this.status = status;
+        this.failedOnly = failedOnly;
+        this.accountCount = accountCount;
+        this.statementCount = statementCount;
+        this.startedAt = startedAt;
+        this.finishedAt = finishedAt;
+        this.failureReason = failureReason;
+    }
+
+    public static AccountStatementRebuildResponse of(int accountCount, long statementCount) {
+        LocalDateTime now = LocalDateTime.now();
+        return AccountStatementRebuildResponse.builder()
+                .status(AccountStatementRebuildStatus.COMPLETED)
+                .accountCount(accountCount)
+                .statementCount(statementCount)
+                .startedAt(now)
+                .finishedAt(now)
+                .build();
+    }
+
+    public static AccountStatementRebuildResponse running(boolean failedOnly, LocalDateTime startedAt) {
+        return AccountStatementRebuildResponse.builder()
+                .status(AccountStatementRebuildStatus.RUNNING)
+                .failedOnly(failedOnly)
+                .startedAt(startedAt)
+                .build();
+    }
+
+    public AccountStatementRebuildResponse proceed(int accountCount, long statementCount) {
+        return toBuilder()
+                .accountCount(accountCount)
+                .statementCount(statementCount)
+                .build();
+    }
+
+    public AccountStatementRebuildResponse complete(LocalDateTime finishedAt) {
+        return toBuilder()
+                .status(AccountStatementRebuildStatus.COMPLETED)
+                .finishedAt(finishedAt)
+                .build();
+    }
+
+    public AccountStatementRebuildResponse fail(String failureReason, LocalDateTime finishedAt) {
+        return toBuilder()
+                .status(AccountStatementRebuildStatus.FAILED)
+                .failureReason(failureReason)
+                .finishedAt(finishedAt)
+                .build();
+    }
+}
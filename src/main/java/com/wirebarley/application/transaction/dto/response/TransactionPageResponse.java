@@ -0,0 +1,43 @@
+package com.wirebarley.application.transaction.dto.response;
+
+import com.wirebarley.domain.transaction.dto.TransactionCursor;
+import com.wirebarley.domain.transaction.dto.TransactionHistory;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+public class TransactionPageResponse {
+
+    private final List<TransactionResponse> transactions;
+    private final String nextCursor; // 마지막 페이지면 null
+    private final LocalDate from;    // 실제로 조회한 기간. 요청에 없으면 기본 기간으로 채운 날짜
+    private final LocalDate to;
+
+    @Builder
+    private TransactionPageResponse(List<TransactionResponse> transactions, String nextCursor, LocalDate from, LocalDate to) {
+        this.transactions = transactions;
+        this.nextCursor = nextCursor;
+        this.from = from;
+        this.to = to;
+    }
+
+    // count 보다 한 건 더 읽어 온 결과에서 count 만큼만 내려주고, 남는 거래가 있으면 마지막으로 내려준 거래를 다음 커서로 삼는다.
+    public static TransactionPageResponse of(List<TransactionHistory> histories, int count, LocalDate from, LocalDate to) {
+        boolean hasNext = count > 0 && histories.size() > count;
+        List<TransactionHistory> page = hasNext ? histories.subList(0, count) : histories;
+
+        return TransactionPageResponse.builder()
+                .transactions(
+                        page.stream()
+                                .map(TransactionResponse::of)
+                                .toList()
+                )
+                .nextCursor(hasNext ? TransactionCursor.of(page.get(page.size() - 1)).encode() : null)
+                .from(from)
+                .to(to)
+                .build();
+    }
+}
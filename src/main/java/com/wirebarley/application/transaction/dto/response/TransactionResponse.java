@@ -2,8 +2,10 @@ package com.wirebarley.application.transaction.dto.response;
 
 import com.wirebarley.domain.transaction.Transaction;
 import com.wirebarley.domain.transaction.TransactionType;
+import com.wirebarley.domain.transaction.dto.TransactionHistory;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.time.LocalDateTime;
 
@@ -22,6 +24,7 @@ public class TransactionResponse {
     private final LocalDateTime createdAt;
     private final LocalDateTime modifiedAt;
 
+    @Jacksonized
     @Builder
     public TransactionResponse(Long id, Long withdrawAccountNumber, Long depositAccountNumber, Long amount, Long withdrawAccountBalance, Long depositAccountBalance, TransactionType type, String sender, String receiver, LocalDateTime createdAt, LocalDateTime modifiedAt) {
         this.id = id;
@@ -37,6 +40,22 @@ public class TransactionResponse {
         this.modifiedAt = modifiedAt;
     }
 
+    public static TransactionResponse of(TransactionHistory history) {
+        return TransactionResponse.builder()
+                .id(history.id())
+                .withdrawAccountNumber(history.withdrawAccountNumber())
+                .depositAccountNumber(history.depositAccountNumber())
+                .amount(history.amount())
+                .withdrawAccountBalance(history.withdrawAccountBalance())
+                .depositAccountBalance(history.depositAccountBalance())
+                .type(history.type())
+                .sender(history.sender())
+                .receiver(history.receiver())
+                .createdAt(history.createdAt())
+                .modifiedAt(history.modifiedAt())
+                .build();
+    }
+
     public static TransactionResponse of(Transaction transaction) {
         Long withdrawAccountNumber = transaction.getWithdrawAccount() != null ? transaction.getWithdrawAccount().getAccountNumber() : null;
         Long depositAccountNumber = transaction.getDepositAccount() != null ? transaction.getDepositAccount().getAccountNumber() : null;
@@ -0,0 +1,59 @@
+package com.wirebarley.application.transaction.export;
+
+import com.wirebarley.domain.transaction.dto.TransactionHistory;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.io.Writer;
+
+// RFC 4180 형식. 값이 없으면 빈 칸으로 두고, 송금인/수취인처럼 자유 입력인 값만 필요할 때 따옴표로 감싼다.
+// 스프레드시트가 수식으로 실행하지 않도록 =, +, -, @ 로 시작하는 자유 입력 값 앞에는 ' 를 붙인다.
+@RequiredArgsConstructor
+public class CsvTransactionExportWriter implements TransactionExportWriter {
+
+    private static final String HEADER = "id,withdrawAccountNumber,depositAccountNumber,amount,withdrawAccountBalance,depositAccountBalance,type,sender,receiver,createdAt,modifiedAt";
+    private static final String LINE_SEPARATOR = "\r\n";
+
+    private final Writer writer;
+
+    @Override
+    public void writeHeader() throws IOException {
+        writer.write(HEADER);
+        writer.write(LINE_SEPARATOR);
+    }
+
+    @Override
+    public void write(TransactionHistory history) throws IOException {
+        writer.write(String.join(",",
+                value(history.id()),
+                value(history.withdrawAccountNumber()),
+                value(history.depositAccountNumber()),
+                value(history.amount()),
+                value(history.withdrawAccountBalance()),
+                value(history.depositAccountBalance()),
+                value(history.type()),
+                escape(history.sender()),
+                escape(history.receiver()),
+                value(history.createdAt()),
+                value(history.modifiedAt())
+        ));
+        writer.write(LINE_SEPARATOR);
+    }
+
+    private String value(Object value) {
+        return value == null ? "" : value.toString();
+    }
+
+    private String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (!value.isEmpty() && "=+-@".indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
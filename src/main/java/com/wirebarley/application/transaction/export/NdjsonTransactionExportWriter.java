@@ -0,0 +1,23 @@
+package com.wirebarley.application.transaction.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wirebarley.application.transaction.dto.response.TransactionResponse;
+import com.wirebarley.domain.transaction.dto.TransactionHistory;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.io.Writer;
+
+// 거래 내역 조회 응답과 같은 필드를 한 줄에 한 건씩 쓴다.
+@RequiredArgsConstructor
+public class NdjsonTransactionExportWriter implements TransactionExportWriter {
+
+    private final Writer writer;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void write(TransactionHistory history) throws IOException {
+        writer.write(objectMapper.writeValueAsString(TransactionResponse.of(history)));
+        writer.write('\n');
+    }
+}
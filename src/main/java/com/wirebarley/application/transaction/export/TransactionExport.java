@@ -0,0 +1,11 @@
+package com.wirebarley.application.transaction.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+// 소유주 확인까지 끝난 내보내기. 응답 스트림에 쓰는 시점에 거래 내역을 읽는다.
+@FunctionalInterface
+public interface TransactionExport {
+
+    void writeTo(OutputStream outputStream) throws IOException;
+}
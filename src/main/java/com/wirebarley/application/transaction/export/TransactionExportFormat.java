@@ -0,0 +1,30 @@
+package com.wirebarley.application.transaction.export;
+
+import com.wirebarley.infrastructure.exception.CustomException;
+import lombok.Getter;
+
+import java.util.Arrays;
+
+import static com.wirebarley.infrastructure.exception.ExceptionConstant.INVALID_TRANSACTION_EXPORT_FORMAT_EXCEPTION;
+
+@Getter
+public enum TransactionExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"), // 한 줄에 거래 한 건씩 JSON
+    CSV("text/csv", "csv")
+    ;
+
+    private final String contentType;
+    private final String extension;
+
+    TransactionExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public static TransactionExportFormat of(String format) {
+        return Arrays.stream(TransactionExportFormat.values())
+                .filter(it -> it.name().equalsIgnoreCase(format))
+                .findFirst()
+                .orElseThrow(() -> new CustomException(INVALID_TRANSACTION_EXPORT_FORMAT_EXCEPTION.getMessage()));
+    }
+}
@@ -0,0 +1,13 @@
+package com.wirebarley.application.transaction.export;
+
+import com.wirebarley.domain.transaction.dto.TransactionHistory;
+
+import java.io.IOException;
+
+public interface TransactionExportWriter {
+
+    default void writeHeader() throws IOException {
+    }
+
+    void write(TransactionHistory history) throws IOException;
+}
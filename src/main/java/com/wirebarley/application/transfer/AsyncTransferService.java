@@ -0,0 +1,235 @@
+package com.wirebarley.application.transfer;
+
+import com.wirebarley.application.account.AccountService;
+import com.wirebarley.application.account.dto.request.TransferCommand;
+import com.wirebarley.application.transaction.dto.response.TransactionResponse;
+import com.wirebarley.application.transfer.dto.response.TransferJobResponse;
+import com.wirebarley.domain.account.Account;
+import com.wirebarley.domain.account.AccountRepository;
+import com.wirebarley.domain.transfer.TransferJob;
+import com.wirebarley.domain.transfer.TransferJobRepository;
+import com.wirebarley.domain.transfer.TransferJobStatus;
+import com.wirebarley.infrastructure.exception.CustomException;
+import com.wirebarley.infrastructure.exception.OutcomeUnknownException;
+import com.wirebarley.infrastructure.lane.AccountLaneDispatcher;
+import com.wirebarley.infrastructure.retry.LockRetryExecutor;
+import com.wirebarley.infrastructure.transfer.config.AsyncTransferProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.wirebarley.infrastructure.exception.ExceptionConstant.*;
+
+// 계좌이체를 접수만 하고 바로 응답한 뒤, 제한된 크기의 워커 풀에서 실행한다.
+// 접수 시점에는 계좌/소유자/비밀번호처럼 잠금 없이 확인할 수 있는 것만 검증하고, 잔액과 한도는 실행 시점에 검증한다.
+// 완료 상태는 이체와 같은 트랜잭션에서 기록하므로 PROCESSING 으로 남은 요청은 이체가 커밋되지 않은 것이다.
+@Slf4j
+@Service
+public class AsyncTransferService implements DisposableBean {
+
+    private final AccountRepository accountRepository;
+    private final TransferJobRepository transferJobRepository;
+    private final AccountService accountService;
+    private final AccountLaneDispatcher accountLaneDispatcher;
+    private final LockRetryExecutor lockRetryExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final AsyncTransferProperties properties;
+    private final ThreadPoolExecutor workers;
+    private final Counter rejectedCounter;
+    private final ConcurrentMap<Long, Completion> completions = new ConcurrentHashMap<>();
+
+    public AsyncTransferService(AccountRepository accountRepository,
+                                TransferJobRepository transferJobRepository,
+                                AccountService accountService,
+                                AccountLaneDispatcher accountLaneDispatcher,
+                                LockRetryExecutor lockRetryExecutor,
+                                TransactionTemplate transactionTemplate,
+                                AsyncTransferProperties properties,
+                                MeterRegistry meterRegistry) {
+        this.accountRepository = accountRepository;
+        this.transferJobRepository = transferJobRepository;
+        this.accountService = accountService;
+        this.accountLaneDispatcher = accountLaneDispatcher;
+        this.lockRetryExecutor = lockRetryExecutor;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.workers = createWorkers(properties);
+        this.rejectedCounter = meterRegistry.counter("transfer.async.rejected");
+        Gauge.builder("transfer.async.queue.depth", workers, executor -> executor.getQueue().size())
+                .register(meterRegistry);
+    }
+
+    public TransferJobResponse submit(TransferCommand command) {
+        validate(command);
+
+        TransferJob transferJob = transferJobRepository.save(TransferJob.pending(
+                command.withdrawNumber(),
+                command.depositNumber(),
+                command.userId(),
+                command.amount(),
+                LocalDateTime.now()
+        ));
+
+        Long transferJobId = transferJob.getId();
+        completions.put(transferJobId, new Completion(command.userId(), new CountDownLatch(1)));
+        try {
+            workers.execute(() -> execute(transferJobId, command));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            finish(transferJobId, ASYNC_TRANSFER_BUSY_EXCEPTION.getMessage());
+            throw new CustomException(ASYNC_TRANSFER_BUSY_EXCEPTION.getMessage());
+        }
+
+        return TransferJobResponse.of(transferJob);
+    }
+
+    public TransferJobResponse getTransferJob(Long transferJobId, Long userId) {
+        TransferJob transferJob = transferJobRepository.findById(transferJobId);
+        transferJob.checkOwner(userId);
+        return TransferJobResponse.of(transferJob);
+    }
+
+    // 이체가 끝나거나 wait 만큼 지날 때까지 기다렸다가 상태를 돌려준다.
+    public TransferJobResponse awaitTransferJob(Long transferJobId, Long userId, Duration wait) {
+        Completion completion = completions.get(transferJobId);
+        if (completion != null && !wait.isNegative() && !wait.isZero()) {
+            // 기다리기 전에 접수 내역을 읽으면 같은 요청 안에서는 그 값이 그대로 다시 읽히므로, 접수할 때 남긴 사용자로 소유자를 확인한다.
+            if (!completion.userId().equals(userId)) {
+                throw new CustomException(NOT_OWNER_EXCEPTION.getMessage());
+            }
+            Duration timeout = wait.compareTo(properties.maxPollWait()) > 0 ? properties.maxPollWait() : wait;
+            try {
+                completion.latch().await(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return getTransferJob(transferJobId, userId);
+    }
+
+    private void validate(TransferCommand command) {
+        if (command.withdrawNumber().equals(command.depositNumber())) {
+            throw new CustomException(SAME_ACCOUNT_EXCEPTION.getMessage());
+        }
+
+        if (command.amount() <= 0L) {
+            throw new CustomException(ZERO_AMOUNT_EXCEPTION.getMessage());
+        }
+
+        Account withdrawAccount = accountRepository.findByAccountNumberForRead(command.withdrawNumber());
+        withdrawAccount.checkOwner(command.userId());
+        withdrawAccount.checkPassword(command.accountPassword());
+        accountRepository.findByAccountNumberForRead(command.depositNumber());
+    }
+
+    private void execute(Long transferJobId, TransferCommand command) {
+        try {
+            TransferJob transferJob = transferJobRepository.findById(transferJobId);
+            transferJob.start();
+            transferJobRepository.save(transferJob);
+
+            accountLaneDispatcher.execute(command.withdrawNumber(), command.depositNumber(),
+                    () -> transfer(transferJob, command));
+        } catch (OutcomeUnknownException e) {
+            // 레인에서 이체가 아직 돌고 있어 커밋될 수도 있다. 실패로 남기지 않고 PROCESSING 으로 두면 레인 작업이 결과를 남긴다.
+            log.warn("비동기 이체 {} 의 처리 결과를 기다리지 못했습니다. 레인 작업이 끝나면 결과가 기록됩니다.", transferJobId);
+        } catch (CustomException e) {
+            finish(transferJobId, e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("비동기 이체 {} 처리 중 오류가 발생했습니다.", transferJobId, e);
+            finish(transferJobId, ASYNC_TRANSFER_FAILED_EXCEPTION.getMessage());
+        }
+    }
+
+    // 레인 안에서 이체하고 결과까지 기록한다. 레인을 기다리던 워커가 먼저 포기해도 이 작업이 접수 상태를 마무리한다.
+    private TransferJob transfer(TransferJob transferJob, TransferCommand command) {
+        Long transferJobId = transferJob.getId();
+        try {
+            TransferJob completed = lockRetryExecutor.execute(() -> transactionTemplate.execute(status -> {
+                TransactionResponse result = accountService.transfer(command);
+                transferJob.complete(result.getId(), LocalDateTime.now());
+                return transferJobRepository.save(transferJob);
+            }));
+            signal(transferJobId);
+            return completed;
+        } catch (CustomException e) {
+            finish(transferJobId, e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("비동기 이체 {} 처리 중 오류가 발생했습니다.", transferJobId, e);
+            finish(transferJobId, ASYNC_TRANSFER_FAILED_EXCEPTION.getMessage());
+        }
+        return transferJob;
+    }
+
+    private void finish(Long transferJobId, String failureReason) {
+        try {
+            TransferJob transferJob = transferJobRepository.findById(transferJobId);
+            transferJob.fail(failureReason, LocalDateTime.now());
+            transferJobRepository.save(transferJob);
+        } finally {
+            signal(transferJobId);
+        }
+    }
+
+    private void signal(Long transferJobId) {
+        Completion completion = completions.remove(transferJobId);
+        if (completion != null) {
+            completion.latch().countDown();
+        }
+    }
+
+    // 재시작 전에 접수됐지만 끝나지 않은 이체는 커밋되지 않았으므로 실패로 정리한다.
+    // 워커는 이 서버 한 대에서만 돌기 때문에, 여러 대로 띄울 때는 서버별로 접수 내역을 나눠야 한다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void failUnfinishedTransferJobs() {
+        List<TransferJob> unfinished = transferJobRepository.findAllByStatuses(List.of(TransferJobStatus.PENDING, TransferJobStatus.PROCESSING));
+        for (TransferJob transferJob : unfinished) {
+            if (completions.containsKey(transferJob.getId())) {
+                continue;
+            }
+            transferJob.fail(ASYNC_TRANSFER_INTERRUPTED_EXCEPTION.getMessage(), LocalDateTime.now());
+            transferJobRepository.save(transferJob);
+        }
+    }
+
+    private ThreadPoolExecutor createWorkers(AsyncTransferProperties properties) {
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(
+                properties.workerCount(), properties.workerCount(), 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.queueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "transfer-worker-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        workers.shutdown();
+        workers.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private record Completion(Long userId, CountDownLatch latch) {
+    }
+}
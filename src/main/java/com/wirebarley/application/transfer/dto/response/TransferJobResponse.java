@@ -0,0 +1,49 @@
+package com.wirebarley.application.transfer.dto.response;
+
+import com.wirebarley.domain.transfer.TransferJob;
+import com.wirebarley.domain.transfer.TransferJobStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class TransferJobResponse {
+
+    private final Long id;
+    private final TransferJobStatus status;
+    private final Long withdrawAccountNumber;
+    private final Long depositAccountNumber;
+    private final Long amount;
+    private final Long transactionId;
+    private final String failureReason;
+    private final LocalDateTime requestedAt;
+    private final LocalDateTime completedAt;
+
+    @Builder
+    private TransferJobResponse(Long id, TransferJobStatus status, Long withdrawAccountNumber, Long depositAccountNumber, Long amount, Long transactionId, String failureReason, LocalDateTime requestedAt, LocalDateTime completedAt) {
+        this.id = id;
+        this.status = status;
+        this.withdrawAccountNumber = withdrawAccountNumber;
+        this.depositAccountNumber = depositAccountNumber;
+        this.amount = amount;
+        this.transactionId = transactionId;
+        this.failureReason = failureReason;
+        this.requestedAt = requestedAt;
+        this.completedAt = completedAt;
+    }
+
+    public static TransferJobResponse of(TransferJob transferJob) {
+        return TransferJobResponse.builder()
+                .id(transferJob.getId())
+                .status(transferJob.getStatus())
+                .withdrawAccountNumber(transferJob.getWithdrawNumber())
+                .depositAccountNumber(transferJob.getDepositNumber())
+                .amount(transferJob.getAmount())
+                .transactionId(transferJob.getTransactionId())
+                .failureReason(transferJob.getFailureReason())
+                .requestedAt(transferJob.getRequestedAt())
+                .completedAt(transferJob.getCompletedAt())
+                .build();
+    }
+}
@@ -20,22 +20,26 @@ public class Account {
     private Integer password;
     private Long balance;
     private User user;
+    private AccountTier tier;             // 계좌 등급
     private LocalDateTime registeredAt;   // 계좌 등록일
     private LocalDateTime unregisteredAt; // 계좌 해지일
     private LocalDateTime createdAt;      // 계좌 생성일
     private LocalDateTime modifiedAt;     // 최종 수정일
+    private Long version;
 
     @Builder
-    public Account(Long id, Long accountNumber, Integer password, Long balance, User user, LocalDateTime registeredAt, LocalDateTime unregisteredAt, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+    public Account(Long id, Long accountNumber, Integer password, Long balance, User user, AccountTier tier, LocalDateTime registeredAt, LocalDateTime unregisteredAt, LocalDateTime createdAt, LocalDateTime modifiedAt, Long version) {
         this.id = id;
         this.accountNumber = accountNumber;
         this.password = password;
         this.balance = balance;
         this.user = user;
+        this.tier = tier == null ? AccountTier.BASIC : tier;
         this.registeredAt = registeredAt;
         this.unregisteredAt = unregisteredAt;
         this.createdAt = createdAt;
         this.modifiedAt = modifiedAt;
+        this.version = version;
     }
 
 
@@ -76,4 +80,15 @@ public class Account {
     public void deposit(Long amount) {
         this.balance = this.balance + amount;
     }
+
+    // version 을 확인한 조건부 UPDATE 가 반영한 변경을 읽어 둔 계좌에도 옮긴다.
+    public void applyUpdatedBalance(Long delta) {
+        this.balance = this.balance + delta;
+        this.version = this.version + 1;
+    }
+
+    // 원장 모드에서 account.balance 는 개설 잔액으로 남으므로, 원장에서 계산한 현재 잔액으로 맞춘다.
+    public void restoreBalance(Long balance) {
+        this.balance = balance;
+    }
 }
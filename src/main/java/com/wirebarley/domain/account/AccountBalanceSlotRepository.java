@@ -0,0 +1,11 @@
+package com.wirebarley.domain.account;
+
+public interface AccountBalanceSlotRepository {
+    void createSlots(Long accountNumber, int slotCount);
+
+    int increaseSlotBalance(Long accountNumber, int slotNo, Long amount);
+
+    Long sumBalance(Long accountNumber);
+
+    Long drainSlots(Long accountNumber);
+}
@@ -1,5 +1,7 @@
 package com.wirebarley.domain.account;
 
+import java.util.List;
+
 public interface AccountRepository {
     Long findLatestAccountNumber();
 
@@ -10,4 +12,20 @@ public interface AccountRepository {
     void deleteById(Long accountId);
 
     Account findByAccountNumber(Long accountNumber);
+
+    Account findByAccountNumberForRead(Long accountNumber);
+
+    Account findByAccountNumberForShare(Long accountNumber);
+
+    List<Account> findAllByAccountNumbers(List<Long> accountNumbers);
+
+    void lockAllByAccountNumbers(List<Long> accountNumbers);
+
+    int increaseBalance(Long accountNumber, Long amount);
+
+    int decreaseBalance(Long accountNumber, Long amount);
+
+    int changeBalanceIfVersion(Long accountNumber, Long version, Long delta);
+
+    List<Long> findIdsAfter(Long accountId, int limit);
 }
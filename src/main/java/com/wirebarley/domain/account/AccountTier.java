@@ -0,0 +1,8 @@
+package com.wirebarley.domain.account;
+
+// 계좌 등급. 등급별로 이체 한도 정책을 따로 둘 수 있다.
+public enum AccountTier {
+    BASIC,     // 일반
+    PREMIUM,   // 우대
+    CORPORATE  // 법인
+}
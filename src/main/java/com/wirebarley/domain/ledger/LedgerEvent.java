@@ -0,0 +1,45 @@
+package com.wirebarley.domain.ledger;
+
+import com.wirebarley.domain.transaction.TransactionType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 계좌 잔액의 변화 한 건. 추가만 하고 수정하거나 지우지 않는다.
+@Getter
+public class LedgerEvent {
+
+    private Long id;
+    private Long accountNumber;
+    private Long amount;            // 입금은 +, 출금(수수료 포함)은 -
+    private TransactionType type;
+    private LocalDateTime createdAt;
+
+    @Builder
+    private LedgerEvent(Long id, Long accountNumber, Long amount, TransactionType type, LocalDateTime createdAt) {
+        this.id = id;
+        this.accountNumber = accountNumber;
+        this.amount = amount;
+        this.type = type;
+        this.createdAt = createdAt;
+    }
+
+    public static LedgerEvent credit(Long accountNumber, Long amount, TransactionType type) {
+        return LedgerEvent.builder()
+                .accountNumber(accountNumber)
+                .amount(amount)
+                .type(type)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    public static LedgerEvent debit(Long accountNumber, Long amount, TransactionType type) {
+        return LedgerEvent.builder()
+                .accountNumber(accountNumber)
+                .amount(-amount)
+                .type(type)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
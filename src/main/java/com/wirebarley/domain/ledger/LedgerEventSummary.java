@@ -0,0 +1,9 @@
+package com.wirebarley.domain.ledger;
+
+// 스냅샷 이후 이벤트의 금액 합계, 건수, 마지막 이벤트 id
+public record LedgerEventSummary(
+        Long amount,
+        Long count,
+        Long lastEventId
+) {
+}
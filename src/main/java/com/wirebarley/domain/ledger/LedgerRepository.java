@@ -0,0 +1,26 @@
+package com.wirebarley.domain.ledger;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+public interface LedgerRepository {
+
+    void appendAll(List<LedgerEvent> events);
+
+    Optional<LedgerSnapshot> findLatestSnapshot(Long accountNumber);
+
+    LedgerEventSummary summarizeAfter(Long accountNumber, Long eventId);
+
+    void saveSnapshot(LedgerSnapshot snapshot);
+
+    void saveAllSnapshots(List<LedgerSnapshot> snapshots);
+
+    void deleteAllSnapshots();
+
+    Long findLastEventId();
+
+    List<Long> findAccountNumbersWithEventsBetween(Long fromEventId, Long toEventId);
+
+    void replayAll(Consumer<LedgerEvent> handler);
+}
@@ -0,0 +1,35 @@
+package com.wirebarley.domain.ledger;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// lastEventId 까지의 이벤트를 반영한 계좌 잔액
+@Getter
+public class LedgerSnapshot {
+
+    private Long id;
+    private Long accountNumber;
+    private Long balance;
+    private Long lastEventId;
+    private LocalDateTime createdAt;
+
+    @Builder
+    private LedgerSnapshot(Long id, Long accountNumber, Long balance, Long lastEventId, LocalDateTime createdAt) {
+        this.id = id;
+        this.accountNumber = accountNumber;
+        this.balance = balance;
+        this.lastEventId = lastEventId;
+        this.createdAt = createdAt;
+    }
+
+    public static LedgerSnapshot of(Long accountNumber, Long balance, Long lastEventId) {
+        return LedgerSnapshot.builder()
+                .accountNumber(accountNumber)
+                .balance(balance)
+                .lastEventId(lastEventId)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,50 @@
+package com.wirebarley.domain.limit;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 대상(등급/회원/계좌)별 이체 한도. 비어 있는 한도는 우선순위가 낮은 정책의 값을 그대로 쓴다.
+// 적용 기간(startsAt ~ endsAt)을 두면 그 기간에만 적용되는 임시 한도가 된다.
+@Getter
+public class TransferLimitPolicy {
+
+    private Long id;
+    private TransferLimitPolicyScope scope;
+    private String scopeKey;
+    private Long dailyLimit;
+    private Long weeklyLimit;
+    private Long monthlyLimit;
+    private LocalDateTime startsAt;   // 적용 시작 (없으면 바로 적용)
+    private LocalDateTime endsAt;     // 적용 종료 (없으면 계속 적용)
+    private LocalDateTime createdAt;
+
+    @Builder
+    private TransferLimitPolicy(Long id, TransferLimitPolicyScope scope, String scopeKey, Long dailyLimit, Long weeklyLimit, Long monthlyLimit, LocalDateTime startsAt, LocalDateTime endsAt, LocalDateTime createdAt) {
+        this.id = id;
+        this.scope = scope;
+        this.scopeKey = scopeKey;
+        this.dailyLimit = dailyLimit;
+        this.weeklyLimit = weeklyLimit;
+        this.monthlyLimit = monthlyLimit;
+        this.startsAt = startsAt;
+        this.endsAt = endsAt;
+        this.createdAt = createdAt;
+    }
+
+    public boolean isActiveAt(LocalDateTime dateTime) {
+        return (startsAt == null || !dateTime.isBefore(startsAt))
+                && (endsAt == null || dateTime.isBefore(endsAt));
+    }
+
+    // 같은 대상에 적용 중인 정책이 여럿이면 늦게 시작한 정책(임시 한도)이, 시작이 같으면 나중에 등록한 정책이 우선한다.
+    public boolean overrides(TransferLimitPolicy other) {
+        LocalDateTime start = startsAt == null ? LocalDateTime.MIN : startsAt;
+        LocalDateTime otherStart = other.startsAt == null ? LocalDateTime.MIN : other.startsAt;
+        if (!start.equals(otherStart)) {
+            return start.isAfter(otherStart);
+        }
+        return id > other.id;
+    }
+}
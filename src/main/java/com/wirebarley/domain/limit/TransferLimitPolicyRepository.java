@@ -0,0 +1,10 @@
+package com.wirebarley.domain.limit;
+
+import java.util.List;
+
+public interface TransferLimitPolicyRepository {
+
+    TransferLimitPolicy save(TransferLimitPolicy policy);
+
+    List<TransferLimitPolicy> findAll();
+}
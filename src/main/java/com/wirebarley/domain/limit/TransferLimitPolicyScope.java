@@ -0,0 +1,59 @@
+package com.wirebarley.domain.limit;
+
+import com.wirebarley.domain.account.Account;
+import com.wirebarley.domain.account.AccountTier;
+
+import java.util.Arrays;
+
+// 한도 정책을 적용하는 대상. 아래에 있을수록 우선한다. (기본값 < 등급 < 회원 < 계좌)
+public enum TransferLimitPolicyScope {
+    TIER {
+        @Override
+        public String keyOf(Account account) {
+            return account.getTier().name();
+        }
+
+        @Override
+        public boolean isValidKey(String key) {
+            return Arrays.stream(AccountTier.values()).anyMatch(tier -> tier.name().equals(key));
+        }
+    },
+    USER {
+        @Override
+        public String keyOf(Account account) {
+            return String.valueOf(account.getUser().getId());
+        }
+
+        @Override
+        public boolean isValidKey(String key) {
+            return isPositiveNumber(key);
+        }
+    },
+    ACCOUNT {
+        @Override
+        public String keyOf(Account account) {
+            return String.valueOf(account.getAccountNumber());
+        }
+
+        @Override
+        public boolean isValidKey(String key) {
+            return isPositiveNumber(key);
+        }
+    };
+
+    // 이 대상의 정책을 찾을 때 쓰는 키 (등급명, 회원 id, 계좌번호)
+    public abstract String keyOf(Account account);
+
+    // keyOf 가 만들 수 있는 키인지 확인한다. 만들 수 없는 키로 등록한 정책은 어떤 계좌에도 적용되지 않는다.
+    public abstract boolean isValidKey(String key);
+
+    // keyOf 는 String.valueOf 로 만들므로 앞에 0 이나 + 가 붙은 키도 맞지 않는다.
+    private static boolean isPositiveNumber(String key) {
+        try {
+            long value = Long.parseLong(key);
+            return value > 0 && String.valueOf(value).equals(key);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
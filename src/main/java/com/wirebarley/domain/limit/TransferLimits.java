@@ -0,0 +1,18 @@
+package com.wirebarley.domain.limit;
+
+// 한 계좌에 적용되는 일/주/월 이체 한도
+public record TransferLimits(
+        Long daily,
+        Long weekly,
+        Long monthly
+) {
+
+    // 정책에 있는 한도만 덮어쓴다.
+    public TransferLimits overlay(TransferLimitPolicy policy) {
+        return new TransferLimits(
+                policy.getDailyLimit() != null ? policy.getDailyLimit() : daily,
+                policy.getWeeklyLimit() != null ? policy.getWeeklyLimit() : weekly,
+                policy.getMonthlyLimit() != null ? policy.getMonthlyLimit() : monthly
+        );
+    }
+}
@@ -0,0 +1,11 @@
+package com.wirebarley.domain.limit;
+
+import java.time.LocalDate;
+
+public interface WithdrawalCounterRepository {
+
+    // 출금일이 속한 일/주/월 누적 출금액에 금액을 더한다. 더한 행은 트랜잭션이 끝날 때까지 잠긴다.
+    void add(Long accountNumber, Long amount, LocalDate withdrawDate);
+
+    WithdrawalTotals findTotals(Long accountNumber, LocalDate withdrawDate);
+}
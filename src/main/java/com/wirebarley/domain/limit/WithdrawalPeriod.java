@@ -0,0 +1,28 @@
+package com.wirebarley.domain.limit;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+// 출금 한도를 누적하는 기간 단위. 주는 월요일, 월은 1일부터 시작한다.
+public enum WithdrawalPeriod {
+    DAILY {
+        @Override
+        public LocalDate startOf(LocalDate date) {
+            return date;
+        }
+    },
+    WEEKLY {
+        @Override
+        public LocalDate startOf(LocalDate date) {
+            return date.with(DayOfWeek.MONDAY);
+        }
+    },
+    MONTHLY {
+        @Override
+        public LocalDate startOf(LocalDate date) {
+            return date.withDayOfMonth(1);
+        }
+    };
+
+    public abstract LocalDate startOf(LocalDate date);
+}
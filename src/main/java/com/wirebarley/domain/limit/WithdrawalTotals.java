@@ -0,0 +1,36 @@
+package com.wirebarley.domain.limit;
+
+import java.time.LocalDate;
+
+// 기간별(일/주/월) 출금 합계
+public record WithdrawalTotals(
+        Long daily,
+        Long weekly,
+        Long monthly
+) {
+
+    public static WithdrawalTotals empty() {
+        return new WithdrawalTotals(0L, 0L, 0L);
+    }
+
+    // withdrawDate 의 출금이 baseDate 가 속한 일/주/월 합계에 더해지는 금액
+    public static WithdrawalTotals of(LocalDate withdrawDate, Long amount, LocalDate baseDate) {
+        return new WithdrawalTotals(
+                isSamePeriod(WithdrawalPeriod.DAILY, withdrawDate, baseDate) ? amount : 0L,
+                isSamePeriod(WithdrawalPeriod.WEEKLY, withdrawDate, baseDate) ? amount : 0L,
+                isSamePeriod(WithdrawalPeriod.MONTHLY, withdrawDate, baseDate) ? amount : 0L
+        );
+    }
+
+    public WithdrawalTotals plus(WithdrawalTotals other) {
+        return new WithdrawalTotals(daily + other.daily, weekly + other.weekly, monthly + other.monthly);
+    }
+
+    public WithdrawalTotals minus(WithdrawalTotals other) {
+        return new WithdrawalTotals(daily - other.daily, weekly - other.weekly, monthly - other.monthly);
+    }
+
+    private static boolean isSamePeriod(WithdrawalPeriod period, LocalDate date, LocalDate baseDate) {
+        return period.startOf(date).equals(period.startOf(baseDate));
+    }
+}
@@ -0,0 +1,7 @@
+package com.wirebarley.domain.transaction;
+
+public enum AccountStatementRebuildStatus {
+    RUNNING,    // 재생성중
+    COMPLETED,  // 재생성 완료
+    FAILED      // 재생성 실패
+}
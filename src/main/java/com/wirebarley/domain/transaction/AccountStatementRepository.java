@@ -0,0 +1,16 @@
+package com.wirebarley.domain.transaction;
+
+import com.wirebarley.domain.transaction.dto.AccountStatementBalance;
+
+import java.util.List;
+
+public interface AccountStatementRepository {
+
+    // 계좌의 거래 명세를 거래 원장(transactions)에서 다시 만들고, 만든 명세 행 수를 돌려준다. 그 전에 기록된 반영 실패도 지운다.
+    int rebuild(Long accountId);
+
+    // 명세 반영에 실패했던 계좌를 id 순서로 limit 개씩 돌려준다.
+    List<Long> findFailedAccountIdsAfter(Long accountId, int limit);
+
+    AccountStatementBalance summarize(Long accountId);
+}
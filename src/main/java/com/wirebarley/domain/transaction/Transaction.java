@@ -13,6 +13,7 @@ public class Transaction {
     private Account withdrawAccount;
     private Account depositAccount;
     private Long amount;
+    private Long transferCharge; // 이체 수수료, 출금 계좌 잔액에서 amount 와 함께 빠진다
     private Long withdrawAccountBalance;
     private Long depositAccountBalance;
     private TransactionType type;
@@ -22,11 +23,12 @@ public class Transaction {
     private LocalDateTime modifiedAt;
 
     @Builder
-    private Transaction(Long id, Account withdrawAccount, Account depositAccount, Long amount, Long withdrawAccountBalance, Long depositAccountBalance, TransactionType type, String sender, String receiver, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+    private Transaction(Long id, Account withdrawAccount, Account depositAccount, Long amount, Long transferCharge, Long withdrawAccountBalance, Long depositAccountBalance, TransactionType type, String sender, String receiver, LocalDateTime createdAt, LocalDateTime modifiedAt) {
         this.id = id;
         this.withdrawAccount = withdrawAccount;
         this.depositAccount = depositAccount;
         this.amount = amount;
+        this.transferCharge = transferCharge != null ? transferCharge : 0L;
         this.withdrawAccountBalance = withdrawAccountBalance;
         this.depositAccountBalance = depositAccountBalance;
         this.type = type;
@@ -1,15 +1,26 @@
 package com.wirebarley.domain.transaction;
 
+import com.wirebarley.domain.transaction.dto.TransactionExportQuery;
+import com.wirebarley.domain.transaction.dto.TransactionHistory;
 import com.wirebarley.domain.transaction.dto.TransactionRetrieveQuery;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface TransactionRepository {
 
     Transaction save(Transaction transaction);
 
+    List<Transaction> saveAll(List<Transaction> transactions);
+
+    List<Long> saveAllInBatch(List<Transaction> transactions);
+
     Long findTotalWithdrawalAmountByWithdrawAccount(Long accountNumber, LocalDateTime startDate, LocalDateTime endDate, List<TransactionType> types);
 
     List<Transaction> findTransactions(TransactionRetrieveQuery query);
+
+    List<TransactionHistory> findTransactionHistories(TransactionRetrieveQuery query);
+
+    void streamTransactionHistories(TransactionExportQuery query, Consumer<TransactionHistory> handler);
 }
@@ -0,0 +1,17 @@
+package com.wirebarley.domain.transaction.dto;
+
+// 계좌 명세를 합산한 결과. 첫 명세 직전 잔액(개설 잔액)에 모든 명세 금액을 더하면 마지막 명세의 잔액이 되어야 한다.
+public record AccountStatementBalance(
+        long count,
+        Long openingBalance,
+        long amountSum,
+        Long closingBalance
+) {
+
+    public boolean isBalanced() {
+        if (count == 0) {
+            return true;
+        }
+        return openingBalance != null && closingBalance != null && openingBalance + amountSum == closingBalance;
+    }
+}
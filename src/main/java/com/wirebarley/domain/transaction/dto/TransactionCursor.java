@@ -0,0 +1,42 @@
+package com.wirebarley.domain.transaction.dto;
+
+import com.wirebarley.infrastructure.exception.CustomException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static com.wirebarley.infrastructure.exception.ExceptionConstant.INVALID_TRANSACTION_CURSOR_EXCEPTION;
+
+// 거래 내역을 (created_at, id) 내림차순으로 읽을 때 마지막으로 내려준 거래의 위치.
+// 클라이언트에는 내부 값을 드러내지 않도록 Base64 로 감싼 문자열로 내려주고 그대로 돌려받는다.
+public record TransactionCursor(
+        LocalDateTime createdAt,
+        Long id
+) {
+
+    private static final String DELIMITER = "|";
+
+    public static TransactionCursor of(TransactionHistory history) {
+        return new TransactionCursor(history.createdAt(), history.id());
+    }
+
+    public static TransactionCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = decoded.lastIndexOf(DELIMITER);
+            return new TransactionCursor(
+                    LocalDateTime.parse(decoded.substring(0, delimiterIndex)),
+                    Long.parseLong(decoded.substring(delimiterIndex + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeException e) {
+            throw new CustomException(INVALID_TRANSACTION_CURSOR_EXCEPTION.getMessage());
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
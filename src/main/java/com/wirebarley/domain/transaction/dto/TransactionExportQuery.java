@@ -0,0 +1,14 @@
+package com.wirebarley.domain.transaction.dto;
+
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+// from 이상 to 미만. 둘 다 비어 있으면 계좌의 전체 거래 내역이다.
+@Builder
+public record TransactionExportQuery(
+        Long accountId,
+        LocalDateTime from,
+        LocalDateTime to
+) {
+}
@@ -0,0 +1,21 @@
+package com.wirebarley.domain.transaction.dto;
+
+import com.wirebarley.domain.transaction.TransactionType;
+
+import java.time.LocalDateTime;
+
+// 거래 내역 조회용 프로젝션. 엔티티와 계좌/회원을 거치지 않고 응답에 필요한 컬럼과 상대 계좌번호만 한 번에 읽는다.
+public record TransactionHistory(
+        Long id,
+        Long withdrawAccountNumber,
+        Long depositAccountNumber,
+        Long amount,
+        Long withdrawAccountBalance,
+        Long depositAccountBalance,
+        TransactionType type,
+        String sender,
+        String receiver,
+        LocalDateTime createdAt,
+        LocalDateTime modifiedAt
+) {
+}
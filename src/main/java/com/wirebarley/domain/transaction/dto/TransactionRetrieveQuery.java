@@ -3,11 +3,17 @@ package com.wirebarley.domain.transaction.dto;
 import com.wirebarley.domain.transaction.TransactionType;
 import lombok.Builder;
 
+import java.time.LocalDateTime;
+
+// createdAt 이 from 이상 to 미만인 거래만 읽는다. transactions 가 월 단위로 파티션되어 있어 이 범위의 파티션만 읽게 된다.
 @Builder
 public record TransactionRetrieveQuery(
         int offset,
         int count,
         Long accountId,
-        TransactionType type
+        TransactionType type,
+        TransactionCursor cursor,
+        LocalDateTime from,
+        LocalDateTime to
 ) {
 }
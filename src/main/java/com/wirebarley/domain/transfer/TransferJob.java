@@ -0,0 +1,77 @@
+package com.wirebarley.domain.transfer;
+
+import com.wirebarley.infrastructure.exception.CustomException;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+import static com.wirebarley.infrastructure.exception.ExceptionConstant.NOT_OWNER_EXCEPTION;
+
+// 비동기로 접수된 계좌이체 요청. 계좌 비밀번호는 접수 시점에 검증하고 저장하지 않는다.
+@Getter
+public class TransferJob {
+
+    private Long id;
+    private Long withdrawNumber;
+    private Long depositNumber;
+    private Long userId;
+    private Long amount;
+    private TransferJobStatus status;
+    private Long transactionId;         // 이체 완료 시 생성된 거래내역 id
+    private String failureReason;
+    private LocalDateTime requestedAt;
+    private LocalDateTime completedAt;
+
+    @Builder
+    private TransferJob(Long id, Long withdrawNumber, Long depositNumber, Long userId, Long amount, TransferJobStatus status, Long transactionId, String failureReason, LocalDateTime requestedAt, LocalDateTime completedAt) {
+        this.id = id;
+        this.withdrawNumber = withdrawNumber;
+        this.depositNumber = depositNumber;
+        this.userId = userId;
+        this.amount = amount;
+        this.status = status;
+        this.transactionId = transactionId;
+        this.failureReason = failureReason;
+        this.requestedAt = requestedAt;
+        this.completedAt = completedAt;
+    }
+
+    public static TransferJob pending(Long withdrawNumber, Long depositNumber, Long userId, Long amount, LocalDateTime requestedAt) {
+        return TransferJob.builder()
+                .withdrawNumber(withdrawNumber)
+                .depositNumber(depositNumber)
+                .userId(userId)
+                .amount(amount)
+                .status(TransferJobStatus.PENDING)
+                .requestedAt(requestedAt)
+                .build();
+    }
+
+    // 이체를 요청한 사용자만 접수 내역을 볼 수 있다.
+    public void checkOwner(Long userId) {
+        if (!this.userId.equals(userId)) {
+            throw new CustomException(NOT_OWNER_EXCEPTION.getMessage());
+        }
+    }
+
+    public void start() {
+        this.status = TransferJobStatus.PROCESSING;
+    }
+
+    public void complete(Long transactionId, LocalDateTime completedAt) {
+        this.status = TransferJobStatus.COMPLETED;
+        this.transactionId = transactionId;
+        this.completedAt = completedAt;
+    }
+
+    public void fail(String failureReason, LocalDateTime completedAt) {
+        this.status = TransferJobStatus.FAILED;
+        this.failureReason = failureReason;
+        this.completedAt = completedAt;
+    }
+
+    public boolean isFinished() {
+        return status.isFinished();
+    }
+}
@@ -0,0 +1,12 @@
+package com.wirebarley.domain.transfer;
+
+import java.util.List;
+
+public interface TransferJobRepository {
+
+    TransferJob save(TransferJob transferJob);
+
+    TransferJob findById(Long transferJobId);
+
+    List<TransferJob> findAllByStatuses(List<TransferJobStatus> statuses);
+}
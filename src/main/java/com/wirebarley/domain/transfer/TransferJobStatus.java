@@ -0,0 +1,12 @@
+package com.wirebarley.domain.transfer;
+
+public enum TransferJobStatus {
+    PENDING,     // 접수됨
+    PROCESSING,  // 처리중
+    COMPLETED,   // 이체 완료
+    FAILED;      // 이체 실패
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
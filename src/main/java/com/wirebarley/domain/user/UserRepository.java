@@ -11,4 +11,6 @@ public interface UserRepository {
     User findById(Long userId);
 
     List<User> findAll();
+
+    boolean existsByEmail(String email);
 }
@@ -0,0 +1,53 @@
+package com.wirebarley.infrastructure.account;
+
+import com.wirebarley.domain.account.AccountBalanceSlotRepository;
+import com.wirebarley.infrastructure.account.entity.AccountBalanceSlotEntity;
+import com.wirebarley.infrastructure.account.jpa.JpaAccountBalanceSlotRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+@RequiredArgsConstructor
+@Repository
+public class AccountBalanceSlotRepositoryAdapter implements AccountBalanceSlotRepository {
+
+    private final JpaAccountBalanceSlotRepository jpaAccountBalanceSlotRepository;
+
+    @Override
+    public void createSlots(Long accountNumber, int slotCount) {
+        List<Integer> existingSlotNos = jpaAccountBalanceSlotRepository.findSlotNosByAccountNumber(accountNumber);
+
+        List<AccountBalanceSlotEntity> newSlots = IntStream.range(0, slotCount)
+                .filter(slotNo -> !existingSlotNos.contains(slotNo))
+                .mapToObj(slotNo -> AccountBalanceSlotEntity.empty(accountNumber, slotNo))
+                .toList();
+
+        jpaAccountBalanceSlotRepository.saveAll(newSlots);
+    }
+
+    @Override
+    public int increaseSlotBalance(Long accountNumber, int slotNo, Long amount) {
+        return jpaAccountBalanceSlotRepository.increaseBalance(accountNumber, slotNo, amount);
+    }
+
+    @Override
+    public Long sumBalance(Long accountNumber) {
+        return jpaAccountBalanceSlotRepository.sumBalanceByAccountNumber(accountNumber);
+    }
+
+    // 슬롯을 모두 잠근 뒤 합계를 구하고 0으로 비운다. 잠금이 풀리기 전까지 새 입금은 슬롯에서 대기한다.
+    @Override
+    public Long drainSlots(Long accountNumber) {
+        long total = jpaAccountBalanceSlotRepository.findAllByAccountNumberForUpdate(accountNumber)
+                .stream()
+                .mapToLong(AccountBalanceSlotEntity::getBalance)
+                .sum();
+
+        if (total != 0L) {
+            jpaAccountBalanceSlotRepository.resetBalance(accountNumber);
+        }
+        return total;
+    }
+}
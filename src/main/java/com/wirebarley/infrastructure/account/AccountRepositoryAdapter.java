@@ -2,11 +2,20 @@ package com.wirebarley.infrastructure.account;
 
 import com.wirebarley.domain.account.Account;
 import com.wirebarley.domain.account.AccountRepository;
+import com.wirebarley.infrastructure.account.config.AccountConcurrencyProperties;
 import com.wirebarley.infrastructure.account.entity.AccountEntity;
 import com.wirebarley.infrastructure.account.jpa.JpaAccountRepository;
 import com.wirebarley.infrastructure.exception.CustomException;
+import com.wirebarley.infrastructure.user.entity.UserEntity;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
 
 import static com.wirebarley.infrastructure.exception.ExceptionConstant.ACCOUNT_NOT_FOUND_EXCEPTION;
 
@@ -15,6 +24,8 @@ import static com.wirebarley.infrastructure.exception.ExceptionConstant.ACCOUNT_
 public class AccountRepositoryAdapter implements AccountRepository {
 
     private final JpaAccountRepository jpaAccountRepository;
+    private final AccountConcurrencyProperties concurrencyProperties;
+    private final EntityManager entityManager;
 
     @Override
     public Long findLatestAccountNumber() {
@@ -22,10 +33,25 @@ public class AccountRepositoryAdapter implements AccountRepository {
         return latestAccount == null ? null : latestAccount.getAccountNumber();
     }
 
+    // 새 계좌는 user 를 getReference 로 연결해서 persist 하고, 기존 계좌는 영속성 컨텍스트가 관리하는 엔티티에 변경만 옮긴다.
+    // 분리된 엔티티를 새로 만들어 merge 하지 않으므로 저장은 INSERT 또는 UPDATE 한 문장이다.
+    @Transactional
     @Override
     public Account save(Account account) {
-        AccountEntity accountEntity = AccountEntity.create(account);
-        return jpaAccountRepository.save(accountEntity).toDomain();
+        AccountEntity accountEntity;
+        if (account.getId() == null) {
+            accountEntity = AccountEntity.create(account, entityManager.getReference(UserEntity.class, account.getUser().getId()));
+            jpaAccountRepository.save(accountEntity);
+        } else {
+            accountEntity = findManaged(account);
+            accountEntity.update(account);
+        }
+
+        // 낙관적 모드에서는 version 충돌을 커밋 시점이 아닌 저장 시점에 바로 드러낸다.
+        if (concurrencyProperties.isOptimistic()) {
+            jpaAccountRepository.flush();
+        }
+        return accountEntity.toDomain(account.getUser());
     }
 
     @Override
@@ -42,8 +68,85 @@ public class AccountRepositoryAdapter implements AccountRepository {
 
     @Override
     public Account findByAccountNumber(Long accountNumber) {
-        return jpaAccountRepository.findByAccountNumber(accountNumber)
+        Optional<AccountEntity> account = concurrencyProperties.locksOnRead()
+                ? jpaAccountRepository.findByAccountNumber(accountNumber)
+                : jpaAccountRepository.findByAccountNumberWithUser(accountNumber);
+
+        return account
                 .orElseThrow(() -> new CustomException(ACCOUNT_NOT_FOUND_EXCEPTION.getMessage()))
                 .toDomain();
     }
+
+    // 동시성 모드와 관계없이 잠그지 않고 읽는다.
+    @Override
+    public Account findByAccountNumberForRead(Long accountNumber) {
+        return jpaAccountRepository.findByAccountNumberWithUser(accountNumber)
+                .orElseThrow(() -> new CustomException(ACCOUNT_NOT_FOUND_EXCEPTION.getMessage()))
+                .toDomain();
+    }
+
+    // 원장 모드의 입금은 계좌 행을 공유 잠금으로 읽는다. 잠근 뒤 user 와 함께 한 번 더 읽는다.
+    @Override
+    public Account findByAccountNumberForShare(Long accountNumber) {
+        jpaAccountRepository.findByAccountNumberForShare(accountNumber)
+                .orElseThrow(() -> new CustomException(ACCOUNT_NOT_FOUND_EXCEPTION.getMessage()));
+
+        return findByAccountNumberForRead(accountNumber);
+    }
+
+    @Override
+    public List<Account> findAllByAccountNumbers(List<Long> accountNumbers) {
+        // 잠근 뒤 같은 계좌들을 user 와 함께 한 번 더 읽어서, 계좌마다 user 를 따로 조회하지 않게 한다.
+        if (concurrencyProperties.locksOnRead()) {
+            jpaAccountRepository.findAllByAccountNumberIn(accountNumbers);
+        }
+
+        return jpaAccountRepository.findAllByAccountNumberInWithUser(accountNumbers)
+                .stream()
+                .map(AccountEntity::toDomain)
+                .toList();
+    }
+
+    // 동시성 모드와 관계없이 계좌번호 순서로 배타 잠금을 건다.
+    @Override
+    public void lockAllByAccountNumbers(List<Long> accountNumbers) {
+        jpaAccountRepository.findAllByAccountNumberIn(accountNumbers);
+    }
+
+    // 같은 트랜잭션에서 읽은 계좌는 영속성 컨텍스트에서 바로 꺼내므로 SELECT 가 나가지 않는다.
+    // 도메인이 읽은 version 과 다르면 merge 와 마찬가지로 충돌로 본다.
+    private AccountEntity findManaged(Account account) {
+        AccountEntity accountEntity = entityManager.find(AccountEntity.class, account.getId());
+        if (accountEntity == null) {
+            throw new CustomException(ACCOUNT_NOT_FOUND_EXCEPTION.getMessage());
+        }
+
+        if (account.getVersion() != null && !account.getVersion().equals(accountEntity.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(AccountEntity.class, account.getId());
+        }
+        return accountEntity;
+    }
+
+    @Override
+    public int increaseBalance(Long accountNumber, Long amount) {
+        return jpaAccountRepository.increaseBalance(accountNumber, amount);
+    }
+
+    @Override
+    public int decreaseBalance(Long accountNumber, Long amount) {
+        return jpaAccountRepository.decreaseBalance(accountNumber, amount);
+    }
+
+    @Override
+    public int changeBalanceIfVersion(Long accountNumber, Long version, Long delta) {
+        if (version == null) {
+            return 0;
+        }
+        return jpaAccountRepository.changeBalanceIfVersion(accountNumber, version, delta);
+    }
+
+    @Override
+    public List<Long> findIdsAfter(Long accountId, int limit) {
+        return jpaAccountRepository.findIdsAfter(accountId, PageRequest.of(0, limit));
+    }
 }
@@ -0,0 +1,9 @@
+package com.wirebarley.infrastructure.account.config;
+
+public enum AccountConcurrencyMode {
+    PESSIMISTIC,       // 조회 시점에 행 잠금(SELECT ... FOR UPDATE)
+    OPTIMISTIC,        // 잠금 없이 조회하고 저장 시점에 version으로 충돌 감지
+    CONDITIONAL_UPDATE, // 잔액 검사와 변경을 조건부 UPDATE 한 문장으로 처리
+    EVENT_SOURCED      // 잔액 변경을 원장 이벤트로 insert 만 하고, 잔액은 스냅샷 + 이후 이벤트로 계산
+    ;
+}
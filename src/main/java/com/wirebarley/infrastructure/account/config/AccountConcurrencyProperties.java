@@ -0,0 +1,32 @@
+package com.wirebarley.infrastructure.account.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "wirebarley.account.concurrency")
+public record AccountConcurrencyProperties(
+        AccountConcurrencyMode mode
+) {
+
+    public AccountConcurrencyProperties {
+        if (mode == null) {
+            mode = AccountConcurrencyMode.PESSIMISTIC;
+        }
+    }
+
+    public boolean isOptimistic() {
+        return mode == AccountConcurrencyMode.OPTIMISTIC;
+    }
+
+    public boolean isConditionalUpdate() {
+        return mode == AccountConcurrencyMode.CONDITIONAL_UPDATE;
+    }
+
+    public boolean isEventSourced() {
+        return mode == AccountConcurrencyMode.EVENT_SOURCED;
+    }
+
+    // 원장 모드도 출금/이체는 잔액 검사와 이벤트 추가 사이에 다른 출금이 끼어들지 않도록 계좌 행을 잠근다.
+    public boolean locksOnRead() {
+        return mode == AccountConcurrencyMode.PESSIMISTIC || mode == AccountConcurrencyMode.EVENT_SOURCED;
+    }
+}
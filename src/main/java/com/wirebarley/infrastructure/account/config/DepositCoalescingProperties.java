@@ -0,0 +1,27 @@
+package com.wirebarley.infrastructure.account.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "wirebarley.account.deposit-coalescing")
+public record DepositCoalescingProperties(
+        Boolean enabled,       // false 면 입금마다 바로 처리
+        Duration window,       // 첫 입금이 들어온 뒤 함께 묶을 입금을 기다리는 시간
+        Integer maxBatchSize   // 기다리는 중이라도 이 개수가 차면 바로 처리
+) {
+
+    public DepositCoalescingProperties {
+        if (enabled == null) {
+            enabled = false;
+        }
+
+        if (window == null) {
+            window = Duration.ofMillis(2);
+        }
+
+        if (maxBatchSize == null || maxBatchSize < 1) {
+            maxBatchSize = 64;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.wirebarley.infrastructure.account.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Set;
+
+@ConfigurationProperties(prefix = "wirebarley.account.hot")
+public record HotAccountProperties(
+        Set<Long> accountNumbers,  // 잔액을 슬롯으로 나눠 관리할 계좌번호
+        Integer slotCount,         // 계좌별 슬롯 개수
+        Duration rollUpInterval    // 슬롯 잔액을 본 잔액으로 합치는 주기
+) {
+
+    public HotAccountProperties {
+        if (accountNumbers == null) {
+            accountNumbers = Set.of();
+        }
+
+        if (slotCount == null || slotCount < 1) {
+            slotCount = 8;
+        }
+
+        if (rollUpInterval == null) {
+            rollUpInterval = Duration.ofSeconds(1);
+        }
+    }
+
+    public boolean isHot(Long accountNumber) {
+        return accountNumbers.contains(accountNumber);
+    }
+}
@@ -0,0 +1,22 @@
+package com.wirebarley.infrastructure.account.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "wirebarley.account.ledger")
+public record LedgerProperties(
+        Integer snapshotInterval,    // 스냅샷 이후 이벤트가 이만큼 쌓이면 새 스냅샷을 남긴다
+        Duration snapshotScanInterval // 입금만 쌓이는 계좌의 스냅샷을 찾아서 남기는 주기
+) {
+
+    public LedgerProperties {
+        if (snapshotInterval == null || snapshotInterval < 1) {
+            snapshotInterval = 100;
+        }
+
+        if (snapshotScanInterval == null) {
+            snapshotScanInterval = Duration.ofSeconds(10);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.wirebarley.infrastructure.account.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 입금이 몰리는 계좌의 잔액 일부를 나눠 담는 행. 주기적으로 account.balance 로 합쳐진다.
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "account_balance_slot",
+        uniqueConstraints = @UniqueConstraint(name = "uk_account_balance_slot", columnNames = {"account_number", "slot_no"})
+)
+@Entity
+public class AccountBalanceSlotEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long accountNumber;
+
+    private Integer slotNo;
+
+    private Long balance;
+
+    @Builder
+    private AccountBalanceSlotEntity(Long id, Long accountNumber, Integer slotNo, Long balance) {
+        this.id = id;
+        this.accountNumber = accountNumber;
+        this.slotNo = slotNo;
+        this.balance = balance;
+    }
+
+    public static AccountBalanceSlotEntity empty(Long accountNumber, Integer slotNo) {
+        return AccountBalanceSlotEntity.builder()
+                .accountNumber(accountNumber)
+                .slotNo(slotNo)
+                .balance(0L)
+                .build();
+    }
+}
@@ -1,6 +1,7 @@
 package com.wirebarley.infrastructure.account.entity;
 
 import com.wirebarley.domain.account.Account;
+import com.wirebarley.domain.account.AccountTier;
 import com.wirebarley.domain.user.User;
 import com.wirebarley.infrastructure.common.entity.BaseEntity;
 import com.wirebarley.infrastructure.user.entity.UserEntity;
@@ -14,12 +15,18 @@ import java.time.LocalDateTime;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "account")
+@Table(
+        name = "account",
+        uniqueConstraints = @UniqueConstraint(name = "uk_account_account_number", columnNames = "account_number")
+)
 @Entity
 public class AccountEntity extends BaseEntity {
 
+    // IDENTITY 는 insert 마다 생성된 키를 받아야 해서 JDBC batch 가 꺼진다. 풀링된 시퀀스로 id 를 미리 받아 둔다.
+    // 시퀀스가 없는 MySQL 에서는 Hibernate 가 같은 이름의 테이블로 시퀀스를 흉내 낸다.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "account_id_generator")
+    @SequenceGenerator(name = "account_id_generator", sequenceName = "account_seq", allocationSize = 50)
     private Long id;
 
     private Long accountNumber;
@@ -31,45 +38,68 @@ public class AccountEntity extends BaseEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     private UserEntity user;
 
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private AccountTier tier;
+
     private LocalDateTime registeredAt;   // 계좌 등록일
 
     private LocalDateTime unregisteredAt; // 계좌 해지일
 
+    @Version
+    private Long version;
+
     @Builder
-    private AccountEntity(Long id, Long accountNumber, Integer password, Long balance, UserEntity user, LocalDateTime registeredAt, LocalDateTime unregisteredAt) {
+    private AccountEntity(Long id, Long accountNumber, Integer password, Long balance, UserEntity user, AccountTier tier, LocalDateTime registeredAt, LocalDateTime unregisteredAt, Long version) {
         this.id = id;
         this.accountNumber = accountNumber;
         this.password = password;
         this.balance = balance;
         this.user = user;
+        this.tier = tier;
         this.registeredAt = registeredAt;
         this.unregisteredAt = unregisteredAt;
+        this.version = version;
     }
 
-    public static AccountEntity create(Account account) {
-
-        UserEntity userEntity = UserEntity.of(account.getUser());
-
+    public static AccountEntity create(Account account, UserEntity user) {
         return AccountEntity.builder()
-                .id(account.getId())
                 .accountNumber(account.getAccountNumber())
                 .password(account.getPassword())
                 .balance(account.getBalance())
-                .user(userEntity)
+                .user(user)
+                .tier(account.getTier())
                 .registeredAt(account.getRegisteredAt())
                 .unregisteredAt(account.getUnregisteredAt())
+                .version(account.getVersion())
                 .build();
     }
 
+    // 영속성 컨텍스트가 관리하는 엔티티에 도메인 변경을 옮긴다. UPDATE 는 flush 시점의 변경 감지로 나간다.
+    public void update(Account account) {
+        this.password = account.getPassword();
+        this.balance = account.getBalance();
+        this.tier = account.getTier();
+        this.registeredAt = account.getRegisteredAt();
+        this.unregisteredAt = account.getUnregisteredAt();
+    }
+
     public Account toDomain() {
+        return toDomain(this.user.toDomain());
+    }
+
+    // user 프록시를 초기화하지 않도록 이미 가진 도메인 user 를 그대로 쓴다.
+    public Account toDomain(User user) {
         return Account.builder()
                 .id(this.id)
                 .accountNumber(this.accountNumber)
                 .password(this.password)
                 .balance(this.balance)
-                .user(this.user.toDomain())
+                .user(user)
+                .tier(this.tier)
                 .registeredAt(this.registeredAt)
                 .unregisteredAt(this.unregisteredAt)
+                .version(this.version)
                 .createdAt(this.getCreatedAt())
                 .modifiedAt(this.getModifiedAt())
                 .build();
@@ -0,0 +1,32 @@
+package com.wirebarley.infrastructure.account.jpa;
+
+import com.wirebarley.infrastructure.account.entity.AccountBalanceSlotEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface JpaAccountBalanceSlotRepository extends JpaRepository<AccountBalanceSlotEntity, Long> {
+
+    @Query("select s.slotNo from AccountBalanceSlotEntity s where s.accountNumber = :accountNumber")
+    List<Integer> findSlotNosByAccountNumber(@Param("accountNumber") Long accountNumber);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update AccountBalanceSlotEntity s set s.balance = s.balance + :amount where s.accountNumber = :accountNumber and s.slotNo = :slotNo")
+    int increaseBalance(@Param("accountNumber") Long accountNumber, @Param("slotNo") Integer slotNo, @Param("amount") Long amount);
+
+    @Query("select coalesce(sum(s.balance), 0) from AccountBalanceSlotEntity s where s.accountNumber = :accountNumber")
+    Long sumBalanceByAccountNumber(@Param("accountNumber") Long accountNumber);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from AccountBalanceSlotEntity s where s.accountNumber = :accountNumber order by s.slotNo")
+    List<AccountBalanceSlotEntity> findAllByAccountNumberForUpdate(@Param("accountNumber") Long accountNumber);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update AccountBalanceSlotEntity s set s.balance = 0 where s.accountNumber = :accountNumber")
+    int resetBalance(@Param("accountNumber") Long accountNumber);
+}
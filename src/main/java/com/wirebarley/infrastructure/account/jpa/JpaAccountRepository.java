@@ -2,11 +2,14 @@ package com.wirebarley.infrastructure.account.jpa;
 
 import com.wirebarley.infrastructure.account.entity.AccountEntity;
 import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface JpaAccountRepository extends JpaRepository<AccountEntity, Long> {
@@ -16,7 +19,41 @@ public interface JpaAccountRepository extends JpaRepository<AccountEntity, Long>
     @Query("select a from AccountEntity a join fetch a.user where a.id = :id")
     Optional<AccountEntity> findByIdWithUser(@Param("id") Long id);
 
+    // 잠금 조회에서 user를 join fetch 하면 users 행까지 FOR UPDATE로 잠겨 같은 회원의 다른 계좌 요청과 교착된다.
     @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("select a from AccountEntity a join fetch a.user where a.accountNumber = :accountNumber")
+    @Query("select a from AccountEntity a where a.accountNumber = :accountNumber")
     Optional<AccountEntity> findByAccountNumber(@Param("accountNumber") Long accountNumber);
+
+    // 공유 잠금끼리는 서로 기다리지 않고, 같은 행의 배타 잠금(FOR UPDATE)과만 순서가 정해진다.
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("select a from AccountEntity a where a.accountNumber = :accountNumber")
+    Optional<AccountEntity> findByAccountNumberForShare(@Param("accountNumber") Long accountNumber);
+
+    @Query("select a from AccountEntity a join fetch a.user where a.accountNumber = :accountNumber")
+    Optional<AccountEntity> findByAccountNumberWithUser(@Param("accountNumber") Long accountNumber);
+
+    // 여러 계좌를 항상 계좌번호 순서로 잠가서 교차 이체 시 데드락을 막는다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from AccountEntity a where a.accountNumber in :accountNumbers order by a.accountNumber")
+    List<AccountEntity> findAllByAccountNumberIn(@Param("accountNumbers") List<Long> accountNumbers);
+
+    @Query("select a from AccountEntity a join fetch a.user where a.accountNumber in :accountNumbers order by a.accountNumber")
+    List<AccountEntity> findAllByAccountNumberInWithUser(@Param("accountNumbers") List<Long> accountNumbers);
+
+    @Query("select a.id from AccountEntity a where a.id > :id order by a.id")
+    List<Long> findIdsAfter(@Param("id") Long id, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update AccountEntity a set a.balance = a.balance + :amount, a.version = a.version + 1 where a.accountNumber = :accountNumber")
+    int increaseBalance(@Param("accountNumber") Long accountNumber, @Param("amount") Long amount);
+
+    // 잔액이 부족하면 갱신되는 행이 없으므로 0을 반환한다.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update AccountEntity a set a.balance = a.balance - :amount, a.version = a.version + 1 where a.accountNumber = :accountNumber and a.balance >= :amount")
+    int decreaseBalance(@Param("accountNumber") Long accountNumber, @Param("amount") Long amount);
+
+    // 읽어 둔 version 그대로일 때만 갱신한다. 그 사이 다른 요청이 잔액을 바꿨으면 0을 반환한다.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update AccountEntity a set a.balance = a.balance + :delta, a.version = a.version + 1 where a.accountNumber = :accountNumber and a.version = :version")
+    int changeBalanceIfVersion(@Param("accountNumber") Long accountNumber, @Param("version") Long version, @Param("delta") Long delta);
 }
@@ -0,0 +1,17 @@
+package com.wirebarley.infrastructure.admin;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class AdminConfig {
+
+    @Bean
+    public FilterRegistrationBean<AdminTokenFilter> adminTokenFilter(AdminProperties adminProperties, ObjectMapper objectMapper) {
+        FilterRegistrationBean<AdminTokenFilter> registration = new FilterRegistrationBean<>(new AdminTokenFilter(adminProperties, objectMapper));
+        registration.addUrlPatterns("/admin/*");
+        return registration;
+    }
+}
@@ -0,0 +1,19 @@
+package com.wirebarley.infrastructure.admin;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "wirebarley.admin")
+public record AdminProperties(
+        String token    // /admin 요청의 X-Admin-Token 헤더와 비교하는 값, 비어 있으면 /admin 요청을 모두 거절한다
+) {
+
+    public AdminProperties {
+        if (token == null) {
+            token = "";
+        }
+    }
+
+    public boolean isEnabled() {
+        return !token.isBlank();
+    }
+}
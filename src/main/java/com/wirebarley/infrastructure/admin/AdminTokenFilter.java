@@ -0,0 +1,55 @@
+package com.wirebarley.infrastructure.admin;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wirebarley.infrastructure.common.ApiResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+import static com.wirebarley.infrastructure.exception.ExceptionConstant.ADMIN_ONLY_EXCEPTION;
+
+// 운영자용 /admin 요청은 설정한 토큰을 헤더로 보낸 경우에만 통과시킨다. 고객용 /api 요청에는 걸리지 않는다.
+public class AdminTokenFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Admin-Token";
+
+    private final AdminProperties properties;
+    private final ObjectMapper objectMapper;
+
+    public AdminTokenFilter(AdminProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        if (isAdmin(request.getHeader(HEADER))) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        response.setStatus(HttpStatus.FORBIDDEN.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getWriter(), ApiResponse.fail(HttpStatus.FORBIDDEN, ADMIN_ONLY_EXCEPTION.getMessage(), null));
+    }
+
+    // 토큰을 앞에서부터 비교하다 멈추면 응답 시간으로 맞은 글자 수가 드러나므로 길이만큼 끝까지 비교한다.
+    private boolean isAdmin(String token) {
+        if (!properties.isEnabled() || token == null) {
+            return false;
+        }
+        return MessageDigest.isEqual(
+                properties.token().getBytes(StandardCharsets.UTF_8),
+                token.getBytes(StandardCharsets.UTF_8)
+        );
+    }
+}
@@ -31,6 +31,10 @@ public class ApiResponse<T> {
         return new ResponseEntity<>(new ApiResponse<>(HttpStatus.CREATED, "success", data), HttpStatus.CREATED);
     }
 
+    public static <T> ResponseEntity<ApiResponse<T>> accepted(T data) {
+        return new ResponseEntity<>(new ApiResponse<>(HttpStatus.ACCEPTED, "success", data), HttpStatus.ACCEPTED);
+    }
+
     public static <T> ApiResponse<T> fail(HttpStatus status, String message, T data) {
         return new ApiResponse<>(status, message, data);
     }
@@ -8,6 +8,7 @@ import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 @RequiredArgsConstructor
 @Component
@@ -32,6 +33,13 @@ public class SqlInitConfig {
                 .username("배배배")
                 .password("password")
                 .build();
-        userRepository.saveAll(List.of(user1, user2, user3));
+
+        // 스키마가 재시작 후에도 남아 있으므로 이미 넣어둔 사용자는 다시 넣지 않는다.
+        List<User> users = Stream.of(user1, user2, user3)
+                .filter(user -> !userRepository.existsByEmail(user.getEmail()))
+                .toList();
+        if (!users.isEmpty()) {
+            userRepository.saveAll(users);
+        }
     }
 }
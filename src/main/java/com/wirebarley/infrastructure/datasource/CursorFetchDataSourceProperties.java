@@ -0,0 +1,15 @@
+package com.wirebarley.infrastructure.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "wirebarley.datasource.cursor-fetch")
+public record CursorFetchDataSourceProperties(
+        Integer maximumPoolSize  // 동시에 돌 수 있는 내보내기/재생 수
+) {
+
+    public CursorFetchDataSourceProperties {
+        if (maximumPoolSize == null || maximumPoolSize < 1) {
+            maximumPoolSize = 4;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.wirebarley.infrastructure.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+// 결과를 fetch size 만큼씩 나눠 읽어야 하는 조회(거래 내역 내보내기, 원장 재생)가 쓰는 JdbcTemplate 을 만든다.
+// MySQL 은 useCursorFetch=true 인 커넥션에서만 fetch size 를 서버 커서로 처리하는데, 이를 spring.datasource 의 URL 에 두면
+// fetch size 를 준 다른 모든 조회까지 서버 커서를 쓰게 되므로 이 조회들만 쓰는 작은 커넥션 풀에만 붙인다.
+// MySQL 이 아니면 드라이버가 fetch size 를 그대로 따르므로 기본 DataSource 를 쓴다.
+// 이 풀의 커넥션은 호출한 쪽의 트랜잭션에 참여하지 않으므로, 트랜잭션 밖에서 읽어도 되는 조회에만 쓴다.
+@Component
+public class CursorFetchJdbcTemplateFactory implements DisposableBean {
+
+    private static final String MYSQL_URL_PREFIX = "jdbc:mysql:";
+    private static final String CURSOR_FETCH_PARAMETER = "useCursorFetch=true";
+
+    private final DataSource dataSource;
+    private final HikariDataSource cursorFetchDataSource;
+
+    public CursorFetchJdbcTemplateFactory(DataSource dataSource,
+                                          DataSourceProperties dataSourceProperties,
+                                          CursorFetchDataSourceProperties cursorFetchDataSourceProperties) {
+        String url = dataSourceProperties.determineUrl();
+        if (url == null || !url.startsWith(MYSQL_URL_PREFIX)) {
+            this.dataSource = dataSource;
+            this.cursorFetchDataSource = null;
+            return;
+        }
+
+        HikariDataSource cursorFetchDataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url + (url.contains("?") ? "&" : "?") + CURSOR_FETCH_PARAMETER)
+                .build();
+        cursorFetchDataSource.setPoolName("cursor-fetch");
+        cursorFetchDataSource.setMaximumPoolSize(cursorFetchDataSourceProperties.maximumPoolSize());
+        cursorFetchDataSource.setReadOnly(true);
+        this.dataSource = cursorFetchDataSource;
+        this.cursorFetchDataSource = cursorFetchDataSource;
+    }
+
+    public JdbcTemplate create(int fetchSize) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.setFetchSize(fetchSize);
+        return jdbcTemplate;
+    }
+
+    @Override
+    public void destroy() {
+        if (cursorFetchDataSource != null) {
+            cursorFetchDataSource.close();
+        }
+    }
+}
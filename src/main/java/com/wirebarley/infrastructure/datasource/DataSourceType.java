@@ -0,0 +1,6 @@
+package com.wirebarley.infrastructure.datasource;
+
+public enum DataSourceType {
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,27 @@
+package com.wirebarley.infrastructure.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 읽기 전용 트랜잭션은 레플리카로, 나머지(쓰기 트랜잭션, 트랜잭션 밖의 쿼리)는 프라이머리로 보낸다.
+// 트랜잭션 속성이 정해진 뒤에 커넥션을 골라야 하므로 LazyConnectionDataSourceProxy 로 감싸서 쓴다.
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    // 지금 트랜잭션의 쿼리가 레플리카로 가는지. 레플리카를 켰을 때만 의미가 있다.
+    public static boolean isReplicaRead() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !ReadYourWritesContext.isPrimaryRequired();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (isReplicaRead()) {
+            return DataSourceType.REPLICA;
+        }
+
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            ReadYourWritesContext.markWritten();
+        }
+        return DataSourceType.PRIMARY;
+    }
+}
@@ -0,0 +1,30 @@
+package com.wirebarley.infrastructure.datasource;
+
+// 요청 하나 안에서 레플리카 대신 프라이머리로 읽어야 하는지 기억한다.
+// 요청 밖(스케줄러, 레인 워커 등)에서는 범위가 없으므로 쓰기가 있어도 아무것도 기억하지 않는다.
+public final class ReadYourWritesContext {
+
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    private ReadYourWritesContext() {
+    }
+
+    public static void begin(boolean primaryRequired) {
+        PRIMARY_REQUIRED.set(primaryRequired);
+    }
+
+    public static void end() {
+        PRIMARY_REQUIRED.remove();
+    }
+
+    // 쓰기 트랜잭션이 프라이머리 커넥션을 잡으면 이 요청의 이후 읽기는 복제 지연과 상관없이 방금 쓴 값을 보도록 프라이머리로 보낸다.
+    public static void markWritten() {
+        if (PRIMARY_REQUIRED.get() != null) {
+            PRIMARY_REQUIRED.set(true);
+        }
+    }
+
+    public static boolean isPrimaryRequired() {
+        return Boolean.TRUE.equals(PRIMARY_REQUIRED.get());
+    }
+}
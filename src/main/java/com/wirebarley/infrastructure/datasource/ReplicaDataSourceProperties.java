@@ -0,0 +1,24 @@
+package com.wirebarley.infrastructure.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "wirebarley.datasource.replica")
+public record ReplicaDataSourceProperties(
+        Boolean enabled,          // 끄면 모든 쿼리가 spring.datasource 하나로 간다
+        String url,
+        String username,
+        String password,
+        String driverClassName,
+        Integer maximumPoolSize
+) {
+
+    public ReplicaDataSourceProperties {
+        if (enabled == null) {
+            enabled = false;
+        }
+
+        if (maximumPoolSize == null || maximumPoolSize < 1) {
+            maximumPoolSize = 10;
+        }
+    }
+}
@@ -20,6 +20,31 @@ public enum ExceptionConstant {
     WEEKLY_LIMIT_EXCEPTION("WEEKLY_LIMIT", "주 이체 한도를 초과했습니다."),
     MONTHLY_LIMIT_EXCEPTION("MONTHLY_LIMIT", "월 이체 한도를 초과했습니다."),
 
+    LOCK_ACQUISITION_FAILED_EXCEPTION("LOCK_ACQUISITION_FAILED", "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요."),
+    ACCOUNT_LANE_BUSY_EXCEPTION("ACCOUNT_LANE_BUSY", "해당 계좌에 처리 대기중인 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+    ACCOUNT_LANE_TIMEOUT_EXCEPTION("ACCOUNT_LANE_TIMEOUT", "처리 결과를 확인하지 못했습니다. 거래내역을 확인한 뒤 다시 시도해주세요."),
+
+    TRANSFER_JOB_NOT_FOUND_EXCEPTION("TRANSFER_JOB_NOT_FOUND", "이체 요청을 찾을 수 없습니다."),
+    ASYNC_TRANSFER_BUSY_EXCEPTION("ASYNC_TRANSFER_BUSY", "처리 대기중인 이체가 많습니다. 잠시 후 다시 시도해주세요."),
+    ASYNC_TRANSFER_FAILED_EXCEPTION("ASYNC_TRANSFER_FAILED", "이체 처리 중 오류가 발생했습니다."),
+    ASYNC_TRANSFER_INTERRUPTED_EXCEPTION("ASYNC_TRANSFER_INTERRUPTED", "서버가 재시작되어 이체가 처리되지 않았습니다."),
+
+    INVALID_IDEMPOTENCY_KEY_EXCEPTION("INVALID_IDEMPOTENCY_KEY", "Idempotency-Key 는 100자를 넘을 수 없습니다."),
+    IDEMPOTENCY_REQUEST_IN_PROGRESS_EXCEPTION("IDEMPOTENCY_REQUEST_IN_PROGRESS", "같은 Idempotency-Key 로 요청한 거래가 처리중이거나 처리 결과를 확인하지 못했습니다. 거래내역을 확인해주세요."),
+    IDEMPOTENCY_KEY_REUSED_EXCEPTION("IDEMPOTENCY_KEY_REUSED", "다른 요청에 사용된 Idempotency-Key 입니다."),
+
+    EMPTY_TRANSFER_LIMIT_POLICY_EXCEPTION("EMPTY_TRANSFER_LIMIT_POLICY", "일/주/월 한도 중 하나는 입력해주세요."),
+    INVALID_TRANSFER_LIMIT_POLICY_PERIOD_EXCEPTION("INVALID_TRANSFER_LIMIT_POLICY_PERIOD", "한도 적용 종료일은 시작일 이후여야 합니다."),
+    INVALID_TRANSFER_LIMIT_POLICY_SCOPE_KEY_EXCEPTION("INVALID_TRANSFER_LIMIT_POLICY_SCOPE_KEY", "한도 적용 대상 키가 올바르지 않습니다. 등급은 등급명, 회원은 회원 id, 계좌는 계좌번호를 입력해주세요."),
+
+    INVALID_TRANSACTION_CURSOR_EXCEPTION("INVALID_TRANSACTION_CURSOR", "거래 내역 조회 커서가 올바르지 않습니다."),
+    INVALID_TRANSACTION_PERIOD_EXCEPTION("INVALID_TRANSACTION_PERIOD", "거래 내역 조회 종료일은 시작일 이후여야 합니다."),
+    INVALID_TRANSACTION_EXPORT_FORMAT_EXCEPTION("INVALID_TRANSACTION_EXPORT_FORMAT", "거래 내역 내보내기 형식은 NDJSON, CSV 중 하나입니다."),
+    INVALID_TRANSACTION_EXPORT_PERIOD_EXCEPTION("INVALID_TRANSACTION_EXPORT_PERIOD", "거래 내역 내보내기 종료일은 시작일 이후여야 합니다."),
+    STATEMENT_REBUILD_FAILED_EXCEPTION("STATEMENT_REBUILD_FAILED", "거래 명세 재생성 중 오류가 발생했습니다. 다시 시도해주세요."),
+
+    ADMIN_ONLY_EXCEPTION("ADMIN_ONLY", "운영자만 사용할 수 있는 요청입니다."),
+
     ;
 
     private final String code;
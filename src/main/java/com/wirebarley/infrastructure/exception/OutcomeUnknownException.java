@@ -0,0 +1,9 @@
+package com.wirebarley.infrastructure.exception;
+
+// 요청한 작업이 반영됐는지 알 수 없을 때 던진다. 호출한 쪽은 작업이 취소됐다고 가정하면 안 된다.
+public class OutcomeUnknownException extends CustomException {
+
+    public OutcomeUnknownException(String message) {
+        super(message);
+    }
+}
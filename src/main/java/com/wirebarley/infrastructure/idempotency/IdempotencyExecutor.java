@@ -0,0 +1,179 @@
+package com.wirebarley.infrastructure.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wirebarley.infrastructure.common.StringUtils;
+import com.wirebarley.infrastructure.exception.CustomException;
+import com.wirebarley.infrastructure.exception.OutcomeUnknownException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static com.wirebarley.infrastructure.exception.ExceptionConstant.*;
+
+// Idempotency-Key 헤더가 있는 요청은 처음 한 번만 실행하고, 같은 키로 다시 오면 저장해 둔 응답을 그대로 돌려준다.
+// 실행 전에 키를 unique 인덱스로 선점하므로 동시에 들어온 재시도도 한 번만 실행된다.
+// 재시도 응답은 계좌 잠금이나 서비스 로직을 거치지 않고, 최근 응답은 메모리 캐시에서 DB 조회 없이 돌려준다.
+@Slf4j
+@Component
+public class IdempotencyExecutor {
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final JpaIdempotencyRecordRepository jpaIdempotencyRecordRepository;
+    private final IdempotencyProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Map<String, IdempotencyRecordEntity> completedCache;
+    private final Counter cacheHitCounter;
+    private final Counter replayCounter;
+
+    public IdempotencyExecutor(JpaIdempotencyRecordRepository jpaIdempotencyRecordRepository,
+                               IdempotencyProperties properties,
+                               ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry) {
+        this.jpaIdempotencyRecordRepository = jpaIdempotencyRecordRepository;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.completedCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, IdempotencyRecordEntity> eldest) {
+                return size() > properties.cacheSize();
+            }
+        });
+        this.cacheHitCounter = meterRegistry.counter("idempotency.cache.hit");
+        this.replayCounter = meterRegistry.counter("idempotency.replay");
+    }
+
+    public <T> T execute(String idempotencyKey, String operation, Object request, Class<T> responseType, Supplier<T> action) {
+        if (StringUtils.isBlank(idempotencyKey)) {
+            return action.get();
+        }
+
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new CustomException(INVALID_IDEMPOTENCY_KEY_EXCEPTION.getMessage());
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        String requestHash = hash(operation, request);
+
+        IdempotencyRecordEntity cached = completedCache.get(idempotencyKey);
+        if (cached != null && !cached.isExpired(now)) {
+            cacheHitCounter.increment();
+            return replay(cached, requestHash, responseType);
+        }
+
+        IdempotencyRecordEntity existing = reserve(idempotencyKey, operation, requestHash, now);
+        if (existing != null) {
+            if (!existing.isCompleted()) {
+                throw new CustomException(IDEMPOTENCY_REQUEST_IN_PROGRESS_EXCEPTION.getMessage());
+            }
+            completedCache.put(idempotencyKey, existing);
+            return replay(existing, requestHash, responseType);
+        }
+
+        T response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            // 롤백이 확실한 요청만 기록을 지워서 같은 키로 다시 시도할 수 있게 한다.
+            // 반영됐는지 알 수 없는 요청은 처리중 기록을 남겨 두고, 같은 키로 다시 와도 처리중/결과 확인 불가로 응답한다.
+            if (!(e instanceof OutcomeUnknownException)) {
+                jpaIdempotencyRecordRepository.deleteByIdempotencyKey(idempotencyKey);
+            }
+            throw e;
+        }
+
+        // 잔액 변경은 이미 커밋됐으므로, 여기서 응답을 남기지 못하면 키는 처리중으로 남아 응답 보관 기간 동안 다시 실행되지 않는다.
+        String responseBody = write(response);
+        LocalDateTime expiresAt = LocalDateTime.now().plus(properties.ttl());
+        jpaIdempotencyRecordRepository.complete(idempotencyKey, responseBody, expiresAt);
+        completedCache.put(idempotencyKey, IdempotencyRecordEntity.builder()
+                .idempotencyKey(idempotencyKey)
+                .operation(operation)
+                .requestHash(requestHash)
+                .status(IdempotencyStatus.COMPLETED)
+                .responseBody(responseBody)
+                .createdAt(now)
+                .expiresAt(expiresAt)
+                .build());
+        return response;
+    }
+
+    @Scheduled(fixedDelayString = "${wirebarley.idempotency.purge-interval:1h}")
+    public void purgeExpired() {
+        int deleted = jpaIdempotencyRecordRepository.deleteAllExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("만료된 Idempotency-Key {}건을 삭제했습니다.", deleted);
+        }
+    }
+
+    // 키를 선점하면 null, 이미 있는 키면 기존 기록을 반환한다. 만료된 기록은 지우고 한 번 더 선점한다.
+    // 처리중 기록도 응답 보관 기간(ttl)만큼 유지한다. 첫 요청이 레인 대기와 잠금 재시도로 오래 걸리거나, 커밋한 뒤 응답을 남기기 전에
+    // 서버가 내려갔을 수 있으므로 짧은 기간 뒤에 다시 실행하면 같은 이체가 두 번 반영된다.
+    private IdempotencyRecordEntity reserve(String idempotencyKey, String operation, String requestHash, LocalDateTime now) {
+        for (int attempt = 0; attempt < 2; attempt++) {
+            try {
+                jpaIdempotencyRecordRepository.saveAndFlush(
+                        IdempotencyRecordEntity.inProgress(idempotencyKey, operation, requestHash, now, now.plus(properties.ttl()))
+                );
+                return null;
+            } catch (DataIntegrityViolationException e) {
+                IdempotencyRecordEntity existing = jpaIdempotencyRecordRepository.findByIdempotencyKey(idempotencyKey)
+                        .orElse(null);
+                if (existing == null) {
+                    continue;
+                }
+                if (!existing.isExpired(now)) {
+                    return existing;
+                }
+                jpaIdempotencyRecordRepository.deleteExpiredByIdempotencyKey(idempotencyKey, now);
+            }
+        }
+        throw new CustomException(IDEMPOTENCY_REQUEST_IN_PROGRESS_EXCEPTION.getMessage());
+    }
+
+    private <T> T replay(IdempotencyRecordEntity record, String requestHash, Class<T> responseType) {
+        if (!record.getRequestHash().equals(requestHash)) {
+            throw new CustomException(IDEMPOTENCY_KEY_REUSED_EXCEPTION.getMessage());
+        }
+
+        replayCounter.increment();
+        try {
+            return objectMapper.readValue(record.getResponseBody(), responseType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 응답을 읽을 수 없습니다.", e);
+        }
+    }
+
+    private String write(Object response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답을 저장할 수 없습니다.", e);
+        }
+    }
+
+    private String hash(String operation, Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(operation.getBytes(StandardCharsets.UTF_8));
+            digest.update(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
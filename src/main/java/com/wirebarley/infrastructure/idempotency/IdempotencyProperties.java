@@ -0,0 +1,27 @@
+package com.wirebarley.infrastructure.idempotency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "wirebarley.idempotency")
+public record IdempotencyProperties(
+        Duration ttl,            // 저장한 응답을 재사용하는 기간, 처리중 기록도 이 기간 동안은 다시 실행하지 않는다
+        Integer cacheSize,       // 메모리에 들고 있는 최근 응답 개수
+        Duration purgeInterval   // 만료된 기록을 지우는 주기
+) {
+
+    public IdempotencyProperties {
+        if (ttl == null) {
+            ttl = Duration.ofHours(24);
+        }
+
+        if (cacheSize == null || cacheSize < 0) {
+            cacheSize = 10_000;
+        }
+
+        if (purgeInterval == null) {
+            purgeInterval = Duration.ofHours(1);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.wirebarley.infrastructure.idempotency;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "idempotency_record",
+        uniqueConstraints = @UniqueConstraint(name = "uk_idempotency_record_key", columnNames = "idempotency_key"),
+        indexes = @Index(name = "idx_idempotency_record_expires_at", columnList = "expires_at")
+)
+@Entity
+public class IdempotencyRecordEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(length = 100)
+    private String idempotencyKey;
+
+    private String operation;
+
+    @Column(length = 64)
+    private String requestHash;    // 같은 키로 다른 요청을 보냈는지 확인하기 위한 요청 본문 해시
+
+    @Enumerated(EnumType.STRING)
+    private IdempotencyStatus status;
+
+    @Lob
+    private String responseBody;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime expiresAt;
+
+    @Builder
+    private IdempotencyRecordEntity(Long id, String idempotencyKey, String operation, String requestHash, IdempotencyStatus status, String responseBody, LocalDateTime createdAt, LocalDateTime expiresAt) {
+        this.id = id;
+        this.idempotencyKey = idempotencyKey;
+        this.operation = operation;
+        this.requestHash = requestHash;
+        this.status = status;
+        this.responseBody = responseBody;
+        this.createdAt = createdAt;
+        this.expiresAt = expiresAt;
+    }
+
+    public static IdempotencyRecordEntity inProgress(String idempotencyKey, String operation, String requestHash, LocalDateTime createdAt, LocalDateTime expiresAt) {
+        return IdempotencyRecordEntity.builder()
+                .idempotencyKey(idempotencyKey)
+                .operation(operation)
+                .requestHash(requestHash)
+                .status(IdempotencyStatus.IN_PROGRESS)
+                .createdAt(createdAt)
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    public boolean isCompleted() {
+        return status == IdempotencyStatus.COMPLETED;
+    }
+}
@@ -0,0 +1,6 @@
+package com.wirebarley.infrastructure.idempotency;
+
+public enum IdempotencyStatus {
+    IN_PROGRESS,  // 처음 요청이 처리중
+    COMPLETED     // 처리가 끝나 응답이 저장됨
+}
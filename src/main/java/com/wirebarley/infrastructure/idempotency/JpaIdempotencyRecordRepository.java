@@ -0,0 +1,35 @@
+package com.wirebarley.infrastructure.idempotency;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface JpaIdempotencyRecordRepository extends JpaRepository<IdempotencyRecordEntity, Long> {
+
+    Optional<IdempotencyRecordEntity> findByIdempotencyKey(String idempotencyKey);
+
+    @Transactional
+    @Modifying
+    @Query("update IdempotencyRecordEntity r set r.status = com.wirebarley.infrastructure.idempotency.IdempotencyStatus.COMPLETED, r.responseBody = :responseBody, r.expiresAt = :expiresAt where r.idempotencyKey = :idempotencyKey")
+    int complete(@Param("idempotencyKey") String idempotencyKey, @Param("responseBody") String responseBody, @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Transactional
+    @Modifying
+    @Query("delete from IdempotencyRecordEntity r where r.idempotencyKey = :idempotencyKey")
+    int deleteByIdempotencyKey(@Param("idempotencyKey") String idempotencyKey);
+
+    @Transactional
+    @Modifying
+    @Query("delete from IdempotencyRecordEntity r where r.idempotencyKey = :idempotencyKey and r.expiresAt <= :now")
+    int deleteExpiredByIdempotencyKey(@Param("idempotencyKey") String idempotencyKey, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("delete from IdempotencyRecordEntity r where r.expiresAt <= :now")
+    int deleteAllExpired(@Param("now") LocalDateTime now);
+}
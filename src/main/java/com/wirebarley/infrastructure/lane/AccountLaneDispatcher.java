@@ -0,0 +1,203 @@
+package com.wirebarley.infrastructure.lane;
+
+import com.wirebarley.infrastructure.exception.CustomException;
+import com.wirebarley.infrastructure.exception.OutcomeUnknownException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+import static com.wirebarley.infrastructure.exception.ExceptionConstant.ACCOUNT_LANE_BUSY_EXCEPTION;
+import static com.wirebarley.infrastructure.exception.ExceptionConstant.ACCOUNT_LANE_TIMEOUT_EXCEPTION;
+
+// 계좌번호를 해시해서 N개의 단일 스레드 레인 중 하나에서 실행한다.
+// 같은 계좌에 대한 요청은 한 레인에서 순서대로 처리되므로 DB 락 대기열에서 커넥션을 붙잡고 기다리지 않는다.
+// 이체처럼 두 계좌가 다른 레인에 있으면 번호가 작은 레인에서 실행하면서 큰 레인을 잠시 점유한다.
+// 레인은 항상 작은 번호 -> 큰 번호 순으로만 기다리므로 레인 사이에 순환 대기가 생기지 않는다.
+@Slf4j
+@Component
+public class AccountLaneDispatcher implements DisposableBean {
+
+    private final AccountLaneProperties properties;
+    private final List<ThreadPoolExecutor> lanes = new ArrayList<>();
+    private final AtomicReferenceArray<Thread> laneThreads;
+    private final Timer waitTimer;
+    private final Counter rejectedCounter;
+
+    public AccountLaneDispatcher(AccountLaneProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.laneThreads = new AtomicReferenceArray<>(properties.laneCount());
+        this.waitTimer = meterRegistry.timer("account.lane.wait");
+        this.rejectedCounter = meterRegistry.counter("account.lane.rejected");
+
+        if (!properties.enabled()) {
+            return;
+        }
+
+        for (int i = 0; i < properties.laneCount(); i++) {
+            ThreadPoolExecutor lane = createLane(i);
+            lane.prestartAllCoreThreads();
+            lanes.add(lane);
+            Gauge.builder("account.lane.queue.depth", lane, executor -> executor.getQueue().size())
+                    .tag("lane", String.valueOf(i))
+                    .register(meterRegistry);
+        }
+    }
+
+    public <T> T execute(Long accountNumber, Supplier<T> action) {
+        if (!properties.enabled()) {
+            return action.get();
+        }
+
+        int lane = laneOf(accountNumber);
+        if (isLaneThread(lane)) {
+            return action.get();
+        }
+
+        return await(submit(lane, action::get));
+    }
+
+    public <T> T execute(Long firstAccountNumber, Long secondAccountNumber, Supplier<T> action) {
+        if (!properties.enabled()) {
+            return action.get();
+        }
+
+        int firstLane = laneOf(firstAccountNumber);
+        int secondLane = laneOf(secondAccountNumber);
+        if (firstLane == secondLane) {
+            return execute(firstAccountNumber, action);
+        }
+
+        int lowerLane = Math.min(firstLane, secondLane);
+        int upperLane = Math.max(firstLane, secondLane);
+        return await(submit(lowerLane, () -> executeHolding(upperLane, action)));
+    }
+
+    int laneOf(Long accountNumber) {
+        int hash = Long.hashCode(accountNumber);
+        return Math.floorMod(hash ^ (hash >>> 16), properties.laneCount());
+    }
+
+    // 큰 번호 레인에 대기 작업을 넣어 그 레인을 멈춰둔 채로 action 을 실행한다.
+    private <T> T executeHolding(int lane, Supplier<T> action) throws InterruptedException {
+        CountDownLatch held = new CountDownLatch(1);
+        CountDownLatch released = new CountDownLatch(1);
+        LaneTask<Object> holder = submit(lane, () -> {
+            held.countDown();
+            released.await();
+            return null;
+        });
+
+        try {
+            // 큰 레인이 밀려 있으면 작은 레인까지 같이 멈추므로 오래 기다리지 않고 거절한다.
+            if (!held.await(properties.awaitTimeout().toMillis(), TimeUnit.MILLISECONDS) && holder.cancelIfNotStarted()) {
+                rejectedCounter.increment();
+                throw new CustomException(ACCOUNT_LANE_BUSY_EXCEPTION.getMessage());
+            }
+            held.await();
+            return action.get();
+        } finally {
+            released.countDown();
+        }
+    }
+
+    private <T> LaneTask<T> submit(int lane, Callable<T> task) {
+        long enqueuedAt = System.nanoTime();
+        AtomicBoolean started = new AtomicBoolean();
+        try {
+            Future<T> future = lanes.get(lane).submit(() -> {
+                // 기다리던 쪽이 먼저 포기한 작업은 실행하지 않는다.
+                if (!started.compareAndSet(false, true)) {
+                    return null;
+                }
+                waitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                return task.call();
+            });
+            return new LaneTask<>(future, started);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("계좌 레인 {} 의 대기열이 가득 찼습니다.", lane);
+            throw new CustomException(ACCOUNT_LANE_BUSY_EXCEPTION.getMessage());
+        }
+    }
+
+    private <T> T await(LaneTask<T> task) {
+        try {
+            return task.future().get(properties.awaitTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 아직 시작하지 않은 작업은 취소되므로 실행되지 않는다. 이미 실행중이면 결과를 알 수 없다.
+            if (task.cancelIfNotStarted()) {
+                rejectedCounter.increment();
+                throw new CustomException(ACCOUNT_LANE_BUSY_EXCEPTION.getMessage());
+            }
+            throw new OutcomeUnknownException(ACCOUNT_LANE_TIMEOUT_EXCEPTION.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (task.cancelIfNotStarted()) {
+                throw new CustomException(ACCOUNT_LANE_BUSY_EXCEPTION.getMessage());
+            }
+            throw new OutcomeUnknownException(ACCOUNT_LANE_TIMEOUT_EXCEPTION.getMessage());
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private boolean isLaneThread(int lane) {
+        return laneThreads.get(lane) == Thread.currentThread();
+    }
+
+    private ThreadPoolExecutor createLane(int index) {
+        return new ThreadPoolExecutor(
+                1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.queueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "account-lane-" + index);
+                    thread.setDaemon(true);
+                    laneThreads.set(index, thread);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    private record LaneTask<T>(Future<T> future, AtomicBoolean started) {
+
+        boolean cancelIfNotStarted() {
+            if (!started.compareAndSet(false, true)) {
+                return false;
+            }
+            future.cancel(false);
+            return true;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        lanes.forEach(ThreadPoolExecutor::shutdown);
+    }
+}
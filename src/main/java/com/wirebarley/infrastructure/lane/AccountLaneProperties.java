@@ -0,0 +1,32 @@
+package com.wirebarley.infrastructure.lane;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "wirebarley.account.lane")
+public record AccountLaneProperties(
+        Boolean enabled,        // false 면 호출 스레드에서 바로 실행
+        Integer laneCount,      // 단일 스레드 레인 개수
+        Integer queueCapacity,  // 레인별 대기열 크기, 가득 차면 요청을 거절한다
+        Duration awaitTimeout   // 레인 작업 결과를 기다리는 최대 시간
+) {
+
+    public AccountLaneProperties {
+        if (enabled == null) {
+            enabled = false;
+        }
+
+        if (laneCount == null || laneCount < 1) {
+            laneCount = 8;
+        }
+
+        if (queueCapacity == null || queueCapacity < 1) {
+            queueCapacity = 1000;
+        }
+
+        if (awaitTimeout == null || awaitTimeout.isNegative() || awaitTimeout.isZero()) {
+            awaitTimeout = Duration.ofSeconds(10);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.wirebarley.infrastructure.ledger;
+
+import com.wirebarley.domain.ledger.LedgerEvent;
+import com.wirebarley.domain.ledger.LedgerEventSummary;
+import com.wirebarley.domain.ledger.LedgerRepository;
+import com.wirebarley.domain.ledger.LedgerSnapshot;
+import com.wirebarley.infrastructure.ledger.entity.LedgerSnapshotEntity;
+import com.wirebarley.infrastructure.ledger.jdbc.LedgerJdbcRepository;
+import com.wirebarley.infrastructure.ledger.jpa.JpaLedgerEventRepository;
+import com.wirebarley.infrastructure.ledger.jpa.JpaLedgerSnapshotRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+@RequiredArgsConstructor
+@Repository
+public class LedgerRepositoryAdapter implements LedgerRepository {
+
+    private final JpaLedgerEventRepository jpaLedgerEventRepository;
+    private final JpaLedgerSnapshotRepository jpaLedgerSnapshotRepository;
+    private final LedgerJdbcRepository ledgerJdbcRepository;
+
+    @Override
+    public void appendAll(List<LedgerEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        ledgerJdbcRepository.batchInsertEvents(events);
+    }
+
+    @Override
+    public Optional<LedgerSnapshot> findLatestSnapshot(Long accountNumber) {
+        return jpaLedgerSnapshotRepository.findTopByAccountNumberOrderByLastEventIdDesc(accountNumber)
+                .map(LedgerSnapshotEntity::toDomain);
+    }
+
+    @Override
+    public LedgerEventSummary summarizeAfter(Long accountNumber, Long eventId) {
+        return jpaLedgerEventRepository.summarizeAfter(accountNumber, eventId);
+    }
+
+    @Override
+    public void saveSnapshot(LedgerSnapshot snapshot) {
+        jpaLedgerSnapshotRepository.save(LedgerSnapshotEntity.create(snapshot));
+    }
+
+    @Override
+    public void saveAllSnapshots(List<LedgerSnapshot> snapshots) {
+        if (snapshots.isEmpty()) {
+            return;
+        }
+        ledgerJdbcRepository.batchInsertSnapshots(snapshots);
+    }
+
+    @Override
+    public void deleteAllSnapshots() {
+        jpaLedgerSnapshotRepository.deleteAllInBatch();
+    }
+
+    @Override
+    public Long findLastEventId() {
+        return jpaLedgerEventRepository.findMaxId();
+    }
+
+    @Override
+    public List<Long> findAccountNumbersWithEventsBetween(Long fromEventId, Long toEventId) {
+        return jpaLedgerEventRepository.findAccountNumbersByIdBetween(fromEventId, toEventId);
+    }
+
+    @Override
+    public void replayAll(Consumer<LedgerEvent> handler) {
+        ledgerJdbcRepository.replayAll(handler);
+    }
+}
@@ -0,0 +1,54 @@
+package com.wirebarley.infrastructure.ledger.entity;
+
+import com.wirebarley.domain.ledger.LedgerEvent;
+import com.wirebarley.domain.transaction.TransactionType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 원장 모드에서 잔액 변경을 insert 만 하는 이벤트 행. (account_number, id) 인덱스로 스냅샷 이후의 이벤트만 범위 조회한다.
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "ledger_event",
+        indexes = @Index(name = "idx_ledger_event_account_number_id", columnList = "account_number, id")
+)
+@Entity
+public class LedgerEventEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long accountNumber;
+
+    private Long amount;
+
+    @Enumerated(EnumType.STRING)
+    private TransactionType type;
+
+    private LocalDateTime createdAt;
+
+    @Builder
+    private LedgerEventEntity(Long id, Long accountNumber, Long amount, TransactionType type, LocalDateTime createdAt) {
+        this.id = id;
+        this.accountNumber = accountNumber;
+        this.amount = amount;
+        this.type = type;
+        this.createdAt = createdAt;
+    }
+
+    public LedgerEvent toDomain() {
+        return LedgerEvent.builder()
+                .id(this.id)
+                .accountNumber(this.accountNumber)
+                .amount(this.amount)
+                .type(this.type)
+                .createdAt(this.createdAt)
+                .build();
+    }
+}
@@ -0,0 +1,62 @@
+package com.wirebarley.infrastructure.ledger.entity;
+
+import com.wirebarley.domain.ledger.LedgerSnapshot;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 스냅샷도 덮어쓰지 않고 새 행으로 쌓는다. 계좌별로 last_event_id 가 가장 큰 행이 최신 스냅샷이다.
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "ledger_snapshot",
+        indexes = @Index(name = "idx_ledger_snapshot_account_number_last_event_id", columnList = "account_number, last_event_id")
+)
+@Entity
+public class LedgerSnapshotEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long accountNumber;
+
+    private Long balance;
+
+    private Long lastEventId;
+
+    private LocalDateTime createdAt;
+
+    @Builder
+    private LedgerSnapshotEntity(Long id, Long accountNumber, Long balance, Long lastEventId, LocalDateTime createdAt) {
+        this.id = id;
+        this.accountNumber = accountNumber;
+        this.balance = balance;
+        this.lastEventId = lastEventId;
+        this.createdAt = createdAt;
+    }
+
+    public static LedgerSnapshotEntity create(LedgerSnapshot snapshot) {
+        return LedgerSnapshotEntity.builder()
+                .id(snapshot.getId())
+                .accountNumber(snapshot.getAccountNumber())
+                .balance(snapshot.getBalance())
+                .lastEventId(snapshot.getLastEventId())
+                .createdAt(snapshot.getCreatedAt())
+                .build();
+    }
+
+    public LedgerSnapshot toDomain() {
+        return LedgerSnapshot.builder()
+                .id(this.id)
+                .accountNumber(this.accountNumber)
+                .balance(this.balance)
+                .lastEventId(this.lastEventId)
+                .createdAt(this.createdAt)
+                .build();
+    }
+}
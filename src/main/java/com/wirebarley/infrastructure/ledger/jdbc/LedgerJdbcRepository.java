@@ -0,0 +1,74 @@
+package com.wirebarley.infrastructure.ledger.jdbc;
+
+import com.wirebarley.domain.ledger.LedgerEvent;
+import com.wirebarley.domain.ledger.LedgerSnapshot;
+import com.wirebarley.domain.transaction.TransactionType;
+import com.wirebarley.infrastructure.datasource.CursorFetchJdbcTemplateFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.function.Consumer;
+
+// 이벤트와 스냅샷은 insert 만 하므로 JPA 를 거치지 않고 JDBC batch 로 넣는다.
+// 재생은 이벤트를 계좌번호, id 순서로 fetch size 만큼씩 읽어서 전체를 메모리에 올리지 않는다. (MySQL 은 useCursorFetch=true 인 커넥션에서만 적용되므로 CursorFetchJdbcTemplateFactory 의 JdbcTemplate 으로 읽는다)
+@Repository
+public class LedgerJdbcRepository {
+
+    private static final int REPLAY_FETCH_SIZE = 1_000;
+
+    private static final String INSERT_EVENT_SQL = """
+            insert into ledger_event (account_number, amount, type, created_at)
+            values (?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_SNAPSHOT_SQL = """
+            insert into ledger_snapshot (account_number, balance, last_event_id, created_at)
+            values (?, ?, ?, ?)
+            """;
+
+    private static final String REPLAY_SQL = """
+            select id, account_number, amount, type, created_at
+            from ledger_event
+            order by account_number, id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate replayJdbcTemplate;
+
+    public LedgerJdbcRepository(DataSource dataSource, CursorFetchJdbcTemplateFactory cursorFetchJdbcTemplateFactory) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.replayJdbcTemplate = cursorFetchJdbcTemplateFactory.create(REPLAY_FETCH_SIZE);
+    }
+
+    public void batchInsertEvents(List<LedgerEvent> events) {
+        jdbcTemplate.batchUpdate(INSERT_EVENT_SQL, events, events.size(), (ps, event) -> {
+            ps.setLong(1, event.getAccountNumber());
+            ps.setLong(2, event.getAmount());
+            ps.setString(3, event.getType().name());
+            ps.setTimestamp(4, Timestamp.valueOf(event.getCreatedAt()));
+        });
+    }
+
+    public void batchInsertSnapshots(List<LedgerSnapshot> snapshots) {
+        jdbcTemplate.batchUpdate(INSERT_SNAPSHOT_SQL, snapshots, snapshots.size(), (ps, snapshot) -> {
+            ps.setLong(1, snapshot.getAccountNumber());
+            ps.setLong(2, snapshot.getBalance());
+            ps.setLong(3, snapshot.getLastEventId());
+            ps.setTimestamp(4, Timestamp.valueOf(snapshot.getCreatedAt()));
+        });
+    }
+
+    public void replayAll(Consumer<LedgerEvent> handler) {
+        replayJdbcTemplate.query(REPLAY_SQL, (RowCallbackHandler) rs -> handler.accept(LedgerEvent.builder()
+                .id(rs.getLong("id"))
+                .accountNumber(rs.getLong("account_number"))
+                .amount(rs.getLong("amount"))
+                .type(TransactionType.valueOf(rs.getString("type")))
+                .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+                .build()));
+    }
+}
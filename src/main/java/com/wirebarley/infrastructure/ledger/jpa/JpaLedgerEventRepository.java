@@ -0,0 +1,25 @@
+package com.wirebarley.infrastructure.ledger.jpa;
+
+import com.wirebarley.domain.ledger.LedgerEventSummary;
+import com.wirebarley.infrastructure.ledger.entity.LedgerEventEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface JpaLedgerEventRepository extends JpaRepository<LedgerEventEntity, Long> {
+
+    @Query("""
+            select new com.wirebarley.domain.ledger.LedgerEventSummary(coalesce(sum(e.amount), 0), count(e), coalesce(max(e.id), :eventId))
+            from LedgerEventEntity e
+            where e.accountNumber = :accountNumber and e.id > :eventId
+            """)
+    LedgerEventSummary summarizeAfter(@Param("accountNumber") Long accountNumber, @Param("eventId") Long eventId);
+
+    @Query("select coalesce(max(e.id), 0) from LedgerEventEntity e")
+    Long findMaxId();
+
+    @Query("select distinct e.accountNumber from LedgerEventEntity e where e.id > :fromEventId and e.id <= :toEventId")
+    List<Long> findAccountNumbersByIdBetween(@Param("fromEventId") Long fromEventId, @Param("toEventId") Long toEventId);
+}
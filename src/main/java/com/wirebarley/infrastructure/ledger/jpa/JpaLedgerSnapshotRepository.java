@@ -0,0 +1,11 @@
+package com.wirebarley.infrastructure.ledger.jpa;
+
+import com.wirebarley.infrastructure.ledger.entity.LedgerSnapshotEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface JpaLedgerSnapshotRepository extends JpaRepository<LedgerSnapshotEntity, Long> {
+
+    Optional<LedgerSnapshotEntity> findTopByAccountNumberOrderByLastEventIdDesc(Long accountNumber);
+}
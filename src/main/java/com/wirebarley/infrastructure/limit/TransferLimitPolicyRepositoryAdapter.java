@@ -0,0 +1,30 @@
+package com.wirebarley.infrastructure.limit;
+
+import com.wirebarley.domain.limit.TransferLimitPolicy;
+import com.wirebarley.domain.limit.TransferLimitPolicyRepository;
+import com.wirebarley.infrastructure.limit.entity.TransferLimitPolicyEntity;
+import com.wirebarley.infrastructure.limit.jpa.JpaTransferLimitPolicyRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+@Repository
+public class TransferLimitPolicyRepositoryAdapter implements TransferLimitPolicyRepository {
+
+    private final JpaTransferLimitPolicyRepository jpaTransferLimitPolicyRepository;
+
+    @Override
+    public TransferLimitPolicy save(TransferLimitPolicy policy) {
+        return jpaTransferLimitPolicyRepository.save(TransferLimitPolicyEntity.create(policy)).toDomain();
+    }
+
+    @Override
+    public List<TransferLimitPolicy> findAll() {
+        return jpaTransferLimitPolicyRepository.findAll()
+                .stream()
+                .map(TransferLimitPolicyEntity::toDomain)
+                .toList();
+    }
+}
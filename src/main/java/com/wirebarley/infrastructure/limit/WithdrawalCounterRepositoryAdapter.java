@@ -0,0 +1,76 @@
+package com.wirebarley.infrastructure.limit;
+
+import com.wirebarley.domain.limit.WithdrawalCounterRepository;
+import com.wirebarley.domain.limit.WithdrawalPeriod;
+import com.wirebarley.domain.limit.WithdrawalTotals;
+import com.wirebarley.infrastructure.limit.entity.WithdrawalCounterEntity;
+import com.wirebarley.infrastructure.limit.jpa.JpaWithdrawalCounterRepository;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.wirebarley.domain.limit.WithdrawalPeriod.*;
+
+@Repository
+public class WithdrawalCounterRepositoryAdapter implements WithdrawalCounterRepository {
+
+    private final JpaWithdrawalCounterRepository jpaWithdrawalCounterRepository;
+    private final WithdrawalTotalsCache withdrawalTotalsCache;
+    private final boolean mysql;
+
+    public WithdrawalCounterRepositoryAdapter(JpaWithdrawalCounterRepository jpaWithdrawalCounterRepository,
+                                              WithdrawalTotalsCache withdrawalTotalsCache,
+                                              DataSource dataSource) throws MetaDataAccessException {
+        this.jpaWithdrawalCounterRepository = jpaWithdrawalCounterRepository;
+        this.withdrawalTotalsCache = withdrawalTotalsCache;
+        this.mysql = "MySQL".equalsIgnoreCase(JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName));
+    }
+
+    @Transactional
+    @Override
+    public void add(Long accountNumber, Long amount, LocalDate withdrawDate) {
+        if (mysql) {
+            jpaWithdrawalCounterRepository.upsert(accountNumber, DAILY.startOf(withdrawDate), WEEKLY.startOf(withdrawDate), MONTHLY.startOf(withdrawDate), amount);
+        } else {
+            jpaWithdrawalCounterRepository.upsertWithValues(accountNumber, DAILY.startOf(withdrawDate), WEEKLY.startOf(withdrawDate), MONTHLY.startOf(withdrawDate), amount);
+        }
+        withdrawalTotalsCache.reserve(accountNumber, amount, withdrawDate);
+    }
+
+    @Override
+    public WithdrawalTotals findTotals(Long accountNumber, LocalDate withdrawDate) {
+        return withdrawalTotalsCache.get(accountNumber, withdrawDate, () -> loadTotals(accountNumber, withdrawDate));
+    }
+
+    // 기간 시작일이 겹칠 수 있으므로(예: 월요일, 1일) 기간과 시작일이 모두 맞는 행만 고른다.
+    private WithdrawalTotals loadTotals(Long accountNumber, LocalDate withdrawDate) {
+        Map<WithdrawalPeriod, LocalDate> periodStarts = new EnumMap<>(WithdrawalPeriod.class);
+        for (WithdrawalPeriod period : WithdrawalPeriod.values()) {
+            periodStarts.put(period, period.startOf(withdrawDate));
+        }
+
+        Map<WithdrawalPeriod, Long> amounts = new EnumMap<>(WithdrawalPeriod.class);
+        List<WithdrawalCounterEntity> counters = jpaWithdrawalCounterRepository.findAllByAccountNumberAndPeriodStartIn(
+                accountNumber, periodStarts.values().stream().distinct().toList()
+        );
+        for (WithdrawalCounterEntity counter : counters) {
+            if (counter.getPeriodStart().equals(periodStarts.get(counter.getPeriod()))) {
+                amounts.put(counter.getPeriod(), counter.getAmount());
+            }
+        }
+
+        return new WithdrawalTotals(
+                amounts.getOrDefault(DAILY, 0L),
+                amounts.getOrDefault(WEEKLY, 0L),
+                amounts.getOrDefault(MONTHLY, 0L)
+        );
+    }
+}
@@ -0,0 +1,198 @@
+package com.wirebarley.infrastructure.limit;
+
+import com.wirebarley.domain.limit.WithdrawalTotals;
+import com.wirebarley.infrastructure.limit.config.WithdrawalTotalsCacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+// 계좌별 일/주/월 누적 출금액을 메모리에 들고 있어서 이체마다 DB 에서 다시 읽지 않게 한다.
+// 캐시는 하루 단위로 만들고 날짜가 바뀌면(일/주/월 경계를 넘으면) DB 에서 다시 읽는다.
+// 진행 중인 트랜잭션이 더한 금액은 대기 금액으로 들고 있다가, 커밋되면 확정 금액에 합치고 롤백되면 버린다.
+// 같은 기간의 누적 출금액 행은 upsert 로 잠기므로, 한 계좌의 같은 기간에 대한 더하기와 조회는 한 번에 하나씩만 일어난다.
+// 다른 인스턴스가 더한 금액은 이 캐시에 들어오지 않으므로 인스턴스가 하나일 때만 켜야 한다. 기본값은 꺼져 있어서 매번 잠긴 행을 다시 읽는다.
+@Component
+public class WithdrawalTotalsCache {
+
+    private final WithdrawalTotalsCacheProperties properties;
+    private final Map<Long, Entry> entries;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public WithdrawalTotalsCache(WithdrawalTotalsCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > properties.maximumSize();
+            }
+        };
+        this.hitCounter = meterRegistry.counter("transfer.limit.cache.hit");
+        this.missCounter = meterRegistry.counter("transfer.limit.cache.miss");
+        meterRegistry.gauge("transfer.limit.cache.size", Tags.empty(), this, WithdrawalTotalsCache::size);
+    }
+
+    public WithdrawalTotals get(Long accountNumber, LocalDate withdrawDate, Supplier<WithdrawalTotals> loader) {
+        if (!properties.enabled()) {
+            return loader.get();
+        }
+
+        long now = System.nanoTime();
+        synchronized (entries) {
+            Entry entry = entries.get(accountNumber);
+            if (entry != null && entry.date.equals(withdrawDate) && !isIdle(entry, now)) {
+                entry.lastAccessedAt = now;
+                hitCounter.increment();
+                return entry.totals();
+            }
+        }
+
+        missCounter.increment();
+        WithdrawalTotals loaded = loader.get();
+        List<Reservation> ownReservations = currentReservations(accountNumber);
+        synchronized (entries) {
+            // DB 에서 읽은 값에는 이 트랜잭션이 아직 커밋하지 않은 금액이 들어 있으므로 대기 금액으로 옮긴다.
+            Entry entry = new Entry(withdrawDate, loaded, now);
+            for (Reservation reservation : ownReservations) {
+                if (reservation.entry != null) {
+                    reservation.entry.pending.remove(reservation);
+                }
+                entry.committed = entry.committed.minus(reservation.totalsFor(withdrawDate));
+                entry.pending.add(reservation);
+                reservation.entry = entry;
+            }
+            entries.put(accountNumber, entry);
+        }
+        return loaded;
+    }
+
+    // 트랜잭션 안에서 누적 출금액 행을 갱신한 직후에 호출한다.
+    public void reserve(Long accountNumber, Long amount, LocalDate withdrawDate) {
+        if (!properties.enabled() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        Reservation reservation = new Reservation(accountNumber, withdrawDate, amount);
+        transactionReservations().add(reservation);
+        synchronized (entries) {
+            Entry entry = entries.get(accountNumber);
+            if (entry != null) {
+                entry.pending.add(reservation);
+                reservation.entry = entry;
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${wirebarley.transfer.limit.cache.purge-interval:1m}")
+    public void purgeIdle() {
+        long now = System.nanoTime();
+        synchronized (entries) {
+            entries.values().removeIf(entry -> entry.pending.isEmpty() && isIdle(entry, now));
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private boolean isIdle(Entry entry, long now) {
+        return now - entry.lastAccessedAt > properties.expireAfterIdle().toNanos();
+    }
+
+    // 커밋된 금액은 그 금액을 대기 금액으로 들고 있던 캐시가 아직 쓰이고 있을 때만 합친다.
+    // 그 사이 캐시가 비워지거나 다시 읽혔다면 새로 읽은 DB 값에 이미 들어 있다.
+    private void complete(List<Reservation> reservations, boolean committed) {
+        synchronized (entries) {
+            for (Reservation reservation : reservations) {
+                Entry entry = reservation.entry;
+                if (entry == null || !entry.pending.remove(reservation)) {
+                    continue;
+                }
+                if (committed && entries.get(reservation.accountNumber) == entry) {
+                    entry.committed = entry.committed.plus(reservation.totalsFor(entry.date));
+                }
+            }
+        }
+    }
+
+    private List<Reservation> currentReservations(Long accountNumber) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return List.of();
+        }
+        return transactionReservations().stream()
+                .filter(reservation -> reservation.accountNumber.equals(accountNumber))
+                .toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Reservation> transactionReservations() {
+        List<Reservation> reservations = (List<Reservation>) TransactionSynchronizationManager.getResource(this);
+        if (reservations != null) {
+            return reservations;
+        }
+
+        List<Reservation> newReservations = new ArrayList<>();
+        TransactionSynchronizationManager.bindResource(this, newReservations);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(WithdrawalTotalsCache.this);
+                complete(newReservations, status == STATUS_COMMITTED);
+            }
+        });
+        return newReservations;
+    }
+
+    private static class Entry {
+
+        private final LocalDate date;
+        private final List<Reservation> pending = new ArrayList<>();
+        private WithdrawalTotals committed;
+        private long lastAccessedAt;
+
+        private Entry(LocalDate date, WithdrawalTotals committed, long lastAccessedAt) {
+            this.date = date;
+            this.committed = committed;
+            this.lastAccessedAt = lastAccessedAt;
+        }
+
+        private WithdrawalTotals totals() {
+            WithdrawalTotals totals = committed;
+            for (Reservation reservation : pending) {
+                totals = totals.plus(reservation.totalsFor(date));
+            }
+            return totals;
+        }
+    }
+
+    private static class Reservation {
+
+        private final Long accountNumber;
+        private final LocalDate withdrawDate;
+        private final Long amount;
+        private Entry entry;
+
+        private Reservation(Long accountNumber, LocalDate withdrawDate, Long amount) {
+            this.accountNumber = accountNumber;
+            this.withdrawDate = withdrawDate;
+            this.amount = amount;
+        }
+
+        private WithdrawalTotals totalsFor(LocalDate date) {
+            return WithdrawalTotals.of(withdrawDate, amount, date);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.wirebarley.infrastructure.limit.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "wirebarley.transfer.limit")
+public record TransferLimitProperties(
+        Long daily,                      // 정책이 없을 때 쓰는 기본 한도
+        Long weekly,
+        Long monthly,
+        Integer policyCacheSize,         // 계산해 둔 계좌별 한도를 들고 있는 계좌 수
+        Duration policyRefreshInterval   // 다른 서버에서 바꾼 정책을 다시 읽는 주기
+) {
+
+    public TransferLimitProperties {
+        if (daily == null) {
+            daily = 100_000L;
+        }
+
+        if (weekly == null) {
+            weekly = 500_000L;
+        }
+
+        if (monthly == null) {
+            monthly = 2_000_000L;
+        }
+
+        if (policyCacheSize == null || policyCacheSize < 0) {
+            policyCacheSize = 10_000;
+        }
+
+        if (policyRefreshInterval == null) {
+            policyRefreshInterval = Duration.ofMinutes(1);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.wirebarley.infrastructure.limit.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "wirebarley.transfer.limit.cache")
+public record WithdrawalTotalsCacheProperties(
+        Boolean enabled,           // 다른 인스턴스의 출금은 보이지 않으므로 인스턴스가 하나일 때만 켠다
+        Integer maximumSize,       // 메모리에 들고 있는 계좌 수
+        Duration expireAfterIdle,  // 이 시간 동안 조회가 없던 계좌는 다시 DB 에서 읽는다
+        Duration purgeInterval     // 오래 쓰지 않은 계좌를 비우는 주기
+) {
+
+    public WithdrawalTotalsCacheProperties {
+        if (enabled == null) {
+            enabled = false;
+        }
+
+        if (maximumSize == null || maximumSize < 0) {
+            maximumSize = 10_000;
+        }
+
+        if (expireAfterIdle == null) {
+            expireAfterIdle = Duration.ofMinutes(10);
+        }
+
+        if (purgeInterval == null) {
+            purgeInterval = Duration.ofMinutes(1);
+        }
+    }
+}
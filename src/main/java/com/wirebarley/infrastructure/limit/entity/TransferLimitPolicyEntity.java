@@ -0,0 +1,82 @@
+package com.wirebarley.infrastructure.limit.entity;
+
+import com.wirebarley.domain.limit.TransferLimitPolicy;
+import com.wirebarley.domain.limit.TransferLimitPolicyScope;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "transfer_limit_policy")
+@Entity
+public class TransferLimitPolicyEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 10)
+    @Enumerated(EnumType.STRING)
+    private TransferLimitPolicyScope scope;
+
+    @Column(nullable = false, length = 50)
+    private String scopeKey;
+
+    private Long dailyLimit;
+
+    private Long weeklyLimit;
+
+    private Long monthlyLimit;
+
+    private LocalDateTime startsAt;
+
+    private LocalDateTime endsAt;
+
+    private LocalDateTime createdAt;
+
+    @Builder
+    private TransferLimitPolicyEntity(Long id, TransferLimitPolicyScope scope, String scopeKey, Long dailyLimit, Long weeklyLimit, Long monthlyLimit, LocalDateTime startsAt, LocalDateTime endsAt, LocalDateTime createdAt) {
+        this.id = id;
+        this.scope = scope;
+        this.scopeKey = scopeKey;
+        this.dailyLimit = dailyLimit;
+        this.weeklyLimit = weeklyLimit;
+        this.monthlyLimit = monthlyLimit;
+        this.startsAt = startsAt;
+        this.endsAt = endsAt;
+        this.createdAt = createdAt;
+    }
+
+    public static TransferLimitPolicyEntity create(TransferLimitPolicy policy) {
+        return TransferLimitPolicyEntity.builder()
+                .id(policy.getId())
+                .scope(policy.getScope())
+                .scopeKey(policy.getScopeKey())
+                .dailyLimit(policy.getDailyLimit())
+                .weeklyLimit(policy.getWeeklyLimit())
+                .monthlyLimit(policy.getMonthlyLimit())
+                .startsAt(policy.getStartsAt())
+                .endsAt(policy.getEndsAt())
+                .createdAt(policy.getCreatedAt())
+                .build();
+    }
+
+    public TransferLimitPolicy toDomain() {
+        return TransferLimitPolicy.builder()
+                .id(this.id)
+                .scope(this.scope)
+                .scopeKey(this.scopeKey)
+                .dailyLimit(this.dailyLimit)
+                .weeklyLimit(this.weeklyLimit)
+                .monthlyLimit(this.monthlyLimit)
+                .startsAt(this.startsAt)
+                .endsAt(this.endsAt)
+                .createdAt(this.createdAt)
+                .build();
+    }
+}
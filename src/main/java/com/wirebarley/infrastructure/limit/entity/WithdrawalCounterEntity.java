@@ -0,0 +1,37 @@
+package com.wirebarley.infrastructure.limit.entity;
+
+import com.wirebarley.domain.limit.WithdrawalPeriod;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// 계좌별, 기간별 누적 출금액. 행은 (계좌번호, 기간, 기간 시작일) 마다 하나이고 upsert 로만 쌓는다.
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "withdrawal_counter",
+        uniqueConstraints = @UniqueConstraint(name = "uk_withdrawal_counter_account_number_period_start", columnNames = {"account_number", "period_start", "period"})
+)
+@Entity
+public class WithdrawalCounterEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long accountNumber;
+
+    @Column(nullable = false, length = 10)
+    @Enumerated(EnumType.STRING)
+    private WithdrawalPeriod period;
+
+    @Column(nullable = false)
+    private LocalDate periodStart;
+
+    @Column(nullable = false)
+    private Long amount;
+}
@@ -0,0 +1,7 @@
+package com.wirebarley.infrastructure.limit.jpa;
+
+import com.wirebarley.infrastructure.limit.entity.TransferLimitPolicyEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface JpaTransferLimitPolicyRepository extends JpaRepository<TransferLimitPolicyEntity, Long> {
+}
@@ -0,0 +1,50 @@
+package com.wirebarley.infrastructure.limit.jpa;
+
+import com.wirebarley.infrastructure.limit.entity.WithdrawalCounterEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface JpaWithdrawalCounterRepository extends JpaRepository<WithdrawalCounterEntity, Long> {
+
+    // 세 기간의 행을 한 문장으로 만들거나 더한다. 동시에 같은 계좌에서 출금하면 먼저 더한 트랜잭션이 끝날 때까지 기다린다.
+    // MySQL 8.0.20 부터 values() 로 넣으려던 값을 읽는 것이 deprecated 라서 행 별칭(new)으로 읽는다.
+    @Modifying
+    @Query(value = """
+            insert into withdrawal_counter (account_number, period, period_start, amount)
+            values (:accountNumber, 'DAILY', :dayStart, :amount),
+                   (:accountNumber, 'WEEKLY', :weekStart, :amount),
+                   (:accountNumber, 'MONTHLY', :monthStart, :amount) as new
+            on duplicate key update amount = withdrawal_counter.amount + new.amount
+            """, nativeQuery = true)
+    int upsert(
+            @Param("accountNumber") Long accountNumber,
+            @Param("dayStart") LocalDate dayStart,
+            @Param("weekStart") LocalDate weekStart,
+            @Param("monthStart") LocalDate monthStart,
+            @Param("amount") Long amount
+    );
+
+    // H2 의 MySQL 모드는 행 별칭을 지원하지 않으므로 테스트에서는 values() 로 읽는다.
+    @Modifying
+    @Query(value = """
+            insert into withdrawal_counter (account_number, period, period_start, amount)
+            values (:accountNumber, 'DAILY', :dayStart, :amount),
+                   (:accountNumber, 'WEEKLY', :weekStart, :amount),
+                   (:accountNumber, 'MONTHLY', :monthStart, :amount)
+            on duplicate key update amount = amount + values(amount)
+            """, nativeQuery = true)
+    int upsertWithValues(
+            @Param("accountNumber") Long accountNumber,
+            @Param("dayStart") LocalDate dayStart,
+            @Param("weekStart") LocalDate weekStart,
+            @Param("monthStart") LocalDate monthStart,
+            @Param("amount") Long amount
+    );
+
+    List<WithdrawalCounterEntity> findAllByAccountNumberAndPeriodStartIn(Long accountNumber, List<LocalDate> periodStarts);
+}
@@ -0,0 +1,64 @@
+package com.wirebarley.infrastructure.retry;
+
+import com.wirebarley.infrastructure.exception.CustomException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import static com.wirebarley.infrastructure.exception.ExceptionConstant.LOCK_ACQUISITION_FAILED_EXCEPTION;
+
+// 데드락, 락 대기 타임아웃, version 충돌로 롤백된 요청을 다시 실행한다.
+// 트랜잭션 경계 밖에서 재시도해야 하므로 @Transactional 서비스 메서드 호출을 감싸서 사용한다.
+@Slf4j
+@Component
+public class LockRetryExecutor {
+
+    private final LockRetryProperties properties;
+    private final Counter retryCounter;
+    private final Counter failureCounter;
+
+    public LockRetryExecutor(LockRetryProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.retryCounter = meterRegistry.counter("account.lock.retry");
+        this.failureCounter = meterRegistry.counter("account.lock.failure");
+    }
+
+    public <T> T execute(Supplier<T> action) {
+        int attempt = 1;
+        while (true) {
+            try {
+                return action.get();
+            } catch (ConcurrencyFailureException e) {
+                if (attempt >= properties.maxAttempts()) {
+                    failureCounter.increment();
+                    log.warn("락 획득에 {}회 실패했습니다.", attempt, e);
+                    throw new CustomException(LOCK_ACQUISITION_FAILED_EXCEPTION.getMessage());
+                }
+
+                retryCounter.increment();
+                backoff(attempt);
+                attempt++;
+            }
+        }
+    }
+
+    // full jitter: 0 ~ min(maxBackoff, initialBackoff * 2^(attempt-1)) 사이에서 대기
+    private void backoff(int attempt) {
+        long ceiling = Math.min(
+                properties.maxBackoff().toMillis(),
+                properties.initialBackoff().toMillis() << Math.min(attempt - 1, 20)
+        );
+        long sleepMillis = ThreadLocalRandom.current().nextLong(ceiling + 1);
+        try {
+            Thread.sleep(sleepMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(LOCK_ACQUISITION_FAILED_EXCEPTION.getMessage());
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.wirebarley.infrastructure.retry;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "wirebarley.lock-retry")
+public record LockRetryProperties(
+        Integer maxAttempts,      // 최초 시도를 포함한 최대 시도 횟수
+        Duration initialBackoff,  // 첫 재시도 대기시간 상한
+        Duration maxBackoff       // 재시도 대기시간 상한
+) {
+
+    public LockRetryProperties {
+        if (maxAttempts == null || maxAttempts < 1) {
+            maxAttempts = 3;
+        }
+
+        if (initialBackoff == null) {
+            initialBackoff = Duration.ofMillis(20);
+        }
+
+        if (maxBackoff == null) {
+            maxBackoff = Duration.ofMillis(200);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.wirebarley.infrastructure.transaction;
+
+import com.wirebarley.domain.transaction.Transaction;
+import com.wirebarley.infrastructure.transaction.config.AccountStatementProjectionMode;
+import com.wirebarley.infrastructure.transaction.config.AccountStatementProperties;
+import com.wirebarley.infrastructure.transaction.entity.TransactionEntity;
+import com.wirebarley.infrastructure.transaction.jdbc.AccountStatementJdbcRepository;
+import com.wirebarley.infrastructure.transaction.jdbc.AccountStatementRow;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 저장된 거래를 계좌별 거래 명세(account_statement)에 반영한다. 명세 행은 저장할 때 들고 있던 값으로 만들어서 transactions 를 다시 읽지 않는다.
+// SYNC 는 거래를 저장한 트랜잭션 안에서, ASYNC 는 커밋 후 워커가 새 트랜잭션으로 반영한다.
+// ASYNC 에서 반영이 실패한 계좌는 account_statement_failure 에 남겨서 그 계좌만 재생성하고, 반영 전에 서버가 내려간 거래는 전체 재생성으로 채운다.
+// 명세가 바뀌면 그 트랜잭션이 커밋된 뒤에 계좌의 거래 내역 캐시도 버린다.
+@Slf4j
+@Component
+public class AccountStatementProjector implements DisposableBean {
+
+    private final AccountStatementJdbcRepository accountStatementJdbcRepository;
+    private final TransactionHistoryCache transactionHistoryCache;
+    private final TransactionTemplate transactionTemplate;
+    private final AccountStatementProperties properties;
+    private final ThreadPoolExecutor workers;
+    private final Timer lagTimer;
+    private final Counter failureCounter;
+
+    public AccountStatementProjector(AccountStatementJdbcRepository accountStatementJdbcRepository,
+                                     TransactionHistoryCache transactionHistoryCache,
+                                     PlatformTransactionManager transactionManager,
+                                     AccountStatementProperties properties,
+                                     MeterRegistry meterRegistry) {
+        this.accountStatementJdbcRepository = accountStatementJdbcRepository;
+        this.transactionHistoryCache = transactionHistoryCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.properties = properties;
+        this.workers = createWorkers(properties);
+        this.lagTimer = meterRegistry.timer("transaction.statement.projection.lag");
+        this.failureCounter = meterRegistry.counter("transaction.statement.projection.failure");
+        Gauge.builder("transaction.statement.projection.queue.depth", workers, executor -> executor.getQueue().size())
+                .register(meterRegistry);
+    }
+
+    // 거래를 저장한 트랜잭션 안에서, 엔티티에 id 와 생성 시각이 채워진 뒤에 호출한다. transactions 와 transactionEntities 는 같은 순서다.
+    public void project(List<Transaction> transactions, List<TransactionEntity> transactionEntities) {
+        if (transactions.isEmpty()) {
+            return;
+        }
+
+        Projection projection = Projection.of(transactions, transactionEntities);
+        if (properties.mode() == AccountStatementProjectionMode.SYNC) {
+            apply(projection);
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            workers.execute(() -> applyInNewTransaction(projection));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                workers.execute(() -> applyInNewTransaction(projection));
+            }
+        });
+    }
+
+    private void applyInNewTransaction(Projection projection) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> apply(projection));
+        } catch (RuntimeException e) {
+            failureCounter.increment();
+            log.error("거래 {} 를 계좌 거래 명세에 반영하지 못했습니다. 실패한 계좌만 재생성해야 합니다.", projection.transactionIds(), e);
+            recordFailure(projection);
+        }
+    }
+
+    // 실패한 계좌를 남겨서 전체가 아니라 그 계좌들만 재생성할 수 있게 한다. DB 장애로 이것도 못 남기면 로그의 거래로 계좌를 찾아야 한다.
+    private void recordFailure(Projection projection) {
+        try {
+            accountStatementJdbcRepository.upsertFailures(projection.accountIds(), LocalDateTime.now());
+        } catch (RuntimeException e) {
+            log.error("명세 반영에 실패한 계좌 {} 를 기록하지 못했습니다.", projection.accountIds(), e);
+        }
+    }
+
+    private void apply(Projection projection) {
+        accountStatementJdbcRepository.upsertAll(projection.rows());
+        transactionHistoryCache.invalidateAfterCommit(projection.accountIds());
+        lagTimer.record(System.nanoTime() - projection.savedAt(), TimeUnit.NANOSECONDS);
+    }
+
+    // 큐가 가득 차면 커밋한 스레드가 직접 반영해서 밀린 만큼 쓰기 쪽을 늦춘다.
+    private ThreadPoolExecutor createWorkers(AccountStatementProperties properties) {
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(
+                properties.workerCount(), properties.workerCount(), 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.queueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "statement-projector-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        workers.shutdown();
+        workers.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    // savedAt 은 거래를 저장한 시점으로, 명세에 반영될 때까지 걸린 시간을 지연 시간으로 기록한다.
+    private record Projection(
+            List<Long> transactionIds,
+            List<AccountStatementRow> rows,
+            Set<Long> accountIds,
+            long savedAt
+    ) {
+
+        private static Projection of(List<Transaction> transactions, List<TransactionEntity> transactionEntities) {
+            List<Long> transactionIds = new ArrayList<>(transactions.size());
+            List<AccountStatementRow> rows = new ArrayList<>(transactions.size() * 2);
+            Set<Long> accountIds = new HashSet<>();
+            for (int i = 0; i < transactions.size(); i++) {
+                TransactionEntity transactionEntity = transactionEntities.get(i);
+                transactionIds.add(transactionEntity.getId());
+                for (AccountStatementRow row : AccountStatementRow.of(transactionEntity.getId(), transactionEntity.getCreatedAt(), transactions.get(i))) {
+                    rows.add(row);
+                    accountIds.add(row.accountId());
+                }
+            }
+            return new Projection(transactionIds, rows, accountIds, System.nanoTime());
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.wirebarley.infrastructure.transaction;
+
+import com.wirebarley.domain.transaction.AccountStatementRepository;
+import com.wirebarley.domain.transaction.dto.AccountStatementBalance;
+import com.wirebarley.infrastructure.transaction.jdbc.AccountStatementJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+@Repository
+public class AccountStatementRepositoryAdapter implements AccountStatementRepository {
+
+    private final AccountStatementJdbcRepository accountStatementJdbcRepository;
+    private final TransactionHistoryCache transactionHistoryCache;
+
+    // 지우고 다시 넣는 것을 한 트랜잭션으로 묶어서, 재생성 중에도 조회에는 이전 명세나 새 명세 중 하나만 보인다.
+    @Transactional
+    @Override
+    public int rebuild(Long accountId) {
+        LocalDateTime rebuiltAt = LocalDateTime.now();
+        accountStatementJdbcRepository.deleteByAccountId(accountId);
+        int count = accountStatementJdbcRepository.insertByAccountId(accountId);
+        accountStatementJdbcRepository.deleteFailureBefore(accountId, rebuiltAt);
+        transactionHistoryCache.invalidateAfterCommit(List.of(accountId));
+        return count;
+    }
+
+    @Override
+    public List<Long> findFailedAccountIdsAfter(Long accountId, int limit) {
+        return accountStatementJdbcRepository.findFailedAccountIdsAfter(accountId, limit);
+    }
+
+    // 세 번 나눠 읽는 합계와 첫/마지막 명세가 같은 시점을 보도록 한 트랜잭션으로 읽는다.
+    @Transactional(readOnly = true)
+    @Override
+    public AccountStatementBalance summarize(Long accountId) {
+        return accountStatementJdbcRepository.summarize(accountId);
+    }
+}
@@ -0,0 +1,256 @@
+package com.wirebarley.infrastructure.transaction;
+
+import com.wirebarley.domain.transaction.TransactionType;
+import com.wirebarley.domain.transaction.dto.TransactionCursor;
+import com.wirebarley.domain.transaction.dto.TransactionHistory;
+import com.wirebarley.domain.transaction.dto.TransactionRetrieveQuery;
+import com.wirebarley.infrastructure.datasource.ReadWriteRoutingDataSource;
+import com.wirebarley.infrastructure.datasource.ReplicaDataSourceProperties;
+import com.wirebarley.infrastructure.transaction.config.TransactionHistoryCacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+// 계좌의 거래 종류·조회 기간별로 최근 거래 pages × pageSize 건을 메모리에 들고 있다.
+// 거래 내역 조회는 대부분 앞쪽 몇 페이지이므로, offset 이나 커서가 이 범위 안이면 DB 를 읽지 않고 잘라서 내려준다.
+// 계좌에 거래가 저장되면 커밋된 뒤에 그 계좌의 캐시를 통째로 버리고 계좌의 버전을 올린다.
+// 버린 뒤에 그 거래가 커밋되기 전의 스냅샷으로 읽은 결과가 들어오지 않도록, 읽기 트랜잭션을 시작하기 전에 잡은 버전이 그대로일 때만 넣는다.
+// 다른 인스턴스에서 저장한 거래는 이 캐시를 버리지 못하므로 넣은 뒤 expireAfterWrite 가 지나면 다시 읽는다.
+// 복제가 늦는 레플리카에서 읽은 결과는 넣지 않는다.
+@Component
+public class TransactionHistoryCache {
+
+    private static final int MAXIMUM_HEADS_PER_ACCOUNT = 8;
+    private static final int VERSION_STRIPES = 1024; // 계좌 id 를 이 수로 나눈 나머지마다 버전을 하나씩 둔다
+
+    private final TransactionHistoryCacheProperties properties;
+    private final ReplicaDataSourceProperties replicaDataSourceProperties;
+    private final TransactionTemplate readTransaction;
+    private final Map<Long, AccountEntry> entries;
+    private final long[] versions = new long[VERSION_STRIPES];
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter invalidationCounter;
+
+    public TransactionHistoryCache(TransactionHistoryCacheProperties properties,
+                                   ReplicaDataSourceProperties replicaDataSourceProperties,
+                                   PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.replicaDataSourceProperties = replicaDataSourceProperties;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, AccountEntry> eldest) {
+                return size() > properties.maximumSize();
+            }
+        };
+        this.hitCounter = meterRegistry.counter("transaction.history.cache.hit");
+        this.missCounter = meterRegistry.counter("transaction.history.cache.miss");
+        this.invalidationCounter = meterRegistry.counter("transaction.history.cache.invalidation");
+        meterRegistry.gauge("transaction.history.cache.size", Tags.empty(), this, TransactionHistoryCache::size);
+    }
+
+    // 캐시에 넣을 수 있도록 트랜잭션 밖에서 호출한다. 이미 열린 트랜잭션 안에서 부르면 스냅샷이 버전보다 먼저 잡혔을 수 있어 읽기만 하고 넣지 않는다.
+    public List<TransactionHistory> find(TransactionRetrieveQuery query, Function<TransactionRetrieveQuery, List<TransactionHistory>> loader) {
+        if (!properties.enabled()) {
+            return read(loader, query);
+        }
+
+        HeadKey key = HeadKey.of(query);
+        long now = System.nanoTime();
+        Head head;
+        long version;
+        synchronized (entries) {
+            AccountEntry accountEntry = entries.get(query.accountId());
+            head = accountEntry == null ? null : accountEntry.heads.get(key);
+            version = versions[stripe(query.accountId())];
+        }
+
+        List<TransactionHistory> page = head == null || isExpired(head, now) ? null : head.page(query);
+        if (page != null) {
+            hitCounter.increment();
+            return page;
+        }
+
+        // 캐시 범위 밖의 페이지나, 앞 페이지를 읽은 적 없는 커서 요청은 요청한 페이지만 읽는다.
+        missCounter.increment();
+        if (query.cursor() != null || query.offset() + query.count() > headSize()) {
+            return read(loader, query);
+        }
+
+        boolean cacheable = !TransactionSynchronizationManager.isActualTransactionActive();
+        LoadedHead loaded = readTransaction.execute(status -> new LoadedHead(
+                Head.of(loader.apply(headQuery(query)), headSize(), now),
+                isReplicaRead()
+        ));
+        if (cacheable && !loaded.fromReplica()) {
+            synchronized (entries) {
+                if (versions[stripe(query.accountId())] == version) {
+                    entries.computeIfAbsent(query.accountId(), accountId -> new AccountEntry()).heads.put(key, loaded.head());
+                }
+            }
+        }
+        return loaded.head().page(query);
+    }
+
+    // 거래를 저장한 트랜잭션 안에서 호출한다. 커밋되면 계좌들의 캐시를 버리고, 롤백되면 아무것도 하지 않는다.
+    public void invalidateAfterCommit(Collection<Long> accountIds) {
+        if (!properties.enabled()) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(accountIds);
+            return;
+        }
+        transactionAccountIds().addAll(accountIds);
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private void invalidate(Collection<Long> accountIds) {
+        synchronized (entries) {
+            for (Long accountId : accountIds) {
+                versions[stripe(accountId)]++;
+                AccountEntry removed = entries.remove(accountId);
+                if (removed != null && !removed.heads.isEmpty()) {
+                    invalidationCounter.increment();
+                }
+            }
+        }
+    }
+
+    private List<TransactionHistory> read(Function<TransactionRetrieveQuery, List<TransactionHistory>> loader, TransactionRetrieveQuery query) {
+        return readTransaction.execute(status -> loader.apply(query));
+    }
+
+    private boolean isReplicaRead() {
+        return replicaDataSourceProperties.enabled() && ReadWriteRoutingDataSource.isReplicaRead();
+    }
+
+    private boolean isExpired(Head head, long now) {
+        return now - head.loadedAt() > properties.expireAfterWrite().toNanos();
+    }
+
+    private int stripe(Long accountId) {
+        return Math.floorMod(accountId.hashCode(), VERSION_STRIPES);
+    }
+
+    private int headSize() {
+        return properties.pages() * properties.pageSize();
+    }
+
+    // 다 읽었는지 알기 위해 한 건 더 읽는다.
+    private TransactionRetrieveQuery headQuery(TransactionRetrieveQuery query) {
+        return TransactionRetrieveQuery.builder()
+                .offset(0)
+                .count(headSize() + 1)
+                .accountId(query.accountId())
+                .type(query.type())
+                .from(query.from())
+                .to(query.to())
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<Long> transactionAccountIds() {
+        Set<Long> accountIds = (Set<Long>) TransactionSynchronizationManager.getResource(this);
+        if (accountIds != null) {
+            return accountIds;
+        }
+
+        Set<Long> newAccountIds = new HashSet<>();
+        TransactionSynchronizationManager.bindResource(this, newAccountIds);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(TransactionHistoryCache.this);
+                if (status == STATUS_COMMITTED) {
+                    invalidate(newAccountIds);
+                }
+            }
+        });
+        return newAccountIds;
+    }
+
+    private static class AccountEntry {
+
+        private final Map<HeadKey, Head> heads = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<HeadKey, Head> eldest) {
+                return size() > MAXIMUM_HEADS_PER_ACCOUNT;
+            }
+        };
+    }
+
+    private record HeadKey(
+            TransactionType type,
+            LocalDateTime from,
+            LocalDateTime to
+    ) {
+
+        private static HeadKey of(TransactionRetrieveQuery query) {
+            return new HeadKey(query.type(), query.from(), query.to());
+        }
+    }
+
+    private record LoadedHead(
+            Head head,
+            boolean fromReplica
+    ) {
+    }
+
+    // 최신순으로 정렬된 앞쪽 거래. complete 면 조회 기간의 거래가 전부 들어 있다. loadedAt 은 읽기 시작한 시각(System.nanoTime)이다.
+    private record Head(
+            List<TransactionHistory> histories,
+            boolean complete,
+            long loadedAt
+    ) {
+
+        private static Head of(List<TransactionHistory> loaded, int headSize, long loadedAt) {
+            boolean complete = loaded.size() <= headSize;
+            return new Head(List.copyOf(complete ? loaded : loaded.subList(0, headSize)), complete, loadedAt);
+        }
+
+        // 요청한 범위를 전부 들고 있을 때만 잘라서 돌려주고, 아니면 null 이다.
+        private List<TransactionHistory> page(TransactionRetrieveQuery query) {
+            int start = query.cursor() == null ? query.offset() : indexAfter(query.cursor());
+            int end = start + query.count();
+            if (end > histories.size() && !complete) {
+                return null;
+            }
+            return histories.subList(Math.min(start, histories.size()), Math.min(end, histories.size()));
+        }
+
+        private int indexAfter(TransactionCursor cursor) {
+            for (int i = 0; i < histories.size(); i++) {
+                TransactionHistory history = histories.get(i);
+                if (history.createdAt().isBefore(cursor.createdAt())
+                        || (history.createdAt().isEqual(cursor.createdAt()) && history.id() < cursor.id())) {
+                    return i;
+                }
+            }
+            return histories.size();
+        }
+    }
+}
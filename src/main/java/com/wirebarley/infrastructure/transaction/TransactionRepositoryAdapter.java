@@ -1,17 +1,28 @@
 package com.wirebarley.infrastructure.transaction;
 
+import com.wirebarley.domain.account.Account;
 import com.wirebarley.domain.transaction.Transaction;
 import com.wirebarley.domain.transaction.TransactionRepository;
 import com.wirebarley.domain.transaction.TransactionType;
+import com.wirebarley.domain.transaction.dto.TransactionExportQuery;
+import com.wirebarley.domain.transaction.dto.TransactionHistory;
 import com.wirebarley.domain.transaction.dto.TransactionRetrieveQuery;
+import com.wirebarley.infrastructure.account.entity.AccountEntity;
+import com.wirebarley.infrastructure.transaction.entity.AccountStatementEntity;
 import com.wirebarley.infrastructure.transaction.entity.TransactionEntity;
+import com.wirebarley.infrastructure.transaction.jdbc.TransactionJdbcRepository;
+import com.wirebarley.infrastructure.transaction.jpa.AccountStatementRepositoryDSL;
 import com.wirebarley.infrastructure.transaction.jpa.JpaTransactionRepository;
 import com.wirebarley.infrastructure.transaction.jpa.TransactionRepositoryDSL;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 @RequiredArgsConstructor
 @Repository
@@ -19,13 +30,52 @@ public class TransactionRepositoryAdapter implements TransactionRepository {
 
     private final JpaTransactionRepository jpaTransactionRepository;
     private final TransactionRepositoryDSL transactionRepositoryDSL;
+    private final TransactionJdbcRepository transactionJdbcRepository;
+    private final EntityManager entityManager;
+    private final AccountStatementRepositoryDSL accountStatementRepositoryDSL;
+    private final AccountStatementProjector accountStatementProjector;
+    private final TransactionHistoryCache transactionHistoryCache;
 
+    @Transactional
     @Override
     public Transaction save(Transaction transaction) {
+        TransactionEntity transactionEntity = jpaTransactionRepository.save(create(transaction));
+        accountStatementProjector.project(List.of(transaction), List.of(transactionEntity));
+        return transactionEntity.toDomain(transaction.getWithdrawAccount(), transaction.getDepositAccount());
+    }
+
+    @Transactional
+    @Override
+    public List<Transaction> saveAll(List<Transaction> transactions) {
+        List<TransactionEntity> transactionEntities = jpaTransactionRepository.saveAll(
+                transactions.stream()
+                        .map(this::create)
+                        .toList()
+        );
+        accountStatementProjector.project(transactions, transactionEntities);
+
+        List<Transaction> savedTransactions = new ArrayList<>(transactions.size());
+        for (int i = 0; i < transactions.size(); i++) {
+            Transaction transaction = transactions.get(i);
+            savedTransactions.add(transactionEntities.get(i).toDomain(transaction.getWithdrawAccount(), transaction.getDepositAccount()));
+        }
+        return savedTransactions;
+    }
 
-        TransactionEntity transactionEntity = TransactionEntity.create(transaction);
-        return jpaTransactionRepository.save(transactionEntity)
-                .toDomain();
+    // id 를 시퀀스에서 미리 받으므로 INSERT 는 flush 시점에 batch 로 묶여서 나간다.
+    @Transactional
+    @Override
+    public List<Long> saveAllInBatch(List<Transaction> transactions) {
+        List<TransactionEntity> transactionEntities = jpaTransactionRepository.saveAll(
+                transactions.stream()
+                        .map(this::create)
+                        .toList()
+        );
+        accountStatementProjector.project(transactions, transactionEntities);
+
+        return transactionEntities.stream()
+                .map(TransactionEntity::getId)
+                .toList();
     }
 
     @Override
@@ -34,11 +84,35 @@ public class TransactionRepositoryAdapter implements TransactionRepository {
         return totalAmount == null ? 0 : totalAmount;
     }
 
+    // 계좌 명세에서 (계좌, 시각, 거래) 순서로 한 페이지를 고른 뒤 그 거래만 읽는다.
     @Override
     public List<Transaction> findTransactions(TransactionRetrieveQuery dto) {
-        return transactionRepositoryDSL.findTransactions(dto)
+        return transactionRepositoryDSL.findTransactions(accountStatementRepositoryDSL.findStatements(dto))
                 .stream()
                 .map(TransactionEntity::toDomain)
                 .toList();
     }
+
+    // 거래 내역은 계좌별 거래 명세에서 읽는다.
+    @Override
+    public List<TransactionHistory> findTransactionHistories(TransactionRetrieveQuery dto) {
+        return transactionHistoryCache.find(dto, query -> accountStatementRepositoryDSL.findStatements(query)
+                .stream()
+                .map(AccountStatementEntity::toHistory)
+                .toList());
+    }
+
+    @Override
+    public void streamTransactionHistories(TransactionExportQuery query, Consumer<TransactionHistory> handler) {
+        transactionJdbcRepository.streamHistories(query, handler);
+    }
+
+    // 계좌는 이미 같은 트랜잭션에서 읽었으므로 getReference 로 FK 만 연결한다.
+    private TransactionEntity create(Transaction transaction) {
+        return TransactionEntity.create(transaction, getReference(transaction.getWithdrawAccount()), getReference(transaction.getDepositAccount()));
+    }
+
+    private AccountEntity getReference(Account account) {
+        return account == null ? null : entityManager.getReference(AccountEntity.class, account.getId());
+    }
 }
@@ -0,0 +1,7 @@
+package com.wirebarley.infrastructure.transaction.config;
+
+public enum AccountStatementProjectionMode {
+    SYNC,  // 거래를 저장한 트랜잭션 안에서 명세 행을 넣는다. 커밋되면 바로 조회된다
+    ASYNC  // 커밋 후 워커가 별도 트랜잭션으로 넣는다. 쓰기 경로는 짧아지지만 조회에 지연이 생긴다
+    ;
+}
@@ -0,0 +1,25 @@
+package com.wirebarley.infrastructure.transaction.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "wirebarley.transaction.statement")
+public record AccountStatementProperties(
+        AccountStatementProjectionMode mode,
+        Integer workerCount,    // ASYNC 모드에서 명세 행을 넣는 워커 스레드 수
+        Integer queueCapacity   // ASYNC 모드에서 반영을 기다리는 거래 묶음 최대 개수, 가득 차면 커밋한 스레드가 직접 넣는다
+) {
+
+    public AccountStatementProperties {
+        if (mode == null) {
+            mode = AccountStatementProjectionMode.SYNC;
+        }
+
+        if (workerCount == null || workerCount < 1) {
+            workerCount = 1;
+        }
+
+        if (queueCapacity == null || queueCapacity < 1) {
+            queueCapacity = 10_000;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.wirebarley.infrastructure.transaction.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "wirebarley.transaction.history.cache")
+public record TransactionHistoryCacheProperties(
+        Boolean enabled,
+        Integer maximumSize,  // 메모리에 들고 있는 계좌 수
+        Integer pages,        // 계좌마다 들고 있는 앞쪽 페이지 수
+        Integer pageSize,     // 한 페이지 건수. pages × pageSize 건까지 DB 를 읽지 않고 내려준다
+        Duration expireAfterWrite  // 읽어 넣은 뒤 이 시간이 지나면 다시 읽는다. 다른 인스턴스에서 저장한 거래는 이 시간까지 늦게 보일 수 있다
+) {
+
+    public TransactionHistoryCacheProperties {
+        if (enabled == null) {
+            enabled = true;
+        }
+
+        if (maximumSize == null || maximumSize < 0) {
+            maximumSize = 10_000;
+        }
+
+        if (pages == null || pages < 1) {
+            pages = 5;
+        }
+
+        if (pageSize == null || pageSize < 1) {
+            pageSize = 10;
+        }
+
+        if (expireAfterWrite == null) {
+            expireAfterWrite = Duration.ofSeconds(5);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.wirebarley.infrastructure.transaction.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Period;
+
+@ConfigurationProperties(prefix = "wirebarley.transaction.history")
+public record TransactionHistoryProperties(
+        Period defaultPeriod  // 조회 시작일이 없을 때 종료일부터 거슬러 올라가 읽는 기간
+) {
+
+    public TransactionHistoryProperties {
+        if (defaultPeriod == null) {
+            defaultPeriod = Period.ofMonths(3);
+        }
+    }
+}
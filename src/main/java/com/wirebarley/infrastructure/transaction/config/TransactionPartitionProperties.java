@@ -0,0 +1,32 @@
+package com.wirebarley.infrastructure.transaction.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "wirebarley.transaction.partition")
+public record TransactionPartitionProperties(
+        Boolean enabled,          // transactions 가 월 단위로 파티션된 MySQL 에서만 켠다
+        Integer monthsAhead,      // 이번 달 뒤로 미리 만들어 둘 월별 파티션 수
+        Integer retentionMonths,  // 이번 달 기준 이 달 수보다 오래된 파티션은 별도 테이블로 떼어 낸다. 0 이면 떼어 내지 않는다
+        Duration manageInterval   // 파티션을 확인하는 주기
+) {
+
+    public TransactionPartitionProperties {
+        if (enabled == null) {
+            enabled = false;
+        }
+
+        if (monthsAhead == null || monthsAhead < 1) {
+            monthsAhead = 3;
+        }
+
+        if (retentionMonths == null || retentionMonths < 0) {
+            retentionMonths = 0;
+        }
+
+        if (manageInterval == null) {
+            manageInterval = Duration.ofHours(6);
+        }
+    }
+}
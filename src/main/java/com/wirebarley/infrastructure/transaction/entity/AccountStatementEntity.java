@@ -0,0 +1,83 @@
+package com.wirebarley.infrastructure.transaction.entity;
+
+import com.wirebarley.domain.transaction.TransactionType;
+import com.wirebarley.domain.transaction.dto.TransactionHistory;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+// 거래 내역 조회용 계좌별 거래 명세. 행은 AccountStatementProjector 가 SQL 로 넣고, 엔티티로는 읽기만 한다.
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Immutable
+@IdClass(AccountStatementEntity.Key.class)
+@Table(
+        name = "account_statement",
+        indexes = @Index(name = "idx_account_statement_account_id_type_created_at", columnList = "account_id, type, created_at, transaction_id")
+)
+@Entity
+public class AccountStatementEntity {
+
+    @Id
+    private Long accountId;
+
+    @Id
+    private LocalDateTime createdAt;
+
+    @Id
+    private Long transactionId;
+
+    private Long accountNumber;
+
+    private Long counterpartyAccountNumber;
+
+    private String counterpartyName;
+
+    private Long amount; // 잔액이 바뀐 만큼. 입금은 +, 출금은 - 이고 이체를 보낸 쪽은 수수료까지 포함한다
+
+    private Long transferCharge;
+
+    private Long balance; // 거래 직후 계좌 잔액
+
+    private Long counterpartyBalance; // 거래 직후 상대 계좌 잔액, 입출금처럼 상대 계좌가 없으면 null
+
+    @Enumerated(EnumType.STRING)
+    private TransactionType type;
+
+    private String sender;
+
+    private String receiver;
+
+    // 조회한 계좌가 보낸 쪽인지 받은 쪽인지에 따라 출금/입금 계좌 잔액을 되돌려서 거래 원장과 같은 모양으로 내려준다.
+    public TransactionHistory toHistory() {
+        boolean outgoing = amount < 0;
+        return new TransactionHistory(
+                transactionId,
+                outgoing ? accountNumber : counterpartyAccountNumber,
+                outgoing ? counterpartyAccountNumber : accountNumber,
+                outgoing ? -amount - transferCharge : amount,
+                outgoing ? balance : counterpartyBalance,
+                outgoing ? counterpartyBalance : balance,
+                type,
+                sender,
+                receiver,
+                createdAt,
+                createdAt
+        );
+    }
+
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    public static class Key implements Serializable {
+
+        private Long accountId;
+        private LocalDateTime createdAt;
+        private Long transactionId;
+    }
+}
@@ -13,12 +13,20 @@ import lombok.NoArgsConstructor;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "transactions")
+@Table(
+        name = "transactions",
+        indexes = {
+                @Index(name = "idx_transactions_withdraw_account_id_type_created_at_id", columnList = "withdraw_account_id, type, created_at, id, amount"),
+                @Index(name = "idx_transactions_deposit_account_id_type_created_at_id", columnList = "deposit_account_id, type, created_at, id")
+        }
+)
 @Entity
 public class TransactionEntity extends BaseEntity {
 
+    // 풀링된 시퀀스로 id 를 미리 받아 두므로 INSERT 가 hibernate.jdbc.batch_size 만큼 묶여서 나간다.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transaction_id_generator")
+    @SequenceGenerator(name = "transaction_id_generator", sequenceName = "transactions_seq", allocationSize = 100)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -29,6 +37,8 @@ public class TransactionEntity extends BaseEntity {
 
     private Long amount;
 
+    private Long transferCharge;
+
     private Long withdrawAccountBalance;
 
     private Long depositAccountBalance;
@@ -41,11 +51,12 @@ public class TransactionEntity extends BaseEntity {
     private String receiver;
 
     @Builder
-    private TransactionEntity(Long id, AccountEntity withdrawAccount, AccountEntity depositAccount, Long amount, Long withdrawAccountBalance, Long depositAccountBalance, TransactionType type, String sender, String receiver) {
+    private TransactionEntity(Long id, AccountEntity withdrawAccount, AccountEntity depositAccount, Long amount, Long transferCharge, Long withdrawAccountBalance, Long depositAccountBalance, TransactionType type, String sender, String receiver) {
         this.id = id;
         this.withdrawAccount = withdrawAccount;
         this.depositAccount = depositAccount;
         this.amount = amount;
+        this.transferCharge = transferCharge;
         this.withdrawAccountBalance = withdrawAccountBalance;
         this.depositAccountBalance = depositAccountBalance;
         this.type = type;
@@ -53,14 +64,13 @@ public class TransactionEntity extends BaseEntity {
         this.receiver = receiver;
     }
 
-    public static TransactionEntity create(Transaction transaction) {
-
-        AccountEntity withdrawAccount = transaction.getWithdrawAccount() != null ? AccountEntity.create(transaction.getWithdrawAccount()) : null;
-        AccountEntity depositAccount = transaction.getDepositAccount() != null ? AccountEntity.create(transaction.getDepositAccount()) : null;
+    // 계좌 연관은 getReference 로 얻은 엔티티를 받아서 계좌를 다시 읽거나 merge 하지 않는다.
+    public static TransactionEntity create(Transaction transaction, AccountEntity withdrawAccount, AccountEntity depositAccount) {
         return TransactionEntity.builder()
                 .withdrawAccount(withdrawAccount)
                 .depositAccount(depositAccount)
                 .amount(transaction.getAmount())
+                .transferCharge(transaction.getTransferCharge())
                 .withdrawAccountBalance(transaction.getWithdrawAccountBalance())
                 .depositAccountBalance(transaction.getDepositAccountBalance())
                 .type(transaction.getType())
@@ -72,16 +82,24 @@ public class TransactionEntity extends BaseEntity {
     public Transaction toDomain() {
         Account withdrawAccount = this.withdrawAccount != null ? this.withdrawAccount.toDomain() : null;
         Account depositAccount = this.depositAccount != null ? this.depositAccount.toDomain() : null;
+        return toDomain(withdrawAccount, depositAccount);
+    }
+
+    // 저장 직후에는 계좌 프록시를 초기화하지 않도록 저장할 때 넘긴 도메인 계좌를 그대로 쓴다.
+    public Transaction toDomain(Account withdrawAccount, Account depositAccount) {
         return Transaction.builder()
                 .id(this.id)
                 .withdrawAccount(withdrawAccount)
                 .depositAccount(depositAccount)
                 .amount(this.amount)
+                .transferCharge(this.transferCharge)
                 .withdrawAccountBalance(this.withdrawAccountBalance)
                 .depositAccountBalance(this.depositAccountBalance)
                 .type(this.type)
                 .sender(this.sender)
                 .receiver(this.receiver)
+                .createdAt(this.getCreatedAt())
+                .modifiedAt(this.getModifiedAt())
                 .build();
     }
 }
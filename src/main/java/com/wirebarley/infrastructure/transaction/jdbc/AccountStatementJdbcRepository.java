@@ -0,0 +1,137 @@
+package com.wirebarley.infrastructure.transaction.jdbc;
+
+import com.wirebarley.domain.transaction.dto.AccountStatementBalance;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+// 계좌별 거래 명세를 넣는다. 새 거래는 저장할 때 들고 있던 값으로 바로 넣고, 재생성은 거래 원장(transactions)을 읽어서 다시 만든다.
+// 명세 금액은 계좌 잔액이 바뀐 만큼이라 이체를 보낸 쪽은 수수료까지 포함해서 뺀다.
+// 이미 있는 명세 행은 PK 중복으로 건너뛰므로 같은 거래를 여러 번 반영하거나 재생성과 겹쳐도 중복되지 않는다.
+@Repository
+public class AccountStatementJdbcRepository {
+
+    // transactions 나 account_statement 를 읽지 않으므로, 거래를 저장하는 트랜잭션 안에서 넣어도 읽은 범위에 공유 잠금이나 갭 잠금을 걸지 않는다.
+    // 이미 있는 행이면 그 PK 행만 잠그고 아무것도 바꾸지 않는다.
+    private static final String UPSERT = """
+            insert into account_statement (account_id, created_at, transaction_id, account_number, counterparty_account_number, counterparty_name, amount, transfer_charge, balance, counterparty_balance, type, sender, receiver)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            on duplicate key update transaction_id = transaction_id
+            """;
+
+    private static final String INSERT_WITHDRAW_SIDE = """
+            insert into account_statement (account_id, created_at, transaction_id, account_number, counterparty_account_number, counterparty_name, amount, transfer_charge, balance, counterparty_balance, type, sender, receiver)
+            select t.withdraw_account_id, t.created_at, t.id, a.account_number, c.account_number, t.receiver, -(t.amount + t.transfer_charge), t.transfer_charge, t.withdraw_account_balance, t.deposit_account_balance, t.type, t.sender, t.receiver
+            from transactions t
+            join account a on a.id = t.withdraw_account_id
+            left join account c on c.id = t.deposit_account_id
+            where t.withdraw_account_id = ?
+            and not exists (
+                select 1 from account_statement s
+                where s.account_id = t.withdraw_account_id and s.created_at = t.created_at and s.transaction_id = t.id
+            )
+            """;
+
+    private static final String INSERT_DEPOSIT_SIDE = """
+            insert into account_statement (account_id, created_at, transaction_id, account_number, counterparty_account_number, counterparty_name, amount, transfer_charge, balance, counterparty_balance, type, sender, receiver)
+            select t.deposit_account_id, t.created_at, t.id, a.account_number, c.account_number, t.sender, t.amount, 0, t.deposit_account_balance, t.withdraw_account_balance, t.type, t.sender, t.receiver
+            from transactions t
+            join account a on a.id = t.deposit_account_id
+            left join account c on c.id = t.withdraw_account_id
+            where t.deposit_account_id = ?
+            and not exists (
+                select 1 from account_statement s
+                where s.account_id = t.deposit_account_id and s.created_at = t.created_at and s.transaction_id = t.id
+            )
+            """;
+
+    private static final String UPSERT_FAILURE = """
+            insert into account_statement_failure (account_id, failed_at)
+            values (?, ?)
+            on duplicate key update failed_at = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AccountStatementJdbcRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    public void upsertAll(List<AccountStatementRow> rows) {
+        jdbcTemplate.batchUpdate(UPSERT, rows, rows.size(), (ps, row) -> {
+            ps.setLong(1, row.accountId());
+            ps.setTimestamp(2, Timestamp.valueOf(row.createdAt()));
+            ps.setLong(3, row.transactionId());
+            ps.setObject(4, row.accountNumber(), Types.BIGINT);
+            ps.setObject(5, row.counterpartyAccountNumber(), Types.BIGINT);
+            ps.setString(6, row.counterpartyName());
+            ps.setLong(7, row.amount());
+            ps.setLong(8, row.transferCharge());
+            ps.setObject(9, row.balance(), Types.BIGINT);
+            ps.setObject(10, row.counterpartyBalance(), Types.BIGINT);
+            ps.setString(11, row.type().name());
+            ps.setString(12, row.sender());
+            ps.setString(13, row.receiver());
+        });
+    }
+
+    // 재생성은 같은 트랜잭션에서 계좌의 명세를 지운 뒤에 부르므로, 그 사이 새 거래가 넣은 행만 NOT EXISTS 로 건너뛴다.
+    public int insertByAccountId(Long accountId) {
+        return jdbcTemplate.update(INSERT_WITHDRAW_SIDE, accountId) + jdbcTemplate.update(INSERT_DEPOSIT_SIDE, accountId);
+    }
+
+    public int deleteByAccountId(Long accountId) {
+        return jdbcTemplate.update("delete from account_statement where account_id = ?", accountId);
+    }
+
+    public void upsertFailures(Collection<Long> accountIds, LocalDateTime failedAt) {
+        Timestamp timestamp = Timestamp.valueOf(failedAt);
+        jdbcTemplate.batchUpdate(UPSERT_FAILURE, accountIds, accountIds.size(), (ps, accountId) -> {
+            ps.setLong(1, accountId);
+            ps.setTimestamp(2, timestamp);
+            ps.setTimestamp(3, timestamp);
+        });
+    }
+
+    // 재생성을 시작한 뒤에 다시 실패한 반영은 재생성 결과에 없을 수 있으므로 남겨 둔다.
+    public int deleteFailureBefore(Long accountId, LocalDateTime rebuiltAt) {
+        return jdbcTemplate.update("delete from account_statement_failure where account_id = ? and failed_at < ?", accountId, Timestamp.valueOf(rebuiltAt));
+    }
+
+    public List<Long> findFailedAccountIdsAfter(Long accountId, int limit) {
+        return jdbcTemplate.queryForList(
+                "select account_id from account_statement_failure where account_id > ? order by account_id limit ?", Long.class, accountId, limit);
+    }
+
+    // 합계와 첫/마지막 명세 모두 계좌의 PK 범위만 읽는다.
+    public AccountStatementBalance summarize(Long accountId) {
+        Map<String, Object> total = jdbcTemplate.queryForMap(
+                "select count(*) as cnt, coalesce(sum(amount), 0) as amount_sum from account_statement where account_id = ?", accountId);
+
+        return new AccountStatementBalance(
+                ((Number) total.get("cnt")).longValue(),
+                findBalance(accountId, "balance - amount", "asc"),
+                ((Number) total.get("amount_sum")).longValue(),
+                findBalance(accountId, "balance", "desc")
+        );
+    }
+
+    private Long findBalance(Long accountId, String expression, String direction) {
+        return jdbcTemplate.query(
+                        "select " + expression + " from account_statement where account_id = ?"
+                                + " order by created_at " + direction + ", transaction_id " + direction + " limit 1",
+                        (rs, rowNum) -> rs.getObject(1, Long.class),
+                        accountId
+                )
+                .stream()
+                .findFirst()
+                .orElse(null);
+    }
+}
@@ -0,0 +1,71 @@
+package com.wirebarley.infrastructure.transaction.jdbc;
+
+import com.wirebarley.domain.account.Account;
+import com.wirebarley.domain.transaction.Transaction;
+import com.wirebarley.domain.transaction.TransactionType;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// account_statement 한 행. 거래를 저장할 때 이미 들고 있는 값으로 만들어서 transactions 를 다시 읽지 않고 넣는다.
+public record AccountStatementRow(
+        Long accountId,
+        LocalDateTime createdAt,
+        Long transactionId,
+        Long accountNumber,
+        Long counterpartyAccountNumber,
+        String counterpartyName,
+        Long amount,
+        Long transferCharge,
+        Long balance,
+        Long counterpartyBalance,
+        TransactionType type,
+        String sender,
+        String receiver
+) {
+
+    // 출금 계좌 쪽과 입금 계좌 쪽 명세를 한 행씩 만든다. 금액은 잔액이 바뀐 만큼이라 보낸 쪽은 수수료까지 뺀다.
+    public static List<AccountStatementRow> of(Long transactionId, LocalDateTime createdAt, Transaction transaction) {
+        Account withdrawAccount = transaction.getWithdrawAccount();
+        Account depositAccount = transaction.getDepositAccount();
+
+        List<AccountStatementRow> rows = new ArrayList<>(2);
+        if (withdrawAccount != null) {
+            rows.add(new AccountStatementRow(
+                    withdrawAccount.getId(),
+                    createdAt,
+                    transactionId,
+                    withdrawAccount.getAccountNumber(),
+                    depositAccount != null ? depositAccount.getAccountNumber() : null,
+                    transaction.getReceiver(),
+                    -(transaction.getAmount() + transaction.getTransferCharge()),
+                    transaction.getTransferCharge(),
+                    transaction.getWithdrawAccountBalance(),
+                    transaction.getDepositAccountBalance(),
+                    transaction.getType(),
+                    transaction.getSender(),
+                    transaction.getReceiver()
+            ));
+        }
+
+        if (depositAccount != null) {
+            rows.add(new AccountStatementRow(
+                    depositAccount.getId(),
+                    createdAt,
+                    transactionId,
+                    depositAccount.getAccountNumber(),
+                    withdrawAccount != null ? withdrawAccount.getAccountNumber() : null,
+                    transaction.getSender(),
+                    transaction.getAmount(),
+                    0L,
+                    transaction.getDepositAccountBalance(),
+                    transaction.getWithdrawAccountBalance(),
+                    transaction.getType(),
+                    transaction.getSender(),
+                    transaction.getReceiver()
+            ));
+        }
+        return rows;
+    }
+}
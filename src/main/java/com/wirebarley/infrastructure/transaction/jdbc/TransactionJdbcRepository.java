@@ -0,0 +1,79 @@
+package com.wirebarley.infrastructure.transaction.jdbc;
+
+import com.wirebarley.domain.transaction.TransactionType;
+import com.wirebarley.domain.transaction.dto.TransactionExportQuery;
+import com.wirebarley.domain.transaction.dto.TransactionHistory;
+import com.wirebarley.infrastructure.datasource.CursorFetchJdbcTemplateFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+// 거래 내역 내보내기. 수백만 건도 메모리에 올리지 않도록 엔티티/영속성 컨텍스트 없이 forward-only 커서로 fetch size 만큼씩 읽어 바로 넘긴다.
+// (MySQL 은 useCursorFetch=true 인 커넥션에서만 fetch size 가 적용되므로 CursorFetchJdbcTemplateFactory 의 JdbcTemplate 으로 읽는다)
+@Repository
+public class TransactionJdbcRepository {
+
+    private static final int EXPORT_FETCH_SIZE = 1_000;
+
+    // 계좌 명세를 (계좌, 시각, 거래) PK 순서로 읽으면서 거래를 붙인다. 출금/입금 계좌를 OR 로 거는 조건이 없어 계좌 범위만 읽는다.
+    private static final String EXPORT_SQL = """
+            select t.id, wa.account_number as withdraw_account_number, da.account_number as deposit_account_number,
+                   t.amount, t.withdraw_account_balance, t.deposit_account_balance, t.type, t.sender, t.receiver,
+                   t.created_at, t.modified_at
+            from account_statement s
+            join transactions t on t.id = s.transaction_id and t.created_at = s.created_at
+            left join account wa on wa.id = t.withdraw_account_id
+            left join account da on da.id = t.deposit_account_id
+            where s.account_id = ?
+            """;
+
+    private final JdbcTemplate exportJdbcTemplate;
+
+    public TransactionJdbcRepository(CursorFetchJdbcTemplateFactory cursorFetchJdbcTemplateFactory) {
+        this.exportJdbcTemplate = cursorFetchJdbcTemplateFactory.create(EXPORT_FETCH_SIZE);
+    }
+
+    public void streamHistories(TransactionExportQuery query, Consumer<TransactionHistory> handler) {
+        StringBuilder sql = new StringBuilder(EXPORT_SQL);
+        List<Object> args = new ArrayList<>(List.of(query.accountId()));
+        if (query.from() != null) {
+            sql.append("and s.created_at >= ?\n");
+            args.add(Timestamp.valueOf(query.from()));
+        }
+        if (query.to() != null) {
+            sql.append("and s.created_at < ?\n");
+            args.add(Timestamp.valueOf(query.to()));
+        }
+        sql.append("order by s.created_at, s.transaction_id");
+
+        exportJdbcTemplate.query(sql.toString(), (RowCallbackHandler) rs -> handler.accept(toHistory(rs)), args.toArray());
+    }
+
+    private TransactionHistory toHistory(ResultSet rs) throws SQLException {
+        return new TransactionHistory(
+                rs.getLong("id"),
+                rs.getObject("withdraw_account_number", Long.class),
+                rs.getObject("deposit_account_number", Long.class),
+                rs.getLong("amount"),
+                rs.getObject("withdraw_account_balance", Long.class),
+                rs.getObject("deposit_account_balance", Long.class),
+                TransactionType.valueOf(rs.getString("type")),
+                rs.getString("sender"),
+                rs.getString("receiver"),
+                toLocalDateTime(rs.getTimestamp("created_at")),
+                toLocalDateTime(rs.getTimestamp("modified_at"))
+        );
+    }
+
+    private LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+}
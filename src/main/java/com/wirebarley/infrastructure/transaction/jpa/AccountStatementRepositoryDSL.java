@@ -0,0 +1,74 @@
+package com.wirebarley.infrastructure.transaction.jpa;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.wirebarley.domain.transaction.TransactionType;
+import com.wirebarley.domain.transaction.dto.TransactionCursor;
+import com.wirebarley.domain.transaction.dto.TransactionRetrieveQuery;
+import com.wirebarley.infrastructure.transaction.entity.AccountStatementEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.wirebarley.domain.transaction.TransactionType.*;
+import static com.wirebarley.infrastructure.transaction.entity.QAccountStatementEntity.accountStatementEntity;
+
+// 거래 내역 조회. 한 계좌의 명세만 (계좌, [종류,] 시각, 거래) 인덱스 순서대로 읽으므로 조인도 OR 조건도 없다.
+@RequiredArgsConstructor
+@Repository
+public class AccountStatementRepositoryDSL {
+
+    private final JPAQueryFactory query;
+
+    public List<AccountStatementEntity> findStatements(TransactionRetrieveQuery dto) {
+        JPAQuery<AccountStatementEntity> from = query
+                .selectFrom(accountStatementEntity)
+                .where(
+                        accountStatementEntity.accountId.eq(dto.accountId()),
+                        typeEq(dto.type()),
+                        createdAtGoe(dto.from()),
+                        createdAtLt(dto.to())
+                );
+
+        if (dto.cursor() != null) {
+            from.where(before(dto.cursor()));
+        } else {
+            from.offset(dto.offset());
+        }
+
+        return from
+                .orderBy(accountStatementEntity.createdAt.desc(), accountStatementEntity.transactionId.desc())
+                .limit(dto.count())
+                .fetch();
+    }
+
+    // 이체는 기존 조회와 같이 이 계좌에서 나간 이체만 TRANSFER 로 본다. 받은 이체는 ALL 에서만 보인다.
+    private BooleanExpression typeEq(TransactionType type) {
+        if (type == TRANSFER) {
+            return accountStatementEntity.type.eq(TRANSFER).and(accountStatementEntity.amount.lt(0L));
+        }
+        if (type == WITHDRAW || type == DEPOSIT) {
+            return accountStatementEntity.type.eq(type);
+        }
+        return null;
+    }
+
+    private BooleanExpression before(TransactionCursor cursor) {
+        return accountStatementEntity.createdAt.lt(cursor.createdAt())
+                .or(
+                        accountStatementEntity.createdAt.eq(cursor.createdAt())
+                                .and(accountStatementEntity.transactionId.lt(cursor.id()))
+                );
+    }
+
+    private BooleanExpression createdAtGoe(LocalDateTime from) {
+        return from == null ? null : accountStatementEntity.createdAt.goe(from);
+    }
+
+    private BooleanExpression createdAtLt(LocalDateTime to) {
+        return to == null ? null : accountStatementEntity.createdAt.lt(to);
+    }
+}
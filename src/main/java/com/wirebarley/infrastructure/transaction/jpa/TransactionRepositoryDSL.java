@@ -1,18 +1,16 @@
 package com.wirebarley.infrastructure.transaction.jpa;
 
-import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import com.wirebarley.domain.transaction.TransactionType;
-import com.wirebarley.domain.transaction.dto.TransactionRetrieveQuery;
 import com.wirebarley.infrastructure.account.entity.QAccountEntity;
+import com.wirebarley.infrastructure.transaction.entity.AccountStatementEntity;
 import com.wirebarley.infrastructure.transaction.entity.TransactionEntity;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
 
-import static com.wirebarley.domain.transaction.TransactionType.*;
 import static com.wirebarley.infrastructure.transaction.entity.QTransactionEntity.transactionEntity;
 
 @RequiredArgsConstructor
@@ -21,62 +19,28 @@ public class TransactionRepositoryDSL {
 
     private final JPAQueryFactory query;
 
-    public List<TransactionEntity> findTransactions(TransactionRetrieveQuery dto) {
+    // 계좌 명세로 고른 한 페이지의 거래를 PK 로 읽는다. 출금/입금 계좌를 OR 로 거는 조건 없이 id 목록만으로 찾고,
+    // 명세의 시각 범위를 같이 걸어서 월 파티션은 그 페이지가 걸친 파티션만 읽는다.
+    public List<TransactionEntity> findTransactions(List<AccountStatementEntity> statements) {
+        if (statements.isEmpty()) {
+            return List.of();
+        }
+
         QAccountEntity withdrawAccount = new QAccountEntity("withdrawAccount");
         QAccountEntity depositAccount = new QAccountEntity("depositAccount");
+        LocalDateTime from = statements.stream().map(AccountStatementEntity::getCreatedAt).min(Comparator.naturalOrder()).orElseThrow();
+        LocalDateTime to = statements.stream().map(AccountStatementEntity::getCreatedAt).max(Comparator.naturalOrder()).orElseThrow();
 
-        JPAQuery<TransactionEntity> from = query
+        return query
                 .select(transactionEntity)
-                .from(transactionEntity);
-
-        if (dto.type() == WITHDRAW) {
-            from
-                    .innerJoin(transactionEntity.withdrawAccount, withdrawAccount).fetchJoin()
-                    .where(
-                            transactionEntity.withdrawAccount.id.eq(dto.accountId()),
-                            transactionTypeEq(dto.type())
-                    );
-        } else if (dto.type() == DEPOSIT) {
-            from
-                    .innerJoin(transactionEntity.depositAccount, depositAccount).fetchJoin()
-                    .where(
-                            transactionEntity.depositAccount.id.eq(dto.accountId()),
-                            transactionTypeEq(dto.type())
-                    );
-        } else if (dto.type() == TRANSFER) {
-            from
-                    .leftJoin(transactionEntity.withdrawAccount, withdrawAccount).fetchJoin()
-                    .leftJoin(transactionEntity.depositAccount, depositAccount).fetchJoin()
-                    .where(
-                            withdrawAccountIdEq(dto.accountId()),
-                            transactionTypeEq(dto.type())
-                    );
-        } else  {
-            from
-                    .leftJoin(transactionEntity.withdrawAccount, withdrawAccount).fetchJoin()
-                    .leftJoin(transactionEntity.depositAccount, depositAccount).fetchJoin()
-                    .where(
-                            withdrawAccountIdEq(dto.accountId())
-                                    .or(depositAccountIdEq(dto.accountId()))
-                    );
-        }
-
-        return from
-                .orderBy(transactionEntity.createdAt.desc())
-                .offset(dto.offset())
-                .limit(dto.count())
+                .from(transactionEntity)
+                .leftJoin(transactionEntity.withdrawAccount, withdrawAccount).fetchJoin()
+                .leftJoin(transactionEntity.depositAccount, depositAccount).fetchJoin()
+                .where(
+                        transactionEntity.id.in(statements.stream().map(AccountStatementEntity::getTransactionId).toList()),
+                        transactionEntity.createdAt.between(from, to)
+                )
+                .orderBy(transactionEntity.createdAt.desc(), transactionEntity.id.desc())
                 .fetch();
     }
-
-    private BooleanExpression withdrawAccountIdEq(Long accountId) {
-        return transactionEntity.withdrawAccount.id.eq(accountId);
-    }
-
-    private BooleanExpression depositAccountIdEq(Long accountId) {
-        return transactionEntity.depositAccount.id.eq(accountId);
-    }
-
-    private static BooleanExpression transactionTypeEq(TransactionType type) {
-        return transactionEntity.type.eq(type);
-    }
 }
@@ -0,0 +1,29 @@
+package com.wirebarley.infrastructure.transaction.partition;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+
+// transactions 의 RANGE 파티션 하나. upperBound 미만의 created_at 을 담고, upperBound 가 없으면 MAXVALUE 파티션이다.
+public record TransactionPartition(
+        String name,
+        LocalDate upperBound
+) {
+
+    public static final String FUTURE = "p_future";
+    public static final String HISTORY = "p_history";
+
+    private static final DateTimeFormatter MONTH_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    public static TransactionPartition ofMonth(YearMonth month) {
+        return new TransactionPartition(month.format(MONTH_NAME), month.plusMonths(1).atDay(1));
+    }
+
+    public static TransactionPartition history(LocalDate upperBound) {
+        return new TransactionPartition(HISTORY, upperBound);
+    }
+
+    public boolean isFuture() {
+        return upperBound == null;
+    }
+}
@@ -0,0 +1,141 @@
+package com.wirebarley.infrastructure.transaction.partition;
+
+import com.wirebarley.infrastructure.transaction.config.TransactionPartitionProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// transactions 의 월별 파티션을 미리 만들고, 보관 기간이 지난 파티션은 transactions_{파티션} 테이블로 떼어 낸다.
+// 여러 서버가 같이 떠 있어도 한 곳에서만 DDL 을 실행하도록 MySQL 네임드 락을 잡고, 락과 DDL 은 같은 커넥션에서 실행한다.
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class TransactionPartitionManager {
+
+    private static final String TABLE = "transactions";
+    private static final String LOCK_NAME = "wirebarley.transactions.partition";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionPartitionProperties properties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${wirebarley.transaction.partition.manage-interval:6h}",
+            initialDelayString = "${wirebarley.transaction.partition.manage-interval:6h}")
+    public void manage() {
+        if (!properties.enabled()) {
+            return;
+        }
+
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            if (!"MySQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName())) {
+                log.warn("transactions 파티션 관리는 MySQL 에서만 동작합니다.");
+                return null;
+            }
+
+            JdbcTemplate session = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+            Integer locked = session.queryForObject("select get_lock(?, 0)", Integer.class, LOCK_NAME);
+            if (locked == null || locked != 1) {
+                return null;
+            }
+
+            try {
+                manage(session, LocalDate.now());
+            } finally {
+                session.queryForObject("select release_lock(?)", Integer.class, LOCK_NAME);
+            }
+            return null;
+        });
+    }
+
+    private void manage(JdbcTemplate session, LocalDate today) {
+        List<TransactionPartition> existing = findPartitions(session);
+        if (existing.isEmpty()) {
+            log.warn("transactions 가 파티션되어 있지 않아 파티션 관리를 건너뜁니다.");
+            return;
+        }
+
+        List<TransactionPartition> toCreate = TransactionPartitionPlanner.partitionsToCreate(existing, today, properties.monthsAhead());
+        if (!toCreate.isEmpty()) {
+            if (hasRowsInFuture(session)) {
+                log.warn("p_future 에 거래가 있어 파티션을 추가하지 않습니다. 그 거래를 옮기는 동안 쓰기가 막히므로 점검 시간에 직접 실행해주세요. {}",
+                        reorganizeFuture(toCreate));
+            } else {
+                session.execute(reorganizeFuture(toCreate));
+                log.info("transactions 파티션을 추가했습니다. {}", toCreate.stream().map(TransactionPartition::name).toList());
+            }
+        }
+
+        for (TransactionPartition partition : TransactionPartitionPlanner.partitionsToDetach(findPartitions(session), today, properties.retentionMonths())) {
+            detach(session, partition);
+            log.info("transactions 파티션 {} 를 {} 테이블로 떼어 냈습니다.", partition.name(), archiveTable(partition));
+        }
+    }
+
+    private List<TransactionPartition> findPartitions(JdbcTemplate session) {
+        return session.query("""
+                        select partition_name, partition_description
+                        from information_schema.partitions
+                        where table_schema = database() and table_name = ? and partition_name is not null
+                        order by partition_ordinal_position
+                        """,
+                (rs, rowNum) -> new TransactionPartition(rs.getString(1), parseUpperBound(rs.getString(2))),
+                TABLE);
+    }
+
+    // RANGE COLUMNS 의 경계값은 '2026-11-01 00:00:00' 처럼 따옴표가 붙은 문자열이나 MAXVALUE 로 들어 있다.
+    private LocalDate parseUpperBound(String description) {
+        if (description == null || description.equalsIgnoreCase("MAXVALUE")) {
+            return null;
+        }
+        return LocalDate.parse(description.replace("'", "").substring(0, 10));
+    }
+
+    // p_future 가 비어 있을 때만 나누므로 옮겨지는 데이터가 없다. V5 가 이번 달부터 몇 달 뒤까지의 파티션을 만들어 두고,
+    // 이후에는 이 작업이 매번 그 달이 오기 전에 미리 만들어 두므로 p_future 에 거래가 들어가는 일은 관리 작업이 멈췄을 때뿐이다.
+    private String reorganizeFuture(List<TransactionPartition> partitions) {
+        String definitions = partitions.stream()
+                .map(partition -> "partition %s values less than ('%s')".formatted(partition.name(), partition.upperBound()))
+                .collect(Collectors.joining(", "));
+
+        return "alter table %s reorganize partition %s into (%s, partition %s values less than (maxvalue))"
+                .formatted(TABLE, TransactionPartition.FUTURE, definitions, TransactionPartition.FUTURE);
+    }
+
+    private boolean hasRowsInFuture(JdbcTemplate session) {
+        return !session.queryForList("select 1 from %s partition (%s) limit 1".formatted(TABLE, TransactionPartition.FUTURE), Integer.class).isEmpty();
+    }
+
+    // 파티션을 같은 구조의 빈 테이블과 맞바꾼 뒤 빈 파티션을 지운다. 중간에 실패하면 다음 실행에서 이어서 진행하는데,
+    // 이미 맞바꾼 뒤라면 보관 테이블에 데이터가 있으므로 다시 맞바꾸지 않고 파티션만 지운다.
+    private void detach(JdbcTemplate session, TransactionPartition partition) {
+        String archiveTable = archiveTable(partition);
+        Integer exists = session.queryForObject(
+                "select count(*) from information_schema.tables where table_schema = database() and table_name = ?",
+                Integer.class, archiveTable);
+
+        if (exists == null || exists == 0) {
+            session.execute("create table %s like %s".formatted(archiveTable, TABLE));
+            session.execute("alter table %s remove partitioning".formatted(archiveTable));
+        }
+
+        boolean exchanged = !session.queryForList("select 1 from %s limit 1".formatted(archiveTable), Integer.class).isEmpty();
+        if (!exchanged) {
+            session.execute("alter table %s exchange partition %s with table %s".formatted(TABLE, partition.name(), archiveTable));
+        }
+        session.execute("alter table %s drop partition %s".formatted(TABLE, partition.name()));
+    }
+
+    private String archiveTable(TransactionPartition partition) {
+        return TABLE + "_" + partition.name();
+    }
+}
@@ -0,0 +1,59 @@
+package com.wirebarley.infrastructure.transaction.partition;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+// 지금 있는 파티션과 오늘 날짜로 새로 만들 월별 파티션과 떼어 낼 파티션을 정한다. DDL 은 TransactionPartitionManager 가 실행한다.
+public final class TransactionPartitionPlanner {
+
+    private TransactionPartitionPlanner() {
+    }
+
+    // p_future 앞에 이번 달부터 monthsAhead 달 뒤까지 월별 파티션이 있도록 모자란 달을 채운다.
+    // 월별 파티션이 하나도 없으면 이번 달 이전 거래는 p_history 하나로 모은다.
+    public static List<TransactionPartition> partitionsToCreate(List<TransactionPartition> existing, LocalDate today, int monthsAhead) {
+        YearMonth currentMonth = YearMonth.from(today);
+        YearMonth lastMonth = currentMonth.plusMonths(monthsAhead);
+        LocalDate lastUpperBound = lastUpperBound(existing);
+
+        List<TransactionPartition> partitions = new ArrayList<>();
+        YearMonth month;
+        if (lastUpperBound == null) {
+            partitions.add(TransactionPartition.history(currentMonth.atDay(1)));
+            month = currentMonth;
+        } else {
+            month = YearMonth.from(lastUpperBound);
+        }
+
+        for (; !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+            partitions.add(TransactionPartition.ofMonth(month));
+        }
+        return partitions;
+    }
+
+    // 이번 달 기준 retentionMonths 달보다 오래된 거래만 담은 파티션. 0 이면 떼어 내지 않는다.
+    public static List<TransactionPartition> partitionsToDetach(List<TransactionPartition> existing, LocalDate today, int retentionMonths) {
+        if (retentionMonths <= 0) {
+            return List.of();
+        }
+
+        LocalDate cutoff = YearMonth.from(today).minusMonths(retentionMonths).atDay(1);
+        return existing.stream()
+                .filter(partition -> !partition.isFuture())
+                .filter(partition -> !partition.upperBound().isAfter(cutoff))
+                .sorted(Comparator.comparing(TransactionPartition::upperBound))
+                .toList();
+    }
+
+    private static LocalDate lastUpperBound(List<TransactionPartition> existing) {
+        return existing.stream()
+                .map(TransactionPartition::upperBound)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+    }
+}
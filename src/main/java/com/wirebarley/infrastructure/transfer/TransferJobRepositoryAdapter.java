@@ -0,0 +1,52 @@
+package com.wirebarley.infrastructure.transfer;
+
+import com.wirebarley.domain.transfer.TransferJob;
+import com.wirebarley.domain.transfer.TransferJobRepository;
+import com.wirebarley.domain.transfer.TransferJobStatus;
+import com.wirebarley.infrastructure.exception.CustomException;
+import com.wirebarley.infrastructure.transfer.entity.TransferJobEntity;
+import com.wirebarley.infrastructure.transfer.jpa.JpaTransferJobRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static com.wirebarley.infrastructure.exception.ExceptionConstant.TRANSFER_JOB_NOT_FOUND_EXCEPTION;
+
+@RequiredArgsConstructor
+@Repository
+public class TransferJobRepositoryAdapter implements TransferJobRepository {
+
+    private final JpaTransferJobRepository jpaTransferJobRepository;
+
+    // 상태 변경은 관리 중인 엔티티에 옮겨서 merge 없이 UPDATE 한 문장으로 끝낸다.
+    @Transactional
+    @Override
+    public TransferJob save(TransferJob transferJob) {
+        if (transferJob.getId() == null) {
+            return jpaTransferJobRepository.save(TransferJobEntity.create(transferJob))
+                    .toDomain();
+        }
+
+        TransferJobEntity transferJobEntity = jpaTransferJobRepository.findById(transferJob.getId())
+                .orElseThrow(() -> new CustomException(TRANSFER_JOB_NOT_FOUND_EXCEPTION.getMessage()));
+        transferJobEntity.update(transferJob);
+        return transferJobEntity.toDomain();
+    }
+
+    @Override
+    public TransferJob findById(Long transferJobId) {
+        return jpaTransferJobRepository.findById(transferJobId)
+                .orElseThrow(() -> new CustomException(TRANSFER_JOB_NOT_FOUND_EXCEPTION.getMessage()))
+                .toDomain();
+    }
+
+    @Override
+    public List<TransferJob> findAllByStatuses(List<TransferJobStatus> statuses) {
+        return jpaTransferJobRepository.findAllByStatusIn(statuses)
+                .stream()
+                .map(TransferJobEntity::toDomain)
+                .toList();
+    }
+}
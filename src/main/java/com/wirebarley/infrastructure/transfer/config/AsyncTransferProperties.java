@@ -0,0 +1,27 @@
+package com.wirebarley.infrastructure.transfer.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "wirebarley.transfer.async")
+public record AsyncTransferProperties(
+        Integer workerCount,     // 이체를 실행하는 워커 스레드 수
+        Integer queueCapacity,   // 실행을 기다리는 이체 최대 개수, 가득 차면 접수를 거절한다
+        Duration maxPollWait     // 롱폴링으로 결과를 기다릴 수 있는 최대 시간
+) {
+
+    public AsyncTransferProperties {
+        if (workerCount == null || workerCount < 1) {
+            workerCount = 4;
+        }
+
+        if (queueCapacity == null || queueCapacity < 1) {
+            queueCapacity = 1000;
+        }
+
+        if (maxPollWait == null) {
+            maxPollWait = Duration.ofSeconds(30);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.wirebarley.infrastructure.transfer.entity;
+
+import com.wirebarley.domain.transfer.TransferJob;
+import com.wirebarley.domain.transfer.TransferJobStatus;
+import com.wirebarley.infrastructure.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "transfer_job", indexes = @Index(name = "idx_transfer_job_status", columnList = "status"))
+@Entity
+public class TransferJobEntity extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long withdrawNumber;
+
+    private Long depositNumber;
+
+    private Long userId;
+
+    private Long amount;
+
+    @Enumerated(EnumType.STRING)
+    private TransferJobStatus status;
+
+    private Long transactionId;
+
+    private String failureReason;
+
+    private LocalDateTime requestedAt;
+
+    private LocalDateTime completedAt;
+
+    @Builder
+    private TransferJobEntity(Long id, Long withdrawNumber, Long depositNumber, Long userId, Long amount, TransferJobStatus status, Long transactionId, String failureReason, LocalDateTime requestedAt, LocalDateTime completedAt) {
+        this.id = id;
+        this.withdrawNumber = withdrawNumber;
+        this.depositNumber = depositNumber;
+        this.userId = userId;
+        this.amount = amount;
+        this.status = status;
+        this.transactionId = transactionId;
+        this.failureReason = failureReason;
+        this.requestedAt = requestedAt;
+        this.completedAt = completedAt;
+    }
+
+    public static TransferJobEntity create(TransferJob transferJob) {
+        return TransferJobEntity.builder()
+                .withdrawNumber(transferJob.getWithdrawNumber())
+                .depositNumber(transferJob.getDepositNumber())
+                .userId(transferJob.getUserId())
+                .amount(transferJob.getAmount())
+                .status(transferJob.getStatus())
+                .transactionId(transferJob.getTransactionId())
+                .failureReason(transferJob.getFailureReason())
+                .requestedAt(transferJob.getRequestedAt())
+                .completedAt(transferJob.getCompletedAt())
+                .build();
+    }
+
+    public void update(TransferJob transferJob) {
+        this.status = transferJob.getStatus();
+        this.transactionId = transferJob.getTransactionId();
+        this.failureReason = transferJob.getFailureReason();
+        this.completedAt = transferJob.getCompletedAt();
+    }
+
+    public TransferJob toDomain() {
+        return TransferJob.builder()
+                .id(this.id)
+                .withdrawNumber(this.withdrawNumber)
+                .depositNumber(this.depositNumber)
+                .userId(this.userId)
+                .amount(this.amount)
+                .status(this.status)
+                .transactionId(this.transactionId)
+                .failureReason(this.failureReason)
+                .requestedAt(this.requestedAt)
+                .completedAt(this.completedAt)
+                .build();
+    }
+}
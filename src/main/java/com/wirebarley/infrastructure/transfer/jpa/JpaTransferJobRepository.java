@@ -0,0 +1,12 @@
+package com.wirebarley.infrastructure.transfer.jpa;
+
+import com.wirebarley.domain.transfer.TransferJobStatus;
+import com.wirebarley.infrastructure.transfer.entity.TransferJobEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface JpaTransferJobRepository extends JpaRepository<TransferJobEntity, Long> {
+
+    List<TransferJobEntity> findAllByStatusIn(List<TransferJobStatus> statuses);
+}
@@ -47,4 +47,9 @@ public class UserRepositoryAdapter implements UserRepository {
                 .map(UserEntity::toDomain)
                 .toList();
     }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return jpaUserRepository.existsByEmail(email);
+    }
 }
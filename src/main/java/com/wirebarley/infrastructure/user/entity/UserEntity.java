@@ -50,17 +50,6 @@ public class UserEntity {
                 .build();
     }
 
-    public static UserEntity of(User user) {
-        return UserEntity.builder()
-                .id(user.getId())
-                .username(user.getUsername())
-                .email(user.getEmail())
-                .password(user.getPassword())
-                .createdAt(user.getCreatedAt())
-                .modifiedAt(user.getModifiedAt())
-                .build();
-    }
-
     public User toDomain() {
         return User.builder()
                 .id(this.id)
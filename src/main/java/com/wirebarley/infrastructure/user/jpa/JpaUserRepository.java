@@ -4,4 +4,6 @@ import com.wirebarley.infrastructure.user.entity.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface JpaUserRepository extends JpaRepository<UserEntity, Long> {
+
+    boolean existsByEmail(String email);
 }
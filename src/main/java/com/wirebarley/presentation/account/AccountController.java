@@ -1,25 +1,46 @@
 package com.wirebarley.presentation.account;
 
 import com.wirebarley.application.account.AccountService;
+import com.wirebarley.application.account.BulkTransferService;
+import com.wirebarley.application.account.DepositCoalescer;
+import com.wirebarley.application.account.HotAccountBalancer;
+import com.wirebarley.application.account.dto.request.DepositCommand;
 import com.wirebarley.application.account.dto.response.AccountResponse;
+import com.wirebarley.application.account.dto.response.BulkTransferResponse;
 import com.wirebarley.application.account.dto.response.DepositResponse;
 import com.wirebarley.application.transaction.dto.response.TransactionResponse;
+import com.wirebarley.application.transfer.AsyncTransferService;
+import com.wirebarley.application.transfer.dto.response.TransferJobResponse;
 import com.wirebarley.application.account.dto.response.WithdrawResponse;
 import com.wirebarley.infrastructure.common.ApiResponse;
+import com.wirebarley.infrastructure.idempotency.IdempotencyExecutor;
+import com.wirebarley.infrastructure.lane.AccountLaneDispatcher;
+import com.wirebarley.infrastructure.retry.LockRetryExecutor;
 import com.wirebarley.presentation.account.dto.request.*;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @RequiredArgsConstructor
 @RequestMapping("/api")
 @RestController
 public class AccountController {
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final AccountService accountService;
+    private final BulkTransferService bulkTransferService;
+    private final AsyncTransferService asyncTransferService;
+    private final LockRetryExecutor lockRetryExecutor;
+    private final AccountLaneDispatcher accountLaneDispatcher;
+    private final HotAccountBalancer hotAccountBalancer;
+    private final DepositCoalescer depositCoalescer;
+    private final IdempotencyExecutor idempotencyExecutor;
 
     @PostMapping("/v1/account")
     public ResponseEntity<ApiResponse<AccountResponse>> createAccount(@Valid @RequestBody AccountCreateRequest request) {
@@ -36,23 +57,68 @@ public class AccountController {
     }
 
     @PostMapping("/v1/account/deposit")
-    public ResponseEntity<ApiResponse<DepositResponse>> deposit(@Valid @RequestBody DepositRequest request) {
-        DepositResponse result = accountService.deposit(request.toCommand());
+    public ResponseEntity<ApiResponse<DepositResponse>> deposit(@Valid @RequestBody DepositRequest request,
+                                                                @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        DepositResponse result = idempotencyExecutor.execute(idempotencyKey, "DEPOSIT", request, DepositResponse.class,
+                () -> depositCoalescer.deposit(request.toCommand(), this::depositAll));
 
         return ApiResponse.created(result);
     }
 
     @PostMapping("/v1/account/withdraw")
-    public ResponseEntity<ApiResponse<WithdrawResponse>> withdraw(@Valid @RequestBody WithdrawRequest request) {
-        WithdrawResponse result = accountService.withdraw(request.toCommand());
+    public ResponseEntity<ApiResponse<WithdrawResponse>> withdraw(@Valid @RequestBody WithdrawRequest request,
+                                                                  @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        WithdrawResponse result = idempotencyExecutor.execute(idempotencyKey, "WITHDRAW", request, WithdrawResponse.class,
+                () -> accountLaneDispatcher.execute(request.accountNumber(),
+                        () -> lockRetryExecutor.execute(() -> accountService.withdraw(request.toCommand()))));
 
         return ApiResponse.created(result);
     }
 
     @PostMapping("/v1/account/transfer")
-    public ResponseEntity<ApiResponse<TransactionResponse>> transfer(@Valid @RequestBody TransferRequest request) {
-        TransactionResponse result = accountService.transfer(request.toCommand());
+    public ResponseEntity<ApiResponse<TransactionResponse>> transfer(@Valid @RequestBody TransferRequest request,
+                                                                     @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        TransactionResponse result = idempotencyExecutor.execute(idempotencyKey, "TRANSFER", request, TransactionResponse.class,
+                () -> accountLaneDispatcher.execute(request.withdrawNumber(), request.depositNumber(),
+                        () -> lockRetryExecutor.execute(() -> accountService.transfer(request.toCommand()))));
 
         return ApiResponse.created(result);
     }
+
+    @PostMapping("/v1/account/transfer/bulk")
+    public ResponseEntity<ApiResponse<BulkTransferResponse>> bulkTransfer(@Valid @RequestBody BulkTransferRequest request) {
+        BulkTransferResponse result = accountLaneDispatcher.execute(request.withdrawNumber(),
+                () -> lockRetryExecutor.execute(() -> bulkTransferService.transferAll(request.toCommand())));
+
+        return ApiResponse.created(result);
+    }
+
+    // 이체를 접수만 하고 202로 응답한다. 결과는 GET /v1/account/transfer/{id} 로 확인한다.
+    @PostMapping("/v1/account/transfer/async")
+    public ResponseEntity<ApiResponse<TransferJobResponse>> transferAsync(@Valid @RequestBody TransferRequest request) {
+        TransferJobResponse result = asyncTransferService.submit(request.toCommand());
+
+        return ApiResponse.accepted(result);
+    }
+
+    // waitMillis 를 주면 이체가 끝날 때까지 최대 그만큼 기다렸다가 응답한다.(롱폴링) 이체를 요청한 사용자만 조회할 수 있다.
+    @GetMapping("/v1/account/transfer/{id}")
+    public ResponseEntity<ApiResponse<TransferJobResponse>> getTransfer(@PathVariable(value = "id") Long id,
+                                                                        @RequestParam(value = "userId") Long userId,
+                                                                        @RequestParam(value = "waitMillis", defaultValue = "0") long waitMillis) {
+        TransferJobResponse result = asyncTransferService.awaitTransferJob(id, userId, Duration.ofMillis(waitMillis));
+
+        return ApiResponse.ok(result);
+    }
+
+    private List<DepositResponse> depositAll(List<DepositCommand> commands) {
+        Long accountNumber = commands.get(0).accountNumber();
+
+        // 핫 계좌 입금은 슬롯으로 흩어지므로 한 레인에 줄 세우지 않는다.
+        if (hotAccountBalancer.isHot(accountNumber)) {
+            return lockRetryExecutor.execute(() -> accountService.depositAll(commands));
+        }
+        return accountLaneDispatcher.execute(accountNumber,
+                () -> lockRetryExecutor.execute(() -> accountService.depositAll(commands)));
+    }
 }
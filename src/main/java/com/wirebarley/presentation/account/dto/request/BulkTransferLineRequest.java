@@ -0,0 +1,23 @@
+package com.wirebarley.presentation.account.dto.request;
+
+import com.wirebarley.application.account.dto.request.BulkTransferLine;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+
+@Builder
+public record BulkTransferLineRequest(
+
+        @NotNull(message = "입금 계좌번호는 필수입니다.")
+        Long depositNumber,
+
+        @NotNull(message = "이체 금액은 필수입니다.")
+        Long amount
+) {
+
+    public BulkTransferLine toLine() {
+        return BulkTransferLine.builder()
+                .depositNumber(this.depositNumber)
+                .amount(this.amount)
+                .build();
+    }
+}
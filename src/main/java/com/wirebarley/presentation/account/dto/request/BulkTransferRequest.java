@@ -0,0 +1,45 @@
+package com.wirebarley.presentation.account.dto.request;
+
+import com.wirebarley.application.account.dto.request.BulkTransferCommand;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Builder
+public record BulkTransferRequest(
+
+        @NotNull(message = "출금 계좌번호는 필수입니다.")
+        Long withdrawNumber,
+
+        @NotNull(message = "계좌 소유주 정보는 필수입니다.")
+        Long userId,
+
+        @NotNull(message = "출금계좌 비밀번호는 필수입니다.")
+        Integer accountPassword,
+
+        Boolean allOrNothing,
+
+        @Valid
+        @NotEmpty(message = "이체 내역은 필수입니다.")
+        @Size(max = 10_000, message = "한 번에 10,000건까지 이체할 수 있습니다.")
+        List<BulkTransferLineRequest> lines,
+
+        LocalDateTime transferDate
+) {
+
+    public BulkTransferCommand toCommand() {
+        return BulkTransferCommand.builder()
+                .withdrawNumber(this.withdrawNumber)
+                .userId(this.userId)
+                .accountPassword(this.accountPassword)
+                .allOrNothing(this.allOrNothing)
+                .lines(this.lines.stream().map(BulkTransferLineRequest::toLine).toList())
+                .transferDate(this.transferDate)
+                .build();
+    }
+}
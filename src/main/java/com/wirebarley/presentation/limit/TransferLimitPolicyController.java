@@ -0,0 +1,36 @@
+package com.wirebarley.presentation.limit;
+
+import com.wirebarley.application.limit.TransferLimitPolicyService;
+import com.wirebarley.application.limit.dto.response.TransferLimitPolicyResponse;
+import com.wirebarley.infrastructure.common.ApiResponse;
+import com.wirebarley.presentation.limit.dto.request.TransferLimitPolicyRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 한도 정책은 운영자가 관리하므로 고객용 /api 가 아니라 X-Admin-Token 을 확인하는 /admin 아래에 둔다.
+@RequiredArgsConstructor
+@RequestMapping("/admin")
+@RestController
+public class TransferLimitPolicyController {
+
+    private final TransferLimitPolicyService transferLimitPolicyService;
+
+    @PostMapping("/v1/transfer-limit-policy")
+    public ResponseEntity<ApiResponse<TransferLimitPolicyResponse>> registerPolicy(@Valid @RequestBody TransferLimitPolicyRequest request) {
+        TransferLimitPolicyResponse result = transferLimitPolicyService.registerPolicy(request.toCommand(), LocalDateTime.now());
+
+        return ApiResponse.created(result);
+    }
+
+    @GetMapping("/v1/transfer-limit-policies")
+    public ResponseEntity<ApiResponse<List<TransferLimitPolicyResponse>>> retrievePolicies() {
+        List<TransferLimitPolicyResponse> result = transferLimitPolicyService.retrievePolicies();
+
+        return ApiResponse.ok(result);
+    }
+}
@@ -0,0 +1,46 @@
+package com.wirebarley.presentation.limit.dto.request;
+
+import com.wirebarley.application.limit.dto.request.TransferLimitPolicyCommand;
+import com.wirebarley.domain.limit.TransferLimitPolicyScope;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+@Builder
+public record TransferLimitPolicyRequest(
+
+        @NotNull(message = "한도 적용 대상은 필수입니다.")
+        TransferLimitPolicyScope scope,
+
+        @NotBlank(message = "한도 적용 대상 키는 필수입니다.")
+        String scopeKey,
+
+        @Positive(message = "일 한도는 0보다 커야 합니다.")
+        Long dailyLimit,
+
+        @Positive(message = "주 한도는 0보다 커야 합니다.")
+        Long weeklyLimit,
+
+        @Positive(message = "월 한도는 0보다 커야 합니다.")
+        Long monthlyLimit,
+
+        LocalDateTime startsAt,
+
+        LocalDateTime endsAt
+) {
+
+    public TransferLimitPolicyCommand toCommand() {
+        return TransferLimitPolicyCommand.builder()
+                .scope(this.scope)
+                .scopeKey(this.scopeKey)
+                .dailyLimit(this.dailyLimit)
+                .weeklyLimit(this.weeklyLimit)
+                .monthlyLimit(this.monthlyLimit)
+                .startsAt(this.startsAt)
+                .endsAt(this.endsAt)
+                .build();
+    }
+}
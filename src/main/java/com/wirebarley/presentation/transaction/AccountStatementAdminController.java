@@ -0,0 +1,48 @@
+package com.wirebarley.presentation.transaction;
+
+import com.wirebarley.application.transaction.AccountStatementService;
+import com.wirebarley.application.transaction.dto.response.AccountStatementBalanceResponse;
+import com.wirebarley.application.transaction.dto.response.AccountStatementRebuildResponse;
+import com.wirebarley.infrastructure.common.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+// 거래 명세 재생성과 잔액 점검은 모든 계좌를 대상으로 하는 운영 작업이라 고객용 /api 가 아니라 X-Admin-Token 을 확인하는 /admin 아래에 둔다.
+@RequiredArgsConstructor
+@RequestMapping("/admin")
+@RestController
+public class AccountStatementAdminController {
+
+    private final AccountStatementService accountStatementService;
+
+    // 계좌를 지정하면 그 계좌만 바로 재생성한다. 지정하지 않으면 모든 계좌(failedOnly 면 명세 반영에 실패했던 계좌만)의
+    // 재생성을 접수만 하고 202로 응답한다. 진행 상황은 GET /v1/transactions/statements/rebuild 로 확인한다.
+    @PostMapping("/v1/transactions/statements/rebuild")
+    public ResponseEntity<ApiResponse<AccountStatementRebuildResponse>> rebuildStatements(@RequestParam(value = "accountId", required = false) Long accountId,
+                                                                                        @RequestParam(value = "failedOnly", defaultValue = "false") boolean failedOnly) {
+        if (accountId != null) {
+            AccountStatementRebuildResponse result = accountStatementService.rebuild(accountId);
+            return ApiResponse.ok(result);
+        }
+
+        AccountStatementRebuildResponse result = accountStatementService.startRebuild(failedOnly);
+        return ApiResponse.accepted(result);
+    }
+
+    @GetMapping("/v1/transactions/statements/rebuild")
+    public ResponseEntity<ApiResponse<AccountStatementRebuildResponse>> getStatementRebuild() {
+        AccountStatementRebuildResponse result = accountStatementService.getRebuild();
+        return ApiResponse.ok(result);
+    }
+
+    @GetMapping("/v1/transactions/statements/balance")
+    public ResponseEntity<ApiResponse<AccountStatementBalanceResponse>> checkStatementBalance(@RequestParam(value = "accountId") Long accountId) {
+        AccountStatementBalanceResponse result = accountStatementService.checkBalance(accountId);
+        return ApiResponse.ok(result);
+    }
+}
@@ -1,15 +1,24 @@
 package com.wirebarley.presentation.transaction;
 
+import com.wirebarley.application.transaction.TransactionExportService;
+import com.wirebarley.application.transaction.dto.request.TransactionExportCommand;
+import com.wirebarley.application.transaction.dto.response.TransactionPageResponse;
 import com.wirebarley.application.transaction.dto.response.TransactionResponse;
 import com.wirebarley.application.transaction.TransactionService;
+import com.wirebarley.application.transaction.export.TransactionExport;
 import com.wirebarley.infrastructure.common.ApiResponse;
+import com.wirebarley.presentation.transaction.dto.request.TransactionExportRequest;
 import com.wirebarley.presentation.transaction.dto.request.TransactionRetrieveRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -18,12 +27,40 @@ import java.util.List;
 @RestController
 public class TransactionController {
 
+    // 기존 클라이언트가 읽던 data 의 목록 모양은 그대로 두고 다음 페이지 커서는 헤더로만 내려준다. 마지막 페이지면 헤더가 없다.
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    // 실제로 조회한 기간(yyyy-MM-dd). from/to 를 주지 않으면 기본 기간으로 채운 날짜가 내려간다.
+    public static final String PERIOD_FROM_HEADER = "X-Period-From";
+    public static final String PERIOD_TO_HEADER = "X-Period-To";
+
     private final TransactionService transactionService;
+    private final TransactionExportService transactionExportService;
 
     @GetMapping("/v1/transactions")
     public ResponseEntity<ApiResponse<List<TransactionResponse>>> retrieveTransactions(@Valid TransactionRetrieveRequest request) {
 
-        List<TransactionResponse> results = transactionService.retrieveTransaction(request.toCommand());
-        return ApiResponse.ok(results);
+        TransactionPageResponse results = transactionService.retrieveTransaction(request.toCommand());
+        ResponseEntity<ApiResponse<List<TransactionResponse>>> response = ApiResponse.ok(results.getTransactions());
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .header(PERIOD_FROM_HEADER, results.getFrom().toString())
+                .header(PERIOD_TO_HEADER, results.getTo().toString());
+        if (results.getNextCursor() != null) {
+            builder.header(NEXT_CURSOR_HEADER, results.getNextCursor());
+        }
+        return builder.body(response.getBody());
+    }
+
+    @GetMapping("/v1/transactions/export")
+    public ResponseEntity<StreamingResponseBody> exportTransactions(@Valid TransactionExportRequest request) {
+        TransactionExportCommand command = request.toCommand();
+        TransactionExport export = transactionExportService.export(command);
+
+        ContentDisposition contentDisposition = ContentDisposition.attachment()
+                .filename("transactions-" + command.accountId() + "." + command.format().getExtension())
+                .build();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(command.format().getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition.toString())
+                .body(export::writeTo);
     }
 }
@@ -0,0 +1,45 @@
+package com.wirebarley.presentation.transaction.dto.request;
+
+import com.wirebarley.application.transaction.dto.request.TransactionExportCommand;
+import com.wirebarley.application.transaction.export.TransactionExportFormat;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+import static com.wirebarley.infrastructure.common.StringUtils.isBlank;
+
+@Builder
+public record TransactionExportRequest(
+
+        @NotNull(message = "계좌 소유주 정보는 필수입니다.")
+        Long userId,
+
+        @NotNull(message = "계좌번호는 필수입니다.")
+        Long accountId,
+
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate from,
+
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate to,
+
+        String format
+) {
+    public TransactionExportRequest {
+        if (isBlank(format)) {
+            format = TransactionExportFormat.NDJSON.name();
+        }
+    }
+
+    public TransactionExportCommand toCommand() {
+        return TransactionExportCommand.builder()
+                .userId(this.userId)
+                .accountId(this.accountId)
+                .from(this.from)
+                .to(this.to)
+                .format(TransactionExportFormat.of(this.format))
+                .build();
+    }
+}
@@ -2,8 +2,12 @@ package com.wirebarley.presentation.transaction.dto.request;
 
 import com.wirebarley.application.transaction.dto.request.TransactionRetrieveCommand;
 import com.wirebarley.domain.transaction.TransactionType;
+import com.wirebarley.domain.transaction.dto.TransactionCursor;
 import jakarta.validation.constraints.NotNull;
 import lombok.Builder;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
 
 import static com.wirebarley.infrastructure.common.StringUtils.isBlank;
 
@@ -20,7 +24,15 @@ public record TransactionRetrieveRequest(
         @NotNull(message = "계좌번호는 필수입니다.")
         Long accountId,
 
-        String type
+        String type,
+
+        String cursor,
+
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate from,
+
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate to
 ) {
     public TransactionRetrieveRequest {
         if (offset == null) {
@@ -43,6 +55,9 @@ public record TransactionRetrieveRequest(
                 .userId(this.userId)
                 .accountId(this.accountId)
                 .type(TransactionType.of(this.type))
+                .cursor(isBlank(this.cursor) ? null : TransactionCursor.decode(this.cursor))
+                .from(this.from)
+                .to(this.to)
                 .build();
     }
 }
@@ -0,0 +1,7 @@
+-- ASYNC 모드에서 명세 반영에 실패한 계좌. 실패한 계좌만 재생성(failedOnly)하면 이 계좌들만 다시 만들고,
+-- 계좌를 다시 만들 때 그 전에 기록된 실패는 지운다. 계좌마다 마지막 실패 시각 하나만 남긴다.
+create table account_statement_failure (
+    account_id bigint      not null,
+    failed_at  datetime(6) not null,
+    primary key (account_id)
+);
@@ -0,0 +1,123 @@
+-- ddl-auto 로 만들던 스키마를 그대로 옮긴 기준 스키마. 이후 변경은 새 버전 파일로만 추가한다.
+create table users (
+    id          bigint       not null auto_increment,
+    email       varchar(255),
+    password    varchar(255),
+    username    varchar(255),
+    created_at  datetime(6),
+    modified_at datetime(6),
+    primary key (id)
+);
+
+create table account (
+    id              bigint not null,
+    account_number  bigint,
+    password        integer,
+    balance         bigint,
+    user_id         bigint,
+    tier            enum ('BASIC','PREMIUM','CORPORATE'),
+    registered_at   datetime(6),
+    unregistered_at datetime(6),
+    version         bigint,
+    created_at      datetime(6),
+    modified_at     datetime(6),
+    primary key (id),
+    constraint fk_account_user_id foreign key (user_id) references users (id)
+);
+
+create table account_balance_slot (
+    id             bigint  not null auto_increment,
+    account_number bigint,
+    slot_no        integer not null,
+    balance        bigint,
+    primary key (id),
+    constraint uk_account_balance_slot unique (account_number, slot_no)
+);
+
+create table transactions (
+    id                       bigint not null,
+    withdraw_account_id      bigint,
+    deposit_account_id       bigint,
+    amount                   bigint,
+    withdraw_account_balance bigint,
+    deposit_account_balance  bigint,
+    type                     enum ('ALL','DEPOSIT','TRANSFER','WITHDRAW'),
+    sender                   varchar(255),
+    receiver                 varchar(255),
+    created_at               datetime(6),
+    modified_at              datetime(6),
+    primary key (id)
+);
+
+create table ledger_event (
+    id             bigint not null auto_increment,
+    account_number bigint,
+    amount         bigint,
+    type           enum ('ALL','DEPOSIT','TRANSFER','WITHDRAW'),
+    created_at     datetime(6),
+    primary key (id)
+);
+create index idx_ledger_event_account_number_id on ledger_event (account_number, id);
+
+create table ledger_snapshot (
+    id             bigint not null auto_increment,
+    account_number bigint,
+    balance        bigint,
+    last_event_id  bigint,
+    created_at     datetime(6),
+    primary key (id)
+);
+create index idx_ledger_snapshot_account_number_last_event_id on ledger_snapshot (account_number, last_event_id);
+
+create table idempotency_record (
+    id              bigint not null auto_increment,
+    idempotency_key varchar(100),
+    request_hash    varchar(64),
+    operation       varchar(255),
+    status          enum ('COMPLETED','IN_PROGRESS'),
+    created_at      datetime(6),
+    expires_at      datetime(6),
+    primary key (id),
+    constraint uk_idempotency_record_key unique (idempotency_key)
+);
+create index idx_idempotency_record_expires_at on idempotency_record (expires_at);
+
+create table transfer_job (
+    id              bigint not null auto_increment,
+    user_id         bigint,
+    withdraw_number bigint,
+    deposit_number  bigint,
+    amount          bigint,
+    status          enum ('COMPLETED','FAILED','PENDING','PROCESSING'),
+    failure_reason  varchar(255),
+    transaction_id  bigint,
+    requested_at    datetime(6),
+    completed_at    datetime(6),
+    created_at      datetime(6),
+    modified_at     datetime(6),
+    primary key (id)
+);
+create index idx_transfer_job_status on transfer_job (status);
+
+create table withdrawal_counter (
+    id             bigint not null auto_increment,
+    account_number bigint not null,
+    period         enum ('DAILY','MONTHLY','WEEKLY') not null,
+    period_start   date   not null,
+    amount         bigint not null,
+    primary key (id),
+    constraint uk_withdrawal_counter_account_number_period_start unique (account_number, period_start, period)
+);
+
+create table transfer_limit_policy (
+    id            bigint      not null auto_increment,
+    scope         enum ('ACCOUNT','TIER','USER') not null,
+    scope_key     varchar(50) not null,
+    daily_limit   bigint,
+    weekly_limit  bigint,
+    monthly_limit bigint,
+    starts_at     datetime(6),
+    ends_at       datetime(6),
+    created_at    datetime(6),
+    primary key (id)
+);
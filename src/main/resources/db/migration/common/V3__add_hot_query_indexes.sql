@@ -0,0 +1,17 @@
+-- 계좌번호 단건 조회(findByAccountNumber 계열)와 조건부 UPDATE 가 모두 account_number 로 들어온다.
+create unique index uk_account_account_number on account (account_number);
+
+-- 출금 계좌 기준 거래 조회(WITHDRAW/TRANSFER)와 기간별 출금 합계.
+-- 계좌 + 유형이 등치 조건이라 앞에 두고, created_at 정렬/범위를 이어 받은 뒤 amount 까지 담아 합계는 테이블을 읽지 않는다.
+create index idx_transactions_withdraw_account_id_type_created_at
+    on transactions (withdraw_account_id, type, created_at, amount);
+
+-- 입금 계좌 기준 거래 조회(DEPOSIT)와 전체 조회의 입금 쪽 조건.
+create index idx_transactions_deposit_account_id_type_created_at
+    on transactions (deposit_account_id, type, created_at);
+
+-- MySQL 은 FK 를 받칠 인덱스가 없으면 단일 컬럼 인덱스를 따로 만든다. 위 복합 인덱스가 FK 도 받치도록 인덱스 다음에 건다.
+alter table transactions
+    add constraint fk_transactions_withdraw_account_id foreign key (withdraw_account_id) references account (id);
+alter table transactions
+    add constraint fk_transactions_deposit_account_id foreign key (deposit_account_id) references account (id);
@@ -0,0 +1,9 @@
+-- 거래 내역을 (created_at, id) 커서로 읽으므로 created_at 바로 뒤에 id 를 두어 정렬과 커서 조건을 인덱스 순서 그대로 처리한다.
+-- FK 가 기존 인덱스에 기대고 있으므로 새 인덱스를 먼저 만들고 기존 인덱스를 지운다.
+create index idx_transactions_withdraw_account_id_type_created_at_id
+    on transactions (withdraw_account_id, type, created_at, id, amount);
+create index idx_transactions_deposit_account_id_type_created_at_id
+    on transactions (deposit_account_id, type, created_at, id);
+
+drop index idx_transactions_withdraw_account_id_type_created_at on transactions;
+drop index idx_transactions_deposit_account_id_type_created_at on transactions;
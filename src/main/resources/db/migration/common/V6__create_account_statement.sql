@@ -0,0 +1,32 @@
+-- 거래 한 건마다 관련된 계좌마다 한 행씩 쌓는 계좌별 거래 명세. 거래 내역 조회는 transactions 와 account 를 조인하지 않고 이 테이블만 읽는다.
+-- 금액은 입금이 +, 출금이 - 이고 잔액은 그 거래 직후 계좌 잔액이다. 상대방 이름은 출금 쪽은 수취인, 입금 쪽은 송금인이다.
+-- PK 가 (계좌, 시각, 거래) 순서라 한 계좌의 최신순 조회와 커서 조건이 PK 범위 스캔 하나로 끝난다.
+create table account_statement (
+    account_id                  bigint      not null,
+    created_at                  datetime(6) not null,
+    transaction_id              bigint      not null,
+    account_number              bigint,
+    counterparty_account_number bigint,
+    counterparty_name           varchar(255),
+    amount                      bigint      not null,
+    balance                     bigint,
+    type                        enum ('ALL','DEPOSIT','TRANSFER','WITHDRAW') not null,
+    sender                      varchar(255),
+    receiver                    varchar(255),
+    primary key (account_id, created_at, transaction_id)
+);
+create index idx_account_statement_account_id_type_created_at
+    on account_statement (account_id, type, created_at, transaction_id);
+
+-- 이미 쌓인 거래를 옮긴다. 이후로는 AccountStatementProjector 가 같은 방식으로 채운다.
+insert into account_statement (account_id, created_at, transaction_id, account_number, counterparty_account_number, counterparty_name, amount, balance, type, sender, receiver)
+select t.withdraw_account_id, t.created_at, t.id, a.account_number, c.account_number, t.receiver, -t.amount, t.withdraw_account_balance, t.type, t.sender, t.receiver
+from transactions t
+join account a on a.id = t.withdraw_account_id
+left join account c on c.id = t.deposit_account_id;
+
+insert into account_statement (account_id, created_at, transaction_id, account_number, counterparty_account_number, counterparty_name, amount, balance, type, sender, receiver)
+select t.deposit_account_id, t.created_at, t.id, a.account_number, c.account_number, t.sender, t.amount, t.deposit_account_balance, t.type, t.sender, t.receiver
+from transactions t
+join account a on a.id = t.deposit_account_id
+left join account c on c.id = t.withdraw_account_id;
@@ -0,0 +1,10 @@
+-- 이체 수수료를 거래마다 남긴다. 지금까지는 출금 계좌 잔액에서만 빠지고 거래에는 남지 않아서, 이체를 보낸 계좌는 명세 금액 합계가 잔액과 맞지 않았다.
+alter table transactions add column transfer_charge bigint not null default 0;
+alter table account_statement add column transfer_charge bigint not null default 0;
+
+-- 이미 쌓인 이체는 그때와 같은 규칙(이체 금액의 1%, 반올림. Account.getTransferCharge)으로 채운다.
+update transactions set transfer_charge = round(amount * 0.01) where type = 'TRANSFER';
+
+-- 명세 금액은 계좌 잔액이 바뀐 만큼이므로 이체를 보낸 쪽 명세에서는 수수료까지 뺀다.
+update account_statement set transfer_charge = round(-amount * 0.01) where type = 'TRANSFER' and amount < 0;
+update account_statement set amount = amount - transfer_charge where transfer_charge > 0;
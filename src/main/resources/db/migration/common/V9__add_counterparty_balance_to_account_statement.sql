@@ -0,0 +1,10 @@
+-- 거래 내역 조회가 account_statement 만 읽게 되면서 상대 계좌의 거래 후 잔액이 응답에서 빠졌다.
+-- 이체 응답에는 원래 출금/입금 잔액이 모두 있었으므로 명세 행에도 상대 계좌 잔액을 같이 둔다.
+alter table account_statement add column counterparty_balance bigint;
+
+update account_statement s
+set counterparty_balance = (
+    select case when s.amount < 0 then t.deposit_account_balance else t.withdraw_account_balance end
+    from transactions t
+    where t.id = s.transaction_id and t.created_at = s.created_at
+);
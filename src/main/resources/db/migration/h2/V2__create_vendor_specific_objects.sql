@@ -0,0 +1,6 @@
+-- H2 는 시퀀스를 지원하므로 Hibernate 가 next value for 로 id 를 allocationSize 만큼 미리 받아 간다.
+create sequence account_seq start with 1 increment by 50;
+create sequence transactions_seq start with 1 increment by 100;
+
+-- MySQL 모드의 H2 는 longtext 를 varchar 로 바꿔 버려서 @Lob 컬럼은 clob 으로 만든다.
+alter table idempotency_record add column response_body clob;
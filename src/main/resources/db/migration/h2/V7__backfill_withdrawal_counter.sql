@@ -0,0 +1,27 @@
+-- mysql/V7 과 같은 내용을 H2 의 날짜 함수로 쓴다. 주는 월요일, 월은 1일부터 센다.(WithdrawalPeriod)
+insert into withdrawal_counter (account_number, period, period_start, amount)
+select a.account_number, 'DAILY', current_date, sum(t.amount)
+from transactions t
+         join account a on a.id = t.withdraw_account_id
+where t.type in ('WITHDRAW', 'TRANSFER')
+  and t.created_at >= current_date
+group by a.account_number
+on duplicate key update amount = greatest(amount, values(amount));
+
+insert into withdrawal_counter (account_number, period, period_start, amount)
+select a.account_number, 'WEEKLY', dateadd(day, 1 - iso_day_of_week(current_date), current_date), sum(t.amount)
+from transactions t
+         join account a on a.id = t.withdraw_account_id
+where t.type in ('WITHDRAW', 'TRANSFER')
+  and t.created_at >= dateadd(day, 1 - iso_day_of_week(current_date), current_date)
+group by a.account_number
+on duplicate key update amount = greatest(amount, values(amount));
+
+insert into withdrawal_counter (account_number, period, period_start, amount)
+select a.account_number, 'MONTHLY', dateadd(day, 1 - day_of_month(current_date), current_date), sum(t.amount)
+from transactions t
+         join account a on a.id = t.withdraw_account_id
+where t.type in ('WITHDRAW', 'TRANSFER')
+  and t.created_at >= dateadd(day, 1 - day_of_month(current_date), current_date)
+group by a.account_number
+on duplicate key update amount = greatest(amount, values(amount));
@@ -0,0 +1,17 @@
+-- MySQL 에는 시퀀스가 없어 Hibernate 가 같은 이름의 단일 행 테이블로 시퀀스를 흉내 낸다.
+-- pooled 옵티마이저는 읽은 값을 받아 갈 id 묶음의 끝으로 보고 (값 - allocationSize + 1) 부터 쓴다.
+-- 그래서 이미 행이 쌓인 DB 에서도 겹치지 않도록 max(id) + allocationSize 보다 작은 값에서는 시작하지 않는다.
+-- ddl-auto 가 시퀀스 테이블을 먼저 만들어 둔 DB 도 있으므로 있으면 그대로 쓰고 값만 올린다.
+create table if not exists account_seq (
+    next_val bigint
+);
+insert into account_seq select 1 from dual where not exists (select * from account_seq);
+update account_seq set next_val = greatest(next_val, (select coalesce(max(id), 0) + 50 from account));
+
+create table if not exists transactions_seq (
+    next_val bigint
+);
+insert into transactions_seq select 1 from dual where not exists (select * from transactions_seq);
+update transactions_seq set next_val = greatest(next_val, (select coalesce(max(id), 0) + 100 from transactions));
+
+alter table idempotency_record add column response_body longtext;
@@ -0,0 +1,24 @@
+-- transactions 를 created_at 월 단위 RANGE 파티션으로 나눈다. 이후 월별 파티션은 애플리케이션(TransactionPartitionManager)이 미리 만들고 오래된 것은 떼어 낸다.
+-- MySQL 파티션 테이블은 FK 를 가질 수 없고, PK 를 포함한 모든 유니크 키에 파티션 키가 들어가야 한다.
+--
+-- 이 마이그레이션은 PK 변경과 파티셔닝을 위해 transactions 전체를 한 번 다시 쓰고, 그동안 transactions 에 쓰기가 막힌다.
+-- 거래가 쌓인 DB 에서는 서비스를 내린 점검 시간에 적용한다. (애플리케이션을 띄우면 Flyway 가 시작 전에 적용한다)
+alter table transactions drop foreign key fk_transactions_withdraw_account_id;
+alter table transactions drop foreign key fk_transactions_deposit_account_id;
+
+-- 이번 달 이전 거래는 p_history 에, 이번 달부터 3달 뒤(months-ahead 기본값)까지는 월별 파티션에 바로 나눠 담는다.
+-- 그래서 애플리케이션의 첫 관리 작업이 기존 거래가 든 파티션을 다시 나누지 않는다. 경계 날짜가 매번 달라 DDL 을 만들어 실행한다.
+set @month_start = curdate() - interval (dayofmonth(curdate()) - 1) day;
+set @partition_ddl = concat(
+    'alter table transactions modify created_at datetime(6) not null, drop primary key, add primary key (id, created_at) ',
+    'partition by range columns (created_at) (',
+    'partition p_history values less than (''', @month_start, '''), ',
+    'partition ', date_format(@month_start, 'p%Y%m'), ' values less than (''', @month_start + interval 1 month, '''), ',
+    'partition ', date_format(@month_start + interval 1 month, 'p%Y%m'), ' values less than (''', @month_start + interval 2 month, '''), ',
+    'partition ', date_format(@month_start + interval 2 month, 'p%Y%m'), ' values less than (''', @month_start + interval 3 month, '''), ',
+    'partition ', date_format(@month_start + interval 3 month, 'p%Y%m'), ' values less than (''', @month_start + interval 4 month, '''), ',
+    'partition p_future values less than (maxvalue))'
+);
+prepare partition_transactions from @partition_ddl;
+execute partition_transactions;
+deallocate prepare partition_transactions;
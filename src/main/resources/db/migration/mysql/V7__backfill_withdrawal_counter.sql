@@ -0,0 +1,28 @@
+-- 기간별 누적 출금액을 도입하기 전의 출금/이체를 이번 일/주/월 누적 출금액에 채운다. 채우지 않으면 배포 시점에 한도가 0부터 다시 시작한다.
+-- 주는 월요일, 월은 1일부터 센다.(WithdrawalPeriod) 이미 쌓인 누적 출금액이 있으면 둘 중 큰 값을 남겨서 다시 실행해도 두 번 더해지지 않는다.
+insert into withdrawal_counter (account_number, period, period_start, amount)
+select a.account_number, 'DAILY', curdate(), sum(t.amount)
+from transactions t
+         join account a on a.id = t.withdraw_account_id
+where t.type in ('WITHDRAW', 'TRANSFER')
+  and t.created_at >= curdate()
+group by a.account_number
+on duplicate key update amount = greatest(amount, values(amount));
+
+insert into withdrawal_counter (account_number, period, period_start, amount)
+select a.account_number, 'WEEKLY', curdate() - interval weekday(curdate()) day, sum(t.amount)
+from transactions t
+         join account a on a.id = t.withdraw_account_id
+where t.type in ('WITHDRAW', 'TRANSFER')
+  and t.created_at >= curdate() - interval weekday(curdate()) day
+group by a.account_number
+on duplicate key update amount = greatest(amount, values(amount));
+
+insert into withdrawal_counter (account_number, period, period_start, amount)
+select a.account_number, 'MONTHLY', curdate() - interval (dayofmonth(curdate()) - 1) day, sum(t.amount)
+from transactions t
+         join account a on a.id = t.withdraw_account_id
+where t.type in ('WITHDRAW', 'TRANSFER')
+  and t.created_at >= curdate() - interval (dayofmonth(curdate()) - 1) day
+group by a.account_number
+on duplicate key update amount = greatest(amount, values(amount));
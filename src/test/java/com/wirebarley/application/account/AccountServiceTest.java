@@ -7,16 +7,18 @@ import com.wirebarley.application.account.dto.request.WithdrawCommand;
 import com.wirebarley.application.account.dto.response.AccountResponse;
 import com.wirebarley.application.account.dto.response.DepositResponse;
 import com.wirebarley.application.account.dto.response.WithdrawResponse;
+import com.wirebarley.application.transaction.AccountStatementService;
+import com.wirebarley.application.transaction.dto.response.AccountStatementBalanceResponse;
 import com.wirebarley.application.transaction.dto.response.TransactionResponse;
 import com.wirebarley.domain.account.Account;
 import com.wirebarley.domain.account.AccountRepository;
-import com.wirebarley.domain.transaction.Transaction;
-import com.wirebarley.domain.transaction.TransactionRepository;
+import com.wirebarley.domain.limit.WithdrawalCounterRepository;
 import com.wirebarley.domain.transaction.TransactionType;
 import com.wirebarley.domain.user.User;
 import com.wirebarley.domain.user.UserRepository;
 import com.wirebarley.infrastructure.account.jpa.JpaAccountRepository;
 import com.wirebarley.infrastructure.exception.CustomException;
+import com.wirebarley.infrastructure.limit.jpa.JpaWithdrawalCounterRepository;
 import com.wirebarley.infrastructure.transaction.jpa.JpaTransactionRepository;
 import com.wirebarley.infrastructure.user.jpa.JpaUserRepository;
 import org.junit.jupiter.api.AfterEach;
@@ -24,10 +26,12 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -35,6 +39,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 @SpringBootTest
@@ -49,9 +54,6 @@ class AccountServiceTest {
     @Autowired
     private AccountRepository accountRepository;
 
-    @Autowired
-    private TransactionRepository transactionRepository;
-
     @Autowired
     private JpaUserRepository jpaUserRepository;
 
@@ -61,9 +63,23 @@ class AccountServiceTest {
     @Autowired
     private JpaTransactionRepository jpaTransactionRepository;
 
+    @Autowired
+    private WithdrawalCounterRepository withdrawalCounterRepository;
+
+    @Autowired
+    private JpaWithdrawalCounterRepository jpaWithdrawalCounterRepository;
+
+    @Autowired
+    private AccountStatementService accountStatementService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @AfterEach
     void tearDown() {
+        jdbcTemplate.update("delete from account_statement");
         jpaTransactionRepository.deleteAllInBatch();
+        jpaWithdrawalCounterRepository.deleteAllInBatch();
         jpaAccountRepository.deleteAllInBatch();
         jpaUserRepository.deleteAllInBatch();
     }
@@ -183,6 +199,37 @@ class AccountServiceTest {
         );
     }
 
+    @DisplayName("같은 계좌의 입금을 한 번에 반영하면 각 입금의 응답에 누적 잔액이 담긴다.")
+    @Test
+    public void depositAll() {
+        // given
+        long depositAccountNumber = 1111L;
+
+        User user = createUser("입금받는사람", "user1@email.com", "password1");
+        User savedUser = userRepository.save(user);
+        Account depositAccount = getAccount(depositAccountNumber, 1234, 1000L, savedUser);
+        Account savedAccount = accountRepository.save(depositAccount);
+
+        List<DepositCommand> commands = List.of(
+                DepositCommand.builder().accountNumber(depositAccountNumber).amount(100L).sender("ATM").build(),
+                DepositCommand.builder().accountNumber(depositAccountNumber).amount(200L).sender("가맹점").build(),
+                DepositCommand.builder().accountNumber(depositAccountNumber).amount(300L).sender("ATM").build()
+        );
+
+        // when
+        List<DepositResponse> depositResponses = accountService.depositAll(commands);
+
+        // then
+        assertThat(depositResponses)
+                .extracting(DepositResponse::getAmount, DepositResponse::getDepositAccountBalance, DepositResponse::getSender)
+                .containsExactly(
+                        tuple(100L, 1100L, "ATM"),
+                        tuple(200L, 1300L, "가맹점"),
+                        tuple(300L, 1600L, "ATM")
+                );
+        assertThat(accountRepository.findById(savedAccount.getId()).getBalance()).isEqualTo(1600L);
+    }
+
     @DisplayName("입금 하려는 금액이 0원이면 예외가 발생한다.")
     @Test
     public void depositWithZeroAmount() {
@@ -363,13 +410,54 @@ class AccountServiceTest {
         );
     }
 
+    @DisplayName("계좌이체를 주고받은 두 계좌 모두 명세 금액 합계가 수수료까지 포함해서 계좌 잔액과 맞는다.")
+    @Test
+    public void transferKeepsStatementBalanced() {
+        // given
+        User savedUser1 = userRepository.save(createUser("user1", "user1@email.com", "password1"));
+        User savedUser2 = userRepository.save(createUser("user2", "user2@email.com", "password2"));
+        Account savedAccount1 = accountRepository.save(getAccount(1111L, 1234, 10000L, savedUser1));
+        Account savedAccount2 = accountRepository.save(getAccount(2222L, 5678, 10000L, savedUser2));
+
+        // when
+        TransactionResponse transferResponse = accountService.transfer(TransferCommand.builder()
+                .withdrawNumber(1111L)
+                .depositNumber(2222L)
+                .userId(savedUser1.getId())
+                .amount(1500L)
+                .accountPassword(1234)
+                .build());
+        accountService.transfer(TransferCommand.builder()
+                .withdrawNumber(2222L)
+                .depositNumber(1111L)
+                .userId(savedUser2.getId())
+                .amount(250L)
+                .accountPassword(5678)
+                .build());
+
+        // then
+        AccountStatementBalanceResponse balance1 = accountStatementService.checkBalance(savedAccount1.getId());
+        AccountStatementBalanceResponse balance2 = accountStatementService.checkBalance(savedAccount2.getId());
+        assertAll(
+                () -> assertThat(transferResponse.getDepositAccountBalance()).isEqualTo(11500L),
+                () -> assertThat(jpaTransactionRepository.findById(transferResponse.getId()).orElseThrow().getTransferCharge()).isEqualTo(15L),
+                () -> assertThat(balance1.getAccountBalance()).isEqualTo(8735L),
+                () -> assertThat(balance1.getAmountSum()).isEqualTo(-1265L),
+                () -> assertThat(balance1.getClosingBalance()).isEqualTo(8735L),
+                () -> assertThat(balance1.isBalanced()).isTrue(),
+                () -> assertThat(balance2.getAccountBalance()).isEqualTo(11247L),
+                () -> assertThat(balance2.getAmountSum()).isEqualTo(1247L),
+                () -> assertThat(balance2.getClosingBalance()).isEqualTo(11247L),
+                () -> assertThat(balance2.isBalanced()).isTrue()
+        );
+    }
+
     @DisplayName("계좌이체시 출금계좌와 입금계좌가 동일하면 예외가 발생한다.")
     @Test
     public void transferSameAccount() {
         // given
-        long depositAccountNumber = 1111L;
-
         long withdrawAccountNumber = 1111L;
+        long depositAccountNumber = withdrawAccountNumber;
         long amount = 500;
 
         User withdrawUser = createUser("계좌이체하는사람", "user1@email.com", "password1");
@@ -377,11 +465,6 @@ class AccountServiceTest {
         Account withdrawAccount = getAccount(withdrawAccountNumber, 1234, 1000L, savedWithdrawUser);
         accountRepository.save(withdrawAccount);
 
-        User depositUser = createUser("입금받는사람", "user2@email.com", "password2");
-        User savedDepositUser = userRepository.save(depositUser);
-        Account depositAccount = getAccount(depositAccountNumber, 5678, 1000L, savedDepositUser);
-        accountRepository.save(depositAccount);
-
         TransferCommand transferCommand = TransferCommand.builder()
                 .withdrawNumber(withdrawAccountNumber)
                 .depositNumber(depositAccountNumber)
@@ -545,16 +628,14 @@ class AccountServiceTest {
         User withdrawUser = createUser("계좌이체하는사람", "user1@email.com", "password1");
         User savedWithdrawUser = userRepository.save(withdrawUser);
         Account withdrawAccount = getAccount(withdrawAccountNumber, 1234, 1000L, savedWithdrawUser);
-        Account savedWithdrawAccount = accountRepository.save(withdrawAccount);
+        accountRepository.save(withdrawAccount);
 
         User depositUser = createUser("입금받는사람", "user2@email.com", "password2");
         User savedDepositUser = userRepository.save(depositUser);
         Account depositAccount = getAccount(depositAccountNumber, 5678, 1000L, savedDepositUser);
-        Account savedDepositAccount = accountRepository.save(depositAccount);
+        accountRepository.save(depositAccount);
 
-        LocalDateTime transferDate = LocalDateTime.now();
-        Transaction transaction = makeTransaction(savedWithdrawAccount, savedDepositAccount, 100_000L, transferDate);
-        transactionRepository.save(transaction);
+        withdrawalCounterRepository.add(withdrawAccountNumber, 100_000L, LocalDate.now());
 
         TransferCommand transferCommand = TransferCommand.builder()
                 .withdrawNumber(withdrawAccountNumber)
@@ -582,18 +663,15 @@ class AccountServiceTest {
         User withdrawUser = createUser("계좌이체하는사람", "user1@email.com", "password1");
         User savedWithdrawUser = userRepository.save(withdrawUser);
         Account withdrawAccount = getAccount(withdrawAccountNumber, 1234, 1000L, savedWithdrawUser);
-        Account savedWithdrawAccount = accountRepository.save(withdrawAccount);
+        accountRepository.save(withdrawAccount);
 
         User depositUser = createUser("입금받는사람", "user2@email.com", "password2");
         User savedDepositUser = userRepository.save(depositUser);
         Account depositAccount = getAccount(depositAccountNumber, 5678, 1000L, savedDepositUser);
-        Account savedDepositAccount = accountRepository.save(depositAccount);
+        accountRepository.save(depositAccount);
 
         LocalDateTime weekStartDate = LocalDate.now().with(DayOfWeek.MONDAY).atStartOfDay();
-        for (int i = 1; i <= 5; i++) {
-            Transaction transaction = makeTransaction(savedWithdrawAccount, savedDepositAccount, 100_000L, weekStartDate.plusDays(i));
-            transactionRepository.save(transaction);
-        }
+        withdrawalCounterRepository.add(withdrawAccountNumber, 500_000L, weekStartDate.toLocalDate());
 
         TransferCommand transferCommand = TransferCommand.builder()
                 .withdrawNumber(withdrawAccountNumber)
@@ -622,18 +700,15 @@ class AccountServiceTest {
         User withdrawUser = createUser("계좌이체하는사람", "user1@email.com", "password1");
         User savedWithdrawUser = userRepository.save(withdrawUser);
         Account withdrawAccount = getAccount(withdrawAccountNumber, 1234, 1000L, savedWithdrawUser);
-        Account savedWithdrawAccount = accountRepository.save(withdrawAccount);
+        accountRepository.save(withdrawAccount);
 
         User depositUser = createUser("입금받는사람", "user2@email.com", "password2");
         User savedDepositUser = userRepository.save(depositUser);
         Account depositAccount = getAccount(depositAccountNumber, 5678, 1000L, savedDepositUser);
-        Account savedDepositAccount = accountRepository.save(depositAccount);
+        accountRepository.save(depositAccount);
 
         LocalDateTime monthStart = LocalDate.now().withDayOfMonth(1).atStartOfDay();
-        for (int i = 1; i <= 20; i++) {
-            Transaction transaction = makeTransaction(savedWithdrawAccount, savedDepositAccount, 100_000L, monthStart.plusDays(i));
-            transactionRepository.save(transaction);
-        }
+        withdrawalCounterRepository.add(withdrawAccountNumber, 2_000_000L, monthStart.toLocalDate());
 
         TransferCommand transferCommand = TransferCommand.builder()
                 .withdrawNumber(withdrawAccountNumber)
@@ -701,6 +776,66 @@ class AccountServiceTest {
         assertThat(failCount.get()).isEqualTo(3);
     }
 
+    @DisplayName("두 계좌 사이에서 서로 반대 방향으로 동시에 이체해도 데드락 없이 모두 처리된다.")
+    @Test
+    public void concurrencyTestWhileCrossTransfer() throws InterruptedException {
+        // given
+        long accountNumber1 = 1111L;
+        long accountNumber2 = 2222L;
+        long amount = 100;
+
+        User user1 = createUser("계좌주인1", "user1@email.com", "password1");
+        User savedUser1 = userRepository.save(user1);
+        Account account1 = getAccount(accountNumber1, 1234, 10000L, savedUser1);
+        Account savedAccount1 = accountRepository.save(account1);
+
+        User user2 = createUser("계좌주인2", "user2@email.com", "password2");
+        User savedUser2 = userRepository.save(user2);
+        Account account2 = getAccount(accountNumber2, 5678, 10000L, savedUser2);
+        Account savedAccount2 = accountRepository.save(account2);
+
+        TransferCommand forwardCommand = TransferCommand.builder()
+                .withdrawNumber(accountNumber1)
+                .depositNumber(accountNumber2)
+                .userId(savedUser1.getId())
+                .amount(amount)
+                .accountPassword(1234)
+                .build();
+        TransferCommand backwardCommand = TransferCommand.builder()
+                .withdrawNumber(accountNumber2)
+                .depositNumber(accountNumber1)
+                .userId(savedUser2.getId())
+                .amount(amount)
+                .accountPassword(5678)
+                .build();
+
+        // when
+        int threadCount = 20;
+        ExecutorService es = Executors.newFixedThreadPool(10);
+        CountDownLatch countDownLatch = new CountDownLatch(threadCount);
+        AtomicInteger failCount = new AtomicInteger();
+        for (int i = 0; i < threadCount; i++) {
+            TransferCommand command = i % 2 == 0 ? forwardCommand : backwardCommand;
+            es.execute(() -> {
+                try {
+                    accountService.transfer(command);
+                } catch (Exception e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    countDownLatch.countDown();
+                }
+            });
+        }
+
+        countDownLatch.await();
+        es.shutdown();
+
+        // then
+        assertThat(failCount.get()).isZero();
+        assertThat(accountRepository.findById(savedAccount1.getId()).getBalance()).isEqualTo(9990L);
+        assertThat(accountRepository.findById(savedAccount2.getId()).getBalance()).isEqualTo(9990L);
+    }
+
     private User createUser(String username, String mail, String password) {
         return User.builder()
                 .username(username)
@@ -729,17 +864,4 @@ class AccountServiceTest {
                 .unregisteredAt(null)
                 .build();
     }
-
-    private Transaction makeTransaction(Account withdrawAccount, Account depositAccount, long amount, LocalDateTime transferDate) {
-        return Transaction.builder()
-                .withdrawAccount(withdrawAccount)
-                .depositAccount(depositAccount)
-                .withdrawAccountBalance(100000L)
-                .amount(amount)
-                .type(TransactionType.TRANSFER)
-                .sender("보내는 사람 이름")
-                .receiver("받는 사람 이름")
-                .createdAt(transferDate)
-                .build();
-    }
 }
\ No newline at end of file
@@ -0,0 +1,211 @@
+package com.wirebarley.application.account;
+
+import com.wirebarley.application.account.dto.request.BulkTransferCommand;
+import com.wirebarley.application.account.dto.request.BulkTransferLine;
+import com.wirebarley.application.account.dto.response.BulkTransferLineResponse;
+import com.wirebarley.application.account.dto.response.BulkTransferResponse;
+import com.wirebarley.domain.account.Account;
+import com.wirebarley.domain.account.AccountRepository;
+import com.wirebarley.domain.user.User;
+import com.wirebarley.domain.user.UserRepository;
+import com.wirebarley.infrastructure.account.jpa.JpaAccountRepository;
+import com.wirebarley.infrastructure.exception.CustomException;
+import com.wirebarley.infrastructure.limit.jpa.JpaWithdrawalCounterRepository;
+import com.wirebarley.infrastructure.transaction.jpa.JpaTransactionRepository;
+import com.wirebarley.infrastructure.user.jpa.JpaUserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+class BulkTransferServiceTest {
+
+    @Autowired
+    private BulkTransferService bulkTransferService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private JpaUserRepository jpaUserRepository;
+
+    @Autowired
+    private JpaAccountRepository jpaAccountRepository;
+
+    @Autowired
+    private JpaTransactionRepository jpaTransactionRepository;
+
+    @Autowired
+    private JpaWithdrawalCounterRepository jpaWithdrawalCounterRepository;
+
+    @AfterEach
+    void tearDown() {
+        jpaTransactionRepository.deleteAllInBatch();
+        jpaWithdrawalCounterRepository.deleteAllInBatch();
+        jpaAccountRepository.deleteAllInBatch();
+        jpaUserRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("대량 이체를 하면 성공한 건만 반영하고 건별 결과를 돌려준다.")
+    @Test
+    public void transferAllWithPartialSuccess() {
+        // given
+        User company = userRepository.save(createUser("회사", "company@email.com"));
+        Account companyAccount = accountRepository.save(createAccount(1000L, 1234, 3000L, company));
+        User employee1 = userRepository.save(createUser("직원1", "user1@email.com"));
+        Account employeeAccount1 = accountRepository.save(createAccount(1111L, 1111, 0L, employee1));
+        User employee2 = userRepository.save(createUser("직원2", "user2@email.com"));
+        Account employeeAccount2 = accountRepository.save(createAccount(2222L, 2222, 0L, employee2));
+
+        BulkTransferCommand command = createCommand(company.getId(), false, List.of(
+                line(2222L, 1000L),
+                line(9999L, 1000L),   // 없는 계좌
+                line(1111L, 1000L),
+                line(1111L, 1000L)    // 잔액 부족
+        ));
+
+        // when
+        BulkTransferResponse response = bulkTransferService.transferAll(command);
+
+        // then
+        assertThat(response.getSuccessCount()).isEqualTo(2);
+        assertThat(response.getFailureCount()).isEqualTo(2);
+        assertThat(response.getTotalAmount()).isEqualTo(2000L);
+        assertThat(response.getWithdrawAccountBalance()).isEqualTo(980L);
+        assertThat(response.getResults())
+                .extracting(BulkTransferLineResponse::getDepositAccountNumber, BulkTransferLineResponse::isSuccess, BulkTransferLineResponse::getWithdrawAccountBalance, BulkTransferLineResponse::getFailureReason)
+                .containsExactly(
+                        tuple(2222L, true, 1990L, null),
+                        tuple(9999L, false, null, "계좌가 존재하지 않습니다."),
+                        tuple(1111L, true, 980L, null),
+                        tuple(1111L, false, null, "계좌 잔액이 부족합니다.")
+                );
+        assertThat(response.getResults().get(0).getId()).isNotNull();
+
+        assertThat(accountRepository.findById(companyAccount.getId()).getBalance()).isEqualTo(980L);
+        assertThat(accountRepository.findById(employeeAccount1.getId()).getBalance()).isEqualTo(1000L);
+        assertThat(accountRepository.findById(employeeAccount2.getId()).getBalance()).isEqualTo(1000L);
+        assertThat(jpaTransactionRepository.count()).isEqualTo(2);
+    }
+
+    @DisplayName("전부 아니면 전무로 요청하면 한 건이라도 실패할 때 아무것도 반영하지 않는다.")
+    @Test
+    public void transferAllOrNothing() {
+        // given
+        User company = userRepository.save(createUser("회사", "company@email.com"));
+        Account companyAccount = accountRepository.save(createAccount(1000L, 1234, 3000L, company));
+        User employee1 = userRepository.save(createUser("직원1", "user1@email.com"));
+        Account employeeAccount1 = accountRepository.save(createAccount(1111L, 1111, 0L, employee1));
+
+        BulkTransferCommand command = createCommand(company.getId(), true, List.of(
+                line(1111L, 1000L),
+                line(9999L, 1000L)
+        ));
+
+        // when
+        // then
+        assertThatThrownBy(() -> bulkTransferService.transferAll(command))
+                .isInstanceOf(CustomException.class)
+                .hasMessage("계좌가 존재하지 않습니다.");
+        assertThat(accountRepository.findById(companyAccount.getId()).getBalance()).isEqualTo(3000L);
+        assertThat(accountRepository.findById(employeeAccount1.getId()).getBalance()).isZero();
+        assertThat(jpaTransactionRepository.count()).isZero();
+    }
+
+    @DisplayName("이체 한도는 성공한 건의 합계로 한 번 검사한다.")
+    @Test
+    public void transferAllCheckLimitWithTotal() {
+        // given
+        User company = userRepository.save(createUser("회사", "company@email.com"));
+        Account companyAccount = accountRepository.save(createAccount(1000L, 1234, 1_000_000L, company));
+        User employee1 = userRepository.save(createUser("직원1", "user1@email.com"));
+        accountRepository.save(createAccount(1111L, 1111, 0L, employee1));
+        User employee2 = userRepository.save(createUser("직원2", "user2@email.com"));
+        accountRepository.save(createAccount(2222L, 2222, 0L, employee2));
+
+        // 한 건씩은 일 한도(100,000원) 이내지만 합계는 초과한다.
+        BulkTransferCommand command = createCommand(company.getId(), false, List.of(
+                line(1111L, 60_000L),
+                line(2222L, 60_000L)
+        ));
+
+        // when
+        // then
+        assertThatThrownBy(() -> bulkTransferService.transferAll(command))
+                .isInstanceOf(CustomException.class)
+                .hasMessage("일 이체 한도를 초과했습니다.");
+        assertThat(accountRepository.findById(companyAccount.getId()).getBalance()).isEqualTo(1_000_000L);
+    }
+
+    @DisplayName("출금계좌의 비밀번호가 틀리면 대량 이체를 할 수 없다.")
+    @Test
+    public void transferAllCheckPassword() {
+        // given
+        User company = userRepository.save(createUser("회사", "company@email.com"));
+        accountRepository.save(createAccount(1000L, 1234, 3000L, company));
+        User employee1 = userRepository.save(createUser("직원1", "user1@email.com"));
+        accountRepository.save(createAccount(1111L, 1111, 0L, employee1));
+
+        BulkTransferCommand command = BulkTransferCommand.builder()
+                .withdrawNumber(1000L)
+                .userId(company.getId())
+                .accountPassword(9999)
+                .lines(List.of(line(1111L, 1000L)))
+                .build();
+
+        // when
+        // then
+        assertThatThrownBy(() -> bulkTransferService.transferAll(command))
+                .isInstanceOf(CustomException.class)
+                .hasMessage("계좌 비밀번호 검증에 실패했습니다.");
+    }
+
+    private BulkTransferCommand createCommand(Long userId, boolean allOrNothing, List<BulkTransferLine> lines) {
+        return BulkTransferCommand.builder()
+                .withdrawNumber(1000L)
+                .userId(userId)
+                .accountPassword(1234)
+                .allOrNothing(allOrNothing)
+                .lines(lines)
+                .build();
+    }
+
+    private BulkTransferLine line(Long depositNumber, Long amount) {
+        return BulkTransferLine.builder()
+                .depositNumber(depositNumber)
+                .amount(amount)
+                .build();
+    }
+
+    private User createUser(String username, String email) {
+        return User.builder()
+                .username(username)
+                .email(email)
+                .password("password")
+                .createdAt(LocalDateTime.now())
+                .modifiedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private Account createAccount(long accountNumber, int password, long balance, User user) {
+        return Account.builder()
+                .accountNumber(accountNumber)
+                .password(password)
+                .balance(balance)
+                .user(user)
+                .registeredAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,243 @@
+package com.wirebarley.application.account;
+
+import com.wirebarley.application.account.dto.request.DepositCommand;
+import com.wirebarley.application.account.dto.request.TransferCommand;
+import com.wirebarley.application.account.dto.request.WithdrawCommand;
+import com.wirebarley.application.account.dto.response.DepositResponse;
+import com.wirebarley.application.account.dto.response.WithdrawResponse;
+import com.wirebarley.application.transaction.dto.response.TransactionResponse;
+import com.wirebarley.config.SqlStatementCounter;
+import com.wirebarley.domain.account.Account;
+import com.wirebarley.domain.account.AccountRepository;
+import com.wirebarley.domain.user.User;
+import com.wirebarley.domain.user.UserRepository;
+import com.wirebarley.infrastructure.account.jpa.JpaAccountRepository;
+import com.wirebarley.infrastructure.exception.CustomException;
+import com.wirebarley.infrastructure.limit.jpa.JpaWithdrawalCounterRepository;
+import com.wirebarley.infrastructure.transaction.jpa.JpaTransactionRepository;
+import com.wirebarley.infrastructure.user.jpa.JpaUserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest(properties = {
+        "wirebarley.account.concurrency.mode=CONDITIONAL_UPDATE",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.wirebarley.config.SqlStatementCounter"
+})
+class ConditionalUpdateAccountServiceTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private JpaUserRepository jpaUserRepository;
+
+    @Autowired
+    private JpaAccountRepository jpaAccountRepository;
+
+    @Autowired
+    private JpaTransactionRepository jpaTransactionRepository;
+
+    @Autowired
+    private JpaWithdrawalCounterRepository jpaWithdrawalCounterRepository;
+
+    @AfterEach
+    void tearDown() {
+        jpaTransactionRepository.deleteAllInBatch();
+        jpaWithdrawalCounterRepository.deleteAllInBatch();
+        jpaAccountRepository.deleteAllInBatch();
+        jpaUserRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("입금하면 UPDATE 이후의 잔액이 응답에 담긴다.")
+    @Test
+    public void deposit() {
+        // given
+        User savedUser = userRepository.save(createUser("입금받는사람", "user1@email.com"));
+        accountRepository.save(createAccount(1111L, 1234, 1000L, savedUser));
+
+        DepositCommand command = DepositCommand.builder()
+                .accountNumber(1111L)
+                .amount(500L)
+                .sender("ATM")
+                .build();
+
+        // when
+        DepositResponse response = accountService.deposit(command);
+
+        // then
+        assertAll(
+                () -> assertThat(response.getDepositAccountBalance()).isEqualTo(1500L),
+                () -> assertThat(response.getReceiver()).isEqualTo("입금받는사람")
+        );
+    }
+
+    @DisplayName("존재하지 않는 계좌에 입금하면 예외가 발생한다.")
+    @Test
+    public void depositToUnknownAccount() {
+        // given
+        DepositCommand command = DepositCommand.builder()
+                .accountNumber(9999L)
+                .amount(500L)
+                .sender("ATM")
+                .build();
+
+        // when
+        // then
+        assertThatThrownBy(() -> accountService.deposit(command))
+                .isInstanceOf(CustomException.class)
+                .hasMessage("계좌가 존재하지 않습니다.");
+    }
+
+    @DisplayName("잔액이 부족하면 UPDATE 되는 행이 없어 예외가 발생하고 잔액은 그대로다.")
+    @Test
+    public void withdrawCheckEnoughBalance() {
+        // given
+        User savedUser = userRepository.save(createUser("출금하는사람", "user1@email.com"));
+        Account savedAccount = accountRepository.save(createAccount(1111L, 1234, 100L, savedUser));
+
+        WithdrawCommand command = WithdrawCommand.builder()
+                .accountNumber(1111L)
+                .amount(1000L)
+                .userId(savedUser.getId())
+                .password(1234)
+                .receiver("ATM")
+                .build();
+
+        // when
+        // then
+        assertThatThrownBy(() -> accountService.withdraw(command))
+                .isInstanceOf(CustomException.class)
+                .hasMessage("계좌 잔액이 부족합니다.");
+        assertThat(accountRepository.findById(savedAccount.getId()).getBalance()).isEqualTo(100L);
+    }
+
+    @DisplayName("1000원이 있는 계좌에서 동시에 100원씩 12번 출금하면 10번만 성공한다.")
+    @Test
+    public void concurrencyTestWhileWithdraw() throws InterruptedException {
+        // given
+        User savedUser = userRepository.save(createUser("출금하는사람", "user1@email.com"));
+        Account savedAccount = accountRepository.save(createAccount(1111L, 1234, 1000L, savedUser));
+
+        WithdrawCommand command = WithdrawCommand.builder()
+                .accountNumber(1111L)
+                .amount(100L)
+                .userId(savedUser.getId())
+                .password(1234)
+                .receiver("ATM")
+                .build();
+
+        // when
+        int threadCount = 12;
+        ExecutorService es = Executors.newFixedThreadPool(5);
+        CountDownLatch countDownLatch = new CountDownLatch(threadCount);
+        AtomicInteger failCount = new AtomicInteger();
+        for (int i = 0; i < threadCount; i++) {
+            es.execute(() -> {
+                try {
+                    accountService.withdraw(command);
+                } catch (Exception e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    countDownLatch.countDown();
+                }
+            });
+        }
+
+        countDownLatch.await();
+        es.shutdown();
+
+        // then
+        assertThat(failCount.get()).isEqualTo(2);
+        assertThat(accountRepository.findById(savedAccount.getId()).getBalance()).isZero();
+    }
+
+    @DisplayName("출금은 소유자 확인용 계좌 조회, version 조건 잔액 UPDATE, 기간별 누적 출금액 upsert, 거래내역 INSERT 네 문장이고 잔액을 다시 읽지 않는다.")
+    @Test
+    public void withdrawWithoutReread() {
+        // given
+        User user = userRepository.save(createUser("출금하는사람", "user1@email.com"));
+        accountRepository.save(createAccount(1111L, 1234, 1000L, user));
+        SqlStatementCounter.clear();
+
+        // when
+        WithdrawResponse response = accountService.withdraw(
+                WithdrawCommand.builder()
+                        .accountNumber(1111L)
+                        .amount(300L)
+                        .userId(user.getId())
+                        .password(1234)
+                        .receiver("ATM")
+                        .build()
+        );
+
+        // then
+        assertThat(SqlStatementCounter.count()).isEqualTo(4);
+        assertThat(response.getWithdrawAccountBalance()).isEqualTo(700L);
+        assertThat(accountRepository.findByAccountNumberForRead(1111L).getBalance()).isEqualTo(700L);
+    }
+
+    @DisplayName("계좌이체를 하면 두 계좌의 잔액이 UPDATE 문으로 바뀐다.")
+    @Test
+    public void transfer() {
+        // given
+        User withdrawUser = userRepository.save(createUser("계좌이체하는사람", "user1@email.com"));
+        Account savedWithdrawAccount = accountRepository.save(createAccount(2222L, 1234, 1000L, withdrawUser));
+        User depositUser = userRepository.save(createUser("입금받는사람", "user2@email.com"));
+        Account savedDepositAccount = accountRepository.save(createAccount(1111L, 5678, 1000L, depositUser));
+
+        TransferCommand command = TransferCommand.builder()
+                .withdrawNumber(2222L)
+                .depositNumber(1111L)
+                .userId(withdrawUser.getId())
+                .amount(500L)
+                .accountPassword(1234)
+                .build();
+
+        // when
+        TransactionResponse response = accountService.transfer(command);
+
+        // then
+        assertThat(response.getWithdrawAccountBalance()).isEqualTo(495L);
+        assertThat(accountRepository.findById(savedWithdrawAccount.getId()).getBalance()).isEqualTo(495L);
+        assertThat(accountRepository.findById(savedDepositAccount.getId()).getBalance()).isEqualTo(1500L);
+    }
+
+    private User createUser(String username, String email) {
+        return User.builder()
+                .username(username)
+                .email(email)
+                .password("password")
+                .createdAt(LocalDateTime.now())
+                .modifiedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private Account createAccount(long accountNumber, int password, long balance, User user) {
+        return Account.builder()
+                .accountNumber(accountNumber)
+                .password(password)
+                .balance(balance)
+                .user(user)
+                .registeredAt(LocalDateTime.now())
+                .build();
+    }
+}
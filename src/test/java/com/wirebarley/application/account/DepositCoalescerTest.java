@@ -0,0 +1,144 @@
+package com.wirebarley.application.account;
+
+import com.wirebarley.application.account.dto.request.DepositCommand;
+import com.wirebarley.application.account.dto.response.DepositResponse;
+import com.wirebarley.infrastructure.account.config.DepositCoalescingProperties;
+import com.wirebarley.infrastructure.exception.CustomException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DepositCoalescerTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @DisplayName("동시에 들어온 같은 계좌 입금은 묶어서 처리하고, 각 요청은 자기 몫의 응답을 받는다.")
+    @Test
+    public void coalesceConcurrentDeposits() throws InterruptedException {
+        // given
+        DepositCoalescer depositCoalescer = createCoalescer(true, Duration.ofMillis(50), 64);
+        AtomicInteger batchCount = new AtomicInteger();
+        AtomicLong balance = new AtomicLong();
+        Function<List<DepositCommand>, List<DepositResponse>> depositAll = commands -> {
+            batchCount.incrementAndGet();
+            return toResponses(commands, balance);
+        };
+
+        // when
+        int threadCount = 20;
+        ExecutorService es = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch countDownLatch = new CountDownLatch(threadCount);
+        ConcurrentHashMap<String, Long> amountBySender = new ConcurrentHashMap<>();
+        for (int i = 0; i < threadCount; i++) {
+            String sender = "sender" + i;
+            long amount = i + 1;
+            es.execute(() -> {
+                try {
+                    DepositResponse response = depositCoalescer.deposit(createCommand(1111L, amount, sender), depositAll);
+                    amountBySender.put(response.getSender(), response.getAmount());
+                } finally {
+                    countDownLatch.countDown();
+                }
+            });
+        }
+
+        countDownLatch.await();
+        es.shutdown();
+
+        // then
+        assertThat(amountBySender).hasSize(threadCount);
+        amountBySender.forEach((sender, amount) -> assertThat(sender).isEqualTo("sender" + (amount - 1)));
+        assertThat(batchCount.get()).isLessThan(threadCount);
+        assertThat(balance.get()).isEqualTo(210L);
+        assertThat(meterRegistry.summary("account.deposit.batch.size").totalAmount()).isEqualTo(threadCount);
+    }
+
+    @DisplayName("묶음 처리가 실패하면 묶인 요청 모두 같은 예외를 받는다.")
+    @Test
+    public void propagateFailureToAllCallers() {
+        // given
+        DepositCoalescer depositCoalescer = createCoalescer(true, Duration.ofMillis(1), 64);
+
+        // when
+        // then
+        assertThatThrownBy(() -> depositCoalescer.deposit(createCommand(1111L, 100L, "ATM"), commands -> {
+            throw new CustomException("계좌가 존재하지 않습니다.");
+        }))
+                .isInstanceOf(CustomException.class)
+                .hasMessage("계좌가 존재하지 않습니다.");
+    }
+
+    @DisplayName("0원 이하의 입금은 묶기 전에 거절한다.")
+    @Test
+    public void rejectZeroAmountBeforeCoalescing() {
+        // given
+        DepositCoalescer depositCoalescer = createCoalescer(true, Duration.ofMillis(1), 64);
+        AtomicInteger batchCount = new AtomicInteger();
+
+        // when
+        // then
+        assertThatThrownBy(() -> depositCoalescer.deposit(createCommand(1111L, 0L, "ATM"), commands -> {
+            batchCount.incrementAndGet();
+            return toResponses(commands, new AtomicLong());
+        }))
+                .isInstanceOf(CustomException.class)
+                .hasMessage("0원 이하의 금액을 입금할 수 없습니다.");
+        assertThat(batchCount.get()).isZero();
+    }
+
+    @DisplayName("비활성화하면 입금을 하나씩 바로 처리한다.")
+    @Test
+    public void depositOneByOneWhenDisabled() {
+        // given
+        DepositCoalescer depositCoalescer = createCoalescer(false, Duration.ofMillis(50), 64);
+        List<Integer> batchSizes = new ArrayList<>();
+
+        // when
+        DepositResponse response = depositCoalescer.deposit(createCommand(1111L, 100L, "ATM"), commands -> {
+            batchSizes.add(commands.size());
+            return toResponses(commands, new AtomicLong(1000L));
+        });
+
+        // then
+        assertThat(batchSizes).containsExactly(1);
+        assertThat(response.getDepositAccountBalance()).isEqualTo(1100L);
+    }
+
+    private DepositCoalescer createCoalescer(boolean enabled, Duration window, int maxBatchSize) {
+        return new DepositCoalescer(new DepositCoalescingProperties(enabled, window, maxBatchSize), meterRegistry);
+    }
+
+    private List<DepositResponse> toResponses(List<DepositCommand> commands, AtomicLong balance) {
+        return commands.stream()
+                .map(command -> DepositResponse.builder()
+                        .depositAccountNumber(command.accountNumber())
+                        .amount(command.amount())
+                        .depositAccountBalance(balance.addAndGet(command.amount()))
+                        .sender(command.sender())
+                        .build())
+                .toList();
+    }
+
+    private DepositCommand createCommand(long accountNumber, long amount, String sender) {
+        return DepositCommand.builder()
+                .accountNumber(accountNumber)
+                .amount(amount)
+                .sender(sender)
+                .build();
+    }
+}
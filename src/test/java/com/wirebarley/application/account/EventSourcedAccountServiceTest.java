@@ -0,0 +1,280 @@
+package com.wirebarley.application.account;
+
+import com.wirebarley.application.account.dto.request.DepositCommand;
+import com.wirebarley.application.account.dto.request.TransferCommand;
+import com.wirebarley.application.account.dto.request.WithdrawCommand;
+import com.wirebarley.application.account.dto.response.DepositResponse;
+import com.wirebarley.application.account.dto.response.WithdrawResponse;
+import com.wirebarley.application.transaction.AccountStatementService;
+import com.wirebarley.application.transaction.dto.response.AccountStatementBalanceResponse;
+import com.wirebarley.application.transaction.dto.response.TransactionResponse;
+import com.wirebarley.domain.account.Account;
+import com.wirebarley.domain.account.AccountRepository;
+import com.wirebarley.domain.user.User;
+import com.wirebarley.domain.user.UserRepository;
+import com.wirebarley.infrastructure.account.jpa.JpaAccountRepository;
+import com.wirebarley.infrastructure.exception.CustomException;
+import com.wirebarley.infrastructure.ledger.entity.LedgerSnapshotEntity;
+import com.wirebarley.infrastructure.ledger.jpa.JpaLedgerEventRepository;
+import com.wirebarley.infrastructure.ledger.jpa.JpaLedgerSnapshotRepository;
+import com.wirebarley.infrastructure.limit.jpa.JpaWithdrawalCounterRepository;
+import com.wirebarley.infrastructure.transaction.jpa.JpaTransactionRepository;
+import com.wirebarley.infrastructure.user.jpa.JpaUserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest(properties = {
+        "wirebarley.account.concurrency.mode=EVENT_SOURCED",
+        "wirebarley.account.ledger.snapshot-interval=3"
+})
+class EventSourcedAccountServiceTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountLedger accountLedger;
+
+    @Autowired
+    private AccountStatementService accountStatementService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private JpaUserRepository jpaUserRepository;
+
+    @Autowired
+    private JpaAccountRepository jpaAccountRepository;
+
+    @Autowired
+    private JpaTransactionRepository jpaTransactionRepository;
+
+    @Autowired
+    private JpaWithdrawalCounterRepository jpaWithdrawalCounterRepository;
+
+    @Autowired
+    private JpaLedgerEventRepository jpaLedgerEventRepository;
+
+    @Autowired
+    private JpaLedgerSnapshotRepository jpaLedgerSnapshotRepository;
+
+    @AfterEach
+    void tearDown() {
+        jpaLedgerSnapshotRepository.deleteAllInBatch();
+        jpaLedgerEventRepository.deleteAllInBatch();
+        jpaTransactionRepository.deleteAllInBatch();
+        jpaWithdrawalCounterRepository.deleteAllInBatch();
+        jpaAccountRepository.deleteAllInBatch();
+        jpaUserRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("입금과 출금은 원장 이벤트로만 남고, 잔액은 개설 잔액 + 이벤트 합계로 계산된다.")
+    @Test
+    public void depositAndWithdraw() {
+        // given
+        User savedUser = userRepository.save(createUser("원장사용자", "user1@email.com"));
+        Account savedAccount = accountRepository.save(createAccount(1111L, 1234, 1000L, savedUser));
+
+        // when
+        DepositResponse depositResponse = accountService.deposit(deposit(1111L, 500L));
+        WithdrawResponse withdrawResponse = accountService.withdraw(withdraw(1111L, 300L, savedUser.getId()));
+
+        // then
+        assertAll(
+                () -> assertThat(depositResponse.getDepositAccountBalance()).isEqualTo(1500L),
+                () -> assertThat(withdrawResponse.getWithdrawAccountBalance()).isEqualTo(1200L),
+                () -> assertThat(jpaLedgerEventRepository.count()).isEqualTo(2),
+                () -> assertThat(accountRepository.findById(savedAccount.getId()).getBalance()).isEqualTo(1000L),
+                () -> assertThat(accountLedger.getBalance(accountRepository.findById(savedAccount.getId()))).isEqualTo(1200L)
+        );
+    }
+
+    @DisplayName("명세 검증 응답의 계좌 잔액은 개설 잔액이 아니라 원장 잔액이다.")
+    @Test
+    public void checkStatementBalanceWithLedgerBalance() {
+        // given
+        User savedUser = userRepository.save(createUser("원장사용자", "user1@email.com"));
+        Account savedAccount = accountRepository.save(createAccount(1111L, 1234, 1000L, savedUser));
+        accountService.deposit(deposit(1111L, 500L));
+        accountService.withdraw(withdraw(1111L, 300L, savedUser.getId()));
+
+        // when
+        AccountStatementBalanceResponse response = accountStatementService.checkBalance(savedAccount.getId());
+
+        // then
+        assertAll(
+                () -> assertThat(response.getAccountBalance()).isEqualTo(1200L),
+                () -> assertThat(response.getClosingBalance()).isEqualTo(1200L),
+                () -> assertThat(response.isBalanced()).isTrue()
+        );
+    }
+
+    @DisplayName("잔액이 부족하면 예외가 발생하고 이벤트가 남지 않는다.")
+    @Test
+    public void withdrawCheckEnoughBalance() {
+        // given
+        User savedUser = userRepository.save(createUser("원장사용자", "user1@email.com"));
+        accountRepository.save(createAccount(1111L, 1234, 100L, savedUser));
+
+        // when
+        // then
+        assertThatThrownBy(() -> accountService.withdraw(withdraw(1111L, 1000L, savedUser.getId())))
+                .isInstanceOf(CustomException.class)
+                .hasMessage("계좌 잔액이 부족합니다.");
+        assertThat(jpaLedgerEventRepository.count()).isZero();
+    }
+
+    @DisplayName("스냅샷 주기만큼 이벤트가 쌓이면 출금할 때 스냅샷을 남기고, 이후 잔액은 스냅샷부터 계산한다.")
+    @Test
+    public void snapshot() {
+        // given
+        User savedUser = userRepository.save(createUser("원장사용자", "user1@email.com"));
+        Account savedAccount = accountRepository.save(createAccount(1111L, 1234, 1000L, savedUser));
+        accountService.deposit(deposit(1111L, 100L));
+        accountService.deposit(deposit(1111L, 100L));
+
+        // when
+        accountService.withdraw(withdraw(1111L, 50L, savedUser.getId()));
+        accountService.deposit(deposit(1111L, 10L));
+
+        // then
+        assertThat(jpaLedgerSnapshotRepository.findAll())
+                .extracting(LedgerSnapshotEntity::getAccountNumber, LedgerSnapshotEntity::getBalance)
+                .containsExactly(tuple(1111L, 1150L));
+        assertThat(accountLedger.getBalance(accountRepository.findById(savedAccount.getId()))).isEqualTo(1160L);
+    }
+
+    @DisplayName("계좌이체는 출금계좌에 수수료를 포함한 출금 이벤트, 입금계좌에 입금 이벤트를 남긴다.")
+    @Test
+    public void transfer() {
+        // given
+        User withdrawUser = userRepository.save(createUser("계좌이체하는사람", "user1@email.com"));
+        Account savedWithdrawAccount = accountRepository.save(createAccount(2222L, 1234, 1000L, withdrawUser));
+        User depositUser = userRepository.save(createUser("입금받는사람", "user2@email.com"));
+        Account savedDepositAccount = accountRepository.save(createAccount(1111L, 5678, 1000L, depositUser));
+
+        TransferCommand command = TransferCommand.builder()
+                .withdrawNumber(2222L)
+                .depositNumber(1111L)
+                .userId(withdrawUser.getId())
+                .amount(500L)
+                .accountPassword(1234)
+                .build();
+
+        // when
+        TransactionResponse response = accountService.transfer(command);
+
+        // then
+        assertThat(response.getWithdrawAccountBalance()).isEqualTo(495L);
+        assertThat(accountLedger.getBalance(accountRepository.findById(savedWithdrawAccount.getId()))).isEqualTo(495L);
+        assertThat(accountLedger.getBalance(accountRepository.findById(savedDepositAccount.getId()))).isEqualTo(1500L);
+    }
+
+    @DisplayName("동시에 입금해도 모든 입금이 이벤트로 남는다.")
+    @Test
+    public void concurrencyTestWhileDeposit() throws InterruptedException {
+        // given
+        User savedUser = userRepository.save(createUser("원장사용자", "user1@email.com"));
+        Account savedAccount = accountRepository.save(createAccount(1111L, 1234, 0L, savedUser));
+
+        // when
+        int threadCount = 20;
+        ExecutorService es = Executors.newFixedThreadPool(5);
+        CountDownLatch countDownLatch = new CountDownLatch(threadCount);
+        AtomicInteger failCount = new AtomicInteger();
+        for (int i = 0; i < threadCount; i++) {
+            es.execute(() -> {
+                try {
+                    accountService.deposit(deposit(1111L, 100L));
+                } catch (Exception e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    countDownLatch.countDown();
+                }
+            });
+        }
+
+        countDownLatch.await();
+        es.shutdown();
+
+        // then
+        assertThat(failCount.get()).isZero();
+        assertThat(accountLedger.getBalance(accountRepository.findById(savedAccount.getId()))).isEqualTo(2000L);
+    }
+
+    @DisplayName("스냅샷을 다시 만들어도 이벤트를 재생한 잔액이 그대로다.")
+    @Test
+    public void rebuildSnapshots() {
+        // given
+        User savedUser = userRepository.save(createUser("원장사용자", "user1@email.com"));
+        Account savedAccount = accountRepository.save(createAccount(1111L, 1234, 1000L, savedUser));
+        for (int i = 0; i < 7; i++) {
+            accountService.deposit(deposit(1111L, 10L));
+        }
+        accountService.withdraw(withdraw(1111L, 20L, savedUser.getId()));
+
+        // when
+        long replayedCount = accountLedger.rebuildSnapshots();
+
+        // then
+        assertThat(replayedCount).isEqualTo(8);
+        assertThat(jpaLedgerSnapshotRepository.count()).isEqualTo(2);
+        assertThat(accountLedger.getBalance(accountRepository.findById(savedAccount.getId()))).isEqualTo(1050L);
+    }
+
+    private DepositCommand deposit(long accountNumber, long amount) {
+        return DepositCommand.builder()
+                .accountNumber(accountNumber)
+                .amount(amount)
+                .sender("ATM")
+                .build();
+    }
+
+    private WithdrawCommand withdraw(long accountNumber, long amount, Long userId) {
+        return WithdrawCommand.builder()
+                .accountNumber(accountNumber)
+                .amount(amount)
+                .userId(userId)
+                .password(1234)
+                .receiver("ATM")
+                .build();
+    }
+
+    private User createUser(String username, String email) {
+        return User.builder()
+                .username(username)
+                .email(email)
+                .password("password")
+                .createdAt(LocalDateTime.now())
+                .modifiedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private Account createAccount(long accountNumber, int password, long balance, User user) {
+        return Account.builder()
+                .accountNumber(accountNumber)
+                .password(password)
+                .balance(balance)
+                .user(user)
+                .registeredAt(LocalDateTime.now())
+                .build();
+    }
+}
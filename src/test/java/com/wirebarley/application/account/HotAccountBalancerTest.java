@@ -0,0 +1,290 @@
+package com.wirebarley.application.account;
+
+import com.wirebarley.application.account.dto.request.BulkTransferCommand;
+import com.wirebarley.application.account.dto.request.BulkTransferLine;
+import com.wirebarley.application.account.dto.request.DepositCommand;
+import com.wirebarley.application.account.dto.request.TransferCommand;
+import com.wirebarley.application.account.dto.request.WithdrawCommand;
+import com.wirebarley.application.account.dto.response.DepositResponse;
+import com.wirebarley.application.account.dto.response.WithdrawResponse;
+import com.wirebarley.domain.account.Account;
+import com.wirebarley.domain.account.AccountBalanceSlotRepository;
+import com.wirebarley.domain.account.AccountRepository;
+import com.wirebarley.domain.user.User;
+import com.wirebarley.domain.user.UserRepository;
+import com.wirebarley.infrastructure.account.jpa.JpaAccountBalanceSlotRepository;
+import com.wirebarley.infrastructure.account.jpa.JpaAccountRepository;
+import com.wirebarley.infrastructure.limit.jpa.JpaWithdrawalCounterRepository;
+import com.wirebarley.infrastructure.transaction.jpa.JpaTransactionRepository;
+import com.wirebarley.infrastructure.user.jpa.JpaUserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "wirebarley.account.hot.account-numbers=1111,2222",
+        "wirebarley.account.hot.slot-count=4",
+        "wirebarley.account.hot.roll-up-interval=1h"
+})
+class HotAccountBalancerTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private BulkTransferService bulkTransferService;
+
+    @Autowired
+    private HotAccountBalancer hotAccountBalancer;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private AccountBalanceSlotRepository accountBalanceSlotRepository;
+
+    @Autowired
+    private JpaUserRepository jpaUserRepository;
+
+    @Autowired
+    private JpaAccountRepository jpaAccountRepository;
+
+    @Autowired
+    private JpaAccountBalanceSlotRepository jpaAccountBalanceSlotRepository;
+
+    @Autowired
+    private JpaTransactionRepository jpaTransactionRepository;
+
+    @Autowired
+    private JpaWithdrawalCounterRepository jpaWithdrawalCounterRepository;
+
+    @AfterEach
+    void tearDown() {
+        jpaTransactionRepository.deleteAllInBatch();
+        jpaWithdrawalCounterRepository.deleteAllInBatch();
+        jpaAccountBalanceSlotRepository.deleteAllInBatch();
+        jpaAccountRepository.deleteAllInBatch();
+        jpaUserRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("슬롯이 만들어지기 전에는 핫 계좌도 본 잔액에 입금한다.")
+    @Test
+    public void depositBeforeSlotsArePrepared() {
+        // given
+        User savedUser = userRepository.save(createUser());
+        Account savedAccount = accountRepository.save(createAccount(1111L, 1000L, savedUser));
+
+        // when
+        DepositResponse response = accountService.deposit(createDepositCommand(500L));
+
+        // then
+        assertThat(response.getDepositAccountBalance()).isEqualTo(1500L);
+        assertThat(accountRepository.findById(savedAccount.getId()).getBalance()).isEqualTo(1500L);
+    }
+
+    @DisplayName("핫 계좌에 동시에 입금하면 슬롯에 나눠 쌓이고, roll-up 하면 본 잔액으로 합쳐진다.")
+    @Test
+    public void concurrentDepositsToSlotsAndRollUp() throws InterruptedException {
+        // given
+        User savedUser = userRepository.save(createUser());
+        Account savedAccount = accountRepository.save(createAccount(1111L, 1000L, savedUser));
+        hotAccountBalancer.prepareAndRollUp(1111L);
+
+        // when
+        int threadCount = 20;
+        ExecutorService es = Executors.newFixedThreadPool(5);
+        CountDownLatch countDownLatch = new CountDownLatch(threadCount);
+        AtomicInteger failCount = new AtomicInteger();
+        for (int i = 0; i < threadCount; i++) {
+            es.execute(() -> {
+                try {
+                    accountService.deposit(createDepositCommand(100L));
+                } catch (Exception e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    countDownLatch.countDown();
+                }
+            });
+        }
+
+        countDownLatch.await();
+        es.shutdown();
+
+        // then
+        assertThat(failCount.get()).isZero();
+        assertThat(accountRepository.findById(savedAccount.getId()).getBalance()).isEqualTo(1000L);
+        assertThat(accountBalanceSlotRepository.sumBalance(1111L)).isEqualTo(2000L);
+
+        hotAccountBalancer.prepareAndRollUp(1111L);
+        assertThat(accountRepository.findById(savedAccount.getId()).getBalance()).isEqualTo(3000L);
+        assertThat(accountBalanceSlotRepository.sumBalance(1111L)).isZero();
+    }
+
+    @DisplayName("출금하면 슬롯 잔액을 먼저 합친 뒤 전체 잔액으로 검증한다.")
+    @Test
+    public void withdrawAfterRollUp() {
+        // given
+        User savedUser = userRepository.save(createUser());
+        Account savedAccount = accountRepository.save(createAccount(1111L, 1000L, savedUser));
+        hotAccountBalancer.prepareAndRollUp(1111L);
+        DepositResponse depositResponse = accountService.deposit(createDepositCommand(500L));
+
+        WithdrawCommand command = WithdrawCommand.builder()
+                .accountNumber(1111L)
+                .amount(1200L)
+                .userId(savedUser.getId())
+                .password(1234)
+                .receiver("ATM")
+                .build();
+
+        // when
+        WithdrawResponse response = accountService.withdraw(command);
+
+        // then
+        assertThat(depositResponse.getDepositAccountBalance()).isEqualTo(1500L);
+        assertThat(response.getWithdrawAccountBalance()).isEqualTo(300L);
+        assertThat(accountRepository.findById(savedAccount.getId()).getBalance()).isEqualTo(300L);
+        assertThat(accountBalanceSlotRepository.sumBalance(1111L)).isZero();
+    }
+
+    @DisplayName("핫 계좌끼리 양방향으로 동시에 이체해도 계좌번호 순서로 잠그므로 교착 없이 모두 처리된다.")
+    @Test
+    public void concurrentCrossTransfersBetweenHotAccounts() throws InterruptedException {
+        // given
+        User savedUser = userRepository.save(createUser());
+        Account first = accountRepository.save(createAccount(1111L, 100_000L, savedUser));
+        Account second = accountRepository.save(createAccount(2222L, 100_000L, savedUser));
+        hotAccountBalancer.prepareAndRollUp(1111L);
+        hotAccountBalancer.prepareAndRollUp(2222L);
+
+        // when
+        int threadCount = 20;
+        ExecutorService es = Executors.newFixedThreadPool(10);
+        CountDownLatch countDownLatch = new CountDownLatch(threadCount);
+        AtomicInteger failCount = new AtomicInteger();
+        for (int i = 0; i < threadCount; i++) {
+            boolean forward = i % 2 == 0;
+            es.execute(() -> {
+                try {
+                    accountService.deposit(createDepositCommand(100L));
+                    accountService.transfer(TransferCommand.builder()
+                            .withdrawNumber(forward ? 1111L : 2222L)
+                            .depositNumber(forward ? 2222L : 1111L)
+                            .userId(savedUser.getId())
+                            .amount(1000L)
+                            .accountPassword(1234)
+                            .build());
+                } catch (Exception e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    countDownLatch.countDown();
+                }
+            });
+        }
+
+        countDownLatch.await();
+        es.shutdown();
+
+        // then
+        hotAccountBalancer.prepareAndRollUp(1111L);
+        hotAccountBalancer.prepareAndRollUp(2222L);
+        long totalCharge = threadCount * 10L;
+        assertThat(failCount.get()).isZero();
+        assertThat(accountRepository.findById(first.getId()).getBalance() + accountRepository.findById(second.getId()).getBalance())
+                .isEqualTo(200_000L + threadCount * 100L - totalCharge);
+    }
+
+    @DisplayName("핫 계좌에서의 대량 이체와 반대 방향 이체가 동시에 들어와도 교착 없이 모두 처리된다.")
+    @Test
+    public void concurrentBulkAndCrossTransfersBetweenHotAccounts() throws InterruptedException {
+        // given
+        User savedUser = userRepository.save(createUser());
+        Account first = accountRepository.save(createAccount(1111L, 100_000L, savedUser));
+        Account second = accountRepository.save(createAccount(2222L, 100_000L, savedUser));
+        hotAccountBalancer.prepareAndRollUp(1111L);
+        hotAccountBalancer.prepareAndRollUp(2222L);
+
+        // when
+        int threadCount = 20;
+        ExecutorService es = Executors.newFixedThreadPool(10);
+        CountDownLatch countDownLatch = new CountDownLatch(threadCount);
+        AtomicInteger failCount = new AtomicInteger();
+        for (int i = 0; i < threadCount; i++) {
+            boolean bulk = i % 2 == 0;
+            es.execute(() -> {
+                try {
+                    if (bulk) {
+                        bulkTransferService.transferAll(BulkTransferCommand.builder()
+                                .withdrawNumber(2222L)
+                                .userId(savedUser.getId())
+                                .accountPassword(1234)
+                                .lines(List.of(new BulkTransferLine(1111L, 1000L)))
+                                .build());
+                    } else {
+                        accountService.transfer(TransferCommand.builder()
+                                .withdrawNumber(1111L)
+                                .depositNumber(2222L)
+                                .userId(savedUser.getId())
+                                .amount(1000L)
+                                .accountPassword(1234)
+                                .build());
+                    }
+                } catch (Exception e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    countDownLatch.countDown();
+                }
+            });
+        }
+
+        countDownLatch.await();
+        es.shutdown();
+
+        // then
+        assertThat(failCount.get()).isZero();
+        assertThat(accountRepository.findById(first.getId()).getBalance() + accountRepository.findById(second.getId()).getBalance())
+                .isEqualTo(200_000L - threadCount * 10L);
+    }
+
+    private DepositCommand createDepositCommand(long amount) {
+        return DepositCommand.builder()
+                .accountNumber(1111L)
+                .amount(amount)
+                .sender("가맹점")
+                .build();
+    }
+
+    private User createUser() {
+        return User.builder()
+                .username("정산받는사람")
+                .email("user1@email.com")
+                .password("password")
+                .createdAt(LocalDateTime.now())
+                .modifiedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private Account createAccount(long accountNumber, long balance, User user) {
+        return Account.builder()
+                .accountNumber(accountNumber)
+                .password(1234)
+                .balance(balance)
+                .user(user)
+                .registeredAt(LocalDateTime.now())
+                .build();
+    }
+}
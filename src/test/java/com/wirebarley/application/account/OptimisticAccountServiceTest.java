@@ -0,0 +1,150 @@
+package com.wirebarley.application.account;
+
+import com.wirebarley.application.account.dto.request.DepositCommand;
+import com.wirebarley.domain.account.Account;
+import com.wirebarley.domain.account.AccountRepository;
+import com.wirebarley.domain.user.User;
+import com.wirebarley.domain.user.UserRepository;
+import com.wirebarley.infrastructure.account.jpa.JpaAccountRepository;
+import com.wirebarley.infrastructure.limit.jpa.JpaWithdrawalCounterRepository;
+import com.wirebarley.infrastructure.retry.LockRetryExecutor;
+import com.wirebarley.infrastructure.transaction.jpa.JpaTransactionRepository;
+import com.wirebarley.infrastructure.user.jpa.JpaUserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "wirebarley.account.concurrency.mode=OPTIMISTIC",
+        "wirebarley.lock-retry.max-attempts=20"
+})
+class OptimisticAccountServiceTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private LockRetryExecutor lockRetryExecutor;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private JpaUserRepository jpaUserRepository;
+
+    @Autowired
+    private JpaAccountRepository jpaAccountRepository;
+
+    @Autowired
+    private JpaTransactionRepository jpaTransactionRepository;
+
+    @Autowired
+    private JpaWithdrawalCounterRepository jpaWithdrawalCounterRepository;
+
+    @AfterEach
+    void tearDown() {
+        jpaTransactionRepository.deleteAllInBatch();
+        jpaWithdrawalCounterRepository.deleteAllInBatch();
+        jpaAccountRepository.deleteAllInBatch();
+        jpaUserRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("이미 다른 요청이 수정한 계좌를 이전 version으로 저장하면 예외가 발생한다.")
+    @Test
+    public void detectConflictWhenSave() {
+        // given
+        User savedUser = userRepository.save(createUser());
+        Account savedAccount = accountRepository.save(createAccount(savedUser));
+
+        Account first = accountRepository.findById(savedAccount.getId());
+        Account second = accountRepository.findById(savedAccount.getId());
+        first.deposit(100L);
+        transactionTemplate.executeWithoutResult(status -> accountRepository.save(first));
+
+        // when
+        second.deposit(100L);
+
+        // then
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> accountRepository.save(second)))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+    }
+
+    @DisplayName("동시에 입금해도 충돌한 요청은 재시도되어 입금액이 유실되지 않는다.")
+    @Test
+    public void concurrencyTestWhileDeposit() throws InterruptedException {
+        // given
+        long accountNumber = 1111L;
+        User savedUser = userRepository.save(createUser());
+        Account savedAccount = accountRepository.save(createAccount(savedUser));
+
+        DepositCommand command = DepositCommand.builder()
+                .accountNumber(accountNumber)
+                .amount(100L)
+                .sender("ATM")
+                .build();
+
+        // when
+        int threadCount = 20;
+        ExecutorService es = Executors.newFixedThreadPool(5);
+        CountDownLatch countDownLatch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger();
+        for (int i = 0; i < threadCount; i++) {
+            es.execute(() -> {
+                try {
+                    lockRetryExecutor.execute(() -> accountService.deposit(command));
+                    successCount.incrementAndGet();
+                } catch (Exception ignored) {
+                } finally {
+                    countDownLatch.countDown();
+                }
+            });
+        }
+
+        countDownLatch.await();
+        es.shutdown();
+
+        // then
+        Account findAccount = accountRepository.findById(savedAccount.getId());
+        assertThat(successCount.get()).isEqualTo(threadCount);
+        assertThat(findAccount.getBalance()).isEqualTo(1000L + 100L * threadCount);
+    }
+
+    private User createUser() {
+        return User.builder()
+                .username("입금받는사람")
+                .email("user1@email.com")
+                .password("password")
+                .createdAt(LocalDateTime.now())
+                .modifiedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private Account createAccount(User user) {
+        return Account.builder()
+                .accountNumber(1111L)
+                .password(1234)
+                .balance(1000L)
+                .user(user)
+                .registeredAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -1,24 +1,23 @@
 package com.wirebarley.application.account;
 
 import com.wirebarley.domain.account.Account;
-import com.wirebarley.domain.account.AccountRepository;
-import com.wirebarley.domain.transaction.Transaction;
-import com.wirebarley.domain.transaction.TransactionType;
+import com.wirebarley.domain.limit.WithdrawalCounterRepository;
+import com.wirebarley.domain.limit.WithdrawalTotals;
 import com.wirebarley.domain.user.User;
-import com.wirebarley.domain.user.UserRepository;
 import com.wirebarley.infrastructure.exception.CustomException;
-import com.wirebarley.infrastructure.transaction.TransactionRepositoryAdapter;
-import com.wirebarley.infrastructure.transaction.jpa.JpaTransactionRepository;
+import com.wirebarley.infrastructure.limit.jpa.JpaWithdrawalCounterRepository;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @SpringBootTest
@@ -28,20 +27,17 @@ class TransferLimitCheckerTest {
     private TransferLimitChecker transferLimitChecker;
 
     @Autowired
-    private TransactionRepositoryAdapter transactionRepositoryAdapter;
+    private WithdrawalCounterRepository withdrawalCounterRepository;
 
     @Autowired
-    private AccountRepository accountRepository;
+    private JpaWithdrawalCounterRepository jpaWithdrawalCounterRepository;
 
     @Autowired
-    private UserRepository userRepository;
-
-    @Autowired
-    private JpaTransactionRepository jpaTransactionRepository;
+    private JdbcTemplate jdbcTemplate;
 
     @AfterEach
     void tearDown() {
-        jpaTransactionRepository.deleteAllInBatch();
+        jpaWithdrawalCounterRepository.deleteAllInBatch();
     }
 
     @DisplayName("일 이체 한도를 초과하면 예외가 발생한다.")
@@ -52,25 +48,12 @@ class TransferLimitCheckerTest {
         long amount = 1L;
         LocalDateTime now = LocalDateTime.now();
 
-        User user1 = createUser("userId1", "user1@email.com", "password1");
-        User user2 = createUser("userId2", "user2@email.com", "password1");
-        User savedUser1 = userRepository.save(user1);
-        User savedUser2 = userRepository.save(user2);
-        Account withdrawAccount = Account.builder().accountNumber(withdrawAccountNumber).user(savedUser1).build();
-        Account depositAccount = Account.builder().accountNumber(2222L).user(savedUser2).build();
-        Account savedWithdrawAccount = accountRepository.save(withdrawAccount);
-        Account savedDepositAccount = accountRepository.save(depositAccount);
-
-        Transaction transaction1 = makeTransaction(savedWithdrawAccount, savedDepositAccount, 50_000L, now);
-        Transaction transaction2 = makeTransaction(savedWithdrawAccount, savedDepositAccount, 50_000L, now);
-        Transaction transaction3 = makeTransaction(savedWithdrawAccount, savedDepositAccount, amount, now);
-        transactionRepositoryAdapter.save(transaction1);
-        transactionRepositoryAdapter.save(transaction2);
-        transactionRepositoryAdapter.save(transaction3);
+        withdrawalCounterRepository.add(withdrawAccountNumber, 50_000L, now.toLocalDate());
+        withdrawalCounterRepository.add(withdrawAccountNumber, 50_000L, now.toLocalDate());
 
         // when
         // then
-        assertThatThrownBy(() -> transferLimitChecker.checkTransferLimitByPeriod(withdrawAccountNumber, amount, LocalDateTime.now()))
+        assertThatThrownBy(() -> transferLimitChecker.checkTransferLimitByPeriod(createAccount(withdrawAccountNumber), amount, now))
                 .isInstanceOf(CustomException.class)
                 .hasMessage("일 이체 한도를 초과했습니다.");
     }
@@ -83,25 +66,13 @@ class TransferLimitCheckerTest {
         long amount = 1L;
         LocalDateTime weekStartDate = LocalDate.now().with(DayOfWeek.MONDAY).atStartOfDay();
 
-        User user1 = createUser("userId1", "user1@email.com", "password1");
-        User user2 = createUser("userId2", "user2@email.com", "password1");
-        User savedUser1 = userRepository.save(user1);
-        User savedUser2 = userRepository.save(user2);
-        Account withdrawAccount = Account.builder().accountNumber(withdrawAccountNumber).user(savedUser1).build();
-        Account depositAccount = Account.builder().accountNumber(2222L).user(savedUser2).build();
-        Account savedWithdrawAccount = accountRepository.save(withdrawAccount);
-        Account savedDepositAccount = accountRepository.save(depositAccount);
-
-        for (int i = 1; i <= 5; i++) {
-            Transaction transaction = makeTransaction(savedWithdrawAccount, savedDepositAccount, 100_000L, weekStartDate.plusDays(i));
-            transactionRepositoryAdapter.save(transaction);
+        for (int i = 0; i < 5; i++) {
+            withdrawalCounterRepository.add(withdrawAccountNumber, 100_000L, weekStartDate.plusDays(i).toLocalDate());
         }
-        Transaction transaction = makeTransaction(savedWithdrawAccount, savedDepositAccount, amount, weekStartDate.plusDays(6));
-        transactionRepositoryAdapter.save(transaction);
 
         // when
         // then
-        assertThatThrownBy(() -> transferLimitChecker.checkTransferLimitByPeriod(withdrawAccountNumber, amount, weekStartDate.plusDays(6)))
+        assertThatThrownBy(() -> transferLimitChecker.checkTransferLimitByPeriod(createAccount(withdrawAccountNumber), amount, weekStartDate.plusDays(6)))
                 .isInstanceOf(CustomException.class)
                 .hasMessage("주 이체 한도를 초과했습니다.");
     }
@@ -114,49 +85,58 @@ class TransferLimitCheckerTest {
         long amount = 1L;
         LocalDateTime monthStart = LocalDate.now().withDayOfMonth(1).atStartOfDay();
 
-        User user1 = createUser("userId1", "user1@email.com", "password1");
-        User user2 = createUser("userId2", "user2@email.com", "password1");
-        User savedUser1 = userRepository.save(user1);
-        User savedUser2 = userRepository.save(user2);
-        Account withdrawAccount = Account.builder().accountNumber(withdrawAccountNumber).user(savedUser1).build();
-        Account depositAccount = Account.builder().accountNumber(2222L).user(savedUser2).build();
-        Account savedWithdrawAccount = accountRepository.save(withdrawAccount);
-        Account savedDepositAccount = accountRepository.save(depositAccount);
-
-        for (int i = 1; i <= 20; i++) {
-            Transaction transaction = makeTransaction(savedWithdrawAccount, savedDepositAccount, 100_000L, monthStart.plusDays(i));
-            transactionRepositoryAdapter.save(transaction);
-        }
-        Transaction transaction = makeTransaction(savedWithdrawAccount, savedDepositAccount, amount, monthStart.plusDays(21));
-        transactionRepositoryAdapter.save(transaction);
+        withdrawalCounterRepository.add(withdrawAccountNumber, 2_000_000L, monthStart.toLocalDate());
 
         // when
         // then
-        assertThatThrownBy(() -> transferLimitChecker.checkTransferLimitByPeriod(withdrawAccountNumber, amount, monthStart.plusDays(21)))
+        assertThatThrownBy(() -> transferLimitChecker.checkTransferLimitByPeriod(createAccount(withdrawAccountNumber), amount, monthStart.plusDays(21)))
                 .isInstanceOf(CustomException.class)
                 .hasMessage("월 이체 한도를 초과했습니다.");
     }
 
-    private Transaction makeTransaction(Account withdrawAccount, Account depositAccount, long amount, LocalDateTime transferDate) {
-        return Transaction.builder()
-                .withdrawAccount(withdrawAccount)
-                .depositAccount(depositAccount)
-                .withdrawAccountBalance(100000L)
-                .amount(amount)
-                .type(TransactionType.TRANSFER)
-                .sender("보내는 사람 이름")
-                .receiver("받는 사람 이름")
-                .createdAt(transferDate)
-                .build();
+    @DisplayName("다른 인스턴스가 더한 누적 출금액도 다음 이체의 한도 확인에 들어간다.")
+    @Test
+    public void seeWithdrawalsFromOtherInstance() {
+        // given
+        long withdrawAccountNumber = 1111L;
+        LocalDateTime now = LocalDateTime.now();
+        transferLimitChecker.checkTransferLimitByPeriod(createAccount(withdrawAccountNumber), 10_000L, now);
+
+        // 다른 인스턴스의 이체가 같은 행에 더한 것처럼 DB 를 직접 바꾼다.
+        jdbcTemplate.update("update withdrawal_counter set amount = amount + ? where account_number = ?", 90_000L, withdrawAccountNumber);
+
+        // when
+        // then
+        assertThatThrownBy(() -> transferLimitChecker.checkTransferLimitByPeriod(createAccount(withdrawAccountNumber), 1L, now))
+                .isInstanceOf(CustomException.class)
+                .hasMessage("일 이체 한도를 초과했습니다.");
+    }
+
+    @DisplayName("일/주/월 누적 출금액은 출금일이 속한 기간별로 따로 쌓인다.")
+    @Test
+    public void addToEachPeriod() {
+        // given
+        long withdrawAccountNumber = 1111L;
+        LocalDate monday = LocalDate.of(2024, 7, 1);
+
+        // when
+        transferLimitChecker.checkTransferLimitByPeriod(createAccount(withdrawAccountNumber), 10_000L, monday.atTime(9, 0));
+        transferLimitChecker.recordWithdrawal(withdrawAccountNumber, 20_000L, monday.plusDays(1).atTime(9, 0));
+        transferLimitChecker.checkTransferLimitByPeriod(createAccount(withdrawAccountNumber), 30_000L, monday.plusDays(7).atTime(9, 0));
+
+        // then
+        assertThat(withdrawalCounterRepository.findTotals(withdrawAccountNumber, monday.plusDays(1)))
+                .isEqualTo(new WithdrawalTotals(20_000L, 30_000L, 60_000L));
+        assertThat(withdrawalCounterRepository.findTotals(withdrawAccountNumber, monday.plusDays(7)))
+                .isEqualTo(new WithdrawalTotals(30_000L, 30_000L, 60_000L));
+        assertThat(withdrawalCounterRepository.findTotals(2222L, monday))
+                .isEqualTo(new WithdrawalTotals(0L, 0L, 0L));
     }
 
-    private User createUser(String username, String mail, String password) {
-        return User.builder()
-                .username(username)
-                .email(mail)
-                .password(password)
-                .createdAt(LocalDateTime.now())
-                .modifiedAt(LocalDateTime.now())
+    private Account createAccount(long accountNumber) {
+        return Account.builder()
+                .accountNumber(accountNumber)
+                .user(User.builder().id(1L).build())
                 .build();
     }
-}
\ No newline at end of file
+}
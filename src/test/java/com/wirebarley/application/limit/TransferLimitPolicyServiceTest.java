@@ -0,0 +1,200 @@
+package com.wirebarley.application.limit;
+
+import com.wirebarley.application.account.TransferLimitChecker;
+import com.wirebarley.application.limit.dto.request.TransferLimitPolicyCommand;
+import com.wirebarley.domain.account.Account;
+import com.wirebarley.domain.account.AccountTier;
+import com.wirebarley.domain.limit.TransferLimitPolicyScope;
+import com.wirebarley.domain.limit.TransferLimits;
+import com.wirebarley.domain.user.User;
+import com.wirebarley.infrastructure.exception.CustomException;
+import com.wirebarley.infrastructure.limit.jpa.JpaTransferLimitPolicyRepository;
+import com.wirebarley.infrastructure.limit.jpa.JpaWithdrawalCounterRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.wirebarley.domain.limit.TransferLimitPolicyScope.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class TransferLimitPolicyServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 7, 3, 10, 0);
+
+    @Autowired
+    private TransferLimitPolicyService transferLimitPolicyService;
+
+    @Autowired
+    private TransferLimitPolicyResolver transferLimitPolicyResolver;
+
+    @Autowired
+    private TransferLimitChecker transferLimitChecker;
+
+    @Autowired
+    private JpaTransferLimitPolicyRepository jpaTransferLimitPolicyRepository;
+
+    @Autowired
+    private JpaWithdrawalCounterRepository jpaWithdrawalCounterRepository;
+
+    @AfterEach
+    void tearDown() {
+        jpaWithdrawalCounterRepository.deleteAllInBatch();
+        jpaTransferLimitPolicyRepository.deleteAllInBatch();
+        transferLimitPolicyResolver.reload();
+    }
+
+    @DisplayName("정책이 없으면 기본 한도를 쓰고, 등급 정책은 입력한 한도만 덮어쓴다.")
+    @Test
+    public void resolveTierPolicy() {
+        // given
+        transferLimitPolicyService.registerPolicy(policy(TIER, "PREMIUM", 300_000L, null, null, null, null), NOW);
+
+        // when
+        TransferLimits basicLimits = transferLimitPolicyResolver.resolve(createAccount(1111L, 1L, AccountTier.BASIC), NOW);
+        TransferLimits premiumLimits = transferLimitPolicyResolver.resolve(createAccount(2222L, 2L, AccountTier.PREMIUM), NOW);
+
+        // then
+        assertThat(basicLimits).isEqualTo(new TransferLimits(100_000L, 500_000L, 2_000_000L));
+        assertThat(premiumLimits).isEqualTo(new TransferLimits(300_000L, 500_000L, 2_000_000L));
+    }
+
+    @DisplayName("회원 정책은 등급 정책보다, 계좌 정책은 회원 정책보다 우선한다.")
+    @Test
+    public void resolveByPriority() {
+        // given
+        transferLimitPolicyService.registerPolicy(policy(TIER, "PREMIUM", 300_000L, 1_000_000L, 5_000_000L, null, null), NOW);
+        transferLimitPolicyService.registerPolicy(policy(USER, "1", 200_000L, 800_000L, null, null, null), NOW);
+        transferLimitPolicyService.registerPolicy(policy(ACCOUNT, "1111", 50_000L, null, null, null, null), NOW);
+
+        // when
+        TransferLimits limits = transferLimitPolicyResolver.resolve(createAccount(1111L, 1L, AccountTier.PREMIUM), NOW);
+        TransferLimits otherAccountLimits = transferLimitPolicyResolver.resolve(createAccount(3333L, 1L, AccountTier.PREMIUM), NOW);
+
+        // then
+        assertThat(limits).isEqualTo(new TransferLimits(50_000L, 800_000L, 5_000_000L));
+        assertThat(otherAccountLimits).isEqualTo(new TransferLimits(200_000L, 800_000L, 5_000_000L));
+    }
+
+    @DisplayName("임시 한도는 적용 기간에만 쓰고, 기간이 지나면 원래 한도로 돌아간다.")
+    @Test
+    public void resolveTemporaryOverride() {
+        // given
+        Account account = createAccount(1111L, 1L, AccountTier.BASIC);
+        transferLimitPolicyService.registerPolicy(policy(ACCOUNT, "1111", 150_000L, null, null, null, null), NOW);
+        transferLimitPolicyService.registerPolicy(policy(ACCOUNT, "1111", 1_000_000L, 1_000_000L, null, NOW.plusHours(1), NOW.plusHours(2)), NOW);
+
+        // when
+        // then
+        assertThat(transferLimitPolicyResolver.resolve(account, NOW).daily()).isEqualTo(150_000L);
+        assertThat(transferLimitPolicyResolver.resolve(account, NOW.plusHours(1)).daily()).isEqualTo(1_000_000L);
+        assertThat(transferLimitPolicyResolver.resolve(account, NOW.plusMinutes(90)).weekly()).isEqualTo(1_000_000L);
+        assertThat(transferLimitPolicyResolver.resolve(account, NOW.plusHours(2)).daily()).isEqualTo(150_000L);
+    }
+
+    @DisplayName("정책을 등록하면 이미 계산해 둔 계좌의 한도도 새 정책으로 다시 계산한다.")
+    @Test
+    public void invalidateCompiledLimitsWhenPolicyChanged() {
+        // given
+        Account account = createAccount(1111L, 1L, AccountTier.BASIC);
+        assertThat(transferLimitPolicyResolver.resolve(account, NOW).daily()).isEqualTo(100_000L);
+
+        // when
+        transferLimitPolicyService.registerPolicy(policy(USER, "1", 300_000L, null, null, null, null), NOW);
+
+        // then
+        assertThat(transferLimitPolicyResolver.resolve(account, NOW).daily()).isEqualTo(300_000L);
+    }
+
+    @DisplayName("이체 한도 검사는 계좌에 적용되는 정책의 한도로 한다.")
+    @Test
+    public void checkTransferLimitWithPolicy() {
+        // given
+        transferLimitPolicyService.registerPolicy(policy(TIER, "CORPORATE", 1_000_000L, null, null, null, null), NOW);
+        Account corporateAccount = createAccount(1111L, 1L, AccountTier.CORPORATE);
+        Account basicAccount = createAccount(2222L, 2L, AccountTier.BASIC);
+
+        // when
+        transferLimitChecker.checkTransferLimitByPeriod(corporateAccount, 500_000L, NOW);
+
+        // then
+        assertThatThrownBy(() -> transferLimitChecker.checkTransferLimitByPeriod(basicAccount, 500_000L, NOW))
+                .isInstanceOf(CustomException.class)
+                .hasMessage("일 이체 한도를 초과했습니다.");
+    }
+
+    @DisplayName("한도를 하나도 입력하지 않은 정책은 등록할 수 없다.")
+    @Test
+    public void registerEmptyPolicy() {
+        // given
+        TransferLimitPolicyCommand command = policy(USER, "1", null, null, null, null, null);
+
+        // when
+        // then
+        assertThatThrownBy(() -> transferLimitPolicyService.registerPolicy(command, NOW))
+                .isInstanceOf(CustomException.class)
+                .hasMessage("일/주/월 한도 중 하나는 입력해주세요.");
+    }
+
+    @DisplayName("적용 종료일이 시작일보다 빠른 정책은 등록할 수 없다.")
+    @Test
+    public void registerInvalidPeriodPolicy() {
+        // given
+        TransferLimitPolicyCommand command = policy(USER, "1", 100L, null, null, NOW, NOW.minusDays(1));
+
+        // when
+        // then
+        assertThatThrownBy(() -> transferLimitPolicyService.registerPolicy(command, NOW))
+                .isInstanceOf(CustomException.class)
+                .hasMessage("한도 적용 종료일은 시작일 이후여야 합니다.");
+    }
+
+    @DisplayName("적용 대상 키가 등급명, 회원 id, 계좌번호가 아닌 정책은 등록할 수 없다.")
+    @Test
+    public void registerInvalidScopeKeyPolicy() {
+        // given
+        List<TransferLimitPolicyCommand> commands = List.of(
+                policy(TIER, "GOLD", 100L, null, null, null, null),
+                policy(USER, "kim", 100L, null, null, null, null),
+                policy(ACCOUNT, "1111-2222", 100L, null, null, null, null),
+                policy(ACCOUNT, "01111", 100L, null, null, null, null)
+        );
+
+        // when
+        // then
+        for (TransferLimitPolicyCommand command : commands) {
+            assertThatThrownBy(() -> transferLimitPolicyService.registerPolicy(command, NOW))
+                    .isInstanceOf(CustomException.class)
+                    .hasMessage("한도 적용 대상 키가 올바르지 않습니다. 등급은 등급명, 회원은 회원 id, 계좌는 계좌번호를 입력해주세요.");
+        }
+        assertThat(transferLimitPolicyService.retrievePolicies()).isEmpty();
+    }
+
+    private TransferLimitPolicyCommand policy(TransferLimitPolicyScope scope, String scopeKey,
+                                              Long dailyLimit, Long weeklyLimit, Long monthlyLimit,
+                                              LocalDateTime startsAt, LocalDateTime endsAt) {
+        return TransferLimitPolicyCommand.builder()
+                .scope(scope)
+                .scopeKey(scopeKey)
+                .dailyLimit(dailyLimit)
+                .weeklyLimit(weeklyLimit)
+                .monthlyLimit(monthlyLimit)
+                .startsAt(startsAt)
+                .endsAt(endsAt)
+                .build();
+    }
+
+    private Account createAccount(long accountNumber, long userId, AccountTier tier) {
+        return Account.builder()
+                .accountNumber(accountNumber)
+                .user(User.builder().id(userId).build())
+                .tier(tier)
+                .build();
+    }
+}
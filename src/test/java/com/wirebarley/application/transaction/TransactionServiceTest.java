@@ -1,11 +1,13 @@
 package com.wirebarley.application.transaction;
 
+import com.wirebarley.application.transaction.dto.response.TransactionPageResponse;
 import com.wirebarley.application.transaction.dto.response.TransactionResponse;
 import com.wirebarley.application.transaction.dto.request.TransactionRetrieveCommand;
 import com.wirebarley.domain.account.Account;
 import com.wirebarley.domain.account.AccountRepository;
 import com.wirebarley.domain.transaction.Transaction;
 import com.wirebarley.domain.transaction.TransactionRepository;
+import com.wirebarley.domain.transaction.dto.TransactionCursor;
 import com.wirebarley.domain.user.User;
 import com.wirebarley.domain.user.UserRepository;
 import com.wirebarley.infrastructure.account.jpa.JpaAccountRepository;
@@ -18,6 +20,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -110,7 +113,7 @@ class TransactionServiceTest {
                 .accountId(savedAccount1.getId())
                 .type(ALL)
                 .build();
-        List<TransactionResponse> results = transactionService.retrieveTransaction(command);
+        List<TransactionResponse> results = transactionService.retrieveTransaction(command).getTransactions();
 
         // then
         assertThat(results).hasSize(3)
@@ -186,7 +189,7 @@ class TransactionServiceTest {
                 .accountId(savedAccount1.getId())
                 .type(DEPOSIT)
                 .build();
-        List<TransactionResponse> results = transactionService.retrieveTransaction(command);
+        List<TransactionResponse> results = transactionService.retrieveTransaction(command).getTransactions();
 
         // then
         assertThat(results).hasSize(2)
@@ -261,7 +264,7 @@ class TransactionServiceTest {
                 .accountId(savedAccount1.getId())
                 .type(WITHDRAW)
                 .build();
-        List<TransactionResponse> results = transactionService.retrieveTransaction(command);
+        List<TransactionResponse> results = transactionService.retrieveTransaction(command).getTransactions();
 
         // then
         assertThat(results).hasSize(2)
@@ -338,7 +341,7 @@ class TransactionServiceTest {
                 .accountId(savedAccount1.getId())
                 .type(TRANSFER)
                 .build();
-        List<TransactionResponse> results = transactionService.retrieveTransaction(command);
+        List<TransactionResponse> results = transactionService.retrieveTransaction(command).getTransactions();
 
         // then
         assertThat(results).hasSize(2)
@@ -349,6 +352,130 @@ class TransactionServiceTest {
                 );
     }
 
+    @DisplayName("다음 커서로 이어서 조회하면 앞 페이지와 겹치지 않게 다음 거래부터 조회하고, 마지막 페이지에는 다음 커서가 없다.")
+    @Test
+    public void retrieveTransactionByCursor() {
+        // given
+        long withdrawAccountNumber = 1111L;
+
+        User user1 = createUser("user1", "user1@email.com", "password1");
+        User savedUser1 = userRepository.save(user1);
+        Account account1 = createAccount(withdrawAccountNumber, 1234, 1000L, savedUser1);
+        Account savedAccount1 = accountRepository.save(account1);
+
+        for (long amount = 100L; amount <= 500L; amount += 100L) {
+            transactionRepository.save(
+                    Transaction.builder()
+                            .withdrawAccount(savedAccount1)
+                            .withdrawAccountBalance(1000L - amount)
+                            .amount(amount)
+                            .type(WITHDRAW)
+                            .sender("user1")
+                            .receiver("ATM")
+                            .build()
+            );
+        }
+
+        TransactionRetrieveCommand firstCommand = TransactionRetrieveCommand.builder()
+                .offset(0)
+                .count(3)
+                .userId(savedUser1.getId())
+                .accountId(savedAccount1.getId())
+                .type(WITHDRAW)
+                .build();
+        TransactionPageResponse firstPage = transactionService.retrieveTransaction(firstCommand);
+
+        // when
+        TransactionRetrieveCommand nextCommand = TransactionRetrieveCommand.builder()
+                .offset(0)
+                .count(3)
+                .userId(savedUser1.getId())
+                .accountId(savedAccount1.getId())
+                .type(WITHDRAW)
+                .cursor(TransactionCursor.decode(firstPage.getNextCursor()))
+                .build();
+        TransactionPageResponse nextPage = transactionService.retrieveTransaction(nextCommand);
+
+        // then
+        assertThat(firstPage.getTransactions())
+                .extracting("amount")
+                .containsExactly(500L, 400L, 300L);
+        assertThat(firstPage.getNextCursor()).isNotNull();
+
+        assertThat(nextPage.getTransactions())
+                .extracting("amount")
+                .containsExactly(200L, 100L);
+        assertThat(nextPage.getNextCursor()).isNull();
+    }
+
+    @DisplayName("조회 기간 밖의 거래는 조회되지 않는다.")
+    @Test
+    public void retrieveTransactionOutOfPeriod() {
+        // given
+        long withdrawAccountNumber = 1111L;
+
+        User user1 = createUser("user1", "user1@email.com", "password1");
+        User savedUser1 = userRepository.save(user1);
+        Account account1 = createAccount(withdrawAccountNumber, 1234, 1000L, savedUser1);
+        Account savedAccount1 = accountRepository.save(account1);
+
+        transactionRepository.save(
+                Transaction.builder()
+                        .withdrawAccount(savedAccount1)
+                        .withdrawAccountBalance(900L)
+                        .amount(100L)
+                        .type(WITHDRAW)
+                        .sender("user1")
+                        .receiver("ATM")
+                        .build()
+        );
+
+        TransactionRetrieveCommand command = TransactionRetrieveCommand.builder()
+                .offset(0)
+                .count(10)
+                .userId(savedUser1.getId())
+                .accountId(savedAccount1.getId())
+                .type(WITHDRAW)
+                .from(LocalDate.now().minusMonths(2))
+                .to(LocalDate.now().minusMonths(1))
+                .build();
+
+        // when
+        TransactionPageResponse response = transactionService.retrieveTransaction(command);
+
+        // then
+        assertThat(response.getTransactions()).isEmpty();
+        assertThat(response.getNextCursor()).isNull();
+    }
+
+    @DisplayName("거래 내역 조회 시 종료일이 시작일보다 앞서면 예외가 발생한다.")
+    @Test
+    public void retrieveTransactionWithInvalidPeriod() {
+        // given
+        long withdrawAccountNumber = 1111L;
+
+        User user1 = createUser("user1", "user1@email.com", "password1");
+        User savedUser1 = userRepository.save(user1);
+        Account account1 = createAccount(withdrawAccountNumber, 1234, 1000L, savedUser1);
+        Account savedAccount1 = accountRepository.save(account1);
+
+        // when
+        TransactionRetrieveCommand command = TransactionRetrieveCommand.builder()
+                .offset(0)
+                .count(10)
+                .userId(savedUser1.getId())
+                .accountId(savedAccount1.getId())
+                .type(WITHDRAW)
+                .from(LocalDate.now())
+                .to(LocalDate.now().minusDays(1))
+                .build();
+
+        // then
+        assertThatThrownBy(() -> transactionService.retrieveTransaction(command))
+                .isInstanceOf(CustomException.class)
+                .hasMessage("거래 내역 조회 종료일은 시작일 이후여야 합니다.");
+    }
+
     @DisplayName("거래 내역 조회 시 계좌 주인이 아니면 예외가 발생한다.")
     @Test
     public void checkOwnerWhenRetrieveTransaction() {
@@ -0,0 +1,195 @@
+package com.wirebarley.application.transfer;
+
+import com.wirebarley.application.account.dto.request.TransferCommand;
+import com.wirebarley.application.transfer.dto.response.TransferJobResponse;
+import com.wirebarley.domain.account.Account;
+import com.wirebarley.domain.account.AccountRepository;
+import com.wirebarley.domain.transfer.TransferJob;
+import com.wirebarley.domain.transfer.TransferJobRepository;
+import com.wirebarley.domain.transfer.TransferJobStatus;
+import com.wirebarley.domain.user.User;
+import com.wirebarley.domain.user.UserRepository;
+import com.wirebarley.infrastructure.account.jpa.JpaAccountRepository;
+import com.wirebarley.infrastructure.exception.CustomException;
+import com.wirebarley.infrastructure.limit.jpa.JpaWithdrawalCounterRepository;
+import com.wirebarley.infrastructure.transaction.jpa.JpaTransactionRepository;
+import com.wirebarley.infrastructure.transfer.jpa.JpaTransferJobRepository;
+import com.wirebarley.infrastructure.user.jpa.JpaUserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class AsyncTransferServiceTest {
+
+    @Autowired
+    private AsyncTransferService asyncTransferService;
+
+    @Autowired
+    private TransferJobRepository transferJobRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private JpaTransferJobRepository jpaTransferJobRepository;
+
+    @Autowired
+    private JpaUserRepository jpaUserRepository;
+
+    @Autowired
+    private JpaAccountRepository jpaAccountRepository;
+
+    @Autowired
+    private JpaTransactionRepository jpaTransactionRepository;
+
+    @Autowired
+    private JpaWithdrawalCounterRepository jpaWithdrawalCounterRepository;
+
+    @AfterEach
+    void tearDown() {
+        jpaTransferJobRepository.deleteAllInBatch();
+        jpaTransactionRepository.deleteAllInBatch();
+        jpaWithdrawalCounterRepository.deleteAllInBatch();
+        jpaAccountRepository.deleteAllInBatch();
+        jpaUserRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("이체를 접수하면 PENDING 으로 저장되고, 워커가 실행을 마치면 COMPLETED 가 된다.")
+    @Test
+    public void submitAndComplete() {
+        // given
+        User withdrawUser = userRepository.save(createUser("계좌이체하는사람", "user1@email.com"));
+        Account withdrawAccount = accountRepository.save(createAccount(1111L, 1234, 1000L, withdrawUser));
+        User depositUser = userRepository.save(createUser("입금받는사람", "user2@email.com"));
+        Account depositAccount = accountRepository.save(createAccount(2222L, 5678, 1000L, depositUser));
+
+        // when
+        TransferJobResponse submitted = asyncTransferService.submit(createCommand(withdrawUser.getId(), 1234, 100L));
+        TransferJobResponse completed = asyncTransferService.awaitTransferJob(submitted.getId(), withdrawUser.getId(), Duration.ofSeconds(5));
+
+        // then
+        assertThat(submitted.getStatus()).isEqualTo(TransferJobStatus.PENDING);
+        assertThat(completed.getStatus()).isEqualTo(TransferJobStatus.COMPLETED);
+        assertThat(completed.getTransactionId()).isNotNull();
+        assertThat(completed.getCompletedAt()).isNotNull();
+        assertThat(accountRepository.findById(withdrawAccount.getId()).getBalance()).isEqualTo(899L);
+        assertThat(accountRepository.findById(depositAccount.getId()).getBalance()).isEqualTo(1100L);
+    }
+
+    @DisplayName("실행 중 잔액이 부족하면 FAILED 가 되고 실패 사유가 남는다.")
+    @Test
+    public void submitAndFail() {
+        // given
+        User withdrawUser = userRepository.save(createUser("계좌이체하는사람", "user1@email.com"));
+        Account withdrawAccount = accountRepository.save(createAccount(1111L, 1234, 50L, withdrawUser));
+        User depositUser = userRepository.save(createUser("입금받는사람", "user2@email.com"));
+        accountRepository.save(createAccount(2222L, 5678, 1000L, depositUser));
+
+        // when
+        TransferJobResponse submitted = asyncTransferService.submit(createCommand(withdrawUser.getId(), 1234, 100L));
+        TransferJobResponse failed = asyncTransferService.awaitTransferJob(submitted.getId(), withdrawUser.getId(), Duration.ofSeconds(5));
+
+        // then
+        assertThat(failed.getStatus()).isEqualTo(TransferJobStatus.FAILED);
+        assertThat(failed.getFailureReason()).isEqualTo("계좌 잔액이 부족합니다.");
+        assertThat(failed.getTransactionId()).isNull();
+        assertThat(accountRepository.findById(withdrawAccount.getId()).getBalance()).isEqualTo(50L);
+    }
+
+    @DisplayName("출금계좌 비밀번호가 틀리면 접수 단계에서 거절한다.")
+    @Test
+    public void rejectOnSubmitWhenWrongPassword() {
+        // given
+        User withdrawUser = userRepository.save(createUser("계좌이체하는사람", "user1@email.com"));
+        accountRepository.save(createAccount(1111L, 1234, 1000L, withdrawUser));
+        User depositUser = userRepository.save(createUser("입금받는사람", "user2@email.com"));
+        accountRepository.save(createAccount(2222L, 5678, 1000L, depositUser));
+
+        // when
+        // then
+        assertThatThrownBy(() -> asyncTransferService.submit(createCommand(withdrawUser.getId(), 9999, 100L)))
+                .isInstanceOf(CustomException.class)
+                .hasMessage("계좌 비밀번호 검증에 실패했습니다.");
+        assertThat(jpaTransferJobRepository.count()).isZero();
+    }
+
+    @DisplayName("재시작 전에 끝나지 않은 이체는 실패로 정리한다.")
+    @Test
+    public void failUnfinishedTransferJobs() {
+        // given
+        TransferJob pending = transferJobRepository.save(TransferJob.pending(1111L, 2222L, 1L, 100L, LocalDateTime.now()));
+
+        // when
+        asyncTransferService.failUnfinishedTransferJobs();
+
+        // then
+        TransferJobResponse response = asyncTransferService.getTransferJob(pending.getId(), 1L);
+        assertThat(response.getStatus()).isEqualTo(TransferJobStatus.FAILED);
+        assertThat(response.getFailureReason()).isEqualTo("서버가 재시작되어 이체가 처리되지 않았습니다.");
+    }
+
+    @DisplayName("없는 이체 요청을 조회하면 예외가 발생한다.")
+    @Test
+    public void getUnknownTransferJob() {
+        // when
+        // then
+        assertThatThrownBy(() -> asyncTransferService.getTransferJob(-1L, 1L))
+                .isInstanceOf(CustomException.class)
+                .hasMessage("이체 요청을 찾을 수 없습니다.");
+    }
+
+    @DisplayName("이체를 요청한 사용자가 아니면 접수 내역을 조회할 수 없다.")
+    @Test
+    public void getTransferJobOfOtherUser() {
+        // given
+        TransferJob pending = transferJobRepository.save(TransferJob.pending(1111L, 2222L, 1L, 100L, LocalDateTime.now()));
+
+        // when
+        // then
+        assertThatThrownBy(() -> asyncTransferService.awaitTransferJob(pending.getId(), 2L, Duration.ZERO))
+                .isInstanceOf(CustomException.class)
+                .hasMessage("계좌 소유자가 아닙니다.");
+    }
+
+    private TransferCommand createCommand(Long userId, int accountPassword, long amount) {
+        return TransferCommand.builder()
+                .withdrawNumber(1111L)
+                .depositNumber(2222L)
+                .userId(userId)
+                .amount(amount)
+                .accountPassword(accountPassword)
+                .build();
+    }
+
+    private User createUser(String username, String email) {
+        return User.builder()
+                .username(username)
+                .email(email)
+                .password("password")
+                .createdAt(LocalDateTime.now())
+                .modifiedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private Account createAccount(long accountNumber, int password, long balance, User user) {
+        return Account.builder()
+                .accountNumber(accountNumber)
+                .password(password)
+                .balance(balance)
+                .user(user)
+                .registeredAt(LocalDateTime.now())
+                .build();
+    }
+}
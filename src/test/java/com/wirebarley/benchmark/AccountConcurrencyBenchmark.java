@@ -0,0 +1,168 @@
+package com.wirebarley.benchmark;
+
+import com.wirebarley.WirebarleyApplication;
+import com.wirebarley.application.account.AccountService;
+import com.wirebarley.application.account.dto.request.DepositCommand;
+import com.wirebarley.application.account.dto.request.TransferCommand;
+import com.wirebarley.domain.account.Account;
+import com.wirebarley.domain.account.AccountRepository;
+import com.wirebarley.domain.user.User;
+import com.wirebarley.domain.user.UserRepository;
+import com.wirebarley.infrastructure.account.config.AccountConcurrencyMode;
+import com.wirebarley.infrastructure.retry.LockRetryExecutor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
+// ./gradlew benchmark
+// 비관적/낙관적 모드에서 균등 분포와 소수 계좌에 몰리는 분포의 입금+이체 처리량을 비교한다.
+@Tag("benchmark")
+class AccountConcurrencyBenchmark {
+
+    private static final int ACCOUNT_COUNT = 100;
+    private static final long FIRST_ACCOUNT_NUMBER = 1111L;
+    private static final int THREAD_COUNT = 16;
+    private static final int WARMUP_COUNT = 500;
+    private static final int OPERATION_COUNT = 2_000;
+    private static final double HOT_ACCOUNT_RATIO = 0.9; // skewed: 90%의 요청이 상위 5개 계좌로 몰린다
+    private static final int HOT_ACCOUNT_COUNT = 5;
+
+    @Test
+    void compareConcurrencyModes() throws InterruptedException {
+        System.out.printf("%-12s %-8s %10s %8s %8s %8s%n", "mode", "access", "ops/sec", "ok", "failed", "retries");
+        for (AccountConcurrencyMode mode : AccountConcurrencyMode.values()) {
+            for (String access : new String[]{"uniform", "skewed"}) {
+                run(mode, access);
+            }
+        }
+    }
+
+    private void run(AccountConcurrencyMode mode, String access) throws InterruptedException {
+        try (ConfigurableApplicationContext context = startContext(mode, access)) {
+            AccountService accountService = context.getBean(AccountService.class);
+            LockRetryExecutor lockRetryExecutor = context.getBean(LockRetryExecutor.class);
+            MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+            User owner = createAccounts(context);
+            IntSupplier picker = "uniform".equals(access) ? this::uniform : this::skewed;
+
+            execute(WARMUP_COUNT, picker, owner, accountService, lockRetryExecutor);
+            double retriesBefore = meterRegistry.counter("account.lock.retry").count();
+
+            long start = System.nanoTime();
+            int failCount = execute(OPERATION_COUNT, picker, owner, accountService, lockRetryExecutor);
+            long elapsedNanos = System.nanoTime() - start;
+
+            double opsPerSec = OPERATION_COUNT / (elapsedNanos / 1_000_000_000.0);
+            System.out.printf("%-12s %-8s %10.0f %8d %8d %8.0f%n",
+                    mode, access, opsPerSec,
+                    OPERATION_COUNT - failCount, failCount,
+                    meterRegistry.counter("account.lock.retry").count() - retriesBefore);
+        }
+    }
+
+    // 입금과 이체를 절반씩 섞어서 실행하고 실패 건수를 반환한다.
+    private int execute(int operationCount, IntSupplier picker, User owner, AccountService accountService, LockRetryExecutor lockRetryExecutor) throws InterruptedException {
+        ExecutorService es = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch latch = new CountDownLatch(operationCount);
+        AtomicInteger failCount = new AtomicInteger();
+
+        for (int i = 0; i < operationCount; i++) {
+            boolean deposit = i % 2 == 0;
+            es.execute(() -> {
+                try {
+                    if (deposit) {
+                        DepositCommand command = DepositCommand.builder()
+                                .accountNumber(accountNumber(picker.getAsInt()))
+                                .amount(1L)
+                                .sender("bench")
+                                .build();
+                        lockRetryExecutor.execute(() -> accountService.deposit(command));
+                    } else {
+                        int from = picker.getAsInt();
+                        int to = (from + 1 + ThreadLocalRandom.current().nextInt(ACCOUNT_COUNT - 1)) % ACCOUNT_COUNT;
+                        TransferCommand command = TransferCommand.builder()
+                                .withdrawNumber(accountNumber(from))
+                                .depositNumber(accountNumber(to))
+                                .userId(owner.getId())
+                                .amount(1L)
+                                .accountPassword(1234)
+                                .build();
+                        lockRetryExecutor.execute(() -> accountService.transfer(command));
+                    }
+                } catch (Exception e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        es.shutdown();
+        return failCount.get();
+    }
+
+    private ConfigurableApplicationContext startContext(AccountConcurrencyMode mode, String access) {
+        return new SpringApplicationBuilder(WirebarleyApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "wirebarley.account.concurrency.mode=" + mode,
+                        "wirebarley.lock-retry.max-attempts=10",
+                        "spring.datasource.url=jdbc:h2:mem:bench-" + mode + "-" + access + ";MODE=MySQL;LOCK_TIMEOUT=10000",
+                        "spring.datasource.hikari.maximum-pool-size=" + THREAD_COUNT,
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.show_sql=false",
+                        "logging.level.root=warn",
+                        "logging.level.org.hibernate.orm.jdbc.bind=warn"
+                )
+                .run();
+    }
+
+    private User createAccounts(ConfigurableApplicationContext context) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        AccountRepository accountRepository = context.getBean(AccountRepository.class);
+
+        User owner = userRepository.save(User.builder()
+                .username("bench")
+                .email("bench@email.com")
+                .password("password")
+                .build());
+        for (int i = 0; i < ACCOUNT_COUNT; i++) {
+            accountRepository.save(Account.builder()
+                    .accountNumber(accountNumber(i))
+                    .password(1234)
+                    .balance(1_000_000L)
+                    .user(owner)
+                    .registeredAt(LocalDateTime.now())
+                    .build());
+        }
+        return owner;
+    }
+
+    private int uniform() {
+        return ThreadLocalRandom.current().nextInt(ACCOUNT_COUNT);
+    }
+
+    private int skewed() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (random.nextDouble() < HOT_ACCOUNT_RATIO) {
+            return random.nextInt(HOT_ACCOUNT_COUNT);
+        }
+        return random.nextInt(ACCOUNT_COUNT);
+    }
+
+    private long accountNumber(int index) {
+        return FIRST_ACCOUNT_NUMBER + index;
+    }
+}
@@ -0,0 +1,127 @@
+package com.wirebarley.benchmark;
+
+import com.wirebarley.WirebarleyApplication;
+import com.wirebarley.application.account.BulkTransferService;
+import com.wirebarley.application.account.dto.request.BulkTransferCommand;
+import com.wirebarley.application.account.dto.request.BulkTransferLine;
+import com.wirebarley.domain.account.Account;
+import com.wirebarley.domain.account.AccountRepository;
+import com.wirebarley.domain.transaction.Transaction;
+import com.wirebarley.domain.transaction.TransactionRepository;
+import com.wirebarley.domain.transaction.TransactionType;
+import com.wirebarley.domain.user.User;
+import com.wirebarley.domain.user.UserRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// ./gradlew benchmark
+// hibernate.jdbc.batch_size 를 1(행마다 한 번씩 왕복, IDENTITY 시절과 같은 방식)과 100으로 바꿔 가며 초당 저장 행 수를 비교한다.
+// - seed: 계좌 생성 + 거래내역 INSERT
+// - payroll: 1,000건 대량 이체 (입금계좌 UPDATE + 거래내역 INSERT)
+// 메모리 H2 는 왕복 비용이 거의 없으므로 실제 DB 에서는 차이가 더 벌어진다.
+@Tag("benchmark")
+class BatchInsertBenchmark {
+
+    private static final long FIRST_ACCOUNT_NUMBER = 1111L;
+    private static final int SEED_ACCOUNT_COUNT = 1_000;
+    private static final int SEED_TRANSACTION_COUNT = 50_000;
+    private static final int CHUNK_SIZE = 1_000;
+    private static final int PAYROLL_LINE_COUNT = 1_000;
+    private static final int PAYROLL_RUN_COUNT = 10;
+
+    @Test
+    void compareBatchSizes() {
+        System.out.printf("%-12s %-10s %12s%n", "batch_size", "workload", "rows/sec");
+        for (int batchSize : new int[]{1, 100}) {
+            run(batchSize);
+        }
+    }
+
+    private void run(int batchSize) {
+        try (ConfigurableApplicationContext context = startContext(batchSize)) {
+            AccountRepository accountRepository = context.getBean(AccountRepository.class);
+            TransactionRepository transactionRepository = context.getBean(TransactionRepository.class);
+            TransactionTemplate transactionTemplate = context.getBean(TransactionTemplate.class);
+            User owner = context.getBean(UserRepository.class).save(User.builder()
+                    .username("bench")
+                    .email("bench@email.com")
+                    .password("password")
+                    .build());
+
+            long start = System.nanoTime();
+            List<Account> accounts = new ArrayList<>(SEED_ACCOUNT_COUNT);
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = 0; i < SEED_ACCOUNT_COUNT; i++) {
+                    accounts.add(accountRepository.save(Account.builder()
+                            .accountNumber(FIRST_ACCOUNT_NUMBER + i)
+                            .password(1234)
+                            .balance(100_000_000L)
+                            .user(owner)
+                            .registeredAt(LocalDateTime.now())
+                            .build()));
+                }
+            });
+            for (int chunk = 0; chunk < SEED_TRANSACTION_COUNT / CHUNK_SIZE; chunk++) {
+                List<Transaction> transactions = new ArrayList<>(CHUNK_SIZE);
+                for (int i = 0; i < CHUNK_SIZE; i++) {
+                    Account account = accounts.get(i % SEED_ACCOUNT_COUNT);
+                    transactions.add(Transaction.builder()
+                            .depositAccount(account)
+                            .depositAccountBalance(account.getBalance())
+                            .amount(1L)
+                            .type(TransactionType.DEPOSIT)
+                            .sender("bench")
+                            .receiver("bench")
+                            .build());
+                }
+                transactionRepository.saveAllInBatch(transactions);
+            }
+            print(batchSize, "seed", SEED_ACCOUNT_COUNT + SEED_TRANSACTION_COUNT, System.nanoTime() - start);
+
+            BulkTransferService bulkTransferService = context.getBean(BulkTransferService.class);
+            List<BulkTransferLine> lines = new ArrayList<>(PAYROLL_LINE_COUNT);
+            for (int i = 1; i <= PAYROLL_LINE_COUNT; i++) {
+                lines.add(new BulkTransferLine(FIRST_ACCOUNT_NUMBER + (i % SEED_ACCOUNT_COUNT == 0 ? 1 : i % SEED_ACCOUNT_COUNT), 1L));
+            }
+            BulkTransferCommand command = BulkTransferCommand.builder()
+                    .withdrawNumber(FIRST_ACCOUNT_NUMBER)
+                    .userId(owner.getId())
+                    .accountPassword(1234)
+                    .lines(lines)
+                    .build();
+
+            start = System.nanoTime();
+            for (int i = 0; i < PAYROLL_RUN_COUNT; i++) {
+                bulkTransferService.transferAll(command);
+            }
+            // 건마다 거래내역 INSERT 1행 + 입금계좌 UPDATE 1행
+            print(batchSize, "payroll", PAYROLL_RUN_COUNT * PAYROLL_LINE_COUNT * 2, System.nanoTime() - start);
+        }
+    }
+
+    private void print(int batchSize, String workload, int rowCount, long elapsedNanos) {
+        System.out.printf("%-12d %-10s %12.0f%n", batchSize, workload, rowCount / (elapsedNanos / 1_000_000_000.0));
+    }
+
+    private ConfigurableApplicationContext startContext(int batchSize) {
+        return new SpringApplicationBuilder(WirebarleyApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                        "spring.datasource.url=jdbc:h2:mem:bench-batch-" + batchSize + ";MODE=MySQL",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.show_sql=false",
+                        "logging.level.root=warn",
+                        "logging.level.org.hibernate.orm.jdbc.bind=warn"
+                )
+                .run();
+    }
+}
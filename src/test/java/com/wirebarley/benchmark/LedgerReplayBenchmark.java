@@ -0,0 +1,121 @@
+package com.wirebarley.benchmark;
+
+import com.wirebarley.WirebarleyApplication;
+import com.wirebarley.application.account.AccountLedger;
+import com.wirebarley.domain.account.Account;
+import com.wirebarley.domain.account.AccountRepository;
+import com.wirebarley.domain.ledger.LedgerEvent;
+import com.wirebarley.domain.ledger.LedgerRepository;
+import com.wirebarley.domain.transaction.TransactionType;
+import com.wirebarley.domain.user.User;
+import com.wirebarley.domain.user.UserRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+// ./gradlew benchmark
+// 원장 이벤트 100만 건을 재생해서 스냅샷을 다시 만드는 시간과, 스냅샷 유무에 따른 잔액 조회 시간을 잰다.
+@Tag("benchmark")
+class LedgerReplayBenchmark {
+
+    private static final int ACCOUNT_COUNT = 1_000;
+    private static final long FIRST_ACCOUNT_NUMBER = 1111L;
+    private static final int EVENT_COUNT = 1_000_000;
+    private static final int INSERT_BATCH_SIZE = 10_000;
+    private static final int SNAPSHOT_INTERVAL = 100;
+
+    @Test
+    void replay() {
+        try (ConfigurableApplicationContext context = startContext()) {
+            AccountLedger accountLedger = context.getBean(AccountLedger.class);
+            LedgerRepository ledgerRepository = context.getBean(LedgerRepository.class);
+            List<Account> accounts = createAccounts(context);
+            appendEvents(ledgerRepository);
+
+            long withoutSnapshotNanos = readBalances(accountLedger, accounts);
+
+            long start = System.nanoTime();
+            long replayedCount = accountLedger.rebuildSnapshots();
+            long rebuildNanos = System.nanoTime() - start;
+
+            long withSnapshotNanos = readBalances(accountLedger, accounts);
+
+            double rebuildMillis = rebuildNanos / 1_000_000.0;
+            System.out.printf("%-28s %,d%n", "replayed events", replayedCount);
+            System.out.printf("%-28s %,.0f ms%n", "rebuild", rebuildMillis);
+            System.out.printf("%-28s %,.0f ms%n", "rebuild per 1M events", rebuildMillis * 1_000_000 / replayedCount);
+            System.out.printf("%-28s %,.0f events/sec%n", "replay throughput", replayedCount / (rebuildNanos / 1_000_000_000.0));
+            System.out.printf("%-28s %,.1f us%n", "balance (no snapshot)", withoutSnapshotNanos / 1_000.0 / accounts.size());
+            System.out.printf("%-28s %,.1f us%n", "balance (snapshot)", withSnapshotNanos / 1_000.0 / accounts.size());
+        }
+    }
+
+    private long readBalances(AccountLedger accountLedger, List<Account> accounts) {
+        long start = System.nanoTime();
+        for (Account account : accounts) {
+            accountLedger.getBalance(account);
+        }
+        return System.nanoTime() - start;
+    }
+
+    private void appendEvents(LedgerRepository ledgerRepository) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<LedgerEvent> events = new ArrayList<>(INSERT_BATCH_SIZE);
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            long accountNumber = FIRST_ACCOUNT_NUMBER + random.nextInt(ACCOUNT_COUNT);
+            events.add(random.nextBoolean()
+                    ? LedgerEvent.credit(accountNumber, 10L, TransactionType.DEPOSIT)
+                    : LedgerEvent.debit(accountNumber, 5L, TransactionType.WITHDRAW));
+            if (events.size() == INSERT_BATCH_SIZE) {
+                ledgerRepository.appendAll(events);
+                events.clear();
+            }
+        }
+        ledgerRepository.appendAll(events);
+    }
+
+    private ConfigurableApplicationContext startContext() {
+        return new SpringApplicationBuilder(WirebarleyApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "wirebarley.account.concurrency.mode=EVENT_SOURCED",
+                        "wirebarley.account.ledger.snapshot-interval=" + SNAPSHOT_INTERVAL,
+                        "wirebarley.account.ledger.snapshot-scan-interval=1h",
+                        "spring.datasource.url=jdbc:h2:mem:bench-ledger;MODE=MySQL",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.show_sql=false",
+                        "logging.level.root=warn",
+                        "logging.level.org.hibernate.orm.jdbc.bind=warn"
+                )
+                .run();
+    }
+
+    private List<Account> createAccounts(ConfigurableApplicationContext context) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        AccountRepository accountRepository = context.getBean(AccountRepository.class);
+
+        User owner = userRepository.save(User.builder()
+                .username("bench")
+                .email("bench@email.com")
+                .password("password")
+                .build());
+        List<Account> accounts = new ArrayList<>(ACCOUNT_COUNT);
+        for (int i = 0; i < ACCOUNT_COUNT; i++) {
+            accounts.add(accountRepository.save(Account.builder()
+                    .accountNumber(FIRST_ACCOUNT_NUMBER + i)
+                    .password(1234)
+                    .balance(1_000_000L)
+                    .user(owner)
+                    .registeredAt(LocalDateTime.now())
+                    .build()));
+        }
+        return accounts;
+    }
+}
@@ -0,0 +1,33 @@
+package com.wirebarley.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Hibernate 가 준비하는 SQL 문 수를 센다. batch 로 묶인 INSERT/UPDATE 는 한 문장으로 세고,
+// 풀링된 시퀀스가 id 블록을 새로 받는 호출은 요청과 관계없이 끼어들 수 있으므로 제외한다.
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final AtomicLong COUNT = new AtomicLong();
+
+    @Override
+    public String inspect(String sql) {
+        if (!isSequenceCall(sql)) {
+            COUNT.incrementAndGet();
+        }
+        return sql;
+    }
+
+    public static void clear() {
+        COUNT.set(0);
+    }
+
+    public static long count() {
+        return COUNT.get();
+    }
+
+    private boolean isSequenceCall(String sql) {
+        String lowerSql = sql.toLowerCase();
+        return lowerSql.contains("next value for") || lowerSql.contains("_seq");
+    }
+}
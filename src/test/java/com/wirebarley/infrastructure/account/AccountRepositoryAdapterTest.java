@@ -2,6 +2,7 @@ package com.wirebarley.infrastructure.account;
 
 import com.wirebarley.domain.account.Account;
 import com.wirebarley.domain.user.User;
+import com.wirebarley.infrastructure.account.config.AccountConcurrencyProperties;
 import com.wirebarley.infrastructure.account.jpa.JpaAccountRepository;
 import com.wirebarley.infrastructure.exception.CustomException;
 import com.wirebarley.infrastructure.user.UserRepositoryAdapter;
@@ -10,6 +11,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
@@ -21,6 +23,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 @Import({AccountRepositoryAdapter.class, UserRepositoryAdapter.class})
+@EnableConfigurationProperties(AccountConcurrencyProperties.class)
 @DataJpaTest
 class AccountRepositoryAdapterTest {
 
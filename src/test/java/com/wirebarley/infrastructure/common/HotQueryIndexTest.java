@@ -0,0 +1,131 @@
+package com.wirebarley.infrastructure.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Flyway 가 만든 스키마에서 자주 호출되는 쿼리가 테이블 전체를 읽지 않고 인덱스를 타는지 실행 계획으로 확인한다.
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest
+class HotQueryIndexTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DisplayName("계좌번호로 계좌를 조회하면 계좌번호 유니크 인덱스를 사용한다.")
+    @Test
+    void findAccountByAccountNumber() {
+        // when
+        String plan = explain("""
+                select a.* from account a
+                where a.account_number = 1111
+                """);
+
+        // then
+        assertThat(plan).containsIgnoringCase("uk_account_account_number");
+    }
+
+    @DisplayName("누적 출금액을 조회하면 계좌번호와 기간 시작일 유니크 인덱스를 사용한다.")
+    @Test
+    void findWithdrawalCounters() {
+        // when
+        String plan = explain("""
+                select wc.* from withdrawal_counter wc
+                where wc.account_number = 1111
+                and wc.period_start in (date '2025-07-02', date '2025-06-30', date '2025-07-01')
+                """);
+
+        // then
+        assertThat(plan).containsIgnoringCase("uk_withdrawal_counter_account_number_period_start");
+    }
+
+    @DisplayName("출금 거래 내역을 조회하면 출금 계좌 인덱스로 찾는다.")
+    @Test
+    void findWithdrawTransactions() {
+        // when
+        String plan = explain("""
+                select t.* from transactions t
+                join account a on a.id = t.withdraw_account_id
+                where t.withdraw_account_id = 1
+                and t.type = 'WITHDRAW'
+                and (t.created_at < timestamp '2025-07-01 12:00:00'
+                    or (t.created_at = timestamp '2025-07-01 12:00:00' and t.id < 100))
+                order by t.created_at desc, t.id desc
+                limit 10
+                """);
+
+        // then
+        assertIndexLookup(plan, "withdraw_account_id");
+    }
+
+    @DisplayName("입금 거래 내역을 조회하면 입금 계좌 인덱스로 찾는다.")
+    @Test
+    void findDepositTransactions() {
+        // when
+        String plan = explain("""
+                select t.* from transactions t
+                join account a on a.id = t.deposit_account_id
+                where t.deposit_account_id = 1
+                and t.type = 'DEPOSIT'
+                and (t.created_at < timestamp '2025-07-01 12:00:00'
+                    or (t.created_at = timestamp '2025-07-01 12:00:00' and t.id < 100))
+                order by t.created_at desc, t.id desc
+                limit 10
+                """);
+
+        // then
+        assertIndexLookup(plan, "deposit_account_id");
+    }
+
+    @DisplayName("거래 종류와 상관없이 계좌의 거래 내역을 조회하면 계좌 명세의 계좌 범위만 읽는다.")
+    @Test
+    void findAllStatements() {
+        // when
+        String plan = explain("""
+                select s.* from account_statement s
+                where s.account_id = 1
+                and (s.created_at < timestamp '2025-07-01 12:00:00'
+                    or (s.created_at = timestamp '2025-07-01 12:00:00' and s.transaction_id < 100))
+                order by s.created_at desc, s.transaction_id desc
+                limit 10
+                """);
+
+        // then
+        assertIndexLookup(plan, "account_id");
+    }
+
+    @DisplayName("기간별 출금 합계를 조회하면 계좌번호 인덱스로 계좌를 찾고 출금 계좌 인덱스만 읽어 합계를 낸다.")
+    @Test
+    void sumWithdrawAmountBetweenDays() {
+        // when
+        String plan = explain("""
+                select sum(t.amount) from transactions t
+                join account a on a.id = t.withdraw_account_id
+                where a.account_number = 1111
+                and t.created_at between timestamp '2025-07-01 00:00:00' and timestamp '2025-07-01 23:59:59'
+                and t.type in ('TRANSFER', 'WITHDRAW')
+                """);
+
+        // then
+        assertThat(plan)
+                .containsIgnoringCase("uk_account_account_number")
+                .containsIgnoringCase("idx_transactions_withdraw_account_id_type_created_at_id");
+    }
+
+    // H2 옵티마이저는 뒤에 남는 인덱스 컬럼마다 비용을 더하고 enum 컬럼의 선택도를 낮게 잡아서,
+    // 같은 계좌 컬럼으로 시작하는 FK 인덱스와 복합 인덱스 중 어느 쪽을 고를지는 보장하지 않는다. 계좌 컬럼으로 범위를 좁히는지만 본다.
+    private static void assertIndexLookup(String plan, String column) {
+        assertThat(plan)
+                .doesNotContainIgnoringCase("tableScan")
+                .containsPattern("(?i)/\\* PUBLIC\\.\\w+: " + column + " = ");
+    }
+
+    private String explain(String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("explain " + sql, String.class));
+    }
+}
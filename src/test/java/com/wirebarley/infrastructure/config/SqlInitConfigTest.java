@@ -0,0 +1,46 @@
+package com.wirebarley.infrastructure.config;
+
+import com.wirebarley.domain.user.User;
+import com.wirebarley.domain.user.UserRepository;
+import com.wirebarley.infrastructure.user.jpa.JpaUserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class SqlInitConfigTest {
+
+    @Autowired
+    private SqlInitConfig sqlInitConfig;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JpaUserRepository jpaUserRepository;
+
+    @AfterEach
+    void tearDown() {
+        jpaUserRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("재시작해서 초기 데이터를 다시 넣어도 이미 있는 사용자는 중복으로 넣지 않는다.")
+    @Test
+    public void seedUsersOnce() {
+        // given
+        jpaUserRepository.deleteAllInBatch();
+
+        // when
+        sqlInitConfig.init(null);
+        sqlInitConfig.init(null);
+
+        // then
+        assertThat(userRepository.findAll())
+                .extracting(User::getEmail)
+                .containsExactlyInAnyOrder("kim@email.com", "lee@email.com", "bae@email.com");
+    }
+}
@@ -0,0 +1,60 @@
+package com.wirebarley.infrastructure.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CursorFetchJdbcTemplateFactoryTest {
+
+    @DisplayName("MySQL 이면 useCursorFetch=true 를 붙인 별도 풀로 읽고, 기본 DataSource 의 URL 은 바꾸지 않는다.")
+    @Test
+    public void createWithCursorFetchPoolForMySql() {
+        // given
+        DataSource dataSource = new DriverManagerDataSource();
+        DataSourceProperties dataSourceProperties = dataSourceProperties("jdbc:mysql://localhost:3307/wirebarley?allowPublicKeyRetrieval=true");
+        CursorFetchJdbcTemplateFactory factory = new CursorFetchJdbcTemplateFactory(dataSource, dataSourceProperties, new CursorFetchDataSourceProperties(2));
+
+        // when
+        JdbcTemplate jdbcTemplate = factory.create(1_000);
+
+        // then
+        assertThat(jdbcTemplate.getFetchSize()).isEqualTo(1_000);
+        assertThat(jdbcTemplate.getDataSource()).isNotSameAs(dataSource).isInstanceOf(HikariDataSource.class);
+        HikariDataSource cursorFetchDataSource = (HikariDataSource) jdbcTemplate.getDataSource();
+        assertThat(cursorFetchDataSource.getJdbcUrl()).isEqualTo("jdbc:mysql://localhost:3307/wirebarley?allowPublicKeyRetrieval=true&useCursorFetch=true");
+        assertThat(cursorFetchDataSource.getMaximumPoolSize()).isEqualTo(2);
+        assertThat(dataSourceProperties.getUrl()).doesNotContain("useCursorFetch");
+
+        factory.destroy();
+        assertThat(cursorFetchDataSource.isClosed()).isTrue();
+    }
+
+    @DisplayName("MySQL 이 아니면 기본 DataSource 에 fetch size 만 준다.")
+    @Test
+    public void createWithDefaultDataSource() {
+        // given
+        DataSource dataSource = new DriverManagerDataSource();
+        CursorFetchJdbcTemplateFactory factory = new CursorFetchJdbcTemplateFactory(dataSource, dataSourceProperties("jdbc:h2:mem:cursor"), new CursorFetchDataSourceProperties(null));
+
+        // when
+        JdbcTemplate jdbcTemplate = factory.create(1_000);
+
+        // then
+        assertThat(jdbcTemplate.getFetchSize()).isEqualTo(1_000);
+        assertThat(jdbcTemplate.getDataSource()).isSameAs(dataSource);
+    }
+
+    private DataSourceProperties dataSourceProperties(String url) {
+        DataSourceProperties dataSourceProperties = new DataSourceProperties();
+        dataSourceProperties.setUrl(url);
+        dataSourceProperties.setUsername("root");
+        return dataSourceProperties;
+    }
+}
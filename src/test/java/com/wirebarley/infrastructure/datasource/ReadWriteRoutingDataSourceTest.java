@@ -0,0 +1,154 @@
+package com.wirebarley.infrastructure.datasource;
+
+import com.wirebarley.application.user.UserService;
+import com.wirebarley.application.user.dto.response.UserResponse;
+import com.wirebarley.domain.user.User;
+import com.wirebarley.domain.user.UserRepository;
+import com.wirebarley.infrastructure.user.jpa.JpaUserRepository;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 프라이머리와 레플리카를 서로 다른 H2 로 띄운다. 레플리카에는 복제가 없으므로 프라이머리에 쓴 값은 레플리카에서 보이지 않는다.
+// 애플리케이션이 뜨면서 읽기 전용 트랜잭션으로 정책을 읽으므로, 레플리카 스키마는 컨텍스트가 뜨기 전에 만들어 둔다.
+@AutoConfigureMockMvc
+@SpringBootTest(properties = {
+        "wirebarley.datasource.replica.enabled=true",
+        "wirebarley.datasource.replica.url=" + ReadWriteRoutingDataSourceTest.REPLICA_URL,
+        "wirebarley.datasource.replica.username=sa",
+        "wirebarley.datasource.replica.password=",
+        "wirebarley.datasource.replica.driver-class-name=org.h2.Driver"
+})
+class ReadWriteRoutingDataSourceTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:~/wirebarley-replica;MODE=MySQL;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JpaUserRepository jpaUserRepository;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @BeforeAll
+    static void migrateReplica() {
+        Flyway.configure()
+                .dataSource(REPLICA_URL, "sa", "")
+                .locations("classpath:db/migration/common", "classpath:db/migration/h2")
+                .load()
+                .migrate();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWritesContext.end();
+        jpaUserRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("읽기 전용 트랜잭션은 레플리카에서 읽고, 쓰기는 프라이머리에 남는다.")
+    @Test
+    public void readOnlyTransactionReadsReplica() {
+        // given
+        userRepository.save(createUser("user1", "user1@email.com"));
+
+        // when
+        List<UserResponse> users = userService.retrieveUsers();
+
+        // then
+        assertThat(users).isEmpty();
+        assertThat(countUsers(primaryDataSource)).isPositive();
+        assertThat(countUsers(replicaDataSource)).isZero();
+    }
+
+    @DisplayName("요청 안에서 쓰기가 있었으면 이후 읽기 전용 트랜잭션도 프라이머리에서 읽는다.")
+    @Test
+    public void readYourWritesAfterWrite() {
+        // given
+        ReadYourWritesContext.begin(false);
+        userRepository.save(createUser("user1", "user1@email.com"));
+
+        // when
+        List<UserResponse> users = userService.retrieveUsers();
+
+        // then
+        assertThat(users)
+                .extracting("email")
+                .contains("user1@email.com");
+    }
+
+    @DisplayName("요청 밖에서는 쓰기가 있어도 읽기 전용 트랜잭션은 레플리카에서 읽는다.")
+    @Test
+    public void readReplicaOutsideRequest() {
+        // given
+        userRepository.save(createUser("user1", "user1@email.com"));
+
+        // when
+        List<UserResponse> users = userService.retrieveUsers();
+
+        // then
+        assertThat(users).isEmpty();
+        assertThat(ReadYourWritesContext.isPrimaryRequired()).isFalse();
+    }
+
+    @DisplayName("read-your-writes 헤더가 있는 요청은 프라이머리에서 읽는다.")
+    @Test
+    public void readPrimaryWithHeader() throws Exception {
+        // given
+        userRepository.save(createUser("user1", "user1@email.com"));
+
+        // when // then
+        mvc
+                .perform(get("/api/v1/users"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(0));
+
+        mvc
+                .perform(get("/api/v1/users").header(ReadYourWritesFilter.HEADER, "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[?(@.email == 'user1@email.com')]").exists());
+    }
+
+    private Integer countUsers(DataSource dataSource) {
+        return new JdbcTemplate(dataSource).queryForObject("select count(*) from users", Integer.class);
+    }
+
+    private User createUser(String username, String email) {
+        return User.builder()
+                .username(username)
+                .email(email)
+                .password("password")
+                .createdAt(LocalDateTime.now())
+                .modifiedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,172 @@
+package com.wirebarley.infrastructure.idempotency;
+
+import com.wirebarley.infrastructure.exception.CustomException;
+import com.wirebarley.infrastructure.exception.OutcomeUnknownException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class IdempotencyExecutorTest {
+
+    @Autowired
+    private IdempotencyExecutor idempotencyExecutor;
+
+    @Autowired
+    private JpaIdempotencyRecordRepository jpaIdempotencyRecordRepository;
+
+    @AfterEach
+    void tearDown() {
+        jpaIdempotencyRecordRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("같은 키로 다시 요청하면 실행하지 않고 저장된 응답을 돌려준다.")
+    @Test
+    public void replayCompletedRequest() {
+        // given
+        AtomicInteger executions = new AtomicInteger();
+        Map<String, Long> request = Map.of("amount", 100L);
+
+        // when
+        String first = idempotencyExecutor.execute("key-1", "WITHDRAW", request, String.class,
+                () -> "result-" + executions.incrementAndGet());
+        String second = idempotencyExecutor.execute("key-1", "WITHDRAW", request, String.class,
+                () -> "result-" + executions.incrementAndGet());
+
+        // then
+        assertThat(first).isEqualTo("result-1");
+        assertThat(second).isEqualTo("result-1");
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(jpaIdempotencyRecordRepository.findByIdempotencyKey("key-1"))
+                .get()
+                .extracting(IdempotencyRecordEntity::getStatus)
+                .isEqualTo(IdempotencyStatus.COMPLETED);
+    }
+
+    @DisplayName("같은 키를 다른 요청에 사용하면 예외가 발생한다.")
+    @Test
+    public void rejectReusedKey() {
+        // given
+        idempotencyExecutor.execute("key-2", "WITHDRAW", Map.of("amount", 100L), String.class, () -> "ok");
+
+        // when
+        // then
+        assertThatThrownBy(() -> idempotencyExecutor.execute("key-2", "WITHDRAW", Map.of("amount", 200L), String.class, () -> "ok"))
+                .isInstanceOf(CustomException.class)
+                .hasMessage("다른 요청에 사용된 Idempotency-Key 입니다.");
+    }
+
+    @DisplayName("처리 중 예외가 발생하면 키를 반납해서 다시 요청할 수 있다.")
+    @Test
+    public void releaseKeyWhenFailed() {
+        // given
+        Map<String, Long> request = Map.of("amount", 100L);
+
+        // when
+        assertThatThrownBy(() -> idempotencyExecutor.execute("key-3", "WITHDRAW", request, String.class, () -> {
+            throw new CustomException("잔액이 부족합니다.");
+        })).isInstanceOf(CustomException.class);
+        String result = idempotencyExecutor.execute("key-3", "WITHDRAW", request, String.class, () -> "ok");
+
+        // then
+        assertThat(result).isEqualTo("ok");
+    }
+
+    @DisplayName("처리중인 키로 다시 요청하면 예외가 발생한다.")
+    @Test
+    public void rejectInProgressKey() {
+        // given
+        Map<String, Long> request = Map.of("amount", 100L);
+
+        // when
+        // then
+        assertThatThrownBy(() -> idempotencyExecutor.execute("key-4", "WITHDRAW", request, String.class,
+                () -> idempotencyExecutor.execute("key-4", "WITHDRAW", request, String.class, () -> "ok")))
+                .isInstanceOf(CustomException.class)
+                .hasMessage("같은 Idempotency-Key 로 요청한 거래가 처리중이거나 처리 결과를 확인하지 못했습니다. 거래내역을 확인해주세요.");
+    }
+
+    @DisplayName("반영됐는지 알 수 없는 실패는 키를 반납하지 않아서, 같은 키로 다시 요청해도 한 번 더 실행되지 않는다.")
+    @Test
+    public void keepKeyWhenOutcomeUnknown() {
+        // given
+        Map<String, Long> request = Map.of("amount", 100L);
+        AtomicInteger executions = new AtomicInteger();
+
+        // when
+        assertThatThrownBy(() -> idempotencyExecutor.execute("key-5", "WITHDRAW", request, String.class, () -> {
+            executions.incrementAndGet();
+            throw new OutcomeUnknownException("처리 결과를 확인하지 못했습니다.");
+        })).isInstanceOf(OutcomeUnknownException.class);
+
+        // then
+        assertThatThrownBy(() -> idempotencyExecutor.execute("key-5", "WITHDRAW", request, String.class,
+                () -> "result-" + executions.incrementAndGet()))
+                .isInstanceOf(CustomException.class)
+                .hasMessage("같은 Idempotency-Key 로 요청한 거래가 처리중이거나 처리 결과를 확인하지 못했습니다. 거래내역을 확인해주세요.");
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @DisplayName("처리중 기록도 응답 보관 기간만큼 유지되어, 첫 요청이 오래 걸려도 같은 키로 다시 실행되지 않는다.")
+    @Test
+    public void keepInProgressKeyForTtl() {
+        // given
+        Map<String, Long> request = Map.of("amount", 100L);
+        LocalDateTime before = LocalDateTime.now();
+        AtomicReference<LocalDateTime> inProgressExpiresAt = new AtomicReference<>();
+
+        // when
+        idempotencyExecutor.execute("key-6", "WITHDRAW", request, String.class, () -> {
+            inProgressExpiresAt.set(jpaIdempotencyRecordRepository.findByIdempotencyKey("key-6").orElseThrow().getExpiresAt());
+            return "ok";
+        });
+
+        // then
+        assertThat(inProgressExpiresAt.get()).isAfter(before.plusHours(23));
+        assertThat(jpaIdempotencyRecordRepository.findByIdempotencyKey("key-6").orElseThrow().getExpiresAt())
+                .isAfter(before.plusHours(23));
+    }
+
+    @DisplayName("응답을 남기지 못하고 오래된 처리중 키로 다시 요청해도 실행하지 않고 처리중/결과 확인 불가로 응답한다.")
+    @Test
+    public void rejectStaleInProgressKey() {
+        // given
+        Map<String, Long> request = Map.of("amount", 100L);
+        LocalDateTime past = LocalDateTime.now().minusMinutes(30);
+        jpaIdempotencyRecordRepository.saveAndFlush(IdempotencyRecordEntity.inProgress("key-7", "WITHDRAW", "hash", past, past.plusHours(24)));
+        AtomicInteger executions = new AtomicInteger();
+
+        // when
+        // then
+        assertThatThrownBy(() -> idempotencyExecutor.execute("key-7", "WITHDRAW", request, String.class,
+                () -> "result-" + executions.incrementAndGet()))
+                .isInstanceOf(CustomException.class)
+                .hasMessage("같은 Idempotency-Key 로 요청한 거래가 처리중이거나 처리 결과를 확인하지 못했습니다. 거래내역을 확인해주세요.");
+        assertThat(executions.get()).isZero();
+    }
+
+    @DisplayName("응답 보관 기간이 지난 키는 새 요청으로 보고 다시 실행한다.")
+    @Test
+    public void reclaimExpiredKey() {
+        // given
+        Map<String, Long> request = Map.of("amount", 100L);
+        LocalDateTime past = LocalDateTime.now().minusDays(2);
+        jpaIdempotencyRecordRepository.saveAndFlush(IdempotencyRecordEntity.inProgress("key-8", "WITHDRAW", "hash", past, past.plusHours(24)));
+
+        // when
+        String result = idempotencyExecutor.execute("key-8", "WITHDRAW", request, String.class, () -> "ok");
+
+        // then
+        assertThat(result).isEqualTo("ok");
+    }
+}
@@ -0,0 +1,237 @@
+package com.wirebarley.infrastructure.lane;
+
+import com.wirebarley.infrastructure.exception.CustomException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AccountLaneDispatcherTest {
+
+    private MeterRegistry meterRegistry;
+    private AccountLaneDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dispatcher = new AccountLaneDispatcher(new AccountLaneProperties(true, 4, 2, null), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.destroy();
+    }
+
+    @DisplayName("같은 계좌에 대한 요청은 한 레인에서 들어온 순서대로 실행된다.")
+    @Test
+    public void sameAccountRunsInOrder() {
+        // given
+        List<Integer> executed = Collections.synchronizedList(new ArrayList<>());
+
+        // when
+        for (int i = 0; i < 50; i++) {
+            int order = i;
+            dispatcher.execute(1111L, () -> executed.add(order));
+        }
+
+        // then
+        assertThat(executed).hasSize(50).isSorted();
+        assertThat(meterRegistry.timer("account.lane.wait").count()).isEqualTo(50);
+    }
+
+    @DisplayName("레인에서 발생한 예외는 호출한 쪽으로 그대로 전달된다.")
+    @Test
+    public void propagateException() {
+        // when
+        // then
+        assertThatThrownBy(() -> dispatcher.execute(1111L, () -> {
+            throw new CustomException("계좌 잔액이 부족합니다.");
+        }))
+                .isInstanceOf(CustomException.class)
+                .hasMessage("계좌 잔액이 부족합니다.");
+    }
+
+    @DisplayName("레인 대기열이 가득 차면 요청을 거절한다.")
+    @Test
+    public void rejectWhenQueueIsFull() throws InterruptedException {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService es = Executors.newFixedThreadPool(3);
+        es.execute(() -> dispatcher.execute(1111L, () -> {
+            started.countDown();
+            awaitQuietly(release);
+            return null;
+        }));
+        started.await();
+
+        // 대기열 크기 2 만큼 채운다.
+        for (int i = 0; i < 2; i++) {
+            es.execute(() -> dispatcher.execute(1111L, () -> null));
+        }
+        waitUntilQueueDepth(dispatcher.laneOf(1111L), 2);
+
+        // when
+        // then
+        assertThatThrownBy(() -> dispatcher.execute(1111L, () -> null))
+                .isInstanceOf(CustomException.class)
+                .hasMessage("해당 계좌에 처리 대기중인 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        assertThat(meterRegistry.counter("account.lane.rejected").count()).isEqualTo(1);
+
+        release.countDown();
+        es.shutdown();
+        assertThat(es.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @DisplayName("레인 작업을 기다리다 시간이 지나면, 시작 전인 작업은 취소하고 실행중인 작업은 결과를 알 수 없다고 응답한다.")
+    @Test
+    public void timeoutWhileWaiting() throws InterruptedException {
+        // given
+        AccountLaneDispatcher timed = new AccountLaneDispatcher(
+                new AccountLaneProperties(true, 4, 2, Duration.ofMillis(100)), meterRegistry);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean queuedRan = new AtomicBoolean();
+        ExecutorService es = Executors.newSingleThreadExecutor();
+        es.execute(() -> {
+            try {
+                timed.execute(1111L, () -> {
+                    started.countDown();
+                    awaitQuietly(release);
+                    return null;
+                });
+            } catch (CustomException ignored) {
+            }
+        });
+        started.await();
+
+        // when
+        // then
+        assertThatThrownBy(() -> timed.execute(1111L, () -> queuedRan.getAndSet(true)))
+                .isInstanceOf(CustomException.class)
+                .hasMessage("해당 계좌에 처리 대기중인 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+
+        release.countDown();
+        es.shutdown();
+        assertThat(es.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+        CountDownLatch blocked = new CountDownLatch(1);
+        assertThatThrownBy(() -> timed.execute(1111L, () -> {
+            awaitQuietly(blocked);
+            return null;
+        }))
+                .isInstanceOf(CustomException.class)
+                .hasMessage("처리 결과를 확인하지 못했습니다. 거래내역을 확인한 뒤 다시 시도해주세요.");
+        blocked.countDown();
+
+        timed.destroy();
+        assertThat(queuedRan).isFalse();
+    }
+
+    @DisplayName("서로 다른 레인의 계좌끼리 양방향으로 동시에 이체해도 멈추지 않고, 두 레인 모두 점유된 상태에서 실행된다.")
+    @Test
+    public void crossLaneTransfer() throws InterruptedException {
+        // given
+        long first = 1111L;
+        long second = findAccountOnOtherLane(first);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger overlapped = new AtomicInteger();
+
+        // when
+        int threadCount = 40;
+        ExecutorService es = Executors.newFixedThreadPool(8);
+        CountDownLatch countDownLatch = new CountDownLatch(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            boolean forward = i % 2 == 0;
+            es.execute(() -> {
+                try {
+                    // 각 계좌 단독 요청과 이체가 섞여도 같은 계좌의 작업은 겹치지 않아야 한다.
+                    Runnable critical = () -> {
+                        if (running.incrementAndGet() > 1) {
+                            overlapped.incrementAndGet();
+                        }
+                        running.decrementAndGet();
+                    };
+                    if (forward) {
+                        dispatcher.execute(first, second, () -> {
+                            critical.run();
+                            return null;
+                        });
+                    } else {
+                        dispatcher.execute(second, first, () -> {
+                            critical.run();
+                            return null;
+                        });
+                    }
+                } finally {
+                    countDownLatch.countDown();
+                }
+            });
+        }
+
+        // then
+        assertThat(countDownLatch.await(10, TimeUnit.SECONDS)).isTrue();
+        es.shutdown();
+        assertThat(overlapped.get()).isZero();
+    }
+
+    @DisplayName("비활성화하면 호출한 스레드에서 바로 실행한다.")
+    @Test
+    public void runOnCallerThreadWhenDisabled() {
+        // given
+        AccountLaneDispatcher disabled = new AccountLaneDispatcher(new AccountLaneProperties(false, 4, 2, null), meterRegistry);
+        Thread caller = Thread.currentThread();
+
+        // when
+        Thread executedOn = disabled.execute(1111L, Thread::currentThread);
+
+        // then
+        assertThat(executedOn).isSameAs(caller);
+    }
+
+    private long findAccountOnOtherLane(long accountNumber) {
+        int lane = dispatcher.laneOf(accountNumber);
+        long candidate = accountNumber + 1;
+        while (dispatcher.laneOf(candidate) == lane) {
+            candidate++;
+        }
+        return candidate;
+    }
+
+    private void waitUntilQueueDepth(int lane, int depth) throws InterruptedException {
+        for (int i = 0; i < 500; i++) {
+            double current = meterRegistry.find("account.lane.queue.depth")
+                    .tag("lane", String.valueOf(lane))
+                    .gauge()
+                    .value();
+            if (current >= depth) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.wirebarley.infrastructure.limit;
+
+import com.wirebarley.application.account.AccountService;
+import com.wirebarley.application.account.dto.request.TransferCommand;
+import com.wirebarley.application.account.dto.request.WithdrawCommand;
+import com.wirebarley.domain.account.Account;
+import com.wirebarley.domain.account.AccountRepository;
+import com.wirebarley.domain.limit.WithdrawalPeriod;
+import com.wirebarley.domain.user.User;
+import com.wirebarley.domain.user.UserRepository;
+import com.wirebarley.infrastructure.account.jpa.JpaAccountRepository;
+import com.wirebarley.infrastructure.limit.entity.WithdrawalCounterEntity;
+import com.wirebarley.infrastructure.limit.jpa.JpaWithdrawalCounterRepository;
+import com.wirebarley.infrastructure.transaction.jpa.JpaTransactionRepository;
+import com.wirebarley.infrastructure.user.jpa.JpaUserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+class WithdrawalCounterBackfillTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JpaUserRepository jpaUserRepository;
+
+    @Autowired
+    private JpaAccountRepository jpaAccountRepository;
+
+    @Autowired
+    private JpaTransactionRepository jpaTransactionRepository;
+
+    @Autowired
+    private JpaWithdrawalCounterRepository jpaWithdrawalCounterRepository;
+
+    @AfterEach
+    void tearDown() {
+        jpaTransactionRepository.deleteAllInBatch();
+        jpaWithdrawalCounterRepository.deleteAllInBatch();
+        jpaAccountRepository.deleteAllInBatch();
+        jpaUserRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("누적 출금액이 없던 때의 출금과 이체를 이번 일/주/월 누적 출금액으로 채우고, 다시 실행해도 두 번 더하지 않는다.")
+    @Test
+    public void backfillFromTransactions() {
+        // given
+        User savedUser = userRepository.save(createUser());
+        accountRepository.save(createAccount(1111L, 100_000L, savedUser));
+        accountRepository.save(createAccount(2222L, 0L, savedUser));
+        accountService.withdraw(WithdrawCommand.builder()
+                .accountNumber(1111L)
+                .amount(3_000L)
+                .userId(savedUser.getId())
+                .password(1234)
+                .receiver("ATM")
+                .build());
+        accountService.transfer(TransferCommand.builder()
+                .withdrawNumber(1111L)
+                .depositNumber(2222L)
+                .userId(savedUser.getId())
+                .amount(7_000L)
+                .accountPassword(1234)
+                .build());
+        jpaWithdrawalCounterRepository.deleteAllInBatch();
+
+        // when
+        runBackfill();
+        runBackfill();
+
+        // then
+        LocalDate today = LocalDate.now();
+        assertThat(jpaWithdrawalCounterRepository.findAll())
+                .extracting(WithdrawalCounterEntity::getAccountNumber, WithdrawalCounterEntity::getPeriod, WithdrawalCounterEntity::getPeriodStart, WithdrawalCounterEntity::getAmount)
+                .containsExactlyInAnyOrder(
+                        tuple(1111L, WithdrawalPeriod.DAILY, WithdrawalPeriod.DAILY.startOf(today), 10_000L),
+                        tuple(1111L, WithdrawalPeriod.WEEKLY, WithdrawalPeriod.WEEKLY.startOf(today), 10_000L),
+                        tuple(1111L, WithdrawalPeriod.MONTHLY, WithdrawalPeriod.MONTHLY.startOf(today), 10_000L)
+                );
+    }
+
+    private void runBackfill() {
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/h2/V7__backfill_withdrawal_counter.sql")).execute(dataSource);
+    }
+
+    private User createUser() {
+        return User.builder()
+                .username("출금한사람")
+                .email("user1@email.com")
+                .password("password")
+                .createdAt(LocalDateTime.now())
+                .modifiedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private Account createAccount(long accountNumber, long balance, User user) {
+        return Account.builder()
+                .accountNumber(accountNumber)
+                .password(1234)
+                .balance(balance)
+                .user(user)
+                .registeredAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,143 @@
+package com.wirebarley.infrastructure.limit;
+
+import com.wirebarley.application.account.TransferLimitChecker;
+import com.wirebarley.domain.account.Account;
+import com.wirebarley.domain.limit.WithdrawalCounterRepository;
+import com.wirebarley.domain.limit.WithdrawalTotals;
+import com.wirebarley.domain.user.User;
+import com.wirebarley.infrastructure.exception.CustomException;
+import com.wirebarley.infrastructure.limit.jpa.JpaWithdrawalCounterRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "wirebarley.transfer.limit.cache.enabled=true")
+class WithdrawalTotalsCacheTest {
+
+    private static final LocalDateTime TRANSFER_DATE = LocalDate.of(2024, 7, 3).atTime(10, 0);
+
+    @Autowired
+    private TransferLimitChecker transferLimitChecker;
+
+    @Autowired
+    private WithdrawalCounterRepository withdrawalCounterRepository;
+
+    @Autowired
+    private JpaWithdrawalCounterRepository jpaWithdrawalCounterRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void tearDown() {
+        jpaWithdrawalCounterRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("한 번 읽은 계좌는 커밋된 이체 금액을 캐시에 더해 두고 다음 이체에서 DB 를 읽지 않는다.")
+    @Test
+    public void hitAfterCommit() {
+        // given
+        long accountNumber = 1001L;
+        transferInTransaction(accountNumber, 10_000L, TRANSFER_DATE);
+        double hits = hitCount();
+        double misses = missCount();
+
+        // when
+        transferInTransaction(accountNumber, 20_000L, TRANSFER_DATE);
+        transferInTransaction(accountNumber, 30_000L, TRANSFER_DATE.plusHours(1));
+
+        // then
+        assertThat(hitCount() - hits).isEqualTo(2);
+        assertThat(missCount() - misses).isZero();
+        assertThat(withdrawalCounterRepository.findTotals(accountNumber, TRANSFER_DATE.toLocalDate()))
+                .isEqualTo(new WithdrawalTotals(60_000L, 60_000L, 60_000L));
+    }
+
+    @DisplayName("한도를 넘어 롤백된 이체 금액은 캐시에 남지 않는다.")
+    @Test
+    public void discardRolledBackAmount() {
+        // given
+        long accountNumber = 1002L;
+        transferInTransaction(accountNumber, 90_000L, TRANSFER_DATE);
+
+        // when
+        assertThatThrownBy(() -> transferInTransaction(accountNumber, 20_000L, TRANSFER_DATE))
+                .isInstanceOf(CustomException.class)
+                .hasMessage("일 이체 한도를 초과했습니다.");
+        transferInTransaction(accountNumber, 10_000L, TRANSFER_DATE);
+
+        // then
+        assertThat(withdrawalCounterRepository.findTotals(accountNumber, TRANSFER_DATE.toLocalDate()))
+                .isEqualTo(new WithdrawalTotals(100_000L, 100_000L, 100_000L));
+        assertThat(jpaWithdrawalCounterRepository.findAll())
+                .filteredOn(counter -> counter.getAccountNumber().equals(accountNumber))
+                .extracting("amount")
+                .containsOnly(100_000L);
+    }
+
+    @DisplayName("날짜가 바뀌면 DB 에서 다시 읽어서 일 합계는 새로 시작하고 주/월 합계는 이어진다.")
+    @Test
+    public void rollOverAtCalendarBoundary() {
+        // given
+        long accountNumber = 1003L;
+        transferInTransaction(accountNumber, 90_000L, TRANSFER_DATE);
+        double misses = missCount();
+
+        // when
+        transferInTransaction(accountNumber, 90_000L, TRANSFER_DATE.plusDays(1));
+
+        // then
+        assertThat(missCount() - misses).isEqualTo(1);
+        assertThat(withdrawalCounterRepository.findTotals(accountNumber, TRANSFER_DATE.plusDays(1).toLocalDate()))
+                .isEqualTo(new WithdrawalTotals(90_000L, 180_000L, 180_000L));
+    }
+
+    @DisplayName("출금 금액도 캐시에 반영되어 같은 기간의 이체 한도에 포함된다.")
+    @Test
+    public void includeWithdrawal() {
+        // given
+        long accountNumber = 1004L;
+        transferInTransaction(accountNumber, 50_000L, TRANSFER_DATE);
+        transactionTemplate.executeWithoutResult(status ->
+                transferLimitChecker.recordWithdrawal(accountNumber, 50_000L, TRANSFER_DATE.plusHours(2)));
+
+        // when
+        // then
+        assertThatThrownBy(() -> transferInTransaction(accountNumber, 1L, TRANSFER_DATE.plusHours(3)))
+                .isInstanceOf(CustomException.class)
+                .hasMessage("일 이체 한도를 초과했습니다.");
+    }
+
+    private void transferInTransaction(long accountNumber, long amount, LocalDateTime transferDate) {
+        transactionTemplate.executeWithoutResult(status ->
+                transferLimitChecker.checkTransferLimitByPeriod(createAccount(accountNumber), amount, transferDate));
+    }
+
+    private double hitCount() {
+        return meterRegistry.counter("transfer.limit.cache.hit").count();
+    }
+
+    private double missCount() {
+        return meterRegistry.counter("transfer.limit.cache.miss").count();
+    }
+
+    private Account createAccount(long accountNumber) {
+        return Account.builder()
+                .accountNumber(accountNumber)
+                .user(User.builder().id(1L).build())
+                .build();
+    }
+}
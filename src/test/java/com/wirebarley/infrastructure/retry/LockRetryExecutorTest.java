@@ -0,0 +1,85 @@
+package com.wirebarley.infrastructure.retry;
+
+import com.wirebarley.infrastructure.exception.CustomException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LockRetryExecutorTest {
+
+    private MeterRegistry meterRegistry;
+    private LockRetryExecutor lockRetryExecutor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        LockRetryProperties properties = new LockRetryProperties(3, Duration.ofMillis(1), Duration.ofMillis(5));
+        lockRetryExecutor = new LockRetryExecutor(properties, meterRegistry);
+    }
+
+    @DisplayName("락 획득에 실패하면 재시도해서 결과를 반환한다.")
+    @Test
+    public void retryWhenLockFailure() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when
+        String result = lockRetryExecutor.execute(() -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new CannotAcquireLockException("deadlock");
+            }
+            return "ok";
+        });
+
+        // then
+        assertThat(result).isEqualTo("ok");
+        assertThat(attempts.get()).isEqualTo(3);
+        assertThat(meterRegistry.counter("account.lock.retry").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("account.lock.failure").count()).isZero();
+    }
+
+    @DisplayName("최대 시도 횟수를 넘기면 예외가 발생한다.")
+    @Test
+    public void failAfterMaxAttempts() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when
+        // then
+        assertThatThrownBy(() -> lockRetryExecutor.execute(() -> {
+            attempts.incrementAndGet();
+            throw new CannotAcquireLockException("deadlock");
+        }))
+                .isInstanceOf(CustomException.class)
+                .hasMessage("요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요.");
+        assertThat(attempts.get()).isEqualTo(3);
+        assertThat(meterRegistry.counter("account.lock.failure").count()).isEqualTo(1);
+    }
+
+    @DisplayName("락과 무관한 예외는 재시도하지 않는다.")
+    @Test
+    public void notRetryOtherException() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when
+        // then
+        assertThatThrownBy(() -> lockRetryExecutor.execute(() -> {
+            attempts.incrementAndGet();
+            throw new CustomException("계좌 잔액이 부족합니다.");
+        }))
+                .isInstanceOf(CustomException.class)
+                .hasMessage("계좌 잔액이 부족합니다.");
+        assertThat(attempts.get()).isEqualTo(1);
+        assertThat(meterRegistry.counter("account.lock.retry").count()).isZero();
+    }
+}
@@ -0,0 +1,152 @@
+package com.wirebarley.infrastructure.transaction;
+
+import com.wirebarley.config.TestJpaAuditingConfig;
+import com.wirebarley.config.TestQueryDslConfig;
+import com.wirebarley.domain.account.Account;
+import com.wirebarley.domain.transaction.Transaction;
+import com.wirebarley.domain.user.User;
+import com.wirebarley.infrastructure.account.AccountRepositoryAdapter;
+import com.wirebarley.infrastructure.account.config.AccountConcurrencyProperties;
+import com.wirebarley.infrastructure.account.jpa.JpaAccountRepository;
+import com.wirebarley.infrastructure.datasource.CursorFetchDataSourceProperties;
+import com.wirebarley.infrastructure.datasource.CursorFetchJdbcTemplateFactory;
+import com.wirebarley.infrastructure.datasource.ReplicaDataSourceProperties;
+import com.wirebarley.infrastructure.transaction.config.AccountStatementProperties;
+import com.wirebarley.infrastructure.transaction.config.TransactionHistoryCacheProperties;
+import com.wirebarley.infrastructure.transaction.jdbc.AccountStatementJdbcRepository;
+import com.wirebarley.infrastructure.transaction.jdbc.TransactionJdbcRepository;
+import com.wirebarley.infrastructure.transaction.jpa.AccountStatementRepositoryDSL;
+import com.wirebarley.infrastructure.transaction.jpa.JpaTransactionRepository;
+import com.wirebarley.infrastructure.transaction.jpa.TransactionRepositoryDSL;
+import com.wirebarley.infrastructure.user.UserRepositoryAdapter;
+import com.wirebarley.infrastructure.user.jpa.JpaUserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static com.wirebarley.domain.transaction.TransactionType.TRANSFER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(
+        {
+                TestQueryDslConfig.class,
+                TestJpaAuditingConfig.class,
+                TransactionRepositoryAdapter.class,
+                UserRepositoryAdapter.class,
+                AccountRepositoryAdapter.class,
+                TransactionRepositoryDSL.class,
+                TransactionJdbcRepository.class,
+                CursorFetchJdbcTemplateFactory.class,
+                TransactionHistoryCache.class,
+                AccountStatementRepositoryDSL.class,
+                AccountStatementJdbcRepository.class,
+                AccountStatementProjector.class,
+                SimpleMeterRegistry.class
+        }
+)
+@EnableConfigurationProperties({AccountConcurrencyProperties.class, TransactionHistoryCacheProperties.class, AccountStatementProperties.class, CursorFetchDataSourceProperties.class, ReplicaDataSourceProperties.class})
+@DataJpaTest(properties = "wirebarley.transaction.statement.mode=async")
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 커밋된 뒤에 워커가 반영하므로 테스트 트랜잭션을 쓰지 않는다
+class AccountStatementProjectorTest {
+
+    @Autowired
+    private TransactionRepositoryAdapter transactionRepositoryAdapter;
+
+    @Autowired
+    private UserRepositoryAdapter userRepositoryAdapter;
+
+    @Autowired
+    private AccountRepositoryAdapter accountRepositoryAdapter;
+
+    @Autowired
+    private JpaTransactionRepository jpaTransactionRepository;
+
+    @Autowired
+    private JpaAccountRepository jpaAccountRepository;
+
+    @Autowired
+    private JpaUserRepository jpaUserRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from account_statement");
+        jpaTransactionRepository.deleteAllInBatch();
+        jpaAccountRepository.deleteAllInBatch();
+        jpaUserRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("ASYNC 모드에서는 거래가 커밋된 뒤 워커가 명세를 쌓고 반영 지연 시간을 기록한다.")
+    @Test
+    public void projectAfterCommit() throws InterruptedException {
+        // given
+        Account sender = accountRepositoryAdapter.save(createAccount(1111L, createUser("user1", "user1@email.com")));
+        Account receiver = accountRepositoryAdapter.save(createAccount(2222L, createUser("user2", "user2@email.com")));
+
+        Transaction transfer = Transaction.builder()
+                .withdrawAccount(sender)
+                .depositAccount(receiver)
+                .withdrawAccountBalance(8000L)
+                .depositAccountBalance(12000L)
+                .amount(2000L)
+                .type(TRANSFER)
+                .sender("user1")
+                .receiver("user2")
+                .build();
+
+        // when
+        transactionRepositoryAdapter.save(transfer);
+
+        // then
+        long deadline = System.currentTimeMillis() + 5000;
+        while (countStatements(sender, receiver) < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(countStatements(sender, receiver)).isEqualTo(2);
+        assertThat(meterRegistry.timer("transaction.statement.projection.lag").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("transaction.statement.projection.failure").count()).isZero();
+    }
+
+    private int countStatements(Account sender, Account receiver) {
+        return jdbcTemplate.queryForObject("select count(*) from account_statement where account_id in (?, ?)", Integer.class, sender.getId(), receiver.getId());
+    }
+
+    private Account createAccount(long accountNumber, User user) {
+        return Account.builder()
+                .accountNumber(accountNumber)
+                .password(1234)
+                .balance(10000L)
+                .user(user)
+                .registeredAt(LocalDateTime.now())
+                .unregisteredAt(null)
+                .build();
+    }
+
+    private User createUser(String username, String email) {
+        return userRepositoryAdapter.save(User.builder()
+                .username(username)
+                .email(email)
+                .password("password")
+                .createdAt(LocalDateTime.now())
+                .modifiedAt(LocalDateTime.now())
+                .build());
+    }
+}
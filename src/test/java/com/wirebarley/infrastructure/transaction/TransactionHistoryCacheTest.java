@@ -0,0 +1,289 @@
+package com.wirebarley.infrastructure.transaction;
+
+import com.wirebarley.application.account.AccountService;
+import com.wirebarley.application.account.dto.request.DepositCommand;
+import com.wirebarley.application.transaction.TransactionService;
+import com.wirebarley.application.transaction.dto.request.TransactionRetrieveCommand;
+import com.wirebarley.application.transaction.dto.response.TransactionPageResponse;
+import com.wirebarley.domain.account.Account;
+import com.wirebarley.domain.account.AccountRepository;
+import com.wirebarley.domain.transaction.Transaction;
+import com.wirebarley.domain.transaction.TransactionRepository;
+import com.wirebarley.domain.transaction.dto.TransactionCursor;
+import com.wirebarley.domain.transaction.dto.TransactionHistory;
+import com.wirebarley.domain.transaction.dto.TransactionRetrieveQuery;
+import com.wirebarley.domain.user.User;
+import com.wirebarley.domain.user.UserRepository;
+import com.wirebarley.infrastructure.account.jpa.JpaAccountRepository;
+import com.wirebarley.infrastructure.datasource.ReplicaDataSourceProperties;
+import com.wirebarley.infrastructure.transaction.config.TransactionHistoryCacheProperties;
+import com.wirebarley.infrastructure.transaction.config.TransactionHistoryProperties;
+import com.wirebarley.infrastructure.transaction.jpa.JpaTransactionRepository;
+import com.wirebarley.infrastructure.user.jpa.JpaUserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.wirebarley.domain.transaction.TransactionType.ALL;
+import static com.wirebarley.domain.transaction.TransactionType.DEPOSIT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@SpringBootTest(properties = "wirebarley.transaction.history.cache.enabled=true")
+class TransactionHistoryCacheTest {
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private JpaUserRepository jpaUserRepository;
+
+    @Autowired
+    private JpaAccountRepository jpaAccountRepository;
+
+    @Autowired
+    private JpaTransactionRepository jpaTransactionRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private TransactionHistoryCache transactionHistoryCache;
+
+    @Autowired
+    private TransactionHistoryProperties transactionHistoryProperties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void tearDown() {
+        jpaTransactionRepository.deleteAllInBatch();
+        jpaAccountRepository.deleteAllInBatch();
+        jpaUserRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("한 번 읽은 계좌의 앞쪽 페이지는 offset 이든 커서든 DB 를 읽지 않고 내려준다.")
+    @Test
+    public void hitFirstPages() {
+        // given
+        Account account = saveAccount(2001L);
+        deposit(2001L, 100L);
+        deposit(2001L, 200L);
+        deposit(2001L, 300L);
+
+        TransactionPageResponse firstPage = transactionService.retrieveTransaction(command(account, 0, null));
+        double hits = hitCount();
+        double misses = missCount();
+
+        // when
+        TransactionPageResponse cachedFirstPage = transactionService.retrieveTransaction(command(account, 0, null));
+        TransactionPageResponse nextPage = transactionService.retrieveTransaction(
+                command(account, 0, TransactionCursor.decode(firstPage.getNextCursor()))
+        );
+        TransactionPageResponse offsetPage = transactionService.retrieveTransaction(command(account, 2, null));
+
+        // then
+        assertThat(hitCount() - hits).isEqualTo(3);
+        assertThat(missCount() - misses).isZero();
+        assertThat(cachedFirstPage.getTransactions())
+                .extracting("amount")
+                .containsExactly(300L, 200L);
+        assertThat(nextPage.getTransactions())
+                .extracting("amount")
+                .containsExactly(100L);
+        assertThat(nextPage.getNextCursor()).isNull();
+        assertThat(offsetPage.getTransactions())
+                .extracting("amount")
+                .containsExactly(100L);
+    }
+
+    @DisplayName("계좌에 거래가 커밋되면 그 계좌의 캐시를 버리고 다음 조회에서 새 거래를 읽는다.")
+    @Test
+    public void invalidateAfterDeposit() {
+        // given
+        Account account = saveAccount(2002L);
+        deposit(2002L, 100L);
+        transactionService.retrieveTransaction(command(account, 0, null));
+        double invalidations = invalidationCount();
+
+        // when
+        deposit(2002L, 200L);
+        TransactionPageResponse response = transactionService.retrieveTransaction(command(account, 0, null));
+
+        // then
+        assertThat(invalidationCount() - invalidations).isEqualTo(1);
+        assertThat(response.getTransactions())
+                .extracting("amount")
+                .containsExactly(200L, 100L);
+    }
+
+    @DisplayName("거래를 저장한 트랜잭션이 롤백되면 캐시를 버리지 않는다.")
+    @Test
+    public void keepCacheOnRollback() {
+        // given
+        Account account = saveAccount(2003L);
+        deposit(2003L, 100L);
+        transactionService.retrieveTransaction(command(account, 0, null));
+        double invalidations = invalidationCount();
+        double hits = hitCount();
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            transactionRepository.save(
+                    Transaction.builder()
+                            .depositAccount(account)
+                            .depositAccountBalance(10_200L)
+                            .amount(200L)
+                            .type(DEPOSIT)
+                            .sender("ATM")
+                            .receiver("user")
+                            .build()
+            );
+            status.setRollbackOnly();
+        });
+        TransactionPageResponse response = transactionService.retrieveTransaction(command(account, 0, null));
+
+        // then
+        assertThat(invalidationCount() - invalidations).isZero();
+        assertThat(hitCount() - hits).isEqualTo(1);
+        assertThat(response.getTransactions())
+                .extracting("amount")
+                .containsExactly(100L);
+    }
+
+    @DisplayName("읽는 사이에 다른 거래가 커밋되면 읽기 전 스냅샷으로 읽은 결과를 캐시에 넣지 않는다.")
+    @Test
+    public void skipStaleLoadWhenCommittedWhileReading() {
+        // given
+        Account account = saveAccount(2004L);
+        deposit(2004L, 100L);
+        TransactionRetrieveQuery query = command(account, 0, null).toQuery(LocalDate.now(), transactionHistoryProperties.defaultPeriod());
+
+        // 입금이 커밋되기 전의 스냅샷으로 읽은 것처럼, 입금 전 거래만 돌려주는 사이에 다른 스레드의 입금이 커밋된다.
+        transactionHistoryCache.find(query, headQuery -> {
+            List<TransactionHistory> staleHistories = transactionRepository.findTransactionHistories(headQuery);
+            CompletableFuture.runAsync(() -> deposit(2004L, 200L)).join();
+            return staleHistories;
+        });
+
+        // when
+        TransactionPageResponse response = transactionService.retrieveTransaction(command(account, 0, null));
+
+        // then
+        assertThat(response.getTransactions())
+                .extracting("amount")
+                .containsExactly(200L, 100L);
+    }
+
+    @DisplayName("넣은 뒤 expireAfterWrite 가 지난 앞쪽 거래는 다시 읽는다.")
+    @Test
+    public void reloadAfterExpireAfterWrite() {
+        // given
+        TransactionHistoryCache cache = new TransactionHistoryCache(
+                new TransactionHistoryCacheProperties(true, null, null, null, Duration.ZERO),
+                new ReplicaDataSourceProperties(false, null, null, null, null, null),
+                mock(PlatformTransactionManager.class),
+                new SimpleMeterRegistry()
+        );
+        TransactionRetrieveQuery query = TransactionRetrieveQuery.builder()
+                .offset(0)
+                .count(2)
+                .accountId(1L)
+                .type(ALL)
+                .build();
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        cache.find(query, headQuery -> {
+            loads.incrementAndGet();
+            return List.of();
+        });
+        cache.find(query, headQuery -> {
+            loads.incrementAndGet();
+            return List.of();
+        });
+
+        // then
+        assertThat(loads).hasValue(2);
+    }
+
+    private TransactionRetrieveCommand command(Account account, int offset, TransactionCursor cursor) {
+        return TransactionRetrieveCommand.builder()
+                .offset(offset)
+                .count(2)
+                .userId(account.getUser().getId())
+                .accountId(account.getId())
+                .type(ALL)
+                .cursor(cursor)
+                .build();
+    }
+
+    private void deposit(long accountNumber, long amount) {
+        accountService.deposit(
+                DepositCommand.builder()
+                        .accountNumber(accountNumber)
+                        .amount(amount)
+                        .sender("ATM")
+                        .build()
+        );
+    }
+
+    private Account saveAccount(long accountNumber) {
+        User savedUser = userRepository.save(
+                User.builder()
+                        .username("user")
+                        .email("user" + accountNumber + "@email.com")
+                        .password("password")
+                        .createdAt(LocalDateTime.now())
+                        .modifiedAt(LocalDateTime.now())
+                        .build()
+        );
+        return accountRepository.save(
+                Account.builder()
+                        .accountNumber(accountNumber)
+                        .password(1234)
+                        .balance(10_000L)
+                        .user(savedUser)
+                        .registeredAt(LocalDateTime.now())
+                        .build()
+        );
+    }
+
+    private double hitCount() {
+        return meterRegistry.counter("transaction.history.cache.hit").count();
+    }
+
+    private double missCount() {
+        return meterRegistry.counter("transaction.history.cache.miss").count();
+    }
+
+    private double invalidationCount() {
+        return meterRegistry.counter("transaction.history.cache.invalidation").count();
+    }
+}
@@ -5,27 +5,44 @@ import com.wirebarley.config.TestQueryDslConfig;
 import com.wirebarley.domain.account.Account;
 import com.wirebarley.domain.transaction.Transaction;
 import com.wirebarley.domain.transaction.TransactionType;
+import com.wirebarley.domain.transaction.dto.AccountStatementBalance;
+import com.wirebarley.domain.transaction.dto.TransactionHistory;
 import com.wirebarley.domain.transaction.dto.TransactionRetrieveQuery;
 import com.wirebarley.domain.user.User;
 import com.wirebarley.infrastructure.account.AccountRepositoryAdapter;
+import com.wirebarley.infrastructure.account.config.AccountConcurrencyProperties;
 import com.wirebarley.infrastructure.account.jpa.JpaAccountRepository;
+import com.wirebarley.infrastructure.datasource.CursorFetchDataSourceProperties;
+import com.wirebarley.infrastructure.datasource.CursorFetchJdbcTemplateFactory;
+import com.wirebarley.infrastructure.datasource.ReplicaDataSourceProperties;
+import com.wirebarley.infrastructure.transaction.config.AccountStatementProperties;
+import com.wirebarley.infrastructure.transaction.config.TransactionHistoryCacheProperties;
+import com.wirebarley.infrastructure.transaction.jdbc.AccountStatementJdbcRepository;
+import com.wirebarley.infrastructure.transaction.jdbc.AccountStatementRow;
+import com.wirebarley.infrastructure.transaction.jdbc.TransactionJdbcRepository;
+import com.wirebarley.infrastructure.transaction.jpa.AccountStatementRepositoryDSL;
 import com.wirebarley.infrastructure.transaction.jpa.JpaTransactionRepository;
 import com.wirebarley.infrastructure.transaction.jpa.TransactionRepositoryDSL;
 import com.wirebarley.infrastructure.user.UserRepositoryAdapter;
 import com.wirebarley.infrastructure.user.jpa.JpaUserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import static com.wirebarley.domain.transaction.TransactionType.*;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 @Import(
@@ -35,9 +52,18 @@ import static org.assertj.core.api.Assertions.assertThat;
                 TransactionRepositoryAdapter.class,
                 UserRepositoryAdapter.class,
                 AccountRepositoryAdapter.class,
-                TransactionRepositoryDSL.class
+                TransactionRepositoryDSL.class,
+                TransactionJdbcRepository.class,
+                CursorFetchJdbcTemplateFactory.class,
+                TransactionHistoryCache.class,
+                AccountStatementRepositoryDSL.class,
+                AccountStatementJdbcRepository.class,
+                AccountStatementProjector.class,
+                AccountStatementRepositoryAdapter.class,
+                SimpleMeterRegistry.class
         }
 )
+@EnableConfigurationProperties({AccountConcurrencyProperties.class, TransactionHistoryCacheProperties.class, AccountStatementProperties.class, CursorFetchDataSourceProperties.class, ReplicaDataSourceProperties.class})
 @DataJpaTest
 class TransactionRepositoryAdapterTest {
 
@@ -50,6 +76,12 @@ class TransactionRepositoryAdapterTest {
     @Autowired
     private AccountRepositoryAdapter accountRepositoryAdapter;
 
+    @Autowired
+    private AccountStatementRepositoryAdapter accountStatementRepositoryAdapter;
+
+    @Autowired
+    private AccountStatementJdbcRepository accountStatementJdbcRepository;
+
     @Autowired
     private JpaTransactionRepository jpaTransactionRepository;
 
@@ -59,8 +91,12 @@ class TransactionRepositoryAdapterTest {
     @Autowired
     private JpaUserRepository jpaUserRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @AfterEach
     void tearDown() {
+        jdbcTemplate.update("delete from account_statement");
         jpaTransactionRepository.deleteAllInBatch();
         jpaAccountRepository.deleteAllInBatch();
         jpaUserRepository.deleteAllInBatch();
@@ -121,6 +157,56 @@ class TransactionRepositoryAdapterTest {
         assertThat(totalAmount).isEqualTo(200L);
     }
 
+    @DisplayName("거래 내역 여러 건을 batch insert 로 저장하고 생성된 id 를 순서대로 돌려준다.")
+    @Test
+    public void saveAllInBatch() {
+        // given
+        User user1 = createUser("user1", "user1@email.com", "password");
+        User savedUser1 = userRepositoryAdapter.save(user1);
+        Account savedWithdrawAccount = accountRepositoryAdapter.save(createAccount(1111L, 1234, 1000L, savedUser1));
+
+        User user2 = createUser("user2", "user2@email.com", "password");
+        User savedUser2 = userRepositoryAdapter.save(user2);
+        Account savedDepositAccount = accountRepositoryAdapter.save(createAccount(2222L, 1234, 1000L, savedUser2));
+
+        List<Transaction> transactions = List.of(
+                createTransfer(savedWithdrawAccount, savedDepositAccount, 100L, 899L),
+                createTransfer(savedWithdrawAccount, savedDepositAccount, 200L, 697L),
+                createTransfer(savedWithdrawAccount, savedDepositAccount, 300L, 394L)
+        );
+
+        // when
+        List<Long> ids = transactionRepositoryAdapter.saveAllInBatch(transactions);
+
+        // then
+        assertThat(ids).hasSize(3).doesNotContainNull().isSorted();
+        assertThat(jpaTransactionRepository.findAllById(ids))
+                .extracting("amount", "withdrawAccountBalance", "type")
+                .containsExactlyInAnyOrder(
+                        tuple(100L, 899L, TRANSFER),
+                        tuple(200L, 697L, TRANSFER),
+                        tuple(300L, 394L, TRANSFER)
+                );
+        assertThat(transactionRepositoryAdapter.findTotalWithdrawalAmountByWithdrawAccount(
+                1111L,
+                LocalDateTime.now().toLocalDate().atStartOfDay(),
+                LocalDateTime.now(),
+                TransactionType.getWithdrawalTypes()
+        )).isEqualTo(600L);
+    }
+
+    private Transaction createTransfer(Account withdrawAccount, Account depositAccount, long amount, long withdrawAccountBalance) {
+        return Transaction.builder()
+                .withdrawAccount(withdrawAccount)
+                .depositAccount(depositAccount)
+                .withdrawAccountBalance(withdrawAccountBalance)
+                .amount(amount)
+                .type(TRANSFER)
+                .sender("user1")
+                .receiver("user2")
+                .build();
+    }
+
     @DisplayName("거래 내역 중 입금 내역을 조회한다.")
     @Test
     public void findTransactionsByDEPOSIT() {
@@ -288,6 +374,185 @@ class TransactionRepositoryAdapterTest {
         assertThat(transactions.get(0).getReceiver()).isEqualTo("user2");
     }
 
+    @DisplayName("거래 내역을 프로젝션으로 조회하면 입출금 양쪽 계좌번호를 함께 최신순으로 조회한다.")
+    @Test
+    public void findTransactionHistories() {
+        // given
+        long accountNumber1 = 1111L;
+        long accountNumber2 = 2222L;
+
+        User user1 = createUser("user1", "user1@email.com", "password");
+        User savedUser1 = userRepositoryAdapter.save(user1);
+        Account account1 = createAccount(accountNumber1, 1234, 1000L, savedUser1);
+        Account savedAccount1 = accountRepositoryAdapter.save(account1);
+
+        User user2 = createUser("user2", "user2@email.com", "password");
+        User savedUser2 = userRepositoryAdapter.save(user2);
+        Account account2 = createAccount(accountNumber2, 1234, 1000L, savedUser2);
+        Account savedAccount2 = accountRepositoryAdapter.save(account2);
+
+        Transaction transaction1 = Transaction.builder()
+                .depositAccount(savedAccount1)
+                .depositAccountBalance(10000L)
+                .amount(5000L)
+                .type(DEPOSIT)
+                .sender("ATM")
+                .receiver("user1")
+                .build();
+        Transaction transaction2 = Transaction.builder()
+                .withdrawAccount(savedAccount2)
+                .depositAccount(savedAccount1)
+                .withdrawAccountBalance(48000L)
+                .depositAccountBalance(12000L)
+                .amount(2000L)
+                .type(TRANSFER)
+                .sender("user2")
+                .receiver("user1")
+                .build();
+        transactionRepositoryAdapter.save(transaction1);
+        transactionRepositoryAdapter.save(transaction2);
+
+        // when
+        TransactionRetrieveQuery query = TransactionRetrieveQuery.builder()
+                .offset(0)
+                .count(10)
+                .accountId(savedAccount1.getId())
+                .type(ALL)
+                .build();
+        List<TransactionHistory> histories = transactionRepositoryAdapter.findTransactionHistories(query);
+
+        // then
+        assertThat(histories)
+                .extracting("withdrawAccountNumber", "depositAccountNumber", "amount", "type", "sender", "receiver")
+                .containsExactly(
+                        tuple(accountNumber2, accountNumber1, 2000L, TRANSFER, "user2", "user1"),
+                        tuple(null, accountNumber1, 5000L, DEPOSIT, "ATM", "user1")
+                );
+    }
+
+    @DisplayName("이체를 저장하면 출금 계좌와 입금 계좌에 부호가 붙은 금액, 상대방, 양쪽 계좌의 거래 직후 잔액을 담은 명세가 한 행씩 쌓인다.")
+    @Test
+    public void projectStatements() {
+        // given
+        Account sender = accountRepositoryAdapter.save(createAccount(1111L, 1234, 1000L, userRepositoryAdapter.save(createUser("user1", "user1@email.com", "password"))));
+        Account receiver = accountRepositoryAdapter.save(createAccount(2222L, 1234, 1000L, userRepositoryAdapter.save(createUser("user2", "user2@email.com", "password"))));
+
+        Transaction transfer = Transaction.builder()
+                .withdrawAccount(sender)
+                .depositAccount(receiver)
+                .withdrawAccountBalance(8000L)
+                .depositAccountBalance(12000L)
+                .amount(2000L)
+                .type(TRANSFER)
+                .sender("user1")
+                .receiver("user2")
+                .build();
+
+        // when
+        transactionRepositoryAdapter.save(transfer);
+
+        // then
+        List<Map<String, Object>> statements = jdbcTemplate.queryForList(
+                "select account_id, account_number, counterparty_account_number, counterparty_name, amount, balance, counterparty_balance from account_statement where account_id in (?, ?) order by amount",
+                sender.getId(), receiver.getId());
+        assertThat(statements)
+                .extracting(row -> row.get("ACCOUNT_ID"), row -> row.get("ACCOUNT_NUMBER"), row -> row.get("COUNTERPARTY_ACCOUNT_NUMBER"),
+                        row -> row.get("COUNTERPARTY_NAME"), row -> row.get("AMOUNT"), row -> row.get("BALANCE"), row -> row.get("COUNTERPARTY_BALANCE"))
+                .containsExactly(
+                        tuple(sender.getId(), 1111L, 2222L, "user2", -2000L, 8000L, 12000L),
+                        tuple(receiver.getId(), 2222L, 1111L, "user1", 2000L, 12000L, 8000L)
+                );
+    }
+
+    @DisplayName("이미 반영된 거래의 명세를 다시 넣어도 기존 행을 그대로 두고 중복되지 않는다.")
+    @Test
+    public void upsertStatementsTwice() {
+        // given
+        Account sender = accountRepositoryAdapter.save(createAccount(1111L, 1234, 1000L, userRepositoryAdapter.save(createUser("user1", "user1@email.com", "password"))));
+        Account receiver = accountRepositoryAdapter.save(createAccount(2222L, 1234, 1000L, userRepositoryAdapter.save(createUser("user2", "user2@email.com", "password"))));
+        Transaction transfer = transactionRepositoryAdapter.save(Transaction.builder()
+                .withdrawAccount(sender)
+                .depositAccount(receiver)
+                .withdrawAccountBalance(690L)
+                .depositAccountBalance(1300L)
+                .amount(300L)
+                .transferCharge(10L)
+                .type(TRANSFER)
+                .sender("user1")
+                .receiver("user2")
+                .build());
+
+        // when
+        accountStatementJdbcRepository.upsertAll(AccountStatementRow.of(transfer.getId(), transfer.getCreatedAt(), transfer));
+
+        // then
+        assertThat(jdbcTemplate.queryForList("select amount from account_statement where transaction_id = ? order by amount", Long.class, transfer.getId()))
+                .containsExactly(-310L, 300L);
+    }
+
+    @DisplayName("계좌의 거래 명세를 재생성하면 거래 원장에서 빠진 명세를 다시 채운다.")
+    @Test
+    public void rebuildStatements() {
+        // given
+        Account account = accountRepositoryAdapter.save(createAccount(1111L, 1234, 1000L, userRepositoryAdapter.save(createUser("user1", "user1@email.com", "password"))));
+        for (long amount = 1000L; amount <= 3000L; amount += 1000L) {
+            transactionRepositoryAdapter.save(Transaction.builder()
+                    .depositAccount(account)
+                    .depositAccountBalance(1000L + amount)
+                    .amount(amount)
+                    .type(DEPOSIT)
+                    .sender("ATM")
+                    .receiver("user1")
+                    .build());
+        }
+        jpaTransactionRepository.flush(); // 재생성은 SQL 로 거래 원장을 읽으므로 테스트 트랜잭션에서 저장한 거래를 먼저 내보낸다
+        jdbcTemplate.update("delete from account_statement where amount > 1000");
+
+        // when
+        int rebuilt = accountStatementRepositoryAdapter.rebuild(account.getId());
+
+        // then
+        assertThat(rebuilt).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForList("select amount from account_statement where account_id = ? order by amount", Long.class, account.getId()))
+                .containsExactly(1000L, 2000L, 3000L);
+    }
+
+    @DisplayName("계좌 명세의 금액을 모두 더하면 개설 잔액에서 마지막 명세 잔액이 된다.")
+    @Test
+    public void summarizeStatements() {
+        // given
+        Account sender = accountRepositoryAdapter.save(createAccount(1111L, 1234, 1000L, userRepositoryAdapter.save(createUser("user1", "user1@email.com", "password"))));
+        Account receiver = accountRepositoryAdapter.save(createAccount(2222L, 1234, 1000L, userRepositoryAdapter.save(createUser("user2", "user2@email.com", "password"))));
+        transactionRepositoryAdapter.save(Transaction.builder()
+                .depositAccount(sender)
+                .depositAccountBalance(1500L)
+                .amount(500L)
+                .type(DEPOSIT)
+                .sender("ATM")
+                .receiver("user1")
+                .build());
+        transactionRepositoryAdapter.save(Transaction.builder()
+                .withdrawAccount(sender)
+                .depositAccount(receiver)
+                .withdrawAccountBalance(1200L)
+                .depositAccountBalance(1300L)
+                .amount(300L)
+                .type(TRANSFER)
+                .sender("user1")
+                .receiver("user2")
+                .build());
+
+        // when
+        AccountStatementBalance balance = accountStatementRepositoryAdapter.summarize(sender.getId());
+
+        // then
+        assertThat(balance.count()).isEqualTo(2);
+        assertThat(balance.openingBalance()).isEqualTo(1000L);
+        assertThat(balance.amountSum()).isEqualTo(200L);
+        assertThat(balance.closingBalance()).isEqualTo(1200L);
+        assertThat(balance.isBalanced()).isTrue();
+    }
+
     private static Account createAccount(long withdrawAccountNumber, int password, long balance, User savedUser) {
         return Account.builder()
                 .accountNumber(withdrawAccountNumber)
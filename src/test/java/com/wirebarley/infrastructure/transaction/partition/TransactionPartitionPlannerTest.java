@@ -0,0 +1,108 @@
+package com.wirebarley.infrastructure.transaction.partition;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class TransactionPartitionPlannerTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 18);
+
+    @DisplayName("월별 파티션이 없으면 이번 달 이전 거래를 담을 파티션과 이번 달부터 미리 만들 달까지의 파티션을 만든다.")
+    @Test
+    public void createPartitionsFromFuturePartitionOnly() {
+        // given
+        List<TransactionPartition> existing = List.of(new TransactionPartition(TransactionPartition.FUTURE, null));
+
+        // when
+        List<TransactionPartition> partitions = TransactionPartitionPlanner.partitionsToCreate(existing, TODAY, 2);
+
+        // then
+        assertThat(partitions)
+                .extracting("name", "upperBound")
+                .containsExactly(
+                        tuple("p_history", LocalDate.of(2026, 10, 1)),
+                        tuple("p202610", LocalDate.of(2026, 11, 1)),
+                        tuple("p202611", LocalDate.of(2026, 12, 1)),
+                        tuple("p202612", LocalDate.of(2027, 1, 1))
+                );
+    }
+
+    @DisplayName("이미 있는 월별 파티션 다음 달부터 모자란 파티션만 만든다.")
+    @Test
+    public void createOnlyMissingPartitions() {
+        // given
+        List<TransactionPartition> existing = List.of(
+                new TransactionPartition("p202610", LocalDate.of(2026, 11, 1)),
+                new TransactionPartition("p202611", LocalDate.of(2026, 12, 1)),
+                new TransactionPartition(TransactionPartition.FUTURE, null)
+        );
+
+        // when
+        List<TransactionPartition> partitions = TransactionPartitionPlanner.partitionsToCreate(existing, TODAY, 3);
+
+        // then
+        assertThat(partitions)
+                .extracting("name")
+                .containsExactly("p202612", "p202701");
+    }
+
+    @DisplayName("미리 만들 달까지 파티션이 있으면 새로 만들지 않는다.")
+    @Test
+    public void createNothingWhenPartitionsAreReady() {
+        // given
+        List<TransactionPartition> existing = List.of(
+                new TransactionPartition("p202610", LocalDate.of(2026, 11, 1)),
+                new TransactionPartition("p202611", LocalDate.of(2026, 12, 1)),
+                new TransactionPartition(TransactionPartition.FUTURE, null)
+        );
+
+        // when
+        List<TransactionPartition> partitions = TransactionPartitionPlanner.partitionsToCreate(existing, TODAY, 1);
+
+        // then
+        assertThat(partitions).isEmpty();
+    }
+
+    @DisplayName("보관 기간이 지난 거래만 담은 파티션을 떼어 낸다.")
+    @Test
+    public void detachExpiredPartitions() {
+        // given
+        List<TransactionPartition> existing = List.of(
+                new TransactionPartition("p_history", LocalDate.of(2026, 6, 1)),
+                new TransactionPartition("p202606", LocalDate.of(2026, 7, 1)),
+                new TransactionPartition("p202607", LocalDate.of(2026, 8, 1)),
+                new TransactionPartition("p202608", LocalDate.of(2026, 9, 1)),
+                new TransactionPartition(TransactionPartition.FUTURE, null)
+        );
+
+        // when
+        List<TransactionPartition> partitions = TransactionPartitionPlanner.partitionsToDetach(existing, TODAY, 3);
+
+        // then
+        assertThat(partitions)
+                .extracting("name")
+                .containsExactly("p_history", "p202606");
+    }
+
+    @DisplayName("보관 기간이 0 이면 파티션을 떼어 내지 않는다.")
+    @Test
+    public void detachNothingWithoutRetention() {
+        // given
+        List<TransactionPartition> existing = List.of(
+                new TransactionPartition("p_history", LocalDate.of(2020, 1, 1)),
+                new TransactionPartition(TransactionPartition.FUTURE, null)
+        );
+
+        // when
+        List<TransactionPartition> partitions = TransactionPartitionPlanner.partitionsToDetach(existing, TODAY, 0);
+
+        // then
+        assertThat(partitions).isEmpty();
+    }
+}
@@ -6,9 +6,14 @@ import com.wirebarley.domain.account.AccountRepository;
 import com.wirebarley.domain.user.User;
 import com.wirebarley.domain.user.UserRepository;
 import com.wirebarley.infrastructure.account.jpa.JpaAccountRepository;
+import com.wirebarley.infrastructure.idempotency.JpaIdempotencyRecordRepository;
+import com.wirebarley.infrastructure.limit.jpa.JpaWithdrawalCounterRepository;
 import com.wirebarley.infrastructure.transaction.jpa.JpaTransactionRepository;
+import com.wirebarley.infrastructure.transfer.jpa.JpaTransferJobRepository;
 import com.wirebarley.infrastructure.user.jpa.JpaUserRepository;
 import com.wirebarley.presentation.account.dto.request.AccountCreateRequest;
+import com.wirebarley.presentation.account.dto.request.BulkTransferLineRequest;
+import com.wirebarley.presentation.account.dto.request.BulkTransferRequest;
 import com.wirebarley.presentation.account.dto.request.DepositRequest;
 import com.wirebarley.presentation.account.dto.request.TransferRequest;
 import com.wirebarley.presentation.account.dto.request.WithdrawRequest;
@@ -22,8 +27,11 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -54,9 +62,21 @@ class AccountControllerTest {
     @Autowired
     private JpaTransactionRepository jpaTransactionRepository;
 
+    @Autowired
+    private JpaWithdrawalCounterRepository jpaWithdrawalCounterRepository;
+
+    @Autowired
+    private JpaTransferJobRepository jpaTransferJobRepository;
+
+    @Autowired
+    private JpaIdempotencyRecordRepository jpaIdempotencyRecordRepository;
+
     @AfterEach
     void tearDown() {
+        jpaIdempotencyRecordRepository.deleteAllInBatch();
+        jpaTransferJobRepository.deleteAllInBatch();
         jpaTransactionRepository.deleteAllInBatch();
+        jpaWithdrawalCounterRepository.deleteAllInBatch();
         jpaAccountRepository.deleteAllInBatch();
         jpaUserRepository.deleteAllInBatch();
     }
@@ -417,6 +437,46 @@ class AccountControllerTest {
                 );
     }
 
+    @DisplayName("같은 Idempotency-Key 로 출금을 다시 요청하면 한 번만 출금되고 같은 응답을 돌려받는다.")
+    @Test
+    public void withdrawWithIdempotencyKey() throws Exception {
+        // given
+        long withdrawAccountNumber = 1111L;
+
+        User withdrawUser = createUser("출금하는사람", "user1@email.com", "password1");
+        User savedWithdrawUser = userRepository.save(withdrawUser);
+        Account withdrawAccount = getAccount(withdrawAccountNumber, 1234, 1000L, savedWithdrawUser);
+        accountRepository.save(withdrawAccount);
+
+        WithdrawRequest withdrawRequest = WithdrawRequest.builder()
+                .accountNumber(withdrawAccountNumber)
+                .amount(100L)
+                .userId(savedWithdrawUser.getId())
+                .password(withdrawAccount.getPassword())
+                .receiver("ATM")
+                .build();
+
+        // when
+        for (int i = 0; i < 2; i++) {
+            mvc.perform(
+                            post("/api/v1/account/withdraw")
+                                    .header("Idempotency-Key", "withdraw-key-1")
+                                    .content(om.writeValueAsString(withdrawRequest))
+                                    .contentType(MediaType.APPLICATION_JSON)
+                    )
+                    .andDo(print())
+                    .andExpect(status().isCreated())
+                    .andExpectAll(
+                            jsonPath("$.data.withdrawAccountNumber").value(1111),
+                            jsonPath("$.data.withdrawAccountBalance").value(900)
+                    );
+        }
+
+        // then
+        assertThat(accountRepository.findByAccountNumberForRead(withdrawAccountNumber).getBalance()).isEqualTo(900L);
+        assertThat(jpaTransactionRepository.count()).isEqualTo(1);
+    }
+
     @DisplayName("입금할 때 계좌번호는 필수값이다.")
     @Test
     public void accountNumberIsRequiredWhenWithdraw() throws Exception {
@@ -758,6 +818,125 @@ class AccountControllerTest {
                 );
     }
 
+    @DisplayName("대량 이체에 성공하면 건별 결과를 돌려준다.")
+    @Test
+    public void bulkTransfer() throws Exception {
+        // given
+        User withdrawUser = createUser("회사", "user1@email.com", "password1");
+        User savedWithdrawUser = userRepository.save(withdrawUser);
+        Account withdrawAccount = getAccount(1111L, 1234, 1000L, savedWithdrawUser);
+        accountRepository.save(withdrawAccount);
+
+        User depositUser = createUser("직원", "user2@email.com", "password2");
+        User savedDepositUser = userRepository.save(depositUser);
+        accountRepository.save(getAccount(2222L, 5678, 0L, savedDepositUser));
+
+        BulkTransferRequest bulkTransferRequest = BulkTransferRequest.builder()
+                .withdrawNumber(1111L)
+                .userId(savedWithdrawUser.getId())
+                .accountPassword(1234)
+                .lines(List.of(
+                        BulkTransferLineRequest.builder().depositNumber(2222L).amount(100L).build(),
+                        BulkTransferLineRequest.builder().depositNumber(3333L).amount(100L).build()
+                ))
+                .build();
+
+        // when
+        // then
+        mvc.perform(
+                        post("/api/v1/account/transfer/bulk")
+                                .content(om.writeValueAsString(bulkTransferRequest))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andExpectAll(
+                        jsonPath("$.code").value(201),
+                        jsonPath("$.data.withdrawAccountNumber").value(1111),
+                        jsonPath("$.data.withdrawAccountBalance").value(899),
+                        jsonPath("$.data.successCount").value(1),
+                        jsonPath("$.data.failureCount").value(1),
+                        jsonPath("$.data.results[0].success").value(true),
+                        jsonPath("$.data.results[1].success").value(false),
+                        jsonPath("$.data.results[1].failureReason").value("계좌가 존재하지 않습니다.")
+                );
+    }
+
+    @DisplayName("대량 이체시 이체 내역은 필수이다.")
+    @Test
+    public void bulkTransferLinesAreRequired() throws Exception {
+        // given
+        BulkTransferRequest bulkTransferRequest = BulkTransferRequest.builder()
+                .withdrawNumber(1111L)
+                .userId(1L)
+                .accountPassword(1234)
+                .lines(List.of())
+                .build();
+
+        // when
+        // then
+        mvc.perform(
+                        post("/api/v1/account/transfer/bulk")
+                                .content(om.writeValueAsString(bulkTransferRequest))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpectAll(
+                        jsonPath("$.code").value(400),
+                        jsonPath("$.message").value("이체 내역은 필수입니다.")
+                );
+    }
+
+    @DisplayName("비동기 이체를 접수하면 202와 이체 요청 id를 돌려주고, 롱폴링으로 결과를 조회한다.")
+    @Test
+    public void transferAsync() throws Exception {
+        // given
+        User withdrawUser = createUser("계좌이체하는사람", "user1@email.com", "password1");
+        User savedWithdrawUser = userRepository.save(withdrawUser);
+        accountRepository.save(getAccount(1111L, 1234, 1000L, savedWithdrawUser));
+
+        User depositUser = createUser("입금받는사람", "user2@email.com", "password2");
+        User savedDepositUser = userRepository.save(depositUser);
+        accountRepository.save(getAccount(2222L, 5678, 1000L, savedDepositUser));
+
+        TransferRequest transferRequest = TransferRequest.builder()
+                .withdrawNumber(1111L)
+                .depositNumber(2222L)
+                .userId(savedWithdrawUser.getId())
+                .amount(100L)
+                .accountPassword(1234)
+                .build();
+
+        // when
+        String content = mvc.perform(
+                        post("/api/v1/account/transfer/async")
+                                .content(om.writeValueAsString(transferRequest))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.data.status").value("PENDING"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        long transferJobId = om.readTree(content).path("data").path("id").asLong();
+
+        // then
+        mvc.perform(
+                        get("/api/v1/account/transfer/{id}", transferJobId)
+                                .param("userId", String.valueOf(savedWithdrawUser.getId()))
+                                .param("waitMillis", "5000")
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpectAll(
+                        jsonPath("$.data.id").value(transferJobId),
+                        jsonPath("$.data.status").value("COMPLETED"),
+                        jsonPath("$.data.transactionId").isNotEmpty()
+                );
+    }
+
     private User createUser(String user1, String mail, String password) {
         return User.builder()
                 .username(user1)
@@ -0,0 +1,248 @@
+package com.wirebarley.presentation.account;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wirebarley.config.SqlStatementCounter;
+import com.wirebarley.domain.account.Account;
+import com.wirebarley.domain.account.AccountRepository;
+import com.wirebarley.domain.user.User;
+import com.wirebarley.domain.user.UserRepository;
+import com.wirebarley.infrastructure.account.jpa.JpaAccountRepository;
+import com.wirebarley.infrastructure.limit.jpa.JpaWithdrawalCounterRepository;
+import com.wirebarley.infrastructure.transaction.jpa.JpaTransactionRepository;
+import com.wirebarley.infrastructure.user.jpa.JpaUserRepository;
+import com.wirebarley.presentation.account.dto.request.AccountCreateRequest;
+import com.wirebarley.presentation.account.dto.request.DepositRequest;
+import com.wirebarley.presentation.account.dto.request.TransferRequest;
+import com.wirebarley.presentation.account.dto.request.WithdrawRequest;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 엔드포인트 한 번 호출에 나가는 SQL 문 수. 잔액 저장이 merge 를 거치지 않고 UPDATE 한 문장으로 끝나는지 확인한다.
+// 분리된 엔티티를 merge 하던 때는 문장 수는 같았지만, 비어 있는 created_at 까지 복사해서 잔액을 바꿀 때마다 계좌 생성 시각이 지워졌다.
+// 시퀀스 호출은 세지 않고, batch 로 묶인 문장은 한 문장으로 센다.
+@AutoConfigureMockMvc
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.wirebarley.config.SqlStatementCounter"
+})
+class AccountStatementCountTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private ObjectMapper om;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private JpaUserRepository jpaUserRepository;
+
+    @Autowired
+    private JpaAccountRepository jpaAccountRepository;
+
+    @Autowired
+    private JpaTransactionRepository jpaTransactionRepository;
+
+    @Autowired
+    private JpaWithdrawalCounterRepository jpaWithdrawalCounterRepository;
+
+    private Statistics statistics;
+    private User savedUser;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        savedUser = userRepository.save(User.builder()
+                .username("사용자")
+                .email("user1@email.com")
+                .password("password")
+                .createdAt(LocalDateTime.now())
+                .modifiedAt(LocalDateTime.now())
+                .build());
+        accountRepository.save(createAccount(1111L));
+        accountRepository.save(createAccount(2222L));
+        statistics.clear();
+        SqlStatementCounter.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jpaTransactionRepository.deleteAllInBatch();
+        jpaWithdrawalCounterRepository.deleteAllInBatch();
+        jpaAccountRepository.deleteAllInBatch();
+        jpaUserRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("계좌 생성은 회원 조회, 최근 계좌번호 조회, 계좌 INSERT 세 문장이다.")
+    @Test
+    public void createAccount() throws Exception {
+        // given
+        AccountCreateRequest request = AccountCreateRequest.builder()
+                .password(1234)
+                .balance(1000L)
+                .userId(savedUser.getId())
+                .build();
+
+        // when
+        perform("/api/v1/account", request);
+
+        // then
+        assertStatements(3, 1, 0);
+    }
+
+    @DisplayName("입금은 계좌 잠금 조회, 회원 조회, 계좌 UPDATE, 거래내역 INSERT 네 문장이다.")
+    @Test
+    public void deposit() throws Exception {
+        // given
+        DepositRequest request = DepositRequest.builder()
+                .accountNumber(1111L)
+                .amount(100L)
+                .sender("ATM")
+                .build();
+
+        // when
+        perform("/api/v1/account/deposit", request);
+
+        // then
+        assertStatements(4, 1, 1);
+    }
+
+    @DisplayName("출금은 계좌 잠금 조회, 회원 조회, 계좌 UPDATE, 기간별 누적 출금액 upsert, 거래내역 INSERT 다섯 문장이다.")
+    @Test
+    public void withdraw() throws Exception {
+        // given
+        WithdrawRequest request = WithdrawRequest.builder()
+                .accountNumber(1111L)
+                .amount(100L)
+                .userId(savedUser.getId())
+                .password(1234)
+                .receiver("ATM")
+                .build();
+
+        // when
+        perform("/api/v1/account/withdraw", request);
+
+        // then
+        assertStatements(5, 1, 1);
+    }
+
+    @DisplayName("이체는 두 계좌 잠금 조회, 회원과 함께 재조회, 기간별 누적 출금액 upsert 와 조회, 두 계좌 UPDATE batch, 거래내역 INSERT 여섯 문장이다.")
+    @Test
+    public void transfer() throws Exception {
+        // given
+        TransferRequest request = TransferRequest.builder()
+                .withdrawNumber(1111L)
+                .depositNumber(2222L)
+                .userId(savedUser.getId())
+                .amount(100L)
+                .accountPassword(1234)
+                .build();
+
+        // when
+        perform("/api/v1/account/transfer", request);
+
+        // then
+        assertStatements(6, 1, 2);
+    }
+
+    @DisplayName("잔액을 바꿔 저장해도 계좌 생성 시각은 그대로 남는다.")
+    @Test
+    public void keepCreatedAtWhenBalanceChanges() throws Exception {
+        // given
+        LocalDateTime createdAt = findCreatedAt(1111L);
+        TransferRequest request = TransferRequest.builder()
+                .withdrawNumber(1111L)
+                .depositNumber(2222L)
+                .userId(savedUser.getId())
+                .amount(100L)
+                .accountPassword(1234)
+                .build();
+
+        // when
+        perform("/api/v1/account/transfer", request);
+
+        // then
+        assertThat(createdAt).isNotNull();
+        assertThat(findCreatedAt(1111L)).isEqualTo(createdAt);
+    }
+
+    @DisplayName("트랜잭션 밖에서 읽은 계좌를 저장하면 계좌 조회 한 번과 UPDATE 한 번으로 끝나고, 회원은 다시 읽지 않는다.")
+    @Test
+    public void saveDetachedAccount() {
+        // given
+        Account account = accountRepository.findByAccountNumberForRead(1111L);
+        account.deposit(100L);
+        statistics.clear();
+        SqlStatementCounter.clear();
+
+        // when
+        Account savedAccount = accountRepository.save(account);
+
+        // then
+        assertAll(
+                () -> assertThat(savedAccount.getBalance()).isEqualTo(10_100L),
+                () -> assertThat(savedAccount.getUser().getUsername()).isEqualTo("사용자"),
+                () -> assertThat(statistics.getEntityLoadCount()).isEqualTo(1),
+                () -> assertThat(statistics.getEntityUpdateCount()).isEqualTo(1),
+                () -> assertThat(SqlStatementCounter.count()).isEqualTo(2)
+        );
+    }
+
+    private LocalDateTime findCreatedAt(long accountNumber) {
+        return jdbcTemplate.queryForObject("select created_at from account where account_number = ?", LocalDateTime.class, accountNumber);
+    }
+
+    private void assertStatements(long statementCount, long insertCount, long updateCount) {
+        assertAll(
+                () -> assertThat(SqlStatementCounter.count()).isEqualTo(statementCount),
+                () -> assertThat(statistics.getEntityInsertCount()).isEqualTo(insertCount),
+                () -> assertThat(statistics.getEntityUpdateCount()).isEqualTo(updateCount)
+        );
+    }
+
+    private void perform(String url, Object request) throws Exception {
+        mvc.perform(post(url)
+                        .content(om.writeValueAsString(request))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isCreated());
+    }
+
+    private Account createAccount(long accountNumber) {
+        return Account.builder()
+                .accountNumber(accountNumber)
+                .password(1234)
+                .balance(10_000L)
+                .user(savedUser)
+                .registeredAt(LocalDateTime.now())
+                .build();
+    }
+}
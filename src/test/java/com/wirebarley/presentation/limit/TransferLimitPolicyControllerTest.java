@@ -0,0 +1,135 @@
+package com.wirebarley.presentation.limit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wirebarley.application.limit.TransferLimitPolicyResolver;
+import com.wirebarley.domain.limit.TransferLimitPolicyScope;
+import com.wirebarley.infrastructure.limit.jpa.JpaTransferLimitPolicyRepository;
+import com.wirebarley.presentation.limit.dto.request.TransferLimitPolicyRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+@SpringBootTest
+class TransferLimitPolicyControllerTest {
+
+    private static final String ADMIN_TOKEN = "test-admin-token";
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private ObjectMapper om;
+
+    @Autowired
+    private JpaTransferLimitPolicyRepository jpaTransferLimitPolicyRepository;
+
+    @Autowired
+    private TransferLimitPolicyResolver transferLimitPolicyResolver;
+
+    @AfterEach
+    void tearDown() {
+        jpaTransferLimitPolicyRepository.deleteAllInBatch();
+        transferLimitPolicyResolver.reload();
+    }
+
+    @DisplayName("운영자 토큰을 보내면 한도 정책을 등록하고 조회한다.")
+    @Test
+    public void registerPolicy() throws Exception {
+        // given
+        TransferLimitPolicyRequest request = TransferLimitPolicyRequest.builder()
+                .scope(TransferLimitPolicyScope.USER)
+                .scopeKey("1")
+                .dailyLimit(300_000L)
+                .build();
+
+        // when
+        mvc.perform(
+                        post("/admin/v1/transfer-limit-policy")
+                                .header("X-Admin-Token", ADMIN_TOKEN)
+                                .content(om.writeValueAsString(request))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(status().isCreated());
+
+        // then
+        mvc.perform(
+                        get("/admin/v1/transfer-limit-policies")
+                                .header("X-Admin-Token", ADMIN_TOKEN)
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpectAll(
+                        jsonPath("$.data[0].scope").value("USER"),
+                        jsonPath("$.data[0].scopeKey").value("1")
+                );
+    }
+
+    @DisplayName("운영자 토큰이 없거나 틀리면 한도 정책을 등록할 수 없다.")
+    @Test
+    public void rejectWithoutAdminToken() throws Exception {
+        // given
+        TransferLimitPolicyRequest request = TransferLimitPolicyRequest.builder()
+                .scope(TransferLimitPolicyScope.USER)
+                .scopeKey("1")
+                .dailyLimit(300_000_000L)
+                .build();
+
+        // when
+        // then
+        mvc.perform(
+                        post("/admin/v1/transfer-limit-policy")
+                                .content(om.writeValueAsString(request))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(status().isForbidden())
+                .andExpectAll(
+                        jsonPath("$.code").value(403),
+                        jsonPath("$.message").value("운영자만 사용할 수 있는 요청입니다.")
+                );
+        mvc.perform(
+                        get("/admin/v1/transfer-limit-policies")
+                                .header("X-Admin-Token", "wrong-token")
+                )
+                .andDo(print())
+                .andExpect(status().isForbidden());
+        assertThat(jpaTransferLimitPolicyRepository.count()).isZero();
+    }
+
+    @DisplayName("고객용 /api 경로로는 한도 정책을 등록할 수 없다.")
+    @Test
+    public void notExposedUnderApi() throws Exception {
+        // given
+        TransferLimitPolicyRequest request = TransferLimitPolicyRequest.builder()
+                .scope(TransferLimitPolicyScope.USER)
+                .scopeKey("1")
+                .dailyLimit(300_000_000L)
+                .build();
+
+        // when
+        // then
+        mvc.perform(
+                        post("/api/v1/transfer-limit-policy")
+                                .header("X-Admin-Token", ADMIN_TOKEN)
+                                .content(om.writeValueAsString(request))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(status().isNotFound());
+        assertThat(jpaTransferLimitPolicyRepository.count()).isZero();
+    }
+}
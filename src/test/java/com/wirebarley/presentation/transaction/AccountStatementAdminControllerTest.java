@@ -0,0 +1,325 @@
+package com.wirebarley.presentation.transaction;
+
+import com.wirebarley.application.transaction.AccountStatementService;
+import com.wirebarley.domain.account.Account;
+import com.wirebarley.domain.account.AccountRepository;
+import com.wirebarley.domain.transaction.Transaction;
+import com.wirebarley.domain.transaction.TransactionRepository;
+import com.wirebarley.domain.user.User;
+import com.wirebarley.domain.user.UserRepository;
+import com.wirebarley.infrastructure.account.jpa.JpaAccountRepository;
+import com.wirebarley.infrastructure.transaction.jpa.JpaTransactionRepository;
+import com.wirebarley.infrastructure.user.jpa.JpaUserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+
+import static com.wirebarley.domain.transaction.AccountStatementRebuildStatus.RUNNING;
+import static com.wirebarley.domain.transaction.TransactionType.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+@SpringBootTest
+class AccountStatementAdminControllerTest {
+
+    private static final String ADMIN_TOKEN = "test-admin-token";
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private JpaUserRepository jpaUserRepository;
+
+    @Autowired
+    private JpaAccountRepository jpaAccountRepository;
+
+    @Autowired
+    private JpaTransactionRepository jpaTransactionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AccountStatementService accountStatementService;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from account_statement_failure");
+        jdbcTemplate.update("delete from account_statement");
+        jpaTransactionRepository.deleteAllInBatch();
+        jpaAccountRepository.deleteAllInBatch();
+        jpaUserRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("계좌를 지정해 거래 명세를 재생성하면 빠진 명세를 다시 채우고 재생성한 건수를 반환한다.")
+    @Test
+    public void rebuildStatements() throws Exception {
+        // given
+        User savedUser = userRepository.save(createUser("user1", "user1@email.com", "password1"));
+        Account savedAccount = accountRepository.save(createAccount(1111L, 1234, 1000L, savedUser));
+        transactionRepository.save(Transaction.builder()
+                .depositAccount(savedAccount)
+                .depositAccountBalance(1200L)
+                .amount(200L)
+                .type(DEPOSIT)
+                .sender("ATM")
+                .receiver("user1")
+                .build());
+        jdbcTemplate.update("delete from account_statement");
+
+        // when
+        // then
+        mvc
+                .perform(
+                        post("/admin/v1/transactions/statements/rebuild")
+                                .header("X-Admin-Token", ADMIN_TOKEN)
+                                .param("accountId", String.valueOf(savedAccount.getId()))
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value(200))
+                .andExpect(jsonPath("$.data.accountCount").value(1))
+                .andExpect(jsonPath("$.data.statementCount").value(1));
+
+        mvc
+                .perform(
+                        get("/api/v1/transactions")
+                                .param("offset", "0")
+                                .param("count", "10")
+                                .param("userId", String.valueOf(savedUser.getId()))
+                                .param("accountId", String.valueOf(savedAccount.getId()))
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].amount").value(200L))
+                .andExpect(jsonPath("$.data[0].depositAccountBalance").value(1200));
+    }
+
+    @DisplayName("계좌를 지정하지 않으면 전체 거래 명세 재생성을 접수만 하고 202로 응답하며, 진행 상황을 조회할 수 있다.")
+    @Test
+    public void rebuildAllStatementsInBackground() throws Exception {
+        // given
+        User savedUser = userRepository.save(createUser("user1", "user1@email.com", "password1"));
+        Account savedAccount = accountRepository.save(createAccount(1111L, 1234, 1000L, savedUser));
+        transactionRepository.save(Transaction.builder()
+                .depositAccount(savedAccount)
+                .depositAccountBalance(1200L)
+                .amount(200L)
+                .type(DEPOSIT)
+                .sender("ATM")
+                .receiver("user1")
+                .build());
+        jdbcTemplate.update("delete from account_statement");
+        awaitRebuild();
+
+        // when
+        mvc
+                .perform(
+                        post("/admin/v1/transactions/statements/rebuild")
+                                .header("X-Admin-Token", ADMIN_TOKEN)
+                )
+                .andDo(print())
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.code").value(202))
+                .andExpect(jsonPath("$.data.status").value(RUNNING.name()))
+                .andExpect(jsonPath("$.data.failedOnly").value(false));
+        awaitRebuild();
+
+        // then
+        mvc
+                .perform(
+                        get("/admin/v1/transactions/statements/rebuild")
+                                .header("X-Admin-Token", ADMIN_TOKEN)
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.data.finishedAt").isNotEmpty());
+        assertThat(jdbcTemplate.queryForObject("select count(*) from account_statement where account_id = ?", Integer.class, savedAccount.getId()))
+                .isEqualTo(1);
+    }
+
+    @DisplayName("명세 반영에 실패했던 계좌만 재생성하면 그 계좌만 다시 만들고 실패 기록을 지운다.")
+    @Test
+    public void rebuildFailedStatementsOnly() throws Exception {
+        // given
+        User savedUser = userRepository.save(createUser("user1", "user1@email.com", "password1"));
+        Account failedAccount = accountRepository.save(createAccount(1111L, 1234, 1000L, savedUser));
+        Account otherAccount = accountRepository.save(createAccount(2222L, 1234, 1000L, savedUser));
+        for (Account account : new Account[]{failedAccount, otherAccount}) {
+            transactionRepository.save(Transaction.builder()
+                    .depositAccount(account)
+                    .depositAccountBalance(1200L)
+                    .amount(200L)
+                    .type(DEPOSIT)
+                    .sender("ATM")
+                    .receiver("user1")
+                    .build());
+        }
+        jdbcTemplate.update("delete from account_statement");
+        jdbcTemplate.update("insert into account_statement_failure (account_id, failed_at) values (?, ?)", failedAccount.getId(), LocalDateTime.now().minusMinutes(1));
+        awaitRebuild();
+
+        // when
+        mvc
+                .perform(
+                        post("/admin/v1/transactions/statements/rebuild")
+                                .header("X-Admin-Token", ADMIN_TOKEN)
+                                .param("failedOnly", "true")
+                )
+                .andDo(print())
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.data.failedOnly").value(true));
+        awaitRebuild();
+
+        // then
+        mvc
+                .perform(
+                        get("/admin/v1/transactions/statements/rebuild")
+                                .header("X-Admin-Token", ADMIN_TOKEN)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.data.accountCount").value(1))
+                .andExpect(jsonPath("$.data.statementCount").value(1));
+        assertThat(jdbcTemplate.queryForList("select account_id from account_statement", Long.class)).containsExactly(failedAccount.getId());
+        assertThat(jdbcTemplate.queryForObject("select count(*) from account_statement_failure", Integer.class)).isZero();
+    }
+
+    @DisplayName("거래 명세를 재생성할 계좌가 없으면 예외가 발생한다.")
+    @Test
+    public void rebuildStatementsWithUnknownAccount() throws Exception {
+        // given
+        // when
+        // then
+        mvc
+                .perform(
+                        post("/admin/v1/transactions/statements/rebuild")
+                                .header("X-Admin-Token", ADMIN_TOKEN)
+                                .param("accountId", "999999")
+                )
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("계좌가 존재하지 않습니다."));
+    }
+
+    @DisplayName("계좌 명세의 금액 합계가 마지막 명세 잔액과 맞는지 조회한다.")
+    @Test
+    public void checkStatementBalance() throws Exception {
+        // given
+        User savedUser = userRepository.save(createUser("user1", "user1@email.com", "password1"));
+        Account savedAccount = accountRepository.save(createAccount(1111L, 1234, 1000L, savedUser));
+        transactionRepository.save(Transaction.builder()
+                .depositAccount(savedAccount)
+                .depositAccountBalance(1200L)
+                .amount(200L)
+                .type(DEPOSIT)
+                .sender("ATM")
+                .receiver("user1")
+                .build());
+        transactionRepository.save(Transaction.builder()
+                .withdrawAccount(savedAccount)
+                .withdrawAccountBalance(1100L)
+                .amount(100L)
+                .type(WITHDRAW)
+                .sender("user1")
+                .receiver("ATM")
+                .build());
+
+        // when
+        // then
+        mvc
+                .perform(
+                        get("/admin/v1/transactions/statements/balance")
+                                .header("X-Admin-Token", ADMIN_TOKEN)
+                                .param("accountId", String.valueOf(savedAccount.getId()))
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.accountId").value(savedAccount.getId()))
+                .andExpect(jsonPath("$.data.statementCount").value(2))
+                .andExpect(jsonPath("$.data.openingBalance").value(1000))
+                .andExpect(jsonPath("$.data.amountSum").value(100))
+                .andExpect(jsonPath("$.data.closingBalance").value(1100))
+                .andExpect(jsonPath("$.data.balanced").value(true));
+    }
+
+    @DisplayName("운영자 토큰이 없으면 거래 명세를 재생성하거나 계좌 잔액을 조회할 수 없다.")
+    @Test
+    public void rejectWithoutAdminToken() throws Exception {
+        // given
+        User savedUser = userRepository.save(createUser("user1", "user1@email.com", "password1"));
+        Account savedAccount = accountRepository.save(createAccount(1111L, 1234, 1000L, savedUser));
+
+        // when
+        // then
+        mvc
+                .perform(post("/admin/v1/transactions/statements/rebuild"))
+                .andDo(print())
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.message").value("운영자만 사용할 수 있는 요청입니다."));
+        mvc
+                .perform(
+                        get("/admin/v1/transactions/statements/balance")
+                                .param("accountId", String.valueOf(savedAccount.getId()))
+                )
+                .andDo(print())
+                .andExpect(status().isForbidden());
+        mvc
+                .perform(
+                        get("/api/v1/transactions/statements/balance")
+                                .param("accountId", String.valueOf(savedAccount.getId()))
+                )
+                .andDo(print())
+                .andExpect(status().isNotFound());
+    }
+
+    private void awaitRebuild() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (accountStatementService.getRebuild() != null && accountStatementService.getRebuild().getStatus() == RUNNING
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+    }
+
+    private User createUser(String username, String mail, String password) {
+        return User.builder()
+                .username(username)
+                .email(mail)
+                .password(password)
+                .createdAt(LocalDateTime.now())
+                .modifiedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private Account createAccount(long accountNumber, int password, long balance, User user) {
+        return Account.builder()
+                .accountNumber(accountNumber)
+                .password(password)
+                .balance(balance)
+                .user(user)
+                .registeredAt(LocalDateTime.now())
+                .unregisteredAt(null)
+                .build();
+    }
+}
@@ -15,14 +15,22 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 import static com.wirebarley.domain.transaction.TransactionType.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @AutoConfigureMockMvc
@@ -50,8 +58,13 @@ class TransactionControllerTest {
     @Autowired
     private JpaTransactionRepository jpaTransactionRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @AfterEach
     void tearDown() {
+        jdbcTemplate.update("delete from account_statement_failure");
+        jdbcTemplate.update("delete from account_statement");
         jpaTransactionRepository.deleteAllInBatch();
         jpaAccountRepository.deleteAllInBatch();
         jpaUserRepository.deleteAllInBatch();
@@ -136,7 +149,218 @@ class TransactionControllerTest {
                 .andExpect(jsonPath("$.data[0].depositAccountBalance").value(1300))
                 .andExpect(jsonPath("$.data[0].type").value(TRANSFER.name()))
                 .andExpect(jsonPath("$.data[0].sender").value("user1"))
-                .andExpect(jsonPath("$.data[0].receiver").value("user2"));
+                .andExpect(jsonPath("$.data[0].receiver").value("user2"))
+                .andExpect(header().doesNotExist("X-Next-Cursor"))
+                .andExpect(header().string("X-Period-From", LocalDate.now().minusMonths(3).toString()))
+                .andExpect(header().string("X-Period-To", LocalDate.now().toString()));
+    }
+
+    @DisplayName("다음 페이지가 있으면 응답 데이터는 목록 그대로 두고 다음 페이지 커서를 헤더로 내려준다.")
+    @Test
+    public void retrieveTransactionWithNextCursorHeader() throws Exception {
+        // given
+        User savedUser = userRepository.save(createUser("user1", "user1@email.com", "password1"));
+        Account savedAccount = accountRepository.save(createAccount(1111L, 1234, 1000L, savedUser));
+        for (long amount : new long[]{100L, 200L}) {
+            transactionRepository.save(Transaction.builder()
+                    .depositAccount(savedAccount)
+                    .depositAccountBalance(1000L + amount)
+                    .amount(amount)
+                    .type(DEPOSIT)
+                    .sender("ATM")
+                    .receiver("user1")
+                    .build());
+        }
+
+        // when
+        MvcResult firstPage = mvc
+                .perform(
+                        get("/api/v1/transactions")
+                                .param("count", "1")
+                                .param("userId", String.valueOf(savedUser.getId()))
+                                .param("accountId", String.valueOf(savedAccount.getId()))
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.data[0].amount").value(200L))
+                .andExpect(header().exists("X-Next-Cursor"))
+                .andReturn();
+
+        // then
+        mvc
+                .perform(
+                        get("/api/v1/transactions")
+                                .param("count", "1")
+                                .param("userId", String.valueOf(savedUser.getId()))
+                                .param("accountId", String.valueOf(savedAccount.getId()))
+                                .param("cursor", firstPage.getResponse().getHeader("X-Next-Cursor"))
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.data[0].amount").value(100L))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+    }
+
+    @DisplayName("거래 내역을 조회 시 커서가 올바르지 않으면 예외가 발생한다.")
+    @Test
+    public void invalidCursor() throws Exception {
+        // given
+
+        // when
+        // then
+        mvc
+                .perform(
+                        get("/api/v1/transactions")
+                                .param("count", "10")
+                                .param("userId", String.valueOf(1))
+                                .param("accountId", String.valueOf(1111))
+                                .param("cursor", "not-a-cursor")
+                )
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(400))
+                .andExpect(jsonPath("$.status").value("BAD_REQUEST"))
+                .andExpect(jsonPath("$.message").value("거래 내역 조회 커서가 올바르지 않습니다."));
+    }
+
+    @DisplayName("거래 내역을 CSV 로 내보내면 헤더 다음에 오래된 거래부터 한 줄씩 쓰고, 쉼표가 든 값은 따옴표로 감싼다.")
+    @Test
+    public void exportTransactionsAsCsv() throws Exception {
+        // given
+        User user1 = createUser("user1", "user1@email.com", "password1");
+        User savedUser1 = userRepository.save(user1);
+        Account savedAccount1 = accountRepository.save(createAccount(1111L, 1234, 1000L, savedUser1));
+
+        User user2 = createUser("user2", "user2@email.com", "password2");
+        User savedUser2 = userRepository.save(user2);
+        Account savedAccount2 = accountRepository.save(createAccount(2222L, 5678, 1000L, savedUser2));
+
+        Transaction deposit = transactionRepository.save(Transaction.builder()
+                .depositAccount(savedAccount1)
+                .depositAccountBalance(1200L)
+                .amount(200L)
+                .type(DEPOSIT)
+                .sender("ATM, 강남역")
+                .receiver("user1")
+                .build());
+        Transaction transfer = transactionRepository.save(Transaction.builder()
+                .withdrawAccount(savedAccount1)
+                .depositAccount(savedAccount2)
+                .withdrawAccountBalance(900L)
+                .depositAccountBalance(1300L)
+                .amount(300L)
+                .type(TRANSFER)
+                .sender("user1")
+                .receiver("user2")
+                .build());
+
+        // when
+        MvcResult result = mvc
+                .perform(
+                        get("/api/v1/transactions/export")
+                                .param("userId", String.valueOf(savedUser1.getId()))
+                                .param("accountId", String.valueOf(savedAccount1.getId()))
+                                .param("format", "csv")
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        String[] lines = mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "text/csv"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"transactions-" + savedAccount1.getId() + ".csv\""))
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8)
+                .split("\r\n");
+
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).isEqualTo("id,withdrawAccountNumber,depositAccountNumber,amount,withdrawAccountBalance,depositAccountBalance,type,sender,receiver,createdAt,modifiedAt");
+        assertThat(lines[1]).startsWith(deposit.getId() + ",,1111,200,,1200,DEPOSIT,\"ATM, 강남역\",user1,");
+        assertThat(lines[2]).startsWith(transfer.getId() + ",1111,2222,300,900,1300,TRANSFER,user1,user2,");
+    }
+
+    @DisplayName("거래 내역을 NDJSON 으로 내보내면 기간 안의 거래만 한 줄에 한 건씩 쓴다.")
+    @Test
+    public void exportTransactionsAsNdjson() throws Exception {
+        // given
+        User user1 = createUser("user1", "user1@email.com", "password1");
+        User savedUser1 = userRepository.save(user1);
+        Account savedAccount1 = accountRepository.save(createAccount(1111L, 1234, 1000L, savedUser1));
+
+        transactionRepository.save(Transaction.builder()
+                .withdrawAccount(savedAccount1)
+                .withdrawAccountBalance(900L)
+                .amount(100L)
+                .type(WITHDRAW)
+                .sender("user1")
+                .receiver("ATM")
+                .build());
+
+        LocalDate today = LocalDate.now();
+
+        // when
+        MvcResult todayResult = mvc
+                .perform(
+                        get("/api/v1/transactions/export")
+                                .param("userId", String.valueOf(savedUser1.getId()))
+                                .param("accountId", String.valueOf(savedAccount1.getId()))
+                                .param("from", today.toString())
+                                .param("to", today.toString())
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult tomorrowResult = mvc
+                .perform(
+                        get("/api/v1/transactions/export")
+                                .param("userId", String.valueOf(savedUser1.getId()))
+                                .param("accountId", String.valueOf(savedAccount1.getId()))
+                                .param("from", today.plusDays(1).toString())
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        String todayBody = mvc.perform(asyncDispatch(todayResult))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8);
+        String tomorrowBody = mvc.perform(asyncDispatch(tomorrowResult))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8);
+
+        assertThat(todayBody.split("\n"))
+                .singleElement()
+                .satisfies(line -> assertThat(line)
+                        .contains("\"withdrawAccountNumber\":1111")
+                        .contains("\"amount\":100")
+                        .contains("\"type\":\"WITHDRAW\""));
+        assertThat(tomorrowBody).isEmpty();
+    }
+
+    @DisplayName("거래 내역을 내보낼 때 지원하지 않는 형식이면 예외가 발생한다.")
+    @Test
+    public void exportTransactionsWithUnsupportedFormat() throws Exception {
+        // given
+
+        // when
+        // then
+        mvc
+                .perform(
+                        get("/api/v1/transactions/export")
+                                .param("userId", String.valueOf(1))
+                                .param("accountId", String.valueOf(1111))
+                                .param("format", "xlsx")
+                )
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(400))
+                .andExpect(jsonPath("$.message").value("거래 내역 내보내기 형식은 NDJSON, CSV 중 하나입니다."));
     }
 
     @DisplayName("거래 내역을 조회 시 계좌 소유주 정보는 필수이다.")
@@ -0,0 +1,121 @@
+package com.wirebarley.presentation.transaction;
+
+import com.wirebarley.config.SqlStatementCounter;
+import com.wirebarley.domain.account.Account;
+import com.wirebarley.domain.account.AccountRepository;
+import com.wirebarley.domain.transaction.Transaction;
+import com.wirebarley.domain.transaction.TransactionRepository;
+import com.wirebarley.domain.user.User;
+import com.wirebarley.domain.user.UserRepository;
+import com.wirebarley.infrastructure.account.jpa.JpaAccountRepository;
+import com.wirebarley.infrastructure.transaction.jpa.JpaTransactionRepository;
+import com.wirebarley.infrastructure.user.jpa.JpaUserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+
+import static com.wirebarley.domain.transaction.TransactionType.TRANSFER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 거래 내역 조회 한 번에 나가는 SQL 문 수. 상대 계좌와 회원을 거래 건수만큼 따로 읽지 않는지 확인한다.
+@AutoConfigureMockMvc
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.wirebarley.config.SqlStatementCounter")
+class TransactionStatementCountTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private JpaUserRepository jpaUserRepository;
+
+    @Autowired
+    private JpaAccountRepository jpaAccountRepository;
+
+    @Autowired
+    private JpaTransactionRepository jpaTransactionRepository;
+
+    @AfterEach
+    void tearDown() {
+        jpaTransactionRepository.deleteAllInBatch();
+        jpaAccountRepository.deleteAllInBatch();
+        jpaUserRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("거래 내역 조회는 상대 계좌가 여럿이어도 계좌 소유주 확인과 한 페이지 조회 두 문장이다.")
+    @Test
+    public void retrieveTransactions() throws Exception {
+        // given
+        User savedUser = userRepository.save(createUser("user0", "user0@email.com"));
+        Account savedAccount = accountRepository.save(createAccount(1000L, savedUser));
+
+        for (long i = 1; i <= 5; i++) {
+            User counterpartUser = userRepository.save(createUser("user" + i, "user" + i + "@email.com"));
+            Account counterpartAccount = accountRepository.save(createAccount(1000L + i, counterpartUser));
+            transactionRepository.save(
+                    Transaction.builder()
+                            .withdrawAccount(savedAccount)
+                            .depositAccount(counterpartAccount)
+                            .withdrawAccountBalance(10_000L - i * 100)
+                            .depositAccountBalance(10_000L + i * 100)
+                            .amount(i * 100)
+                            .type(TRANSFER)
+                            .sender("user0")
+                            .receiver("user" + i)
+                            .build()
+            );
+        }
+        SqlStatementCounter.clear();
+
+        // when
+        mvc
+                .perform(
+                        get("/api/v1/transactions")
+                                .param("count", "10")
+                                .param("userId", String.valueOf(savedUser.getId()))
+                                .param("accountId", String.valueOf(savedAccount.getId()))
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(5));
+
+        // then
+        assertThat(SqlStatementCounter.count()).isEqualTo(2);
+    }
+
+    private User createUser(String username, String email) {
+        return User.builder()
+                .username(username)
+                .email(email)
+                .password("password")
+                .createdAt(LocalDateTime.now())
+                .modifiedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private Account createAccount(long accountNumber, User user) {
+        return Account.builder()
+                .accountNumber(accountNumber)
+                .password(1234)
+                .balance(10_000L)
+                .user(user)
+                .registeredAt(LocalDateTime.now())
+                .build();
+    }
+}
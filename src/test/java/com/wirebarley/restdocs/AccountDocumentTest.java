@@ -24,6 +24,7 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
@@ -151,7 +152,7 @@ public class AccountDocumentTest {
                 .modifiedAt(LocalDateTime.now())
                 .build();
         // when
-        given(accountService.deposit(any())).willReturn(depositResponse);
+        given(accountService.depositAll(any())).willReturn(List.of(depositResponse));
 
         // then
         mvc.perform(
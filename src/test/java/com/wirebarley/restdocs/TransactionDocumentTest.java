@@ -2,6 +2,7 @@ package com.wirebarley.restdocs;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.wirebarley.application.transaction.TransactionService;
+import com.wirebarley.application.transaction.dto.response.TransactionPageResponse;
 import com.wirebarley.application.transaction.dto.response.TransactionResponse;
 import com.wirebarley.domain.transaction.TransactionType;
 import com.wirebarley.restdocs.docs.TransactionDocs;
@@ -14,6 +15,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -57,7 +59,14 @@ public class TransactionDocumentTest {
                 .build();
 
         // when
-        given(transactionService.retrieveTransaction(any())).willReturn(List.of(transactionResponse));
+        given(transactionService.retrieveTransaction(any())).willReturn(
+                TransactionPageResponse.builder()
+                        .transactions(List.of(transactionResponse))
+                        .nextCursor("MjAyNS0wNy0wMVQxMjowMHwx")
+                        .from(LocalDate.of(2025, 4, 1))
+                        .to(LocalDate.of(2025, 7, 1))
+                        .build()
+        );
 
         // then
         mvc.perform(
@@ -22,17 +22,23 @@ public class TransactionDocs {
     public Snippet retrieveTransactionRequestParam() {
 
         return relaxedQueryParameters(
-                parameterWithName("offset").attributes(getDataType(INTEGER)).description("페이지 시작 번호"),
+                parameterWithName("offset").attributes(getDataType(INTEGER)).description("페이지 시작 번호 (cursor 가 있으면 무시)").optional(),
                 parameterWithName("count").attributes(getDataType(INTEGER)).description("한 페이지에 보여줄 개수"),
                 parameterWithName("userId").attributes(getDataType(LONG)).description("회원 식별자"),
                 parameterWithName("accountId").attributes(getDataType(LONG)).description("계좌 식별자"),
-                parameterWithName("type").attributes(getDataType(STRING)).description("조회하려는 거래 종류").optional()
+                parameterWithName("type").attributes(getDataType(STRING)).description("조회하려는 거래 종류").optional(),
+                parameterWithName("cursor").attributes(getDataType(STRING)).description("이전 응답의 X-Next-Cursor 헤더 값. 주면 그 다음 거래부터 조회한다").optional(),
+                parameterWithName("from").attributes(getDataType(STRING)).description("조회 시작일 (yyyy-MM-dd). 없으면 종료일부터 3개월 전이고, 실제로 적용한 날짜는 X-Period-From 헤더로 내려준다").optional(),
+                parameterWithName("to").attributes(getDataType(STRING)).description("조회 종료일 (yyyy-MM-dd, 그날 거래까지 포함). 없으면 오늘").optional()
         );
     }
 
     public Snippet retrieveTransactionResponseHeader() {
         return responseHeaders(
-                headerWithName("Content-Type").description("application/json")
+                headerWithName("Content-Type").description("application/json"),
+                headerWithName("X-Next-Cursor").description("다음 페이지 조회용 커서. 마지막 페이지면 없다").optional(),
+                headerWithName("X-Period-From").description("실제로 조회한 시작일 (yyyy-MM-dd). from 을 주지 않으면 기본 기간으로 채운 날짜"),
+                headerWithName("X-Period-To").description("실제로 조회한 종료일 (yyyy-MM-dd, 그날 거래까지 포함)")
         );
     }
 